@@ -0,0 +1,12 @@
+package com.eatcloud.automessaging.annotation;
+
+import java.lang.annotation.*;
+import org.springframework.context.annotation.Import;
+
+import com.eatcloud.automessaging.config.AutoMessagingConfiguration;
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Import(AutoMessagingConfiguration.class)  // ← 이 설정만 다른 모듈에서 import
+public @interface EnableAutoMessaging {}
@@ -0,0 +1,18 @@
+package com.eatcloud.automessaging.config;
+
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+import com.eatcloud.automessaging.idempotency.IdempotencyService;
+import com.eatcloud.automessaging.outbox.OutboxEvent;
+import com.eatcloud.automessaging.retry.RetryTopicRouter;
+
+@Configuration
+@ComponentScan(basePackageClasses = {OutboxEvent.class, RetryTopicRouter.class, IdempotencyService.class})
+// 라이브러리 패키지 범위만 스캔해서 outbox / 재시도 토픽 / Idempotency-Key 빈 등록 (자동설정 파일 없이 명시 활성화)
+// OutboxEvent 엔티티는 앱 패키지 밖이라 JPA 엔티티 스캔 대상에 패키지를 추가한다 (@EntityScan 은 앱 기본 패키지를 덮어쓰므로 쓰지 않음)
+// 리포지토리는 각 서비스 JpaRepoConfig 의 basePackages = "com.eatcloud" 로 등록된다
+// IdempotencyService 는 서비스가 IdempotencyHook 빈을 하나 등록해야 한다
+@AutoConfigurationPackage(basePackageClasses = OutboxEvent.class)
+public class AutoMessagingConfiguration { }
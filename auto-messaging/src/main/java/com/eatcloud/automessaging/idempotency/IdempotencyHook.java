@@ -0,0 +1,28 @@
+package com.eatcloud.automessaging.idempotency;
+
+/**
+ * 서비스별 IdempotencyService 연동
+ * 거절 사유를 서비스 예외로 바꾸고, Redis 상태 감시(서킷)가 있는 서비스는 결과를 넘겨받는다.
+ */
+public interface IdempotencyHook {
+
+    /** 헤더 값이 너무 길다 */
+    RuntimeException invalidKey();
+
+    /** 같은 키로 다른 본문 */
+    RuntimeException keyMismatch();
+
+    /** 처리 중인 요청을 기다리다 시간 초과/중단 */
+    RuntimeException stillProcessing();
+
+    /** false 면 Redis 를 건드리지 않고 키 없이 실행 */
+    default boolean isStoreAvailable() {
+        return true;
+    }
+
+    default void recordStoreSuccess() {
+    }
+
+    default void recordStoreFailure(RuntimeException e) {
+    }
+}
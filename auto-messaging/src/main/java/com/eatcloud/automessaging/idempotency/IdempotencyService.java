@@ -0,0 +1,308 @@
+package com.eatcloud.automessaging.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리 (POST 재시도 중복 방지)
+ *
+ * idem:{scope}:{owner}:{key} 에 요청 지문(본문 SHA-256)과 처리 상태를 저장한다.
+ * - 처음 온 요청: SET NX 로 IN_PROGRESS 선점 → 실행 → 2xx 응답을 직렬화해 ttl 동안 보관
+ * - 완료된 키로 같은 요청: 저장된 응답을 그대로 반환 (락/DB/외부 호출 없음, Idempotent-Replayed 헤더)
+ * - 처리 중인 키로 같은 요청: 병렬 실행하지 않고 결과를 기다린다 (같은 인스턴스면 즉시 깨어나고, 아니면 Redis 폴링)
+ * - 같은 키로 다른 본문: 거절 (서비스에서 422)
+ *
+ * 실패(예외, 2xx 외 응답)는 저장하지 않고 키를 풀어 클라이언트가 같은 키로 다시 시도할 수 있게 한다.
+ * Redis 를 쓸 수 없으면 키 없이 실행한다 (서비스의 기존 중복 방지에 맡김).
+ * 거절 예외와 Redis 상태 감시는 서비스의 IdempotencyHook 이 정한다.
+ */
+@Component
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final String KEY_PREFIX = "idem:";
+    private static final int MAX_KEY_LENGTH = 128;
+    private static final long MIN_POLL_MILLIS = 20;
+    private static final long MAX_POLL_MILLIS = 500;
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end return 0",
+        Long.class);
+
+    // 아직 선점한 요청의 처리 중 표시일 때만 만료 연장 (ARGV: 표시 값, ttlMillis)
+    static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) end return 0",
+        Long.class);
+
+    /**
+     * Redis 에 저장하는 값 - completed 가 false 면 처리 중 (token 은 선점한 요청 식별용)
+     */
+    record Entry(String fingerprint, String token, boolean completed, int status, String body) {
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final IdempotencyHook idempotencyHook;
+    private final ObjectMapper objectMapper;
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "idempotency-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter mismatched;
+    private final Counter bypassed;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${idempotency.in-flight-ttl-seconds:30}")
+    private long inFlightTtlSeconds;
+
+    @Value("${idempotency.wait-timeout-ms:10000}")
+    private long waitTimeoutMs;
+
+    public IdempotencyService(StringRedisTemplate stringRedisTemplate, IdempotencyHook idempotencyHook,
+                              ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.idempotencyHook = idempotencyHook;
+        this.objectMapper = objectMapper;
+        this.executed = counter(meterRegistry, "executed");
+        this.replayed = counter(meterRegistry, "replayed");
+        this.mismatched = counter(meterRegistry, "mismatched");
+        this.bypassed = counter(meterRegistry, "bypassed");
+    }
+
+    /**
+     * @param scope          엔드포인트 구분 (order-create, payment-confirm 등)
+     * @param owner          요청 주체 (다른 사용자의 같은 키와 섞이지 않도록), 없으면(인증 정보 없음) 키 없이 실행
+     * @param idempotencyKey 헤더 값, 없으면 그대로 실행
+     * @param request        지문 계산 대상 요청 본문
+     * @param bodyType       저장된 응답 본문을 되살릴 타입
+     */
+    public <T> ResponseEntity<T> execute(String scope, String owner, String idempotencyKey, Object request,
+                                         TypeReference<T> bodyType, Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || owner == null || owner.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw idempotencyHook.invalidKey();
+        }
+        if (!idempotencyHook.isStoreAvailable()) {
+            bypassed.increment();
+            return action.get();
+        }
+
+        String key = KEY_PREFIX + scope + ":" + owner + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+        long pollMillis = MIN_POLL_MILLIS;
+
+        while (true) {
+            Entry inProgress = new Entry(fingerprint, UUID.randomUUID().toString(), false, 0, null);
+            String marker = write(inProgress);
+            boolean claimed;
+            Entry existing = null;
+            try {
+                claimed = claim(key, marker);
+                if (!claimed) {
+                    existing = read(key);
+                }
+                idempotencyHook.recordStoreSuccess();
+            } catch (RuntimeException e) {
+                idempotencyHook.recordStoreFailure(e);
+                log.warn("Idempotency store unavailable, executing without key: {}", e.getMessage());
+                bypassed.increment();
+                return action.get();
+            }
+
+            if (claimed) {
+                return runAndStore(key, inProgress, marker, action);
+            }
+            if (existing == null) {
+                // 선점했던 요청이 실패해 키가 풀렸다 → 다시 선점 시도
+                continue;
+            }
+            if (!existing.fingerprint().equals(fingerprint)) {
+                mismatched.increment();
+                throw idempotencyHook.keyMismatch();
+            }
+            if (existing.completed()) {
+                replayed.increment();
+                return replay(existing, bodyType);
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw idempotencyHook.stillProcessing();
+            }
+            awaitInFlight(key, Math.min(pollMillis, TimeUnit.NANOSECONDS.toMillis(remaining) + 1));
+            pollMillis = Math.min(pollMillis * 2, MAX_POLL_MILLIS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    private boolean claim(String key, String marker) {
+        Boolean claimed = stringRedisTemplate.opsForValue().setIfAbsent(key, marker,
+            Duration.ofSeconds(inFlightTtlSeconds));
+        return Boolean.TRUE.equals(claimed);
+    }
+
+    /**
+     * 실행하는 동안 in-flight-ttl 의 1/3 마다 처리 중 표시를 연장한다
+     * 호출이 in-flight-ttl 보다 오래 걸려도 (PG 승인 지연 등) 표시가 중간에 만료되지 않아 같은 키가 병렬 실행되지 않는다.
+     */
+    private <T> ResponseEntity<T> runAndStore(String key, Entry inProgress, String marker,
+                                              Supplier<ResponseEntity<T>> action) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        inFlight.put(key, done);
+        executed.increment();
+
+        long ttlMillis = TimeUnit.SECONDS.toMillis(inFlightTtlSeconds);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(key, marker, ttlMillis),
+            ttlMillis / 3, ttlMillis / 3, TimeUnit.MILLISECONDS);
+
+        boolean stored = false;
+        try {
+            ResponseEntity<T> response = action.get();
+            if (response.getStatusCode().is2xxSuccessful()) {
+                stored = store(key, new Entry(inProgress.fingerprint(), inProgress.token(), true,
+                    response.getStatusCode().value(), response.getBody() == null ? null : write(response.getBody())));
+            }
+            return response;
+        } finally {
+            renewal.cancel(false);
+            if (!stored) {
+                release(key, marker);
+            }
+            inFlight.remove(key, done);
+            done.complete(null);
+        }
+    }
+
+    private void renew(String key, String marker, long ttlMillis) {
+        try {
+            stringRedisTemplate.execute(RENEW_SCRIPT, List.of(key), marker, String.valueOf(ttlMillis));
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도, 끝내 실패하면 in-flight-ttl 후 만료
+            log.warn("Failed to renew idempotency key: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private boolean store(String key, Entry entry) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, write(entry), Duration.ofHours(ttlHours));
+            return true;
+        } catch (RuntimeException e) {
+            idempotencyHook.recordStoreFailure(e);
+            log.warn("Failed to store idempotent response: key={}, error={}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    private void release(String key, String marker) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), marker);
+        } catch (RuntimeException e) {
+            // 풀지 못하면 in-flight-ttl 후 만료
+            log.warn("Failed to release idempotency key: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 인스턴스에서 처리 중이면 완료 신호를, 아니면 poll 간격만큼 대기
+     */
+    private void awaitInFlight(String key, long millis) {
+        CompletableFuture<Void> done = inFlight.get(key);
+        try {
+            if (done != null) {
+                done.get(millis, TimeUnit.MILLISECONDS);
+            } else {
+                Thread.sleep(millis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw idempotencyHook.stillProcessing();
+        } catch (TimeoutException | ExecutionException ignored) {
+            // 다음 루프에서 Redis 상태를 다시 확인
+        }
+    }
+
+    private <T> ResponseEntity<T> replay(Entry entry, TypeReference<T> bodyType) {
+        try {
+            T body = entry.body() == null ? null : objectMapper.readValue(entry.body(), bodyType);
+            return ResponseEntity.status(entry.status()).header(REPLAYED_HEADER, "true").body(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize idempotent response", e);
+        }
+    }
+
+    private Entry read(String key) {
+        String value = stringRedisTemplate.opsForValue().get(key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, Entry.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupted idempotency entry: " + key, e);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize idempotency entry", e);
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to fingerprint request", e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("idempotency.requests").tag("result", result).register(meterRegistry);
+    }
+}
@@ -0,0 +1,54 @@
+package com.eatcloud.automessaging.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 outbox
+ * 도메인 변경과 같은 트랜잭션에서 기록하고, OutboxRelay 가 Kafka 로 전송한 뒤 sent_at 을 채운다.
+ * 보존 기간이 지난 전송 완료 행은 relay 가 삭제한다 (도메인 데이터가 아니므로 soft delete 대상 아님).
+ */
+@Entity
+@Table(name = "p_outbox_events")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "outbox_id")
+	private Long outboxId;
+
+	@Column(name = "aggregate_type", nullable = false, length = 50)
+	private String aggregateType;
+
+	// Kafka 메시지 키 - 같은 키의 이벤트는 기록 순서대로 전송
+	@Column(name = "aggregate_id", nullable = false, length = 100)
+	private String aggregateId;
+
+	// aggregate_id 해시 (relay 레인 분배용, 0 이상)
+	@Column(name = "key_hash", nullable = false)
+	private Integer keyHash;
+
+	@Column(name = "topic", nullable = false, length = 200)
+	private String topic;
+
+	@Column(name = "payload", nullable = false, columnDefinition = "text")
+	private String payload;
+
+	@Column(name = "attempts", nullable = false)
+	@Builder.Default
+	private Integer attempts = 0;
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "sent_at")
+	private LocalDateTime sentAt;
+}
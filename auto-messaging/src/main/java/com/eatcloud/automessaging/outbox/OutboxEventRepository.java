@@ -0,0 +1,11 @@
+package com.eatcloud.automessaging.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * outbox 기록 전용 - 전송/정리는 OutboxRelay 가 JDBC 로 일괄 처리
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+}
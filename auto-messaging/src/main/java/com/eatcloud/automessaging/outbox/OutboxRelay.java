@@ -0,0 +1,281 @@
+package com.eatcloud.automessaging.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbox → Kafka 전송
+ *
+ * key_hash % lanes 로 행을 레인에 나누고, 레인마다 스레드 하나가 주기적으로 배치를 전송한다.
+ * 레인은 p_outbox_lane_leases 의 lease 를 가진 레플리카 한 곳에서만 처리한다 (lanes 값은 모든 레플리카가 같아야 한다).
+ * lease 획득/조회/완료 기록은 각각 짧은 단일 문장이라, ack 를 기다리는 동안 DB 락이나 커넥션을 잡지 않는다.
+ * lease 는 ack 대기 시간(send-timeout)보다 길게 잡아 전송 도중 다른 레플리카가 레인을 가져가지 않게 하고,
+ * 소유 레플리카가 죽으면 lease 가 만료된 뒤 다른 레플리카가 이어받는다.
+ *
+ * 같은 키는 기록 순서대로 하나씩 보내고 ack 를 받은 뒤에 다음 행을 보낸다 (키끼리는 병렬).
+ * 전송에 실패한 키는 그 자리에서 멈추고 이후 행은 보내지 않으므로, 다음 주기에 실패한 행부터 순서대로 다시 전송된다.
+ * ack 를 받은 행만 sent_at 을 채우며, 요청 스레드는 브로커 ack 를 기다리지 않는다.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private static final int MAX_DRAIN_ROUNDS = 10;
+    private static final int PRUNE_CHUNK = 1000;
+
+    record PendingEvent(long outboxId, String aggregateId, String topic, String payload, LocalDateTime createdAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KafkaTemplate<String, String> outboxKafkaTemplate;
+    private final Counter sentEvents;
+    private final Counter failedEvents;
+    private final Timer relayDelay;
+    private final String owner = UUID.randomUUID().toString();
+
+    private ScheduledExecutorService scheduler;
+
+    @Value("${outbox.relay.enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.relay.lanes:4}")
+    private int lanes;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.poll-interval-ms:200}")
+    private long pollIntervalMs;
+
+    @Value("${outbox.relay.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${outbox.relay.retention-hours:24}")
+    private long retentionHours;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       @Qualifier("outboxKafkaTemplate") KafkaTemplate<String, String> outboxKafkaTemplate,
+                       MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxKafkaTemplate = outboxKafkaTemplate;
+        this.sentEvents = Counter.builder("outbox.relay.events").tag("result", "sent").register(meterRegistry);
+        this.failedEvents = Counter.builder("outbox.relay.events").tag("result", "failed").register(meterRegistry);
+        this.relayDelay = Timer.builder("outbox.relay.delay")
+            .description("Time between writing an outbox row and the broker ack")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        scheduler = Executors.newScheduledThreadPool(lanes + 1, r -> {
+            Thread thread = new Thread(r, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int lane = 0; lane < lanes; lane++) {
+            int current = lane;
+            scheduler.scheduleWithFixedDelay(() -> drain(current), pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        scheduler.scheduleWithFixedDelay(this::prune, 10, 10, TimeUnit.MINUTES);
+        log.info("Outbox relay started: lanes={}, batchSize={}, pollInterval={}ms", lanes, batchSize, pollIntervalMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 만료를 기다리지 않고 다른 레플리카가 바로 레인을 이어받도록 lease 반납
+        try {
+            jdbcTemplate.update("DELETE FROM p_outbox_lane_leases WHERE owner = ?", owner);
+        } catch (Exception e) {
+            log.warn("Failed to release outbox lane leases: {}", e.getMessage());
+        }
+    }
+
+    private void drain(int lane) {
+        try {
+            for (int round = 0; round < MAX_DRAIN_ROUNDS; round++) {
+                if (relayBatch(lane) < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Outbox relay failed: lane={}", lane, e);
+        }
+    }
+
+    /**
+     * 레인 하나의 배치 전송
+     * @return 조회한 행 수 (batchSize 와 같으면 밀린 행이 더 있을 수 있음)
+     */
+    int relayBatch(int lane) {
+        if (!acquireLane(lane)) {
+            return 0;
+        }
+
+        List<PendingEvent> pending = jdbcTemplate.query(
+            "SELECT outbox_id, aggregate_id, topic, payload, created_at FROM p_outbox_events" +
+            " WHERE sent_at IS NULL AND key_hash % ? = ? ORDER BY outbox_id LIMIT ?",
+            (rs, rowNum) -> new PendingEvent(
+                rs.getLong("outbox_id"),
+                rs.getString("aggregate_id"),
+                rs.getString("topic"),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at").toLocalDateTime()),
+            lanes, lane, batchSize);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        publish(pending);
+        return pending.size();
+    }
+
+    /**
+     * 레인 lease 획득 또는 연장 - 비어 있거나, 만료되었거나, 이미 이 레플리카가 가진 경우에만 성공
+     */
+    boolean acquireLane(int lane) {
+        int updated = jdbcTemplate.update(
+            "INSERT INTO p_outbox_lane_leases (lane, owner, lease_until)" +
+            " VALUES (?, ?, now() + ? * interval '1 millisecond')" +
+            " ON CONFLICT (lane) DO UPDATE SET owner = EXCLUDED.owner, lease_until = EXCLUDED.lease_until" +
+            " WHERE p_outbox_lane_leases.owner = EXCLUDED.owner OR p_outbox_lane_leases.lease_until < now()",
+            lane, owner, sendTimeoutMs * 3);
+        return updated > 0;
+    }
+
+    /**
+     * 키별로 기록 순서대로 전송 - 라운드마다 키당 다음 행 하나씩 보내고 ack 를 모은다
+     * 실패한 키는 이후 행을 보내지 않고 멈춘다 (다음 주기에 실패한 행부터 재전송)
+     */
+    void publish(List<PendingEvent> pending) {
+        Map<String, Deque<PendingEvent>> byKey = new LinkedHashMap<>();
+        pending.forEach(event -> byKey.computeIfAbsent(event.aggregateId(), key -> new ArrayDeque<>()).add(event));
+
+        List<Long> sent = new ArrayList<>();
+        Map<Long, String> failed = new LinkedHashMap<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+
+        // 대기 시간을 다 쓰면 남은 행은 보내지 않고 다음 주기로 미룬다
+        while (!byKey.isEmpty() && System.nanoTime() < deadline) {
+            Map<PendingEvent, CompletableFuture<SendResult<String, String>>> round = new LinkedHashMap<>();
+            byKey.values().forEach(queue -> round.put(queue.peekFirst(), send(queue.peekFirst())));
+
+            round.forEach((event, future) -> {
+                String error = awaitAck(future, deadline);
+                Deque<PendingEvent> queue = byKey.get(event.aggregateId());
+
+                if (error != null) {
+                    failed.put(event.outboxId(), error);
+                    byKey.remove(event.aggregateId());
+                    return;
+                }
+                sent.add(event.outboxId());
+                relayDelay.record(Duration.between(event.createdAt(), LocalDateTime.now()));
+                queue.pollFirst();
+                if (queue.isEmpty()) {
+                    byKey.remove(event.aggregateId());
+                }
+            });
+        }
+
+        if (!sent.isEmpty()) {
+            jdbcTemplate.update("UPDATE p_outbox_events SET sent_at = now() WHERE outbox_id IN (" +
+                placeholders(sent.size()) + ")", sent.toArray());
+            sentEvents.increment(sent.size());
+        }
+        failed.forEach((outboxId, error) -> jdbcTemplate.update(
+            "UPDATE p_outbox_events SET attempts = attempts + 1, last_error = ? WHERE outbox_id = ?",
+            error, outboxId));
+        if (!failed.isEmpty()) {
+            failedEvents.increment(failed.size());
+            log.warn("Outbox relay send failed: keys={}, deferred={}",
+                failed.size(), pending.size() - sent.size() - failed.size());
+        }
+    }
+
+    private CompletableFuture<SendResult<String, String>> send(PendingEvent event) {
+        try {
+            return outboxKafkaTemplate.send(new ProducerRecord<>(event.topic(), event.aggregateId(), event.payload()));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * @return 실패 사유, 성공이면 null
+     */
+    private static String awaitAck(CompletableFuture<SendResult<String, String>> future, long deadline) {
+        try {
+            future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        } catch (Exception e) {
+            String message = String.valueOf(e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            return message.length() > 500 ? message.substring(0, 500) : message;
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 전송 완료 행 삭제 (청크 단위)
+     */
+    void prune() {
+        try {
+            Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusHours(retentionHours));
+            int deleted;
+            int total = 0;
+            do {
+                deleted = jdbcTemplate.update(
+                    "DELETE FROM p_outbox_events WHERE outbox_id IN (" +
+                    "SELECT outbox_id FROM p_outbox_events WHERE sent_at < ? ORDER BY outbox_id LIMIT ?)",
+                    cutoff, PRUNE_CHUNK);
+                total += deleted;
+            } while (deleted == PRUNE_CHUNK);
+
+            if (total > 0) {
+                log.info("Outbox pruned: rows={}, retention={}h", total, retentionHours);
+            }
+        } catch (Exception e) {
+            log.error("Outbox prune failed", e);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.eatcloud.automessaging.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트를 outbox 에 기록 (호출 측 트랜잭션 필수)
+ * 도메인 변경이 롤백되면 이벤트도 함께 사라지고, 커밋되면 OutboxRelay 가 반드시 전송한다 (at-least-once).
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, String aggregateId, String topic, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox event: " + event.getClass().getSimpleName(), e);
+        }
+
+        outboxEventRepository.save(OutboxEvent.builder()
+            .aggregateType(aggregateType)
+            .aggregateId(aggregateId)
+            .keyHash(aggregateId.hashCode() & Integer.MAX_VALUE)
+            .topic(topic)
+            .payload(payload)
+            .createdAt(LocalDateTime.now())
+            .build());
+    }
+}
@@ -0,0 +1,12 @@
+package com.eatcloud.automessaging.retry;
+
+import java.time.LocalDateTime;
+
+/**
+ * DLQ 레코드 한 건 - 원 위치/시도 횟수/마지막 예외는 RetryTopicRouter 가 남긴 헤더에서 읽는다
+ * 응답 DTO 는 서비스별 컨트롤러가 이 값으로 만든다.
+ */
+public record DeadLetterRecord(String topic, int partition, long offset, String key, String payload,
+                               String originalTopic, Integer originalPartition, Long originalOffset,
+                               Integer attempts, String exception, LocalDateTime deadLetteredAt) {
+}
@@ -0,0 +1,160 @@
+package com.eatcloud.automessaging.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DLQ 조회 / 재처리 (관리자)
+ *
+ * {topic}.dlq 파티션을 group 없이 assign 해서 읽으므로 조회가 DLQ offset 을 옮기지 않는다.
+ * 재처리는 레코드를 원 토픽에 다시 넣는 방식이라 원 Consumer 의 배치/재시도 경로를 그대로 탄다 (중복 재처리는 호출자가 판단).
+ */
+@Service
+@Slf4j
+public class DeadLetterService {
+
+    static final String REPLAYED_FROM_HEADER = "x-replayed-from";
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final ConsumerFactory<String, String> retryConsumerFactory;
+    private final KafkaTemplate<String, String> outboxKafkaTemplate;
+    private final RetryTopicRouter retryTopicRouter;
+
+    @Value("${kafka.dlq.poll-timeout-ms:2000}")
+    private long pollTimeoutMs;
+
+    @Value("${kafka.retry.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    public DeadLetterService(@Qualifier("retryConsumerFactory") ConsumerFactory<String, String> retryConsumerFactory,
+                             @Qualifier("outboxKafkaTemplate") KafkaTemplate<String, String> outboxKafkaTemplate,
+                             RetryTopicRouter retryTopicRouter) {
+        this.retryConsumerFactory = retryConsumerFactory;
+        this.outboxKafkaTemplate = outboxKafkaTemplate;
+        this.retryTopicRouter = retryTopicRouter;
+    }
+
+    /**
+     * @param fromOffset 없으면 파티션 끝에서 size 건 앞부터
+     */
+    public List<DeadLetterRecord> find(String topic, int partition, Long fromOffset, int size) {
+        TopicPartition dlq = dlqPartition(topic, partition);
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        try (Consumer<String, String> consumer = retryConsumerFactory.createConsumer()) {
+            consumer.assign(List.of(dlq));
+            long begin = consumer.beginningOffsets(List.of(dlq)).get(dlq);
+            long end = consumer.endOffsets(List.of(dlq)).get(dlq);
+            long start = Math.max(begin, fromOffset != null ? fromOffset : end - limit);
+            if (start >= end) {
+                return List.of();
+            }
+            consumer.seek(dlq, start);
+            return read(consumer, dlq, Math.min(end, start + limit)).stream()
+                .map(DeadLetterService::toRecord)
+                .toList();
+        }
+    }
+
+    /**
+     * DLQ 레코드 한 건을 원 토픽으로 다시 보낸다
+     */
+    public DeadLetterRecord replay(String topic, int partition, long offset) {
+        TopicPartition dlq = dlqPartition(topic, partition);
+
+        ConsumerRecord<String, String> record;
+        try (Consumer<String, String> consumer = retryConsumerFactory.createConsumer()) {
+            consumer.assign(List.of(dlq));
+            consumer.seek(dlq, offset);
+            record = read(consumer, dlq, offset + 1).stream()
+                .filter(candidate -> candidate.offset() == offset)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("DLQ 레코드를 찾을 수 없습니다: " + dlq + "@" + offset));
+        }
+        if (record.value() == null) {
+            throw new IllegalArgumentException("원본 값이 없는 레코드는 재처리할 수 없습니다: " + dlq + "@" + offset);
+        }
+
+        String target = RetryTopicRouter.header(record.headers(), RetryTopicRouter.ORIGINAL_TOPIC_HEADER, topic);
+        ProducerRecord<String, String> replay = new ProducerRecord<>(target, record.key(), record.value());
+        replay.headers().add(REPLAYED_FROM_HEADER, (dlq + "@" + offset).getBytes(StandardCharsets.UTF_8));
+        try {
+            outboxKafkaTemplate.send(replay).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("DLQ 재처리가 중단되었습니다.", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("DLQ 재처리 전송에 실패했습니다: " + e.getMessage(), e);
+        }
+
+        log.info("DLQ record replayed: dlq={}, offset={}, target={}, key={}", dlq, offset, target, record.key());
+        return toRecord(record);
+    }
+
+    private TopicPartition dlqPartition(String topic, int partition) {
+        if (!retryTopicRouter.isRegistered(topic)) {
+            throw new IllegalArgumentException("DLQ 가 없는 토픽입니다: " + topic);
+        }
+        if (partition < 0) {
+            throw new IllegalArgumentException("파티션은 0 이상이어야 합니다.");
+        }
+        return new TopicPartition(RetryTopicRouter.dlqTopic(topic), partition);
+    }
+
+    /**
+     * end(미포함) 직전까지 읽거나 poll 이 비면 중단
+     */
+    private List<ConsumerRecord<String, String>> read(Consumer<String, String> consumer, TopicPartition partition,
+                                                       long end) {
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        while (consumer.position(partition) < end) {
+            List<ConsumerRecord<String, String>> polled = consumer.poll(Duration.ofMillis(pollTimeoutMs)).records(partition);
+            if (polled.isEmpty()) {
+                break;
+            }
+            for (ConsumerRecord<String, String> record : polled) {
+                if (record.offset() >= end) {
+                    return records;
+                }
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private static DeadLetterRecord toRecord(ConsumerRecord<String, String> record) {
+        String originalPartition = RetryTopicRouter.header(record.headers(), RetryTopicRouter.ORIGINAL_PARTITION_HEADER, null);
+        String originalOffset = RetryTopicRouter.header(record.headers(), RetryTopicRouter.ORIGINAL_OFFSET_HEADER, null);
+        String attempts = RetryTopicRouter.header(record.headers(), RetryTopicRouter.ATTEMPT_HEADER, null);
+
+        return new DeadLetterRecord(
+            record.topic(),
+            record.partition(),
+            record.offset(),
+            record.key(),
+            record.value(),
+            RetryTopicRouter.header(record.headers(), RetryTopicRouter.ORIGINAL_TOPIC_HEADER, null),
+            originalPartition == null ? null : Integer.valueOf(originalPartition),
+            originalOffset == null ? null : Long.valueOf(originalOffset),
+            attempts == null ? null : Integer.valueOf(attempts),
+            RetryTopicRouter.header(record.headers(), RetryTopicRouter.EXCEPTION_HEADER, null),
+            LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestamp()), ZoneId.systemDefault()));
+    }
+}
@@ -0,0 +1,262 @@
+package com.eatcloud.automessaging.retry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.AcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * 이벤트 Consumer 재시도 토픽 / DLQ
+ *
+ * 처리에 실패한 레코드는 원 파티션에서 바로 빠져 {topic}.retry.{n} 으로 옮겨지고, 단계마다 지수적으로 늘어나는 지연 뒤 다시 처리된다.
+ * 단계마다 컨테이너가 따로 있으므로 지연 대기(nack)는 그 단계 파티션만 멈추고 원 토픽과 다른 단계는 계속 흐른다.
+ * 모든 단계에서 실패했거나 역직렬화할 수 없는 레코드는 {topic}.dlq 에 남긴다 (DeadLetterService 로 조회/재처리).
+ * 재시도 Consumer 와 전송 템플릿은 각 서비스 KafkaConfig 의 retryConsumerFactory / outboxKafkaTemplate 빈을 받는다.
+ */
+@Component
+@Slf4j
+public class RetryTopicRouter {
+
+    static final String ATTEMPT_HEADER = "x-retry-attempt";
+    static final String DUE_AT_HEADER = "x-retry-due-at";
+    static final String ORIGINAL_TOPIC_HEADER = "x-original-topic";
+    static final String ORIGINAL_PARTITION_HEADER = "x-original-partition";
+    static final String ORIGINAL_OFFSET_HEADER = "x-original-offset";
+    static final String EXCEPTION_HEADER = "x-exception";
+
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(RetryTopicRouter.class);
+
+    private final ConsumerFactory<String, String> retryConsumerFactory;
+    private final KafkaTemplate<String, String> outboxKafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final Set<String> registeredTopics = ConcurrentHashMap.newKeySet();
+    private final List<ConcurrentMessageListenerContainer<String, String>> containers = new CopyOnWriteArrayList<>();
+    private final Counter retried;
+    private final Counter recovered;
+    private final Counter deadLettered;
+
+    @Value("${kafka.retry.enabled:true}")
+    private boolean enabled;
+
+    @Value("${kafka.retry.attempts:3}")
+    private int attempts;
+
+    @Value("${kafka.retry.initial-delay-ms:1000}")
+    private long initialDelayMs;
+
+    @Value("${kafka.retry.multiplier:5}")
+    private double multiplier;
+
+    @Value("${kafka.retry.max-delay-ms:60000}")
+    private long maxDelayMs;
+
+    @Value("${kafka.retry.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    public RetryTopicRouter(@Qualifier("retryConsumerFactory") ConsumerFactory<String, String> retryConsumerFactory,
+                            @Qualifier("outboxKafkaTemplate") KafkaTemplate<String, String> outboxKafkaTemplate,
+                            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.retryConsumerFactory = retryConsumerFactory;
+        this.outboxKafkaTemplate = outboxKafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.retried = counter(meterRegistry, "retried");
+        this.recovered = counter(meterRegistry, "recovered");
+        this.deadLettered = counter(meterRegistry, "dead_lettered");
+    }
+
+    public static String retryTopic(String topic, int tier) {
+        return topic + ".retry." + tier;
+    }
+
+    public static String dlqTopic(String topic) {
+        return topic + ".dlq";
+    }
+
+    public boolean isRegistered(String topic) {
+        return registeredTopics.contains(topic);
+    }
+
+    /**
+     * 재시도 단계 컨테이너 시작
+     * @param handler 레코드 한 건을 처리하고, 실패하면 예외를 던진다 (다음 단계 또는 DLQ 로 이동)
+     */
+    public <T> void register(String topic, String groupId, Class<T> type, Consumer<T> handler) {
+        registeredTopics.add(topic);
+        if (!enabled) {
+            return;
+        }
+        for (int tier = 0; tier < attempts; tier++) {
+            int current = tier;
+            ContainerProperties properties = new ContainerProperties(retryTopic(topic, tier));
+            properties.setGroupId(groupId + "-retry");
+            properties.setAckMode(ContainerProperties.AckMode.MANUAL);
+            properties.setMessageListener((AcknowledgingMessageListener<String, String>) (record, ack) ->
+                onRetry(topic, current, record, ack, type, handler));
+
+            ConcurrentMessageListenerContainer<String, String> container =
+                new ConcurrentMessageListenerContainer<>(retryConsumerFactory, properties);
+            container.setBeanName(groupId + "-retry-" + tier);
+            container.start();
+            containers.add(container);
+        }
+        log.info("Retry topics registered: topic={}, tiers={}, delays={}", topic, attempts,
+            IntStream.range(0, attempts).mapToObj(this::delay).toList());
+    }
+
+    @PreDestroy
+    public void stop() {
+        containers.forEach(ConcurrentMessageListenerContainer::stop);
+    }
+
+    /**
+     * 원 토픽에서 처리에 실패한 레코드를 첫 재시도 단계로 옮긴다
+     * 값이 null 이면(역직렬화 실패) 재시도해도 같으므로 원본 바이트 그대로 DLQ 로 보낸다.
+     */
+    public void route(ConsumerRecord<String, ?> record, Exception failure) {
+        if (record.value() == null) {
+            DeserializationException deserialization = SerializationUtils.getExceptionFromHeader(record,
+                SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+            String raw = deserialization == null || deserialization.getData() == null
+                ? null : new String(deserialization.getData(), StandardCharsets.UTF_8);
+            forward(record.topic(), record, raw, attempts, deserialization != null ? deserialization : failure);
+            return;
+        }
+        forward(record.topic(), record, write(record.value()), 0, failure);
+    }
+
+    Duration delay(int tier) {
+        double millis = initialDelayMs * Math.pow(multiplier, tier);
+        return Duration.ofMillis((long) Math.min(millis, maxDelayMs));
+    }
+
+    <T> void onRetry(String topic, int tier, ConsumerRecord<String, String> record, Acknowledgment ack,
+                     Class<T> type, Consumer<T> handler) {
+        long wait = longHeader(record.headers(), DUE_AT_HEADER, 0L) - System.currentTimeMillis();
+        if (wait > 0) {
+            // 같은 단계의 뒤 레코드는 모두 더 늦으므로 파티션만 멈추고 poll 은 계속 (max.poll.interval 초과 방지)
+            ack.nack(Duration.ofMillis(Math.min(wait, maxDelayMs)));
+            return;
+        }
+        T value;
+        try {
+            value = objectMapper.readValue(record.value(), type);
+        } catch (JsonProcessingException e) {
+            forward(topic, record, record.value(), attempts, e);
+            ack.acknowledge();
+            return;
+        }
+        try {
+            handler.accept(value);
+            recovered.increment();
+            log.info("Retried record processed: topic={}, tier={}, key={}", topic, tier, record.key());
+        } catch (Exception e) {
+            forward(topic, record, record.value(), tier + 1, e);
+        }
+        ack.acknowledge();
+    }
+
+    /**
+     * @param nextTier 보낼 단계 - attempts 이상이면 DLQ
+     */
+    private void forward(String topic, ConsumerRecord<String, ?> source, String payload, int nextTier,
+                         Exception failure) {
+        boolean exhausted = !enabled || nextTier >= attempts;
+        String target = exhausted ? dlqTopic(topic) : retryTopic(topic, nextTier);
+
+        ProducerRecord<String, String> record = new ProducerRecord<>(target, source.key(), payload);
+        Headers headers = record.headers();
+        headers.add(ORIGINAL_TOPIC_HEADER, bytes(header(source.headers(), ORIGINAL_TOPIC_HEADER, source.topic())));
+        headers.add(ORIGINAL_PARTITION_HEADER,
+            bytes(header(source.headers(), ORIGINAL_PARTITION_HEADER, String.valueOf(source.partition()))));
+        headers.add(ORIGINAL_OFFSET_HEADER,
+            bytes(header(source.headers(), ORIGINAL_OFFSET_HEADER, String.valueOf(source.offset()))));
+        headers.add(ATTEMPT_HEADER, bytes(String.valueOf(Math.min(nextTier, attempts))));
+        headers.add(EXCEPTION_HEADER, bytes(describe(failure)));
+        if (!exhausted) {
+            headers.add(DUE_AT_HEADER, bytes(String.valueOf(System.currentTimeMillis() + delay(nextTier).toMillis())));
+        }
+
+        try {
+            outboxKafkaTemplate.send(record).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while forwarding record to " + target, e);
+        } catch (Exception e) {
+            // 옮기지 못하면 원 레코드를 커밋하지 않도록 예외 → 컨테이너가 다시 전달
+            throw new IllegalStateException("Failed to forward record to " + target, e);
+        }
+
+        if (exhausted) {
+            deadLettered.increment();
+            log.error("Record dead-lettered: topic={}, key={}, error={}", target, source.key(), describe(failure));
+        } else {
+            retried.increment();
+            log.warn("Record scheduled for retry: topic={}, key={}, error={}", target, source.key(), describe(failure));
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize record for retry", e);
+        }
+    }
+
+    static String header(Headers headers, String name, String defaultValue) {
+        Header header = headers.lastHeader(name);
+        return header == null ? defaultValue : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    static long longHeader(Headers headers, String name, long defaultValue) {
+        String value = header(headers, name, null);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String describe(Exception failure) {
+        if (failure == null) {
+            return "unknown";
+        }
+        Throwable root = failure;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getClass().getSimpleName() + ": " + root.getMessage();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("kafka.retry.records").tag("result", result).register(meterRegistry);
+    }
+}
@@ -0,0 +1,247 @@
+package com.eatcloud.automessaging.idempotency;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("IdempotencyService 단위 테스트")
+class IdempotencyServiceTest {
+
+    private static final TypeReference<OrderCreated> BODY = new TypeReference<>() {
+    };
+
+    record OrderRequest(UUID storeId, String orderType) {
+    }
+
+    record OrderCreated(UUID orderId, String orderNumber, String orderStatus) {
+    }
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private IdempotencyHook idempotencyHook;
+
+    private IdempotencyService idempotencyService;
+
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+    private final AtomicInteger executions = new AtomicInteger();
+    private final AtomicInteger renewals = new AtomicInteger();
+    private String owner;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        idempotencyService = new IdempotencyService(stringRedisTemplate, idempotencyHook, new ObjectMapper(),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(idempotencyService, "ttlHours", 24L);
+        ReflectionTestUtils.setField(idempotencyService, "inFlightTtlSeconds", 30L);
+        ReflectionTestUtils.setField(idempotencyService, "waitTimeoutMs", 5000L);
+        owner = UUID.randomUUID().toString();
+
+        // Redis 를 Map 으로 대체
+        given(idempotencyHook.isStoreAvailable()).willReturn(true);
+        given(idempotencyHook.keyMismatch()).willReturn(new IllegalArgumentException("key mismatch"));
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .willAnswer(invocation -> redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        given(valueOperations.get(anyString())).willAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        willAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .given(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any())).willAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(1);
+            return redis.remove(keys.get(0), invocation.getArgument(2)) ? 1L : 0L;
+        });
+        given(stringRedisTemplate.execute(eq(IdempotencyService.RENEW_SCRIPT), anyList(), any(), any()))
+                .willAnswer(invocation -> {
+                    List<String> keys = invocation.getArgument(1);
+                    renewals.incrementAndGet();
+                    return invocation.<String>getArgument(2).equals(redis.get(keys.get(0))) ? 1L : 0L;
+                });
+    }
+
+    @Test
+    @DisplayName("키가 없으면 저장 없이 그대로 실행한다")
+    void execute_WithoutKey_RunsDirectly() {
+        // When
+        idempotencyService.execute("order-create", owner, null, request("DELIVERY"), BODY, action(0));
+        idempotencyService.execute("order-create", owner, null, request("DELIVERY"), BODY, action(0));
+
+        // Then
+        assertThat(executions).hasValue(2);
+        assertThat(redis).isEmpty();
+    }
+
+    @Test
+    @DisplayName("요청 주체가 없으면 다른 익명 요청과 키를 공유하지 않도록 키 없이 실행한다")
+    void execute_WithoutOwner_RunsDirectly() {
+        // When
+        idempotencyService.execute("order-create", null, "key-1", request("DELIVERY"), BODY, action(0));
+        idempotencyService.execute("order-create", null, "key-1", request("DELIVERY"), BODY, action(0));
+
+        // Then
+        assertThat(executions).hasValue(2);
+        assertThat(redis).isEmpty();
+    }
+
+    @Test
+    @DisplayName("완료된 키로 같은 요청이 오면 실행하지 않고 저장된 응답을 반환한다")
+    void execute_Completed_ReplaysStoredResponse() {
+        // Given
+        ResponseEntity<OrderCreated> first =
+                idempotencyService.execute("order-create", owner, "key-1", request("DELIVERY"), BODY, action(0));
+
+        // When
+        ResponseEntity<OrderCreated> retried =
+                idempotencyService.execute("order-create", owner, "key-1", request("DELIVERY"), BODY, action(0));
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(retried.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retried.getBody()).isEqualTo(first.getBody());
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 동시에 들어온 재시도는 병렬 실행하지 않고 원 요청의 결과를 기다린다")
+    void execute_InFlight_WaitsForOriginal() throws Exception {
+        // Given
+        int retries = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(retries);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseEntity<OrderCreated>>> futures = new ArrayList<>();
+        for (int i = 0; i < retries; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return idempotencyService.execute("order-create", owner, "key-1", request("DELIVERY"), BODY, action(200));
+            }));
+        }
+
+        // When
+        start.countDown();
+        List<UUID> orderIds = new ArrayList<>();
+        for (Future<ResponseEntity<OrderCreated>> future : futures) {
+            orderIds.add(future.get(5, TimeUnit.SECONDS).getBody().orderId());
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(orderIds).hasSize(retries).containsOnly(orderIds.get(0));
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 본문을 보내면 서비스가 정한 예외로 거절한다")
+    void execute_DifferentBody_Rejected() {
+        // Given
+        idempotencyService.execute("order-create", owner, "key-1", request("DELIVERY"), BODY, action(0));
+
+        // When & Then
+        assertThatThrownBy(() ->
+                idempotencyService.execute("order-create", owner, "key-1", request("PICKUP"), BODY, action(0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("key mismatch");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않고 키를 풀어 같은 키로 다시 시도할 수 있다")
+    void execute_Failed_ReleasesKey() {
+        // Given
+        assertThatThrownBy(() -> idempotencyService.execute("order-create", owner, "key-1", request("DELIVERY"), BODY,
+                () -> {
+                    throw new IllegalStateException("cart changed");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(redis).isEmpty();
+
+        // When
+        idempotencyService.execute("order-create", owner, "key-1", request("DELIVERY"), BODY, action(0));
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(redis).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("서비스가 Redis 를 쓸 수 없다고 하면 키 없이 실행한다")
+    void execute_RedisUnavailable_Bypasses() {
+        // Given
+        given(idempotencyHook.isStoreAvailable()).willReturn(false);
+
+        // When
+        idempotencyService.execute("order-create", owner, "key-1", request("DELIVERY"), BODY, action(0));
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(redis).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실행이 in-flight-ttl 보다 오래 걸리면 처리 중 표시를 연장하고, 끝나면 연장을 멈춘다")
+    void execute_SlowAction_RenewsInFlightMarker() throws Exception {
+        // Given - 처리 중 표시 1초, 연장 주기 약 333ms
+        ReflectionTestUtils.setField(idempotencyService, "inFlightTtlSeconds", 1L);
+
+        // When
+        ResponseEntity<OrderCreated> response =
+                idempotencyService.execute("order-create", owner, "key-1", request("DELIVERY"), BODY, action(800));
+
+        // Then
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(renewals.get()).isGreaterThanOrEqualTo(1);
+        int renewedWhileRunning = renewals.get();
+        Thread.sleep(500);
+        assertThat(renewals).hasValue(renewedWhileRunning);
+    }
+
+    private Supplier<ResponseEntity<OrderCreated>> action(long delayMillis) {
+        return () -> {
+            executions.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ResponseEntity.ok(new OrderCreated(UUID.randomUUID(), "ORD-20261017-0000001", "PENDING"));
+        };
+    }
+
+    private OrderRequest request(String orderType) {
+        return new OrderRequest(UUID.fromString("22222222-2222-2222-2222-222222222222"), orderType);
+    }
+}
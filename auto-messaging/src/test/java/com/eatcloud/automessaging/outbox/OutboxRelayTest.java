@@ -0,0 +1,144 @@
+package com.eatcloud.automessaging.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 단위 테스트")
+class OutboxRelayTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private KafkaTemplate<String, String> outboxKafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(jdbcTemplate, outboxKafkaTemplate, meterRegistry);
+        ReflectionTestUtils.setField(outboxRelay, "sendTimeoutMs", 1000L);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 키는 그 자리에서 멈추고 이후 행은 보내지 않는다, 다른 키는 계속 전송")
+    void publish_FailureStopsKeyBeforeLaterRows() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxRelay.PendingEvent> pending = List.of(
+                new OutboxRelay.PendingEvent(1L, "order-a", "order.created", "{\"a\":1}", now),
+                new OutboxRelay.PendingEvent(2L, "order-b", "order.created", "{\"b\":1}", now),
+                new OutboxRelay.PendingEvent(3L, "order-a", "order.created", "{\"a\":2}", now),
+                new OutboxRelay.PendingEvent(4L, "order-b", "order.created", "{\"b\":2}", now));
+
+        CompletableFuture<SendResult<String, String>> ok = CompletableFuture.completedFuture(null);
+        given(outboxKafkaTemplate.send(any(ProducerRecord.class)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")), ok, ok);
+
+        // When
+        outboxRelay.publish(pending);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, String>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(outboxKafkaTemplate, times(3)).send(records.capture());
+        assertThat(records.getAllValues()).extracting(ProducerRecord::value)
+                .containsExactly("{\"a\":1}", "{\"b\":1}", "{\"b\":2}");
+
+        ArgumentCaptor<Object[]> sentIds = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(startsWith("UPDATE p_outbox_events SET sent_at"), sentIds.capture());
+        assertThat(sentIds.getValue()).containsExactly(2L, 4L);
+        verify(jdbcTemplate).update(startsWith("UPDATE p_outbox_events SET attempts"), eq("broker down"), eq(1L));
+        assertThat(meterRegistry.get("outbox.relay.events").tag("result", "failed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 키의 다음 행은 이전 행의 ack 를 받은 뒤에 보낸다")
+    void publish_WaitsForAckBeforeNextRowOfSameKey() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxRelay.PendingEvent> pending = List.of(
+                new OutboxRelay.PendingEvent(1L, "order-a", "order.created", "{\"seq\":1}", now),
+                new OutboxRelay.PendingEvent(2L, "order-a", "order.created", "{\"seq\":2}", now));
+        // 첫 행의 ack 는 100ms 뒤에 도착
+        CompletableFuture<SendResult<String, String>> firstAck = CompletableFuture.supplyAsync(() -> null,
+                CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+        given(outboxKafkaTemplate.send(any(ProducerRecord.class))).willAnswer(invocation -> {
+            ProducerRecord<String, String> record = invocation.getArgument(0);
+            if (record.value().equals("{\"seq\":1}")) {
+                return firstAck;
+            }
+            assertThat(firstAck).isDone();
+            return CompletableFuture.completedFuture(null);
+        });
+
+        // When
+        outboxRelay.publish(pending);
+
+        // Then
+        verify(outboxKafkaTemplate, times(2)).send(any(ProducerRecord.class));
+        ArgumentCaptor<Object[]> sentIds = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(startsWith("UPDATE p_outbox_events SET sent_at"), sentIds.capture());
+        assertThat(sentIds.getValue()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("다른 레플리카가 레인 lease 를 가지고 있으면 조회/전송하지 않는다")
+    void relayBatch_LaneLeasedElsewhere_Skips() {
+        // Given
+        given(jdbcTemplate.update(startsWith("INSERT INTO p_outbox_lane_leases"), any(Object[].class))).willReturn(0);
+
+        // When
+        int fetched = outboxRelay.relayBatch(0);
+
+        // Then
+        assertThat(fetched).isZero();
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(Object[].class));
+        verifyNoInteractions(outboxKafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("같은 키의 이벤트는 기록 순서대로 같은 키로 전송")
+    void publish_SendsInOrderWithAggregateKey() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxRelay.PendingEvent> pending = List.of(
+                new OutboxRelay.PendingEvent(1L, "order-a", "order.created", "{\"seq\":1}", now),
+                new OutboxRelay.PendingEvent(2L, "order-a", "order.created", "{\"seq\":2}", now));
+        given(outboxKafkaTemplate.send(any(ProducerRecord.class))).willReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        outboxRelay.publish(pending);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, String>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(outboxKafkaTemplate, times(2)).send(records.capture());
+        assertThat(records.getAllValues()).extracting(ProducerRecord::key).containsExactly("order-a", "order-a");
+        assertThat(records.getAllValues()).extracting(ProducerRecord::value).containsExactly("{\"seq\":1}", "{\"seq\":2}");
+    }
+}
@@ -0,0 +1,152 @@
+package com.eatcloud.automessaging.retry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("RetryTopicRouter 단위 테스트")
+class RetryTopicRouterTest {
+
+    record PaymentCreated(UUID orderId, String paymentStatus) {
+    }
+
+    @Mock
+    private ConsumerFactory<String, String> retryConsumerFactory;
+
+    @Mock
+    private KafkaTemplate<String, String> outboxKafkaTemplate;
+
+    @Mock
+    private Acknowledgment ack;
+
+    private RetryTopicRouter retryTopicRouter;
+
+    @BeforeEach
+    void setUp() {
+        retryTopicRouter = new RetryTopicRouter(retryConsumerFactory, outboxKafkaTemplate, new ObjectMapper(),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(retryTopicRouter, "enabled", true);
+        ReflectionTestUtils.setField(retryTopicRouter, "attempts", 3);
+        ReflectionTestUtils.setField(retryTopicRouter, "initialDelayMs", 1000L);
+        ReflectionTestUtils.setField(retryTopicRouter, "multiplier", 5.0);
+        ReflectionTestUtils.setField(retryTopicRouter, "maxDelayMs", 60000L);
+        ReflectionTestUtils.setField(retryTopicRouter, "sendTimeoutMs", 1000L);
+
+        given(outboxKafkaTemplate.send(any(ProducerRecord.class))).willReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    @DisplayName("원 토픽에서 실패한 레코드는 첫 재시도 단계로 옮기고 원 위치와 처리 예정 시각을 헤더에 남긴다")
+    void route_FirstFailure_GoesToFirstTier() {
+        // Given
+        PaymentCreated event = new PaymentCreated(UUID.randomUUID(), "COMPLETED");
+        ConsumerRecord<String, PaymentCreated> record = new ConsumerRecord<>("payment.created", 2, 42L, "key", event);
+
+        // When
+        retryTopicRouter.route(record, new IllegalStateException("boom"));
+
+        // Then
+        ProducerRecord<String, String> sent = sent();
+        assertThat(sent.topic()).isEqualTo("payment.created.retry.0");
+        assertThat(sent.value()).contains(event.orderId().toString());
+        assertThat(header(sent, RetryTopicRouter.ORIGINAL_PARTITION_HEADER)).isEqualTo("2");
+        assertThat(header(sent, RetryTopicRouter.ORIGINAL_OFFSET_HEADER)).isEqualTo("42");
+        assertThat(header(sent, RetryTopicRouter.EXCEPTION_HEADER)).isEqualTo("IllegalStateException: boom");
+        assertThat(Long.parseLong(header(sent, RetryTopicRouter.DUE_AT_HEADER)))
+                .isGreaterThan(System.currentTimeMillis() + 500);
+    }
+
+    @Test
+    @DisplayName("처리 예정 시각 전이면 처리하지 않고 남은 시간만큼 nack 한다")
+    void onRetry_NotDue_Nacks() {
+        // Given
+        ConsumerRecord<String, String> record = retryRecord(0, System.currentTimeMillis() + 5000);
+
+        // When
+        retryTopicRouter.onRetry("payment.created", 0, record, ack, PaymentCreated.class,
+                event -> fail("should not be handled"));
+
+        // Then
+        then(ack).should().nack(argThat((Duration sleep) -> sleep.toMillis() > 4000 && sleep.toMillis() <= 5000));
+        then(ack).should(never()).acknowledge();
+        then(outboxKafkaTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("마지막 단계에서도 실패하면 DLQ 로 보내고 원 토픽 정보는 유지한다")
+    void onRetry_LastTierFails_DeadLetters() {
+        // Given
+        ConsumerRecord<String, String> record = retryRecord(2, 0L);
+
+        // When
+        retryTopicRouter.onRetry("payment.created", 2, record, ack, PaymentCreated.class, event -> {
+            throw new IllegalStateException("still broken");
+        });
+
+        // Then
+        ProducerRecord<String, String> sent = sent();
+        assertThat(sent.topic()).isEqualTo("payment.created.dlq");
+        assertThat(header(sent, RetryTopicRouter.ORIGINAL_TOPIC_HEADER)).isEqualTo("payment.created");
+        assertThat(header(sent, RetryTopicRouter.ORIGINAL_OFFSET_HEADER)).isEqualTo("7");
+        assertThat(header(sent, RetryTopicRouter.ATTEMPT_HEADER)).isEqualTo("3");
+        assertThat(sent.headers().lastHeader(RetryTopicRouter.DUE_AT_HEADER)).isNull();
+        then(ack).should().acknowledge();
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 단계마다 지수적으로 늘어나고 최대값에서 멈춘다")
+    void delay_Exponential_Capped() {
+        assertThat(retryTopicRouter.delay(0)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(retryTopicRouter.delay(2)).isEqualTo(Duration.ofSeconds(25));
+        assertThat(retryTopicRouter.delay(5)).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProducerRecord<String, String> sent() {
+        ArgumentCaptor<ProducerRecord<String, String>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        then(outboxKafkaTemplate).should().send(captor.capture());
+        return captor.getValue();
+    }
+
+    private static ConsumerRecord<String, String> retryRecord(int tier, long dueAt) {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("payment.created.retry." + tier, 0, 0L, "key",
+                "{\"orderId\":\"" + UUID.randomUUID() + "\",\"paymentStatus\":\"COMPLETED\"}");
+        record.headers().add(RetryTopicRouter.ORIGINAL_TOPIC_HEADER, bytes("payment.created"));
+        record.headers().add(RetryTopicRouter.ORIGINAL_PARTITION_HEADER, bytes("1"));
+        record.headers().add(RetryTopicRouter.ORIGINAL_OFFSET_HEADER, bytes("7"));
+        record.headers().add(RetryTopicRouter.DUE_AT_HEADER, bytes(String.valueOf(dueAt)));
+        return record;
+    }
+
+    private static String header(ProducerRecord<String, String> record, String name) {
+        return new String(record.headers().lastHeader(name).value(), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -23,6 +23,7 @@ CREATE TABLE IF NOT EXISTS p_stores (
   open_time        TIME NOT NULL,
   close_time       TIME NOT NULL,
   location         geography(Point, 4326),
+  search_vector    tsvector,                       -- 매장명(A)/메뉴명(B)/설명(C) 2-gram, StoreSearchIndexer 가 유지
 
   -- ⭐ Ratings (denormalized)
   rating_sum       NUMERIC(10,2) NOT NULL DEFAULT 0,   -- 총합
@@ -41,6 +42,20 @@ CREATE TABLE IF NOT EXISTS p_stores (
 CREATE INDEX IF NOT EXISTS idx_stores_rating
   ON p_stores (avg_rating DESC, rating_count DESC);
 
+-- 거리 검색 (ST_DWithin + KNN <-> 정렬)
+CREATE INDEX IF NOT EXISTS idx_stores_location
+  ON p_stores USING GIST (location) WHERE deleted_at IS NULL;
+
+-- 키워드 검색 (search_vector @@ tsquery)
+ALTER TABLE p_stores ADD COLUMN IF NOT EXISTS search_vector tsvector;
+CREATE INDEX IF NOT EXISTS idx_stores_search_vector
+  ON p_stores USING GIN (search_vector) WHERE deleted_at IS NULL;
+
+-- 좌표만 있고 location 이 비어 있는 기존 매장 백필 (이후에는 엔티티 저장 시 동기화)
+UPDATE p_stores
+   SET location = ST_SetSRID(ST_MakePoint(store_lon, store_lat), 4326)::geography
+ WHERE location IS NULL AND store_lat IS NOT NULL AND store_lon IS NOT NULL;
+
 -- =====================
 -- Menus (with inventory)
 -- =====================
@@ -59,6 +74,8 @@ CREATE TABLE IF NOT EXISTS p_menus (
   is_unlimited       BOOLEAN NOT NULL DEFAULT FALSE,   -- 무제한 판매 여부
   stock_quantity     INTEGER NOT NULL DEFAULT 0,       -- 현재 재고 수량
 
+  version            BIGINT NOT NULL DEFAULT 0,        -- 낙관적 락 버전 (메뉴 변경 이벤트 순서)
+
   created_at         TIMESTAMP    NOT NULL DEFAULT now(),
   created_by         VARCHAR(100) NOT NULL,
   updated_at         TIMESTAMP    NOT NULL DEFAULT now(),
@@ -67,6 +84,8 @@ CREATE TABLE IF NOT EXISTS p_menus (
   deleted_by         VARCHAR(100)
 );
 
+ALTER TABLE p_menus ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
 CREATE INDEX IF NOT EXISTS idx_menus_store_category
   ON p_menus (store_id, menu_category_code);
 
@@ -8,6 +8,11 @@ DROP TABLE IF EXISTS p_delivery_orders CASCADE;
 DROP TABLE IF EXISTS p_pickup_orders CASCADE;
 DROP TABLE IF EXISTS p_orders CASCADE;
 DROP TABLE IF EXISTS p_cart CASCADE;
+DROP TABLE IF EXISTS p_outbox_events CASCADE;
+DROP TABLE IF EXISTS p_outbox_lane_leases CASCADE;
+DROP TABLE IF EXISTS p_order_saga_parked_compensations CASCADE;
+DROP TABLE IF EXISTS p_order_saga_logs CASCADE;
+DROP TABLE IF EXISTS p_order_sagas CASCADE;
 DROP TABLE IF EXISTS order_type_codes CASCADE;
 DROP TABLE IF EXISTS order_status_codes CASCADE;
 
@@ -15,6 +20,7 @@ CREATE TABLE IF NOT EXISTS p_cart (
     cart_id     UUID PRIMARY KEY,
     customer_id UUID NOT NULL, -- logical ref -> users.p_customer.id
     cart_items  JSONB NOT NULL,
+    sync_version BIGINT,     -- write-behind snapshot version
     created_at  TIMESTAMP    NOT NULL DEFAULT now(),
     created_by  VARCHAR(100) NOT NULL,
     updated_at  TIMESTAMP    NOT NULL DEFAULT now(),
@@ -22,6 +28,8 @@ CREATE TABLE IF NOT EXISTS p_cart (
     deleted_at  TIMESTAMP,
     deleted_by  VARCHAR(100)
 );
+-- write-behind 일괄 UPSERT (ON CONFLICT) 대상 키
+CREATE UNIQUE INDEX IF NOT EXISTS uq_cart_customer ON p_cart(customer_id);
 
 CREATE TABLE IF NOT EXISTS p_orders (
                                         order_id              UUID PRIMARY KEY,
@@ -44,6 +52,12 @@ CREATE TABLE IF NOT EXISTS p_orders (
     deleted_by            VARCHAR(100)
     );
 
+-- 고객/매장 주문 목록 keyset 페이지네이션 (created_at DESC, order_id DESC)
+CREATE INDEX IF NOT EXISTS idx_orders_customer_created ON p_orders (customer_id, created_at DESC, order_id DESC)
+    WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_orders_store_created ON p_orders (store_id, created_at DESC, order_id DESC)
+    WHERE deleted_at IS NULL;
+
 CREATE TABLE IF NOT EXISTS p_delivery_orders (
                                                  order_id                   UUID PRIMARY KEY REFERENCES p_orders(order_id),
     delivery_fee               NUMERIC(10,2) DEFAULT 0,
@@ -120,3 +134,69 @@ CREATE TABLE IF NOT EXISTS order_type_codes (
     deleted_by VARCHAR(100)
 );
 
+-- 트랜잭셔널 outbox (도메인 변경과 같은 트랜잭션에서 기록, OutboxRelay 가 전송 후 sent_at 기록)
+CREATE TABLE IF NOT EXISTS p_outbox_events (
+    outbox_id      BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50)  NOT NULL,
+    aggregate_id   VARCHAR(100) NOT NULL, -- Kafka key
+    key_hash       INTEGER      NOT NULL, -- relay lane = key_hash % lanes
+    topic          VARCHAR(200) NOT NULL,
+    payload        TEXT         NOT NULL,
+    attempts       INTEGER      NOT NULL DEFAULT 0,
+    last_error     VARCHAR(500),
+    created_at     TIMESTAMP    NOT NULL DEFAULT now(),
+    sent_at        TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_outbox_pending ON p_outbox_events (outbox_id) WHERE sent_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_sent_at ON p_outbox_events (sent_at) WHERE sent_at IS NOT NULL;
+
+-- OutboxRelay 레인 소유권 (lease 를 가진 레플리카 한 곳만 레인을 전송, lease_until 이 지나면 다른 레플리카가 이어받음)
+CREATE TABLE IF NOT EXISTS p_outbox_lane_leases (
+    lane        INTEGER      PRIMARY KEY,
+    owner       VARCHAR(100) NOT NULL,
+    lease_until TIMESTAMP    NOT NULL
+);
+
+-- 주문 saga 상태 (saga 당 한 행, deadline_at 이 지나면 타임아웃/보상 재시도)
+CREATE TABLE IF NOT EXISTS p_order_sagas (
+    saga_id        UUID PRIMARY KEY,
+    order_id       UUID         NOT NULL UNIQUE, -- logical ref -> p_orders.order_id
+    status         VARCHAR(20)  NOT NULL,        -- RUNNING, COMPENSATING, COMPLETED, COMPENSATED, FAILED
+    current_step   INTEGER      NOT NULL,
+    awaiting_reply BOOLEAN      NOT NULL DEFAULT FALSE,
+    attempts       INTEGER      NOT NULL DEFAULT 0,
+    deadline_at    TIMESTAMP,
+    payload        TEXT         NOT NULL,
+    failed_step    VARCHAR(50),
+    last_error     VARCHAR(500),
+    created_at     TIMESTAMP    NOT NULL DEFAULT now(),
+    updated_at     TIMESTAMP    NOT NULL DEFAULT now()
+);
+CREATE INDEX IF NOT EXISTS idx_order_sagas_deadline ON p_order_sagas (deadline_at)
+    WHERE status IN ('RUNNING', 'COMPENSATING');
+
+-- 주문 saga 진행 이력
+CREATE TABLE IF NOT EXISTS p_order_saga_logs (
+    log_id     BIGSERIAL PRIMARY KEY,
+    saga_id    UUID         NOT NULL,
+    step       VARCHAR(50)  NOT NULL,
+    action     VARCHAR(30)  NOT NULL,
+    detail     VARCHAR(500),
+    created_at TIMESTAMP    NOT NULL DEFAULT now()
+);
+CREATE INDEX IF NOT EXISTS idx_order_saga_logs_saga ON p_order_saga_logs (saga_id, log_id);
+
+-- 재시도 한도를 넘긴 보상 (수동 처리 대상)
+CREATE TABLE IF NOT EXISTS p_order_saga_parked_compensations (
+    parked_id   BIGSERIAL PRIMARY KEY,
+    saga_id     UUID         NOT NULL,
+    order_id    UUID         NOT NULL,
+    step        VARCHAR(50)  NOT NULL,
+    attempts    INTEGER      NOT NULL,
+    last_error  VARCHAR(500),
+    payload     TEXT         NOT NULL,
+    created_at  TIMESTAMP    NOT NULL DEFAULT now(),
+    resolved_at TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_parked_compensations_open ON p_order_saga_parked_compensations (parked_id)
+    WHERE resolved_at IS NULL;
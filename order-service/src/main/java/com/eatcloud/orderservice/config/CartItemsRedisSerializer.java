@@ -0,0 +1,214 @@
+package com.eatcloud.orderservice.config;
+
+import com.eatcloud.orderservice.dto.CartItem;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 장바구니 Redis 값 직렬화 (cart:{customerId})
+ *
+ * JSON   : 기존 GenericJackson2JsonRedisSerializer 형식 (@class 타입 정보 포함)
+ * BINARY : [MAGIC][VERSION][varint 개수] + 아이템별 [flags][menuId 16B][storeId 16B][varint quantity][varint price][varint 길이 + UTF-8 메뉴명]
+ *
+ * 쓰기 형식은 설정으로 고르고, 읽기는 첫 바이트로 두 형식을 모두 판별한다.
+ * JSON 값은 '[' 로 시작하므로 UTF-8 에 나올 수 없는 0xC1 을 MAGIC 으로 사용한다 → 마이그레이션 중 혼재 가능
+ */
+public class CartItemsRedisSerializer implements RedisSerializer<List<CartItem>> {
+
+    public enum Format {
+        JSON,
+        BINARY
+    }
+
+    private static final byte MAGIC = (byte) 0xC1;
+    private static final byte VERSION_1 = 1;
+
+    private static final int HAS_MENU_ID = 1;
+    private static final int HAS_STORE_ID = 1 << 1;
+    private static final int HAS_QUANTITY = 1 << 2;
+    private static final int HAS_PRICE = 1 << 3;
+    private static final int HAS_MENU_NAME = 1 << 4;
+
+    private final Format writeFormat;
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    public CartItemsRedisSerializer(Format writeFormat) {
+        this.writeFormat = writeFormat;
+    }
+
+    @Override
+    public byte[] serialize(List<CartItem> cartItems) throws SerializationException {
+        if (cartItems == null) {
+            return null;
+        }
+        return writeFormat == Format.BINARY ? writeBinary(cartItems) : jsonSerializer.serialize(cartItems);
+    }
+
+    @Override
+    public List<CartItem> deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        return bytes[0] == MAGIC ? readBinary(bytes) : readJson(bytes);
+    }
+
+    private byte[] writeBinary(List<CartItem> cartItems) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + cartItems.size() * 64);
+        out.write(MAGIC);
+        out.write(VERSION_1);
+        writeVarint(out, cartItems.size());
+
+        for (CartItem item : cartItems) {
+            byte[] menuName = item.getMenuName() == null ? null : item.getMenuName().getBytes(StandardCharsets.UTF_8);
+            int flags = (item.getMenuId() != null ? HAS_MENU_ID : 0)
+                | (item.getStoreId() != null ? HAS_STORE_ID : 0)
+                | (item.getQuantity() != null ? HAS_QUANTITY : 0)
+                | (item.getPrice() != null ? HAS_PRICE : 0)
+                | (menuName != null ? HAS_MENU_NAME : 0);
+            out.write(flags);
+
+            if (item.getMenuId() != null) {
+                writeUuid(out, item.getMenuId());
+            }
+            if (item.getStoreId() != null) {
+                writeUuid(out, item.getStoreId());
+            }
+            if (item.getQuantity() != null) {
+                writeVarint(out, zigZag(item.getQuantity()));
+            }
+            if (item.getPrice() != null) {
+                writeVarint(out, zigZag(item.getPrice()));
+            }
+            if (menuName != null) {
+                writeVarint(out, menuName.length);
+                out.write(menuName, 0, menuName.length);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private List<CartItem> readBinary(byte[] bytes) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            buffer.get();
+            byte version = buffer.get();
+            if (version != VERSION_1) {
+                throw new SerializationException("Unsupported cart binary version: " + version);
+            }
+
+            int count = readVarint(buffer);
+            List<CartItem> cartItems = new ArrayList<>(Math.min(count, 64));
+
+            for (int i = 0; i < count; i++) {
+                int flags = buffer.get() & 0xFF;
+                CartItem.CartItemBuilder builder = CartItem.builder();
+
+                if ((flags & HAS_MENU_ID) != 0) {
+                    builder.menuId(new UUID(buffer.getLong(), buffer.getLong()));
+                }
+                if ((flags & HAS_STORE_ID) != 0) {
+                    builder.storeId(new UUID(buffer.getLong(), buffer.getLong()));
+                }
+                if ((flags & HAS_QUANTITY) != 0) {
+                    builder.quantity(unZigZag(readVarint(buffer)));
+                }
+                if ((flags & HAS_PRICE) != 0) {
+                    builder.price(unZigZag(readVarint(buffer)));
+                }
+                if ((flags & HAS_MENU_NAME) != 0) {
+                    byte[] menuName = new byte[readVarint(buffer)];
+                    buffer.get(menuName);
+                    builder.menuName(new String(menuName, StandardCharsets.UTF_8));
+                }
+                cartItems.add(builder.build());
+            }
+            return cartItems;
+
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            throw new SerializationException("Truncated cart binary value", e);
+        }
+    }
+
+    /**
+     * 기존 JSON 값 읽기 - 타입 정보가 없거나 Map 으로 풀린 아이템도 변환
+     */
+    private List<CartItem> readJson(byte[] bytes) {
+        Object value = jsonSerializer.deserialize(bytes);
+        if (!(value instanceof List<?> rawList)) {
+            throw new SerializationException("Unexpected cart JSON value: " + value);
+        }
+
+        List<CartItem> cartItems = new ArrayList<>(rawList.size());
+        for (Object item : rawList) {
+            if (item instanceof CartItem cartItem) {
+                cartItems.add(cartItem);
+            } else if (item instanceof Map<?, ?> map) {
+                cartItems.add(convertMapToCartItem(map));
+            }
+        }
+        return cartItems;
+    }
+
+    private static CartItem convertMapToCartItem(Map<?, ?> map) {
+        try {
+            return CartItem.builder()
+                .menuId(UUID.fromString(map.get("menuId").toString()))
+                .menuName(map.get("menuName").toString())
+                .quantity(Integer.valueOf(map.get("quantity").toString()))
+                .price(Integer.valueOf(map.get("price").toString()))
+                .storeId(UUID.fromString(map.get("storeId").toString()))
+                .build();
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to convert map to CartItem: " + map, e);
+        }
+    }
+
+    private static void writeUuid(ByteArrayOutputStream out, UUID uuid) {
+        writeLong(out, uuid.getMostSignificantBits());
+        writeLong(out, uuid.getLeastSignificantBits());
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed varint in cart binary value");
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
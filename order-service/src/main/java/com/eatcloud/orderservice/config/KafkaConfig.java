@@ -1,7 +1,9 @@
 package com.eatcloud.orderservice.config;
 
+import com.eatcloud.orderservice.event.MenuChangedEvent;
 import com.eatcloud.orderservice.event.OrderCreatedEvent;
 import com.eatcloud.orderservice.event.PaymentCreatedEvent;
+import com.eatcloud.orderservice.event.SagaReplyEvent;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -11,6 +13,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
@@ -19,9 +22,17 @@ import java.util.Map;
 
 @Configuration
 public class KafkaConfig {
+
+    public static final String SAGA_REPLY_GROUP = "order-saga-reply";
     
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
+
+    @Value("${payment-events.consumer.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Value("${payment-events.consumer.concurrency:3}")
+    private int concurrency;
     
     // Producer 설정
     @Bean
@@ -43,8 +54,31 @@ public class KafkaConfig {
     public KafkaTemplate<String, OrderCreatedEvent> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
+
+    /**
+     * outbox relay 전용 Producer - payload 는 이미 JSON 문자열로 저장되어 있으므로 그대로 전송
+     * 멱등 Producer 로 재시도 시에도 파티션 내 순서와 중복 없는 전송을 보장
+     */
+    @Bean
+    public ProducerFactory<String, String> outboxProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, String> outboxKafkaTemplate() {
+        return new KafkaTemplate<>(outboxProducerFactory());
+    }
     
-    // Consumer 설정
+    // Consumer 설정 - 배치 소비, 역직렬화 실패 레코드는 null 값으로 넘겨 배치 전체가 막히지 않도록 한다
     @Bean
     public ConsumerFactory<String, PaymentCreatedEvent> consumerFactory() {
         Map<String, Object> configProps = new HashMap<>();
@@ -53,12 +87,14 @@ public class KafkaConfig {
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxBatchSize);
 
         JsonDeserializer<PaymentCreatedEvent> valueDeserializer = new JsonDeserializer<>(PaymentCreatedEvent.class);
         valueDeserializer.addTrustedPackages("*");
         valueDeserializer.setUseTypeHeaders(false);
 
-        return new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(), valueDeserializer);
+        return new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(valueDeserializer));
     }
     
     @Bean
@@ -66,6 +102,93 @@ public class KafkaConfig {
         ConcurrentKafkaListenerContainerFactory<String, PaymentCreatedEvent> factory = 
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        // 파티션 수까지 consumer 스레드를 늘리고, poll 한 묶음을 List 로 한 번에 처리
+        factory.setConcurrency(concurrency);
+        factory.setBatchListener(true);
         return factory;
     }
-} 
\ No newline at end of file
+
+    /**
+     * 재시도 단계 / DLQ 토픽 Consumer - 값은 원본 JSON 문자열 그대로 받는다
+     * group 은 재시도 컨테이너마다 지정하고, DLQ 조회는 group 없이 파티션을 직접 assign 한다.
+     */
+    @Bean
+    public ConsumerFactory<String, String> retryConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        return new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(), new StringDeserializer());
+    }
+
+    /**
+     * saga 명령 응답 Consumer (order.saga.reply)
+     * payment-created 소비와 오프셋/리밸런스가 섞이지 않도록 group 을 따로 둔다.
+     * 역직렬화 실패 레코드는 리스너를 거치지 않고 건너뛰어 파티션이 멈추지 않도록 한다 (응답은 타임아웃 스캔이 대신 처리).
+     */
+    @Bean
+    public ConsumerFactory<String, SagaReplyEvent> sagaReplyConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, SAGA_REPLY_GROUP);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        JsonDeserializer<SagaReplyEvent> valueDeserializer = new JsonDeserializer<>(SagaReplyEvent.class);
+        valueDeserializer.addTrustedPackages("*");
+        valueDeserializer.setUseTypeHeaders(false);
+
+        return new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(valueDeserializer));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, SagaReplyEvent> sagaReplyListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, SagaReplyEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(sagaReplyConsumerFactory());
+        return factory;
+    }
+
+    /**
+     * 매장 주문 피드 Consumer (order.created, order.status.changed)
+     * 피드는 실시간 전달용이므로 처음 붙을 때 과거 이벤트를 읽지 않고, 값은 topic 별로 직접 역직렬화한다.
+     */
+    @Bean
+    public ConsumerFactory<String, String> orderFeedConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, "order-feed");
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+
+        return new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(), new StringDeserializer());
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> orderFeedListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(orderFeedConsumerFactory());
+        return factory;
+    }
+
+    /**
+     * 메뉴 카탈로그 복제용 Consumer
+     * 모든 인스턴스가 전체 카탈로그를 가져야 하므로 consumer group 없이 파티션을 직접 assign 한다.
+     * 역직렬화 실패 레코드는 null 값으로 넘겨 소비가 멈추지 않도록 한다.
+     */
+    @Bean
+    public ConsumerFactory<String, MenuChangedEvent> menuCatalogConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1000);
+
+        JsonDeserializer<MenuChangedEvent> valueDeserializer = new JsonDeserializer<>(MenuChangedEvent.class);
+        valueDeserializer.addTrustedPackages("*");
+        valueDeserializer.setUseTypeHeaders(false);
+
+        return new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(valueDeserializer));
+    }
+}
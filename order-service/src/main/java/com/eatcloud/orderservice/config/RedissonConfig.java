@@ -1,5 +1,6 @@
 package com.eatcloud.orderservice.config;
 
+import com.eatcloud.orderservice.dto.CartItem;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
@@ -8,9 +9,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.List;
+
 /**
  * Redisson 설정 클래스
  * 분산락, 분산 트랜잭션 등 고급 Redis 기능 지원
@@ -27,6 +32,9 @@ public class RedissonConfig {
     @Value("${spring.data.redis.password:}")
     private String redisPassword;
 
+    @Value("${cart.redis.value-codec:json}")
+    private String cartValueCodec;
+
     @Bean(destroyMethod = "shutdown")
     public RedissonClient redissonClient() {
         Config config = new Config();
@@ -71,4 +79,39 @@ public class RedissonConfig {
         
         return template;
     }
+
+    /**
+     * 장바구니(cart:{customerId}) 전용 템플릿
+     * 값 형식은 cart.redis.value-codec (json | binary) 로 선택하며, 읽기는 두 형식 모두 지원
+     */
+    @Bean
+    public RedisTemplate<String, List<CartItem>> cartRedisTemplate(RedissonConnectionFactory connectionFactory) {
+        RedisTemplate<String, List<CartItem>> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new CartItemsRedisSerializer(
+            CartItemsRedisSerializer.Format.valueOf(cartValueCodec.trim().toUpperCase())));
+        template.afterPropertiesSet();
+
+        return template;
+    }
+
+    /**
+     * Hash 기반 장바구니 저장소용 템플릿
+     * HINCRBY / Lua 스크립트가 필드 값을 정수 문자열로 다루므로 JSON 직렬화 없이 문자열로 저장
+     */
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(RedissonConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
+    }
+
+    /**
+     * Redis pub/sub 구독용 컨테이너 (장바구니 L1 캐시 무효화 채널)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedissonConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
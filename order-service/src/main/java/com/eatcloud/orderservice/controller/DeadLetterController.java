@@ -0,0 +1,50 @@
+package com.eatcloud.orderservice.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import com.eatcloud.automessaging.retry.DeadLetterService;
+import com.eatcloud.orderservice.dto.response.DeadLetterRecordResponse;
+
+@RestController
+@RequestMapping("/orders/admin/dead-letters")
+@RequiredArgsConstructor
+@Slf4j
+public class DeadLetterController {
+
+	private final DeadLetterService deadLetterService;
+
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping
+	public ResponseEntity<List<DeadLetterRecordResponse>> getDeadLetters(
+		@RequestParam(defaultValue = "payment.created") String topic,
+		@RequestParam(defaultValue = "0") int partition,
+		@RequestParam(required = false) Long offset,
+		@RequestParam(defaultValue = "50") int size) {
+
+		return ResponseEntity.ok(deadLetterService.find(topic, partition, offset, size).stream()
+			.map(DeadLetterRecordResponse::from)
+			.toList());
+	}
+
+	@PreAuthorize("hasRole('ADMIN')")
+	@PostMapping("/{partition}/{offset}/replay")
+	public ResponseEntity<DeadLetterRecordResponse> replay(
+		@RequestParam(defaultValue = "payment.created") String topic,
+		@PathVariable int partition,
+		@PathVariable long offset) {
+
+		log.info("DLQ 재처리 요청: topic={}, partition={}, offset={}", topic, partition, offset);
+		return ResponseEntity.ok(DeadLetterRecordResponse.from(deadLetterService.replay(topic, partition, offset)));
+	}
+}
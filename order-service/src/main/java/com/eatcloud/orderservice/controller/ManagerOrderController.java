@@ -13,8 +13,10 @@ import org.springframework.security.access.prepost.PreAuthorize;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.eatcloud.orderservice.dto.request.AdminOrderBulkConfirmRequestDto;
 import com.eatcloud.orderservice.dto.request.AdminOrderCompleteRequestDto;
 import com.eatcloud.orderservice.dto.request.AdminOrderConfirmRequestDto;
+import com.eatcloud.orderservice.dto.response.AdminOrderBulkResponseDto;
 import com.eatcloud.orderservice.dto.response.AdminOrderResponseDto;
 import com.eatcloud.orderservice.service.AdminOrderService;
 
@@ -53,6 +55,24 @@ public class ManagerOrderController {
 		}
 	}
 
+	@PreAuthorize("hasAnyRole('MANAGER','ADMIN')")
+	@PostMapping("/confirm/bulk")
+	public ResponseEntity<AdminOrderBulkResponseDto> confirmOrders(
+		@RequestBody AdminOrderBulkConfirmRequestDto request) {
+
+		if (request.getStoreId() == null || request.getOrderIds() == null || request.getOrderIds().isEmpty()) {
+			throw new IllegalArgumentException("매장 ID와 주문 ID 목록은 필수입니다.");
+		}
+
+		log.info("주문 일괄 수락 요청: storeId={}, count={}", request.getStoreId(), request.getOrderIds().size());
+
+		AdminOrderBulkResponseDto response = adminOrderService.confirmOrders(request.getStoreId(), request.getOrderIds());
+		log.info("주문 일괄 수락 완료: storeId={}, confirmed={}, skipped={}",
+			request.getStoreId(), response.getConfirmedOrderIds().size(), response.getSkippedOrderIds().size());
+
+		return ResponseEntity.ok(response);
+	}
+
 	@PreAuthorize("hasAnyRole('MANAGER','ADMIN')")
 	@PostMapping("/complete")
 	public ResponseEntity<AdminOrderResponseDto> completeOrder(
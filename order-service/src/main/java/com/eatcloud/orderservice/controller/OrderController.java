@@ -1,5 +1,6 @@
 package com.eatcloud.orderservice.controller;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,6 +11,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -17,18 +20,27 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 
+import com.eatcloud.automessaging.idempotency.IdempotencyService;
 import com.eatcloud.orderservice.dto.request.OrderStatusUpdateRequest;
 import com.eatcloud.orderservice.dto.request.CreateOrderRequest;
 import com.eatcloud.orderservice.dto.request.PaymentCompleteRequest;
+import com.eatcloud.orderservice.dto.request.OrderSearchCondition;
 import com.eatcloud.orderservice.dto.request.PaymentFailedRequest;
 import com.eatcloud.orderservice.dto.response.CreateOrderResponse;
 import com.eatcloud.orderservice.dto.response.ApiResponse;
+import com.eatcloud.orderservice.dto.response.CursorPageResponse;
+import com.eatcloud.orderservice.dto.response.OrderSummaryResponse;
 import com.eatcloud.orderservice.entity.Order;
+import com.eatcloud.orderservice.service.OrderQueryService;
 import com.eatcloud.orderservice.service.OrderService;
+import com.eatcloud.orderservice.service.StoreOrderFeed;
+import com.fasterxml.jackson.core.type.TypeReference;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.security.access.prepost.PreAuthorize;
 
@@ -38,23 +50,34 @@ import org.springframework.security.access.prepost.PreAuthorize;
 @Slf4j
 public class OrderController {
 
+	private static final TypeReference<ApiResponse<CreateOrderResponse>> CREATE_ORDER_BODY = new TypeReference<>() {
+	};
+
 	private final OrderService orderService;
+	private final IdempotencyService idempotencyService;
+	private final OrderQueryService orderQueryService;
+	private final StoreOrderFeed storeOrderFeed;
 
 	@PostMapping
 	public ResponseEntity<ApiResponse<CreateOrderResponse>> createOrder(
 			@AuthenticationPrincipal Jwt jwt,
+			@RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
 			@RequestBody CreateOrderRequest request) {
 
+		UUID customerId;
 		try {
-			UUID customerId = UUID.fromString(jwt.getSubject());
-			CreateOrderResponse response = orderService.createOrderFromCartSimple(customerId, request);
-			return ResponseEntity.ok(ApiResponse.success(response));
+			customerId = UUID.fromString(jwt.getSubject());
 		} catch (IllegalArgumentException e) {
 			log.error("Invalid JWT subject format: {}", jwt != null ? jwt.getSubject() : "null");
 			return ResponseEntity.badRequest()
 				.body(ApiResponse.error("유효하지 않은 사용자 ID입니다."));
 		}
+
+		// 같은 키의 재시도는 저장된 응답을 반환, 처리 중이면 완료를 기다린다
 		// OrderException과 CartException은 GlobalExceptionHandler에서 처리
+		return idempotencyService.execute("order-create", customerId.toString(), idempotencyKey, request,
+			CREATE_ORDER_BODY,
+			() -> ResponseEntity.ok(ApiResponse.success(orderService.createOrderFromCartSimple(customerId, request))));
 	}
 
 	@GetMapping("/{orderId}")
@@ -123,9 +146,15 @@ public class OrderController {
 
 	@PreAuthorize("hasRole('ADMIN')")
 	@GetMapping("/customers/{customerId}")
-	public ResponseEntity<List<Order>> getCustomerOrders(
-			@PathVariable UUID customerId) {
-		return ResponseEntity.ok(orderService.findOrdersByCustomer(customerId));
+	public ResponseEntity<CursorPageResponse<OrderSummaryResponse>> getCustomerOrders(
+			@PathVariable UUID customerId,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size,
+			@RequestParam(value = "status", required = false) List<String> statuses,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+		return ResponseEntity.ok(orderQueryService.findCustomerOrders(customerId,
+			new OrderSearchCondition(statuses, from, to), cursor, size));
 	}
 
 	@PreAuthorize("hasRole('ADMIN')")
@@ -138,9 +167,28 @@ public class OrderController {
 
 	@PreAuthorize("hasAnyRole('MANAGER','ADMIN')")
 	@GetMapping("/stores/{storeId}")
-	public ResponseEntity<List<Order>> getStoreOrders(
-			@PathVariable UUID storeId) {
-		return ResponseEntity.ok(orderService.findOrdersByStore(storeId));
+	public ResponseEntity<CursorPageResponse<OrderSummaryResponse>> getStoreOrders(
+			@PathVariable UUID storeId,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size,
+			@RequestParam(value = "status", required = false) List<String> statuses,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+		return ResponseEntity.ok(orderQueryService.findStoreOrders(storeId,
+			new OrderSearchCondition(statuses, from, to), cursor, size));
+	}
+
+	/**
+	 * 매장 신규 주문/상태 변경 실시간 피드 (SSE)
+	 * 재연결 시 브라우저가 보내는 Last-Event-ID (또는 cursor 파라미터) 이후부터 이어서 받는다.
+	 */
+	@PreAuthorize("hasAnyRole('MANAGER','ADMIN')")
+	@GetMapping(value = "/stores/{storeId}/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter subscribeStoreOrderFeed(
+			@PathVariable UUID storeId,
+			@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+			@RequestParam(required = false) String cursor) {
+		return storeOrderFeed.subscribe(storeId, lastEventId != null ? lastEventId : cursor);
 	}
 
 	@PreAuthorize("hasAnyRole('MANAGER','ADMIN')")
@@ -0,0 +1,16 @@
+package com.eatcloud.orderservice.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class AdminOrderBulkConfirmRequestDto {
+    private UUID storeId;
+    private List<UUID> orderIds;
+}
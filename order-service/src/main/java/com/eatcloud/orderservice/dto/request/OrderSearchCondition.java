@@ -0,0 +1,22 @@
+package com.eatcloud.orderservice.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 목록 필터 - 모두 선택, from 이상 to 미만
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderSearchCondition {
+    private List<String> statuses;
+    private LocalDateTime from;
+    private LocalDateTime to;
+}
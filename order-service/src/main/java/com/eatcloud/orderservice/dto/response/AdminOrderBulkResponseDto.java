@@ -0,0 +1,22 @@
+package com.eatcloud.orderservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminOrderBulkResponseDto {
+    private UUID storeId;
+    private List<UUID> confirmedOrderIds;
+    private List<UUID> skippedOrderIds;
+    private String message;
+}
@@ -0,0 +1,22 @@
+package com.eatcloud.orderservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 - 다음 페이지는 nextCursor 를 cursor 파라미터로 전달 (마지막 페이지면 null)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,26 @@
+package com.eatcloud.orderservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * store-service 메뉴 가격 조회 응답 (POST /stores/menus/prices)
+ * available 이 null 이면 판매 가능 여부를 알 수 없는 경우 (단건 가격 조회 폴백)
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuPriceResponse {
+	private UUID menuId;
+	private UUID storeId;
+	private BigDecimal price;
+	private Boolean available;
+}
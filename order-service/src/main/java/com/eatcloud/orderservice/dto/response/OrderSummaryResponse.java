@@ -0,0 +1,28 @@
+package com.eatcloud.orderservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 목록용 요약 (order_menu_list 는 조회하지 않는다 - 상세는 주문 단건 조회)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderSummaryResponse {
+    private UUID orderId;
+    private String orderNumber;
+    private UUID customerId;
+    private UUID storeId;
+    private String orderStatus;
+    private String orderType;
+    private Integer totalPrice;
+    private Integer finalPaymentAmount;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,33 @@
+package com.eatcloud.orderservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 매장 주문 피드 delta - 클라이언트는 orderId 기준으로 목록에 반영한다 (같은 delta 가 두 번 와도 결과가 같다)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StoreOrderFeedEvent {
+
+    public static final String ORDER_CREATED = "ORDER_CREATED";
+    public static final String STATUS_CHANGED = "STATUS_CHANGED";
+
+    private String type;
+    private UUID orderId;
+    private String orderNumber;
+    private UUID storeId;
+    private String orderStatus;
+    private String previousStatus;
+    private Integer totalPrice;
+    private Integer finalPaymentAmount;
+    private Integer itemCount;
+    private LocalDateTime occurredAt;
+}
@@ -30,4 +30,8 @@ public class Cart extends BaseTimeEntity {
 
 	@Column(name = "customer_id", nullable = false, unique = true)
 	private UUID customerId;
+
+	// write-behind 동기화 버전 (더 작은 버전의 스냅샷은 반영하지 않음)
+	@Column(name = "sync_version")
+	private Long syncVersion;
 }
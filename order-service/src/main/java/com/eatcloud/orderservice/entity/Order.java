@@ -11,7 +11,10 @@ import java.util.UUID;
 import java.util.List;
 
 @Entity
-@Table(name = "p_orders")
+@Table(name = "p_orders", indexes = {
+    @Index(name = "idx_orders_customer_created", columnList = "customer_id, created_at DESC, order_id DESC"),
+    @Index(name = "idx_orders_store_created", columnList = "store_id, created_at DESC, order_id DESC")
+})
 @SQLRestriction("deleted_at is null")
 @Getter
 @Setter
@@ -0,0 +1,64 @@
+package com.eatcloud.orderservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 saga 상태 (saga 당 한 행)
+ * current_step 은 진행 중(또는 보상 중)인 단계 인덱스, deadline_at 이 지나면 SagaOrchestrator 가 타임아웃/재시도를 처리한다.
+ * 진행 이력은 p_order_saga_logs 에 남는다.
+ */
+@Entity
+@Table(name = "p_order_sagas")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSaga {
+	@Id
+	@Column(name = "saga_id")
+	private UUID sagaId;
+
+	@Column(name = "order_id", nullable = false, unique = true)
+	private UUID orderId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private SagaStatus status;
+
+	@Column(name = "current_step", nullable = false)
+	private Integer currentStep;
+
+	// 원격 단계의 응답(또는 보상 응답)을 기다리는 중인지 - false 면 deadline_at 은 보상 재시도 시각
+	@Column(name = "awaiting_reply", nullable = false)
+	private Boolean awaitingReply;
+
+	// 현재 보상 단계의 시도 횟수
+	@Column(name = "attempts", nullable = false)
+	@Builder.Default
+	private Integer attempts = 0;
+
+	@Column(name = "deadline_at")
+	private LocalDateTime deadlineAt;
+
+	// 단계 실행에 필요한 주문 정보 (OrderCreatedEvent JSON)
+	@Column(name = "payload", nullable = false, columnDefinition = "text")
+	private String payload;
+
+	// 실패(거절/타임아웃)한 단계 - 보상 시 주문 상태 결정에 사용
+	@Column(name = "failed_step", length = 50)
+	private String failedStep;
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+}
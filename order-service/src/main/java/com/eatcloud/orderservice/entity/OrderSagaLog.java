@@ -0,0 +1,39 @@
+package com.eatcloud.orderservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 saga 진행 이력 (단계 실행, 응답, 타임아웃, 보상, parking)
+ */
+@Entity
+@Table(name = "p_order_saga_logs")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSagaLog {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "log_id")
+	private Long logId;
+
+	@Column(name = "saga_id", nullable = false)
+	private UUID sagaId;
+
+	@Column(name = "step", nullable = false, length = 50)
+	private String step;
+
+	// EXECUTE, SUCCEEDED, FAILED, TIMEOUT, COMPENSATE, COMPENSATED, COMPENSATION_FAILED, PARKED, IGNORED
+	@Column(name = "action", nullable = false, length = 30)
+	private String action;
+
+	@Column(name = "detail", length = 500)
+	private String detail;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+}
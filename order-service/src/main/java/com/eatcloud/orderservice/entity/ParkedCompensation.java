@@ -0,0 +1,48 @@
+package com.eatcloud.orderservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 재시도 횟수를 넘긴 보상 단계 (수동 처리 대상)
+ */
+@Entity
+@Table(name = "p_order_saga_parked_compensations")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParkedCompensation {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "parked_id")
+	private Long parkedId;
+
+	@Column(name = "saga_id", nullable = false)
+	private UUID sagaId;
+
+	@Column(name = "order_id", nullable = false)
+	private UUID orderId;
+
+	@Column(name = "step", nullable = false, length = 50)
+	private String step;
+
+	@Column(name = "attempts", nullable = false)
+	private Integer attempts;
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+
+	@Column(name = "payload", nullable = false, columnDefinition = "text")
+	private String payload;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "resolved_at")
+	private LocalDateTime resolvedAt;
+}
@@ -0,0 +1,9 @@
+package com.eatcloud.orderservice.entity;
+
+public enum SagaStatus {
+    RUNNING,        // 단계 진행 중
+    COMPENSATING,   // 보상 진행 중
+    COMPLETED,      // 모든 단계 완료
+    COMPENSATED,    // 보상 완료
+    FAILED          // 보상 실패 (parking 테이블로 이동, 수동 처리)
+}
@@ -0,0 +1,26 @@
+package com.eatcloud.orderservice.event;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * store-service 메뉴 변경 이벤트 (store.menu.changed, log-compacted)
+ * version 은 메뉴 행의 @Version - 같은 메뉴의 변경끼리 커밋 순서대로 증가한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MenuChangedEvent {
+
+    private UUID menuId;
+    private UUID storeId;
+    private String menuName;
+    private BigDecimal price;
+    private Boolean available;
+    private boolean deleted;
+    private long version;
+    private long occurredAt;
+}
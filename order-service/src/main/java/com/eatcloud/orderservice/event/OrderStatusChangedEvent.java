@@ -0,0 +1,21 @@
+package com.eatcloud.orderservice.event;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatusChangedEvent {
+
+    private UUID orderId;
+    private String orderNumber;
+    private UUID customerId;
+    private UUID storeId;
+    private String previousStatus;
+    private String orderStatus;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,24 @@
+package com.eatcloud.orderservice.event;
+
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * 포인트 차감/환불 명령 (customer.points.deduct, customer.points.refund)
+ * 처리 결과는 replyTopic 으로 SagaReplyEvent 를 보낸다. 같은 sagaId 로 재전송될 수 있으므로 멱등하게 처리해야 한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointsCommandEvent {
+
+    private UUID sagaId;
+    private String step;
+    private boolean compensation;   // 응답에 그대로 실어 보낸다
+    private UUID orderId;
+    private UUID customerId;
+    private Integer points;
+    private String replyTopic;
+}
@@ -0,0 +1,22 @@
+package com.eatcloud.orderservice.event;
+
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * saga 명령 처리 결과 (order.saga.reply)
+ * 명령과 보상 명령 모두 같은 형식으로 응답한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SagaReplyEvent {
+
+    private UUID sagaId;
+    private String step;
+    private boolean compensation;   // 보상 명령에 대한 응답이면 true
+    private boolean success;
+    private String reason;
+}
@@ -18,13 +18,18 @@ public enum ErrorCode {
     // Order 관련 에러
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "주문을 찾을 수 없습니다."),
     INVALID_ORDER_STATUS(HttpStatus.BAD_REQUEST, "유효하지 않은 주문 상태입니다."),
+    INVALID_STATUS_TRANSITION(HttpStatus.CONFLICT, "현재 주문 상태에서는 요청한 상태로 변경할 수 없습니다."),
     ORDER_PROCESSING(HttpStatus.CONFLICT, "주문이 이미 처리 중입니다. 잠시 후 다시 시도해주세요."),
     EMPTY_CART(HttpStatus.BAD_REQUEST, "장바구니가 비어있습니다."),
+    CART_CHANGED(HttpStatus.CONFLICT, "주문 처리 중 장바구니가 변경되었습니다. 다시 시도해주세요."),
     ORDER_CREATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "주문 생성에 실패했습니다."),
     INSUFFICIENT_INVENTORY(HttpStatus.BAD_REQUEST, "재고가 부족합니다."),
     MENU_NOT_FOUND(HttpStatus.NOT_FOUND, "메뉴를 찾을 수 없습니다."),
+    MENU_NOT_AVAILABLE(HttpStatus.BAD_REQUEST, "현재 주문할 수 없는 메뉴가 포함되어 있습니다."),
     POINT_DEDUCTION_FAILED(HttpStatus.BAD_REQUEST, "포인트 차감에 실패했습니다."),
     INVENTORY_RESERVATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "재고 예약에 실패했습니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "유효하지 않은 Idempotency-Key 입니다."),
+    IDEMPOTENCY_KEY_MISMATCH(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key 로 다른 요청이 전송되었습니다."),
     
     // 일반 에러
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.");
@@ -1,6 +1,5 @@
 package com.eatcloud.orderservice.repository;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,9 +21,5 @@ public interface OrderRepository extends SoftDeleteRepository<Order, UUID> {
         @Param("customerId") UUID customerId
     );
 
-    List<Order> findAllByCustomerId(UUID customerId);
-
-    List<Order> findAllByStoreId(UUID storeId);
-
     Optional<Order> findByOrderIdAndStoreId(UUID orderId, UUID storeId);
 }
@@ -0,0 +1,14 @@
+package com.eatcloud.orderservice.repository;
+
+import com.eatcloud.orderservice.entity.OrderSagaLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrderSagaLogRepository extends JpaRepository<OrderSagaLog, Long> {
+
+    List<OrderSagaLog> findAllBySagaIdOrderByLogIdAsc(UUID sagaId);
+}
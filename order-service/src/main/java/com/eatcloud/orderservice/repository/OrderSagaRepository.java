@@ -0,0 +1,32 @@
+package com.eatcloud.orderservice.repository;
+
+import com.eatcloud.orderservice.entity.OrderSaga;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface OrderSagaRepository extends JpaRepository<OrderSaga, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OrderSaga s WHERE s.sagaId = :sagaId")
+    Optional<OrderSaga> findForUpdate(@Param("sagaId") UUID sagaId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OrderSaga s WHERE s.orderId = :orderId")
+    Optional<OrderSaga> findByOrderIdForUpdate(@Param("orderId") UUID orderId);
+
+    /**
+     * deadline 이 지난 진행/보상 중 saga - 다른 레플리카가 처리 중인 행은 건너뛴다
+     */
+    @Query(value = "SELECT * FROM p_order_sagas WHERE status IN ('RUNNING', 'COMPENSATING')" +
+        " AND deadline_at < now() ORDER BY deadline_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OrderSaga> findExpiredForUpdate(@Param("limit") int limit);
+}
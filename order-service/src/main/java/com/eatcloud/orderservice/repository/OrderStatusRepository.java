@@ -0,0 +1,110 @@
+package com.eatcloud.orderservice.repository;
+
+import com.eatcloud.orderservice.service.OrderStatusChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 주문 상태 compare-and-set (JDBC)
+ *
+ * UPDATE ... WHERE order_id = ? AND order_status = ? 한 문장으로 검사와 변경을 함께 수행한다.
+ * RETURNING 으로 반영된 행만 돌려주므로 결과 건수가 곧 영향받은 행 수다 (이벤트 발행용 SELECT 불필요).
+ * 엔티티를 거치지 않으므로 같은 트랜잭션에서 이미 로드한 Order 는 갱신되지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderStatusRepository {
+
+    private static final String SET =
+        "UPDATE p_orders SET order_status = ?, payment_id = COALESCE(CAST(? AS UUID), payment_id)," +
+        " updated_at = now(), updated_by = ?";
+
+    private static final String RETURNING = " RETURNING order_id, order_number, customer_id, store_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param paymentId 함께 기록할 결제 ID, 없으면 기존 값 유지
+     * @return 현재 상태가 expected 가 아니면(또는 주문이 없으면) empty
+     */
+    public Optional<OrderStatusChange> compareAndSet(UUID orderId, String expected, String next, UUID paymentId,
+                                                     String actor) {
+        List<OrderStatusChange> changed = jdbcTemplate.query(
+            SET + " WHERE order_id = ? AND order_status = ? AND deleted_at IS NULL" + RETURNING,
+            mapper(expected, next), next, paymentId, actor, orderId, expected);
+        return changed.stream().findFirst();
+    }
+
+    /**
+     * 한 매장의 여러 주문을 한 문장으로 전이 - 현재 상태가 expected 인 주문만 바뀐다
+     */
+    public List<OrderStatusChange> compareAndSetAll(UUID storeId, Collection<UUID> orderIds, String expected,
+                                                    String next, String actor) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object> args = new ArrayList<>(List.of(next));
+        args.add(null);
+        args.add(actor);
+        args.add(storeId);
+        args.add(expected);
+        args.addAll(orderIds);
+
+        return jdbcTemplate.query(
+            SET + " WHERE store_id = ? AND order_status = ? AND deleted_at IS NULL AND order_id IN (" +
+                String.join(",", Collections.nCopies(orderIds.size(), "?")) + ")" + RETURNING,
+            mapper(expected, next), args.toArray());
+    }
+
+    /**
+     * 주문마다 다른 결제 ID 를 기록하며 여러 주문을 한 문장으로 전이 (VALUES 목록과 조인)
+     * @param paymentIds 주문 ID → 결제 ID
+     */
+    public List<OrderStatusChange> compareAndSetEach(Map<UUID, UUID> paymentIds, String expected, String next,
+                                                     String actor) {
+        if (paymentIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object> args = new ArrayList<>(List.of(next, actor));
+        paymentIds.forEach((orderId, paymentId) -> {
+            args.add(orderId);
+            args.add(paymentId);
+        });
+        args.add(expected);
+
+        return jdbcTemplate.query(
+            "UPDATE p_orders o SET order_status = ?, payment_id = COALESCE(v.payment_id, o.payment_id)," +
+                " updated_at = now(), updated_by = ? FROM (VALUES " +
+                String.join(",", Collections.nCopies(paymentIds.size(), "(CAST(? AS UUID), CAST(? AS UUID))")) +
+                ") AS v(order_id, payment_id)" +
+                " WHERE o.order_id = v.order_id AND o.order_status = ? AND o.deleted_at IS NULL" +
+                " RETURNING o.order_id, o.order_number, o.customer_id, o.store_id",
+            mapper(expected, next), args.toArray());
+    }
+
+    public Optional<String> findStatus(UUID orderId) {
+        return jdbcTemplate.query("SELECT order_status FROM p_orders WHERE order_id = ? AND deleted_at IS NULL",
+                (rs, rowNum) -> rs.getString("order_status"), orderId)
+            .stream().findFirst();
+    }
+
+    private static RowMapper<OrderStatusChange> mapper(String previous, String next) {
+        return (rs, rowNum) -> new OrderStatusChange(
+            rs.getObject("order_id", UUID.class),
+            rs.getString("order_number"),
+            rs.getObject("customer_id", UUID.class),
+            rs.getObject("store_id", UUID.class),
+            previous,
+            next);
+    }
+}
@@ -0,0 +1,94 @@
+package com.eatcloud.orderservice.repository;
+
+import com.eatcloud.orderservice.dto.request.OrderSearchCondition;
+import com.eatcloud.orderservice.dto.response.OrderSummaryResponse;
+import com.eatcloud.orderservice.service.OrderCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 목록 keyset 조회 (JDBC)
+ *
+ * (customer_id | store_id, created_at DESC, order_id DESC) 부분 인덱스를 그대로 타도록
+ * 행 값 비교 (created_at, order_id) < (?, ?) 로 다음 페이지를 찾는다 → OFFSET 없이 페이지 깊이와 무관한 비용.
+ * order_menu_list(JSONB) 는 SELECT 하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderSummaryRepository {
+
+    public enum Owner {
+        CUSTOMER("customer_id"),
+        STORE("store_id");
+
+        private final String column;
+
+        Owner(String column) {
+            this.column = column;
+        }
+    }
+
+    private static final String SELECT =
+        "SELECT order_id, order_number, customer_id, store_id, order_status, order_type," +
+        " total_price, final_payment_amount, created_at FROM p_orders";
+
+    private static final RowMapper<OrderSummaryResponse> ROW_MAPPER = (rs, rowNum) -> OrderSummaryResponse.builder()
+        .orderId(rs.getObject("order_id", UUID.class))
+        .orderNumber(rs.getString("order_number"))
+        .customerId(rs.getObject("customer_id", UUID.class))
+        .storeId(rs.getObject("store_id", UUID.class))
+        .orderStatus(rs.getString("order_status"))
+        .orderType(rs.getString("order_type"))
+        .totalPrice(rs.getInt("total_price"))
+        .finalPaymentAmount(rs.getInt("final_payment_amount"))
+        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+        .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 최신 주문부터 limit 건
+     * @param cursor 이전 페이지 마지막 행, 첫 페이지면 null
+     */
+    public List<OrderSummaryResponse> findPage(Owner owner, UUID ownerId, OrderSearchCondition condition,
+                                               OrderCursor cursor, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT)
+            .append(" WHERE ").append(owner.column).append(" = ? AND deleted_at IS NULL");
+        List<Object> args = new ArrayList<>();
+        args.add(ownerId);
+
+        if (condition != null) {
+            if (condition.getStatuses() != null && !condition.getStatuses().isEmpty()) {
+                sql.append(" AND order_status IN (")
+                    .append(String.join(",", Collections.nCopies(condition.getStatuses().size(), "?")))
+                    .append(')');
+                args.addAll(condition.getStatuses());
+            }
+            if (condition.getFrom() != null) {
+                sql.append(" AND created_at >= ?");
+                args.add(Timestamp.valueOf(condition.getFrom()));
+            }
+            if (condition.getTo() != null) {
+                sql.append(" AND created_at < ?");
+                args.add(Timestamp.valueOf(condition.getTo()));
+            }
+        }
+        if (cursor != null) {
+            sql.append(" AND (created_at, order_id) < (?, ?)");
+            args.add(Timestamp.valueOf(cursor.createdAt()));
+            args.add(cursor.orderId());
+        }
+        sql.append(" ORDER BY created_at DESC, order_id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+}
@@ -0,0 +1,13 @@
+package com.eatcloud.orderservice.repository;
+
+import com.eatcloud.orderservice.entity.ParkedCompensation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ParkedCompensationRepository extends JpaRepository<ParkedCompensation, Long> {
+
+    List<ParkedCompensation> findAllByResolvedAtIsNullOrderByParkedIdAsc();
+}
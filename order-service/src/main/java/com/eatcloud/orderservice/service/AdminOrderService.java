@@ -5,10 +5,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.eatcloud.orderservice.entity.Order;
 import com.eatcloud.orderservice.repository.OrderRepository;
+import com.eatcloud.orderservice.dto.response.AdminOrderBulkResponseDto;
 import com.eatcloud.orderservice.dto.response.AdminOrderResponseDto;
-import com.eatcloud.orderservice.entity.OrderStatusCode;
-import com.eatcloud.orderservice.repository.OrderStatusCodeRepository;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 @Service
 @RequiredArgsConstructor
@@ -16,25 +19,17 @@ import java.util.UUID;
 public class AdminOrderService {
 
     private final OrderRepository orderRepository;
-    private final OrderStatusCodeRepository orderStatusCodeRepository;
+    private final OrderStatusTransitionService orderStatusTransitionService;
 
     public AdminOrderResponseDto confirmOrder(UUID orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
-
-        if (!"PAID".equals(order.getOrderStatusCode().getCode())) {
-            throw new RuntimeException("결제 완료된 주문만 수락할 수 있습니다. 현재 상태: " + order.getOrderStatusCode().getCode());
+        Optional<OrderStatusChange> changed = orderStatusTransitionService.transition(orderId, "PAID", "CONFIRMED");
+        if (changed.isEmpty()) {
+            throw rejected(orderId, "결제 완료된 주문만 수락할 수 있습니다. 현재 상태: ");
         }
 
-        OrderStatusCode confirmedStatus = orderStatusCodeRepository.findByCode("CONFIRMED")
-                .orElseThrow(() -> new RuntimeException("주문 상태 코드를 찾을 수 없습니다: CONFIRMED"));
-
-        order.setOrderStatusCode(confirmedStatus);
-        orderRepository.save(order);
-
         return AdminOrderResponseDto.builder()
                 .orderId(orderId)
-                .orderNumber(order.getOrderNumber())
+                .orderNumber(changed.get().orderNumber())
                 .orderStatus("CONFIRMED")
                 .message("주문이 수락되었습니다.")
                 .build();
@@ -42,27 +37,39 @@ public class AdminOrderService {
 
 
     public AdminOrderResponseDto completeOrder(UUID orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
-
-        if (!"CONFIRMED".equals(order.getOrderStatusCode().getCode())) {
-            throw new RuntimeException("수락된 주문만 완료할 수 있습니다. 현재 상태: " + order.getOrderStatusCode().getCode());
+        Optional<OrderStatusChange> changed = orderStatusTransitionService.transition(orderId, "CONFIRMED", "COMPLETED");
+        if (changed.isEmpty()) {
+            throw rejected(orderId, "수락된 주문만 완료할 수 있습니다. 현재 상태: ");
         }
 
-        OrderStatusCode completedStatus = orderStatusCodeRepository.findByCode("COMPLETED")
-                .orElseThrow(() -> new RuntimeException("주문 상태 코드를 찾을 수 없습니다: COMPLETED"));
-
-        order.setOrderStatusCode(completedStatus);
-        orderRepository.save(order);
-
         return AdminOrderResponseDto.builder()
                 .orderId(orderId)
-                .orderNumber(order.getOrderNumber())
+                .orderNumber(changed.get().orderNumber())
                 .orderStatus("COMPLETED")
                 .message("주문이 완료되었습니다.")
                 .build();
     }
 
+    /**
+     * 매장 주문 일괄 수락 - 결제 완료(PAID) 상태인 주문만 한 문장으로 수락하고 나머지는 건너뛴다
+     */
+    public AdminOrderBulkResponseDto confirmOrders(UUID storeId, List<UUID> orderIds) {
+        List<UUID> confirmed = orderStatusTransitionService.transitionAll(storeId, orderIds, "PAID", "CONFIRMED")
+                .stream()
+                .map(OrderStatusChange::orderId)
+                .toList();
+
+        Set<UUID> skipped = new LinkedHashSet<>(orderIds);
+        confirmed.forEach(skipped::remove);
+
+        return AdminOrderBulkResponseDto.builder()
+                .storeId(storeId)
+                .confirmedOrderIds(confirmed)
+                .skippedOrderIds(List.copyOf(skipped))
+                .message(confirmed.size() + "건의 주문이 수락되었습니다.")
+                .build();
+    }
+
 
     @Transactional(readOnly = true)
     public AdminOrderResponseDto getOrderStatus(UUID orderId) {
@@ -76,4 +83,13 @@ public class AdminOrderService {
                 .message("주문 상태 조회 완료")
                 .build();
     }
+
+    /**
+     * 전이가 반영되지 않은 이유 (주문 없음 / 현재 상태) - 실패 경로에서만 조회
+     */
+    private RuntimeException rejected(UUID orderId, String message) {
+        String currentStatus = orderStatusTransitionService.currentStatus(orderId)
+                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
+        return new RuntimeException(message + currentStatus);
+    }
 }
@@ -0,0 +1,236 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.CartItem;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 장바구니 L1 캐시 (Caffeine, 인스턴스 로컬)
+ * 조회는 L1 → Redis → DB 순으로 내려가며, 장바구니가 변경되면 cart:l1:invalidate 채널로
+ * 모든 레플리카에 무효화 메시지를 보낸다.
+ *
+ * 무효화 메시지에는 고객별로 단조 증가하는 버전(Redis INCR)이 붙는다.
+ *  - 이미 본 버전 이하의 메시지(지연/중복 도착)는 무시
+ *  - 조회 시작 시점 이후 더 큰 버전이 도착했다면 조회 결과를 L1 에 넣지 않음 → 변경 전 데이터가 다시 캐시되지 않음
+ * Redis 서킷이 CLOSED 가 아니면 무효화 메시지를 받을 수 없으므로 L1 을 비우고 우회한다.
+ */
+@Component
+@Slf4j
+public class CartLocalCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "cart:l1:invalidate";
+    private static final String VERSION_KEY_PREFIX = "cart:l1:ver:";
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    // KEYS: versionKey / ARGV: channel, customerId, versionTtlSeconds
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+        "local version = redis.call('INCR', KEYS[1])\n" +
+        "redis.call('EXPIRE', KEYS[1], ARGV[3])\n" +
+        "redis.call('PUBLISH', ARGV[1], ARGV[2] .. ':' .. version)\n" +
+        "return version\n",
+        Long.class);
+
+    private record Entry(long version, List<CartItem> cartItems) {
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisHealthMonitor redisHealthMonitor;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidationsApplied;
+    private final Counter invalidationsIgnored;
+
+    private Cache<UUID, Entry> entries;
+    private Cache<UUID, Long> versions;
+    private volatile boolean bypassing;
+
+    @Value("${cart.cache.local.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cart.cache.local.max-size:10000}")
+    private long maxSize;
+
+    @Value("${cart.cache.local.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    public CartLocalCache(StringRedisTemplate stringRedisTemplate,
+                          RedisMessageListenerContainer listenerContainer,
+                          RedisHealthMonitor redisHealthMonitor,
+                          MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.redisHealthMonitor = redisHealthMonitor;
+        this.hits = Counter.builder("cart.cache.local.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cart.cache.local.requests").tag("result", "miss").register(meterRegistry);
+        this.invalidationsApplied = Counter.builder("cart.cache.local.invalidations")
+            .tag("result", "applied").register(meterRegistry);
+        this.invalidationsIgnored = Counter.builder("cart.cache.local.invalidations")
+            .tag("result", "ignored").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        entries = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+        // 버전은 진행 중인 조회보다 오래 남아 있으면 충분하므로 TTL 의 두 배만 보관
+        versions = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds * 2))
+            .build();
+
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+            log.info("Cart local cache enabled: maxSize={}, ttl={}s", maxSize, ttlSeconds);
+        }
+    }
+
+    /**
+     * L1 조회, 없으면 loader 로 조회 후 적재
+     * 반환 목록은 호출 측이 수정해도 되는 복사본
+     */
+    public List<CartItem> get(UUID customerId, Function<UUID, List<CartItem>> loader) {
+        if (!enabled || !isInvalidationReliable()) {
+            return loader.apply(customerId);
+        }
+
+        Entry entry = entries.getIfPresent(customerId);
+        if (entry != null) {
+            hits.increment();
+            return copyOf(entry.cartItems());
+        }
+
+        misses.increment();
+        long versionBeforeLoad = currentVersion(customerId);
+        List<CartItem> cartItems = loader.apply(customerId);
+
+        // 조회 중 무효화가 도착했다면 변경 전 데이터일 수 있으므로 적재하지 않음
+        Entry loaded = new Entry(versionBeforeLoad, copyOf(cartItems));
+        if (currentVersion(customerId) == versionBeforeLoad) {
+            entries.asMap().merge(customerId, loaded, (current, candidate) ->
+                candidate.version() >= current.version() ? candidate : current);
+        }
+        return cartItems;
+    }
+
+    /**
+     * 장바구니 변경 후 호출 - 로컬 L1 을 즉시 비우고 다른 레플리카에 무효화 전파
+     */
+    public void invalidate(UUID customerId) {
+        if (!enabled) {
+            return;
+        }
+
+        entries.invalidate(customerId);
+
+        if (!redisHealthMonitor.isAvailable()) {
+            return;
+        }
+
+        try {
+            Long version = stringRedisTemplate.execute(INVALIDATE_SCRIPT,
+                List.of(VERSION_KEY_PREFIX + customerId),
+                INVALIDATION_CHANNEL, customerId.toString(), String.valueOf(VERSION_TTL.toSeconds()));
+            redisHealthMonitor.recordSuccess();
+            if (version != null) {
+                applyInvalidation(customerId, version);
+            }
+        } catch (DataAccessException e) {
+            // 다른 레플리카의 L1 은 TTL 또는 서킷 OPEN 시의 전체 비우기로 정리된다
+            redisHealthMonitor.recordFailure(e);
+            log.warn("Failed to publish cart invalidation for customer: {}", customerId);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+
+        try {
+            applyInvalidation(UUID.fromString(body.substring(0, separator)),
+                Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Discarding malformed cart invalidation message: {}", body);
+        }
+    }
+
+    /**
+     * 버전이 이미 본 것보다 클 때만 무효화 적용
+     */
+    void applyInvalidation(UUID customerId, long version) {
+        long[] previous = new long[1];
+        versions.asMap().compute(customerId, (id, current) -> {
+            previous[0] = current == null ? 0L : current;
+            return Math.max(previous[0], version);
+        });
+
+        if (version <= previous[0]) {
+            invalidationsIgnored.increment();
+            return;
+        }
+
+        entries.asMap().computeIfPresent(customerId, (id, entry) -> entry.version() < version ? null : entry);
+        invalidationsApplied.increment();
+        log.debug("Applied cart invalidation: customerId={}, version={}", customerId, version);
+    }
+
+    private long currentVersion(UUID customerId) {
+        return versions.asMap().getOrDefault(customerId, 0L);
+    }
+
+    /**
+     * 서킷이 CLOSED 가 아닌 동안에는 무효화 메시지를 놓칠 수 있으므로 L1 을 비우고 우회
+     */
+    private boolean isInvalidationReliable() {
+        boolean closed = redisHealthMonitor.getState() == RedisHealthMonitor.State.CLOSED;
+
+        if (!closed && !bypassing) {
+            bypassing = true;
+            entries.invalidateAll();
+            log.warn("Redis circuit not closed, bypassing cart local cache");
+        } else if (closed && bypassing) {
+            bypassing = false;
+            log.info("Redis circuit closed, cart local cache resumed");
+        }
+        return closed;
+    }
+
+    private static List<CartItem> copyOf(List<CartItem> cartItems) {
+        List<CartItem> copy = new ArrayList<>(cartItems.size());
+        for (CartItem item : cartItems) {
+            copy.add(CartItem.builder()
+                .menuId(item.getMenuId())
+                .menuName(item.getMenuName())
+                .quantity(item.getQuantity())
+                .price(item.getPrice())
+                .storeId(item.getStoreId())
+                .build());
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,285 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.CartItem;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis Hash 기반 장바구니 저장소
+ * 장바구니 1개 = Hash 1개 (cart:h:{customerId})
+ *  - _store       : 장바구니 매장 ID
+ *  - q:{menuId}   : 수량 (HINCRBY 대상)
+ *  - m:{menuId}   : 메뉴 메타데이터 (메뉴명, 가격)
+ * 매장 일관성 검사와 수량 변경을 Lua 스크립트 한 번으로 처리하여 분산락 없이 원자성을 보장
+ * 변경 스크립트는 같은 실행 안에서 장바구니 버전(CartVersion)도 발급해 스냅샷과 함께 돌려준다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CartRedisHashStore {
+
+    private static final String CART_HASH_KEY_PREFIX = "cart:h:";
+    private static final String STORE_FIELD = "_store";
+    private static final String QUANTITY_FIELD_PREFIX = "q:";
+    private static final String META_FIELD_PREFIX = "m:";
+
+    private static final String MISSING_CHECK =
+        "if ARGV[1] == '0' and redis.call('EXISTS', KEYS[1]) == 0 then return {'MISSING'} end\n";
+
+    // 응답: {'OK', version, field1, value1, ...}
+    private static final String RETURN_SNAPSHOT =
+        "redis.call('EXPIRE', KEYS[1], ARGV[2])\n" +
+        CartVersion.NEXT_VERSION_LUA +
+        "local result = redis.call('HGETALL', KEYS[1])\n" +
+        "table.insert(result, 1, version)\n" +
+        "table.insert(result, 1, 'OK')\n" +
+        "return result\n";
+
+    // 장바구니 삭제 + 버전 발급 (KEYS: hash, version)
+    private static final RedisScript<Long> CLEAR_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('DEL', KEYS[1])\n" +
+        CartVersion.NEXT_VERSION_LUA +
+        "return tonumber(version)\n",
+        Long.class);
+
+    // ARGV: allowMissing, ttl, storeId, menuId, delta, meta
+    private static final RedisScript<List> ADD_ITEM_SCRIPT = new DefaultRedisScript<>(
+        MISSING_CHECK +
+        "local store = redis.call('HGET', KEYS[1], '_store')\n" +
+        "if store and store ~= '' and store ~= ARGV[3] and redis.call('HLEN', KEYS[1]) > 1 then\n" +
+        "  return {'STORE_MISMATCH'}\n" +
+        "end\n" +
+        "redis.call('HSET', KEYS[1], '_store', ARGV[3])\n" +
+        "redis.call('HSETNX', KEYS[1], 'm:' .. ARGV[4], ARGV[6])\n" +
+        "redis.call('HINCRBY', KEYS[1], 'q:' .. ARGV[4], ARGV[5])\n" +
+        RETURN_SNAPSHOT,
+        List.class);
+
+    // ARGV: allowMissing, ttl, menuId, quantity
+    private static final RedisScript<List> SET_QUANTITY_SCRIPT = new DefaultRedisScript<>(
+        MISSING_CHECK +
+        "if redis.call('HEXISTS', KEYS[1], 'q:' .. ARGV[3]) == 0 then return {'ITEM_NOT_FOUND'} end\n" +
+        "if tonumber(ARGV[4]) <= 0 then\n" +
+        "  redis.call('HDEL', KEYS[1], 'q:' .. ARGV[3], 'm:' .. ARGV[3])\n" +
+        "else\n" +
+        "  redis.call('HSET', KEYS[1], 'q:' .. ARGV[3], ARGV[4])\n" +
+        "end\n" +
+        RETURN_SNAPSHOT,
+        List.class);
+
+    // ARGV: allowMissing, ttl, menuId
+    private static final RedisScript<List> REMOVE_ITEM_SCRIPT = new DefaultRedisScript<>(
+        MISSING_CHECK +
+        "if redis.call('HDEL', KEYS[1], 'q:' .. ARGV[3], 'm:' .. ARGV[3]) == 0 then return {'ITEM_NOT_FOUND'} end\n" +
+        RETURN_SNAPSHOT,
+        List.class);
+
+    // ARGV: ttl, storeId, field1, value1, ...
+    // 이미 키가 존재하면 (다른 요청이 먼저 적재) 덮어쓰지 않는다
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end\n" +
+        "redis.call('HSET', KEYS[1], '_store', ARGV[2])\n" +
+        "for i = 3, #ARGV, 2 do\n" +
+        "  redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])\n" +
+        "end\n" +
+        "redis.call('EXPIRE', KEYS[1], ARGV[1])\n" +
+        "return 1\n",
+        Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public enum Status {
+        OK,
+        MISSING,
+        STORE_MISMATCH,
+        ITEM_NOT_FOUND
+    }
+
+    /**
+     * 스크립트 실행 결과
+     * status 가 OK 인 경우 items 는 변경 직후의 장바구니 스냅샷, version 은 그 변경의 버전
+     */
+    public record Result(Status status, List<CartItem> items, long version) {
+    }
+
+    /**
+     * 장바구니 아이템 추가 (기존 메뉴면 HINCRBY 로 수량 증가)
+     * @param allowMissing false 이면 키가 없을 때 MISSING 을 반환하여 호출 측이 DB 에서 적재하도록 함
+     */
+    public Result addItem(UUID customerId, CartItem item, Duration ttl, boolean allowMissing) {
+        return execute(ADD_ITEM_SCRIPT, customerId,
+            flag(allowMissing),
+            String.valueOf(ttl.toSeconds()),
+            item.getStoreId().toString(),
+            item.getMenuId().toString(),
+            String.valueOf(item.getQuantity()),
+            writeMeta(item));
+    }
+
+    /**
+     * 수량 변경 (0 이하이면 아이템 제거)
+     */
+    public Result setQuantity(UUID customerId, UUID menuId, int quantity, Duration ttl, boolean allowMissing) {
+        return execute(SET_QUANTITY_SCRIPT, customerId,
+            flag(allowMissing),
+            String.valueOf(ttl.toSeconds()),
+            menuId.toString(),
+            String.valueOf(quantity));
+    }
+
+    public Result removeItem(UUID customerId, UUID menuId, Duration ttl, boolean allowMissing) {
+        return execute(REMOVE_ITEM_SCRIPT, customerId,
+            flag(allowMissing),
+            String.valueOf(ttl.toSeconds()),
+            menuId.toString());
+    }
+
+    /**
+     * 장바구니 조회
+     * @return 키가 없으면 null, 비어있는 장바구니(매장 마커만 존재)면 빈 리스트
+     */
+    public List<CartItem> getItems(UUID customerId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(getKey(customerId));
+        if (entries.isEmpty()) {
+            return null;
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        entries.forEach((field, value) -> fields.put(field.toString(), value.toString()));
+        return toCartItems(fields);
+    }
+
+    /**
+     * DB 에서 읽은 장바구니로 Hash 를 적재 (키가 없을 때만)
+     */
+    public void seed(UUID customerId, List<CartItem> cartItems, Duration ttl) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttl.toSeconds()));
+        args.add(cartItems.isEmpty() ? "" : cartItems.getFirst().getStoreId().toString());
+
+        for (CartItem item : cartItems) {
+            args.add(QUANTITY_FIELD_PREFIX + item.getMenuId());
+            args.add(String.valueOf(item.getQuantity()));
+            args.add(META_FIELD_PREFIX + item.getMenuId());
+            args.add(writeMeta(item));
+        }
+
+        stringRedisTemplate.execute(SEED_SCRIPT, List.of(getKey(customerId)), args.toArray());
+    }
+
+    public void delete(UUID customerId) {
+        stringRedisTemplate.delete(getKey(customerId));
+    }
+
+    /**
+     * 장바구니 비우기 - delete 와 달리 변경으로 취급해 버전을 발급한다
+     * @return 발급된 버전
+     */
+    public long clear(UUID customerId) {
+        Long version = stringRedisTemplate.execute(CLEAR_SCRIPT,
+            List.of(getKey(customerId), CartVersion.key(customerId)));
+        if (version == null) {
+            throw new IllegalStateException("Empty response from cart clear script for customer: " + customerId);
+        }
+        return version;
+    }
+
+    private Result execute(RedisScript<List> script, UUID customerId, String... args) {
+        List<?> raw = stringRedisTemplate.execute(script,
+            List.of(getKey(customerId), CartVersion.key(customerId)), (Object[]) args);
+
+        if (raw == null || raw.isEmpty()) {
+            throw new IllegalStateException("Empty response from cart hash script for customer: " + customerId);
+        }
+
+        Status status = Status.valueOf(raw.getFirst().toString());
+        if (status != Status.OK) {
+            return new Result(status, List.of(), 0L);
+        }
+
+        long version = Long.parseLong(raw.get(1).toString());
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 2; i + 1 < raw.size(); i += 2) {
+            fields.put(raw.get(i).toString(), raw.get(i + 1).toString());
+        }
+        return new Result(Status.OK, toCartItems(fields), version);
+    }
+
+    /**
+     * Hash 필드 맵을 CartItem 목록으로 변환
+     */
+    List<CartItem> toCartItems(Map<String, String> fields) {
+        String storeValue = fields.get(STORE_FIELD);
+        UUID storeId = storeValue == null || storeValue.isEmpty() ? null : UUID.fromString(storeValue);
+
+        List<CartItem> cartItems = new ArrayList<>();
+        fields.forEach((field, value) -> {
+            if (!field.startsWith(QUANTITY_FIELD_PREFIX)) {
+                return;
+            }
+
+            String menuId = field.substring(QUANTITY_FIELD_PREFIX.length());
+            CartItemMeta meta = readMeta(fields.get(META_FIELD_PREFIX + menuId));
+
+            cartItems.add(CartItem.builder()
+                .menuId(UUID.fromString(menuId))
+                .menuName(meta.getMenuName())
+                .price(meta.getPrice())
+                .quantity(Integer.valueOf(value))
+                .storeId(storeId)
+                .build());
+        });
+
+        cartItems.sort(Comparator.comparing(item -> item.getMenuId().toString()));
+        return cartItems;
+    }
+
+    private String getKey(UUID customerId) {
+        return CART_HASH_KEY_PREFIX + customerId;
+    }
+
+    private String flag(boolean value) {
+        return value ? "1" : "0";
+    }
+
+    private String writeMeta(CartItem item) {
+        try {
+            return objectMapper.writeValueAsString(new CartItemMeta(item.getMenuName(), item.getPrice()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cart item meta: " + item.getMenuId(), e);
+        }
+    }
+
+    private CartItemMeta readMeta(String value) {
+        if (value == null) {
+            return new CartItemMeta();
+        }
+        try {
+            return objectMapper.readValue(value, CartItemMeta.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to parse cart item meta: {}", value);
+            return new CartItemMeta();
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CartItemMeta {
+        private String menuName;
+        private Integer price;
+    }
+}
@@ -1,7 +1,5 @@
 package com.eatcloud.orderservice.service;
 
-import jakarta.annotation.PostConstruct;
-import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import com.eatcloud.orderservice.dto.CartItem;
@@ -12,45 +10,81 @@ import com.eatcloud.orderservice.repository.CartRepository;
 import com.eatcloud.orderservice.exception.CartException;
 import com.eatcloud.orderservice.exception.ErrorCode;
 
-import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CartService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, List<CartItem>> cartRedisTemplate;
     private final CartRepository cartRepository;
+    private final CartRedisHashStore cartRedisHashStore;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final CartSyncQueue cartSyncQueue;
+    private final CartLocalCache cartLocalCache;
+    private final CartSyncWriter cartSyncWriter;
+
+    /**
+     * 장바구니 Redis 저장 방식
+     * string : cart:{customerId} 에 List<CartItem> 전체를 저장 (기존 방식)
+     * hash   : cart:h:{customerId} Hash 에 메뉴별 필드로 저장, Lua 스크립트로 원자적 변경
+     */
+    @Value("${cart.redis.storage-mode:string}")
+    private String storageMode;
 
     private static final String CART_KEY_PREFIX = "cart:";
+    private static final String STORAGE_MODE_HASH = "hash";
     private static final Duration CART_TTL = Duration.ofHours(1);
 
-    private final Map<UUID, List<CartItem>> pendingChanges = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-    private static final int BATCH_INTERVAL_SECONDS = 10;
+    // 문자열 모드 장바구니 쓰기 + 변경 버전 발급 (KEYS: cart, version / ARGV: 값(비어 있으면 삭제), ttlSeconds)
+    private static final RedisScript<Long> WRITE_CART_SCRIPT = new DefaultRedisScript<>(
+        "if ARGV[1] == '' then\n" +
+        "  redis.call('DEL', KEYS[1])\n" +
+        "else\n" +
+        "  redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])\n" +
+        "end\n" +
+        CartVersion.NEXT_VERSION_LUA +
+        "return tonumber(version)\n",
+        Long.class);
+    // 장바구니는 그대로 두고 변경 버전만 발급 (KEYS: cart, version)
+    private static final RedisScript<Long> NEXT_VERSION_SCRIPT = new DefaultRedisScript<>(
+        CartVersion.NEXT_VERSION_LUA + "return tonumber(version)\n", Long.class);
+    // 마지막으로 발급한 변경 버전 조회 (KEYS: version, 없으면 0)
+    private static final RedisScript<Long> CURRENT_VERSION_SCRIPT = new DefaultRedisScript<>(
+        "return tonumber(redis.call('GET', KEYS[1]) or '0')\n", Long.class);
+    private static final RedisSerializer<Long> VERSION_SERIALIZER = new GenericToStringSerializer<>(Long.class);
 
 
     public void addItem(UUID customerId, AddCartItemRequest request) {
         validateCustomerId(customerId);
         validateAddItemRequest(request);
 
+        if (isHashMode() && addItemToHash(customerId, request)) {
+            return;
+        }
+
         try {
             // 🛠️ 수정: getCart 대신 Redis에서 직접 조회
             List<CartItem> cartItems = getCartFromRedis(customerId);
 
-            // Cache Miss 시 빈 리스트로 시작
+            // Cache Miss (또는 Redis 장애) 시 DB에서 조회
             if (cartItems.isEmpty()) {
-                cartItems = new ArrayList<>();
+                cartItems = getCartFromDatabase(customerId);
             }
 
             validateStoreConsistency(cartItems, request.getStoreId());
@@ -77,8 +111,8 @@ public class CartService {
                     customerId, request.getMenuId(), request.getQuantity());
             }
 
-            saveCartToRedis(customerId, cartItems);
-            syncToDatabaseAsync(customerId, cartItems);
+            Long version = writeCartToRedis(customerId, cartItems);
+            syncToDatabaseAsync(customerId, cartItems, version);
 
             log.info("Successfully added item to cart: customerId={}, menuId={}",
                 customerId, request.getMenuId());
@@ -95,6 +129,48 @@ public class CartService {
     public List<CartItem> getCart(UUID customerId) {
         validateCustomerId(customerId);
 
+        return cartLocalCache.get(customerId, this::loadCart);
+    }
+
+    /**
+     * L1 캐시를 거치지 않는 조회 - 다른 레플리카의 무효화 메시지가 아직 도착하지 않았을 수 있는 주문 직전 재확인용
+     * 주문 커밋 후 Redis 정리가 실패해 Redis 에 장바구니가 남아 있어도, 주문 트랜잭션이 남긴 DB tombstone 의 버전이
+     * Redis 의 마지막 변경 버전 이상이면 그 뒤로 바뀐 적이 없는 것이므로 빈 장바구니로 본다.
+     */
+    public List<CartItem> reloadCart(UUID customerId) {
+        validateCustomerId(customerId);
+
+        List<CartItem> cartItems = loadCart(customerId);
+        if (!cartItems.isEmpty() && isClearedInDatabase(customerId)) {
+            log.warn("Redis cart is older than the database tombstone, treating as empty for customer: {}", customerId);
+            return new ArrayList<>();
+        }
+        return cartItems;
+    }
+
+    /**
+     * DB 장바구니가 Redis 의 마지막 변경 버전 이상인 tombstone 인지 확인
+     * Redis 버전을 읽을 수 없으면 loadCart 가 이미 DB 를 읽었거나 판단할 수 없으므로 false
+     */
+    private boolean isClearedInDatabase(UUID customerId) {
+        Cart cart = cartRepository.findByCustomerId(customerId).orElse(null);
+        if (cart == null || cart.getSyncVersion() == null
+            || (cart.getCartItems() != null && !cart.getCartItems().isEmpty())) {
+            return false;
+        }
+
+        Long redisVersion = currentVersion(customerId);
+        return redisVersion != null && cart.getSyncVersion() >= redisVersion;
+    }
+
+    /**
+     * L1 캐시를 거치지 않는 조회 (Redis → DB)
+     */
+    private List<CartItem> loadCart(UUID customerId) {
+        if (isHashMode()) {
+            return getCartFromHash(customerId);
+        }
+
         try {
             List<CartItem> cartItems = getCartFromRedis(customerId);
 
@@ -125,6 +201,10 @@ public class CartService {
         validateCustomerId(customerId);
         validateUpdateItemRequest(request);
 
+        if (isHashMode() && updateItemQuantityInHash(customerId, request)) {
+            return;
+        }
+
         try {
             List<CartItem> cartItems = getCartFromRedis(customerId);
 
@@ -151,8 +231,8 @@ public class CartService {
                     customerId, request.getMenuId(), request.getQuantity());
             }
 
-            saveCartToRedis(customerId, cartItems);
-            syncToDatabaseAsync(customerId, cartItems);
+            Long version = writeCartToRedis(customerId, cartItems);
+            syncToDatabaseAsync(customerId, cartItems, version);
 
             log.info("Successfully updated cart item: customerId={}, menuId={}",
                 customerId, request.getMenuId());
@@ -172,8 +252,13 @@ public class CartService {
             throw new CartException(ErrorCode.INVALID_CART_ITEM_REQUEST);
         }
 
+        if (isHashMode() && removeItemFromHash(customerId, menuId)) {
+            return;
+        }
+
         try {
-            List<CartItem> cartItems = getCart(customerId);
+            // 변경 기준 데이터는 L1 이 아닌 Redis/DB 에서 조회
+            List<CartItem> cartItems = loadCart(customerId);
 
             boolean removed = cartItems.removeIf(item -> item.getMenuId().equals(menuId));
 
@@ -181,8 +266,8 @@ public class CartService {
                 throw new CartException(ErrorCode.CART_NOT_FOUND);
             }
 
-            saveCartToRedis(customerId, cartItems);
-            syncToDatabaseAsync(customerId, cartItems);
+            Long version = writeCartToRedis(customerId, cartItems);
+            syncToDatabaseAsync(customerId, cartItems, version);
 
             log.info("Successfully removed item from cart: customerId={}, menuId={}",
                 customerId, menuId);
@@ -201,8 +286,8 @@ public class CartService {
         validateCustomerId(customerId);
 
         try {
-            invalidateCartCache(customerId);
-            syncToDatabaseAsync(customerId, new ArrayList<>());
+            Long version = writeCartToRedis(customerId, new ArrayList<>());
+            syncToDatabaseAsync(customerId, new ArrayList<>(), version);
 
             log.info("Successfully cleared cart for customer: {}", customerId);
 
@@ -212,19 +297,172 @@ public class CartService {
         }
     }
 
+    /**
+     * 주문 트랜잭션 안에서 DB 장바구니를 바로 비운다 (write-behind 플러시를 기다리지 않음)
+     * 큐에 남은 이전 스냅샷보다 큰 버전의 tombstone 을 기록하므로, 커밋 직후 Redis 캐시 미스가 나도 DB 에서 비운 장바구니를 읽는다.
+     * Redis/L1 정리는 커밋 후 clearCart 가 맡고, 롤백되면 DB 장바구니도 그대로 남는다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void clearCartInDatabase(UUID customerId) {
+        validateCustomerId(customerId);
+
+        Long version = nextVersion(customerId);
+        CartSnapshot tombstone = new CartSnapshot(customerId, List.of(),
+            version != null ? version : CartVersion.nextLocal());
+
+        if (!cartSyncWriter.writeAll(List.of(tombstone)).isEmpty()) {
+            throw new IllegalStateException("Failed to clear cart in database for customer: " + customerId);
+        }
+        log.debug("Cleared cart in database for customer: {}, version={}", customerId, tombstone.version());
+    }
+
     @Transactional
     public void invalidateCartAfterOrder(UUID customerId) {
         validateCustomerId(customerId);
 
         try {
-            invalidateCartCache(customerId);
-            syncToDatabaseAsync(customerId, new ArrayList<>());
+            Long version = writeCartToRedis(customerId, new ArrayList<>());
+            syncToDatabaseAsync(customerId, new ArrayList<>(), version);
             log.info("Cart invalidated after order completion for customer: {}", customerId);
         } catch (Exception e) {
             log.error("Failed to invalidate cart after order for customer: {}", customerId, e);
         }
     }
 
+    private boolean isHashMode() {
+        return STORAGE_MODE_HASH.equalsIgnoreCase(storageMode);
+    }
+
+    /**
+     * @return Redis 를 사용할 수 없어 처리하지 못한 경우 false (호출 측에서 DB 경로로 폴백)
+     */
+    private boolean addItemToHash(UUID customerId, AddCartItemRequest request) {
+        CartItem newItem = CartItem.builder()
+            .menuId(request.getMenuId())
+            .menuName(request.getMenuName())
+            .quantity(request.getQuantity())
+            .price(request.getPrice())
+            .storeId(request.getStoreId())
+            .build();
+
+        CartRedisHashStore.Result result = executeHashMutation(customerId,
+            allowMissing -> cartRedisHashStore.addItem(customerId, newItem, CART_TTL, allowMissing));
+
+        if (result == null) {
+            return false;
+        }
+        if (result.status() == CartRedisHashStore.Status.STORE_MISMATCH) {
+            log.warn("Cart operation failed: customerId={}, error={}", customerId,
+                ErrorCode.CART_STORE_MISMATCH.getMessage());
+            throw new CartException(ErrorCode.CART_STORE_MISMATCH);
+        }
+
+        syncToDatabaseAsync(customerId, result.items(), result.version());
+        log.info("Successfully added item to cart hash: customerId={}, menuId={}",
+            customerId, request.getMenuId());
+        return true;
+    }
+
+    private boolean updateItemQuantityInHash(UUID customerId, UpdateCartItemRequest request) {
+        CartRedisHashStore.Result result = executeHashMutation(customerId,
+            allowMissing -> cartRedisHashStore.setQuantity(
+                customerId, request.getMenuId(), request.getQuantity(), CART_TTL, allowMissing));
+
+        if (result == null) {
+            return false;
+        }
+        if (result.status() == CartRedisHashStore.Status.ITEM_NOT_FOUND) {
+            log.warn("Cart update failed: customerId={}, error={}", customerId,
+                ErrorCode.CART_ITEM_NOT_FOUND.getMessage());
+            throw new CartException(ErrorCode.CART_ITEM_NOT_FOUND);
+        }
+
+        syncToDatabaseAsync(customerId, result.items(), result.version());
+        log.info("Successfully updated cart hash item: customerId={}, menuId={}",
+            customerId, request.getMenuId());
+        return true;
+    }
+
+    private boolean removeItemFromHash(UUID customerId, UUID menuId) {
+        CartRedisHashStore.Result result = executeHashMutation(customerId,
+            allowMissing -> cartRedisHashStore.removeItem(customerId, menuId, CART_TTL, allowMissing));
+
+        if (result == null) {
+            return false;
+        }
+        if (result.status() == CartRedisHashStore.Status.ITEM_NOT_FOUND) {
+            log.warn("Cart item removal failed: customerId={}, error={}", customerId,
+                ErrorCode.CART_NOT_FOUND.getMessage());
+            throw new CartException(ErrorCode.CART_NOT_FOUND);
+        }
+
+        syncToDatabaseAsync(customerId, result.items(), result.version());
+        log.info("Successfully removed item from cart hash: customerId={}, menuId={}", customerId, menuId);
+        return true;
+    }
+
+    /**
+     * Hash 변경 스크립트 실행
+     * 키가 없으면 (Cache Miss) DB 장바구니로 Hash 를 적재한 뒤 한 번 더 실행
+     * @return Redis 서킷이 열려 있거나 호출이 실패하면 null
+     */
+    private CartRedisHashStore.Result executeHashMutation(
+            UUID customerId, Function<Boolean, CartRedisHashStore.Result> mutation) {
+        if (!isRedisAvailable()) {
+            log.debug("Redis circuit open, falling back to database for customer: {}", customerId);
+            return null;
+        }
+
+        try {
+            CartRedisHashStore.Result result = mutation.apply(false);
+
+            if (result.status() == CartRedisHashStore.Status.MISSING) {
+                log.debug("Cart hash miss, seeding from database for customer: {}", customerId);
+                cartRedisHashStore.seed(customerId, getCartFromDatabase(customerId), CART_TTL);
+                result = mutation.apply(true);
+            }
+
+            redisHealthMonitor.recordSuccess();
+            return result;
+
+        } catch (DataAccessException e) {
+            redisHealthMonitor.recordFailure(e);
+            log.warn("Cart hash operation failed, falling back to database for customer: {}", customerId, e);
+            return null;
+        }
+    }
+
+    private List<CartItem> getCartFromHash(UUID customerId) {
+        if (!isRedisAvailable()) {
+            return getCartFromDatabase(customerId);
+        }
+
+        try {
+            List<CartItem> cartItems = cartRedisHashStore.getItems(customerId);
+
+            if (cartItems != null) {
+                redisHealthMonitor.recordSuccess();
+                log.debug("Cart found in Redis hash for customer: {}, itemCount={}",
+                    customerId, cartItems.size());
+                return cartItems;
+            }
+
+            log.debug("Cache miss, retrieving from database for customer: {}", customerId);
+            cartItems = getCartFromDatabase(customerId);
+            cartRedisHashStore.seed(customerId, cartItems, CART_TTL);
+            redisHealthMonitor.recordSuccess();
+            return cartItems;
+
+        } catch (DataAccessException e) {
+            redisHealthMonitor.recordFailure(e);
+            log.warn("Redis unavailable, falling back to database for customer: {}", customerId);
+            return getCartFromDatabase(customerId);
+        } catch (Exception e) {
+            log.error("Failed to get cart hash for customer: {}", customerId, e);
+            return getCartFromDatabase(customerId);
+        }
+    }
+
     private void validateCustomerId(UUID customerId) {
         if (customerId == null) {
             throw new CartException(ErrorCode.INVALID_CUSTOMER_ID);
@@ -235,46 +473,28 @@ public class CartService {
         return CART_KEY_PREFIX + customerId.toString();
     }
 
+    /**
+     * Redis 사용 가능 여부 - RedisHealthMonitor 의 서킷 상태만 조회 (I/O 없음)
+     */
     private boolean isRedisAvailable() {
-        try {
-            assert redisTemplate.getConnectionFactory() != null;
-            redisTemplate.getConnectionFactory().getConnection().ping();
-            return true;
-        } catch (RedisConnectionFailureException e) {
-            log.debug("Redis connection failed: {}", e.getMessage());
-            return false;
-        } catch (Exception e) {
-            log.debug("Redis availability check failed: {}", e.getMessage());
-            return false;
-        }
+        return redisHealthMonitor.isAvailable();
     }
 
     private List<CartItem> getCartFromRedis(UUID customerId) {
         try {
-            if (!isRedisAvailable()) {
+            // hash 모드에서 이 경로는 Redis 장애 시의 DB 폴백으로만 사용된다
+            if (isHashMode() || !isRedisAvailable()) {
                 return new ArrayList<>();
             }
 
             String cartKey = getCartKey(customerId);
-            Object cartData = redisTemplate.opsForValue().get(cartKey);
-
-            if (cartData instanceof List<?> rawList) {
-                List<CartItem> cartItems = new ArrayList<>();
+            List<CartItem> cartData = cartRedisTemplate.opsForValue().get(cartKey);
 
-                for (Object item : rawList) {
-                    if (item instanceof CartItem) {
-                        cartItems.add((CartItem) item);
-                    } else if (item instanceof Map) {
-                        cartItems.add(convertMapToCartItem((Map<?, ?>) item));
-                    }
-                }
+            redisHealthMonitor.recordSuccess();
+            return cartData == null ? new ArrayList<>() : new ArrayList<>(cartData);
 
-                return cartItems;
-            }
-
-            return new ArrayList<>();
-
-        } catch (RedisConnectionFailureException e) {
+        } catch (DataAccessException e) {
+            redisHealthMonitor.recordFailure(e);
             log.warn("Redis unavailable, falling back to database for customer: {}", customerId);
             return new ArrayList<>();
         } catch (Exception e) {
@@ -291,36 +511,119 @@ public class CartService {
                 return;
             }
 
+            if (isHashMode()) {
+                // DB 폴백 경로에서 변경된 장바구니 - Hash 는 다음 조회 시 DB 에서 다시 적재
+                cartRedisHashStore.delete(customerId);
+                redisHealthMonitor.recordSuccess();
+                return;
+            }
+
             String cartKey = getCartKey(customerId);
 
             if (cartItems.isEmpty()) {
-                redisTemplate.delete(cartKey);
+                cartRedisTemplate.delete(cartKey);
                 log.debug("Deleted empty cart from cache for customer: {}", customerId);
             } else {
-                redisTemplate.opsForValue().set(cartKey, cartItems, CART_TTL);
+                cartRedisTemplate.opsForValue().set(cartKey, cartItems, CART_TTL);
                 log.debug("Saved cart to cache for customer: {}, itemCount={}",
                     customerId, cartItems.size());
             }
+            redisHealthMonitor.recordSuccess();
 
-        } catch (RedisConnectionFailureException e) {
+        } catch (DataAccessException e) {
+            redisHealthMonitor.recordFailure(e);
             log.warn("Redis unavailable during cart save for customer: {}", customerId);
         } catch (Exception e) {
             log.error("Failed to save cart to Redis for customer: {}", customerId, e);
         }
     }
 
-    private void invalidateCartCache(UUID customerId) {
+    /**
+     * 장바구니 변경을 Redis 에 쓰고, 같은 스크립트에서 발급한 변경 버전을 반환 (빈 장바구니는 키 삭제)
+     * 큐에 넣는 시점이 아니라 여기서 버전을 정해야 경쟁하는 두 변경 중 Redis 에 나중에 쓰인 쪽이 DB 에서도 이긴다.
+     * @return Redis 에 쓰지 못했으면 null (큐가 로컬 버전을 사용)
+     */
+    private Long writeCartToRedis(UUID customerId, List<CartItem> cartItems) {
+        if (!isRedisAvailable()) {
+            log.debug("Redis unavailable, skipping cache update for customer: {}", customerId);
+            return null;
+        }
+
         try {
-            if (isRedisAvailable()) {
-                String cartKey = getCartKey(customerId);
-                redisTemplate.delete(cartKey);
-                log.debug("Invalidated cart cache for customer: {}", customerId);
+            Long version;
+            if (isHashMode()) {
+                // DB 폴백 경로에서 변경된 장바구니 - Hash 는 다음 조회 시 DB 에서 다시 적재
+                version = cartRedisHashStore.clear(customerId);
+            } else {
+                byte[] value = cartItems.isEmpty() ? new byte[0] : cartValueSerializer().serialize(cartItems);
+                version = cartRedisTemplate.execute(WRITE_CART_SCRIPT, RedisSerializer.byteArray(), VERSION_SERIALIZER,
+                    List.of(getCartKey(customerId), CartVersion.key(customerId)),
+                    value, String.valueOf(CART_TTL.toSeconds()).getBytes(StandardCharsets.UTF_8));
             }
+            redisHealthMonitor.recordSuccess();
+            log.debug("Wrote cart to cache for customer: {}, itemCount={}, version={}",
+                customerId, cartItems.size(), version);
+            return version;
+
+        } catch (DataAccessException e) {
+            redisHealthMonitor.recordFailure(e);
+            log.warn("Redis unavailable during cart write for customer: {}", customerId);
+            return null;
         } catch (Exception e) {
-            log.warn("Failed to invalidate cart cache for customer: {}", customerId, e);
+            log.error("Failed to write cart to Redis for customer: {}", customerId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 장바구니를 바꾸지 않고 변경 버전만 발급
+     * @return Redis 를 쓸 수 없으면 null (호출 측이 로컬 버전 사용)
+     */
+    private Long nextVersion(UUID customerId) {
+        if (!isRedisAvailable()) {
+            return null;
+        }
+
+        try {
+            Long version = cartRedisTemplate.execute(NEXT_VERSION_SCRIPT, RedisSerializer.byteArray(), VERSION_SERIALIZER,
+                List.of(getCartKey(customerId), CartVersion.key(customerId)));
+            redisHealthMonitor.recordSuccess();
+            return version;
+
+        } catch (DataAccessException e) {
+            redisHealthMonitor.recordFailure(e);
+            log.warn("Redis unavailable while issuing cart version for customer: {}", customerId);
+            return null;
         }
     }
 
+    /**
+     * 마지막으로 발급한 변경 버전
+     * @return Redis 를 쓸 수 없으면 null
+     */
+    private Long currentVersion(UUID customerId) {
+        if (!isRedisAvailable()) {
+            return null;
+        }
+
+        try {
+            Long version = cartRedisTemplate.execute(CURRENT_VERSION_SCRIPT, RedisSerializer.byteArray(), VERSION_SERIALIZER,
+                List.of(CartVersion.key(customerId)));
+            redisHealthMonitor.recordSuccess();
+            return version;
+
+        } catch (DataAccessException e) {
+            redisHealthMonitor.recordFailure(e);
+            log.warn("Redis unavailable while reading cart version for customer: {}", customerId);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<List<CartItem>> cartValueSerializer() {
+        return (RedisSerializer<List<CartItem>>) cartRedisTemplate.getValueSerializer();
+    }
+
     private List<CartItem> getCartFromDatabase(UUID customerId) {
         try {
             Optional<Cart> cartOptional = cartRepository.findByCustomerId(customerId);
@@ -341,51 +644,13 @@ public class CartService {
         }
     }
 
-    private void syncToDatabaseAsync(UUID customerId, List<CartItem> cartItems) {
-        try {
-            pendingChanges.put(customerId, cartItems);
-            log.debug("Added to batch queue for customer: {}, queue size: {}",
-                customerId, pendingChanges.size());
-
-        } catch (Exception e) {
-            log.warn("Failed to add to batch queue for customer: {}, falling back to immediate sync",
-                customerId, e);
-            syncToDatabase(customerId, cartItems);
-        }
-    }
-
-    @Transactional
-    protected void syncToDatabase(UUID customerId, List<CartItem> cartItems) {
-        try {
-            if (cartItems.isEmpty()) {
-                cartRepository.deleteByCustomerId(customerId);
-                log.debug("Deleted empty cart from database for customer: {}", customerId);
-            } else {
-                Cart cart = convertCartItemsToEntity(customerId, cartItems);
-                cartRepository.save(cart);
-                log.debug("Synced cart to database for customer: {}, itemCount={}",
-                    customerId, cartItems.size());
-            }
-
-        } catch (Exception e) {
-            log.error("Failed to sync cart to database for customer: {}", customerId, e);
-            throw new CartException(ErrorCode.CART_NOT_FOUND);
-        }
-    }
-
-    private CartItem convertMapToCartItem(Map<?, ?> map) {
-        try {
-            return CartItem.builder()
-                .menuId(UUID.fromString(map.get("menuId").toString()))
-                .menuName(map.get("menuName").toString())
-                .quantity(Integer.valueOf(map.get("quantity").toString()))
-                .price(Integer.valueOf(map.get("price").toString()))
-                .storeId(UUID.fromString(map.get("storeId").toString()))
-                .build();
-        } catch (Exception e) {
-            log.error("Failed to convert map to CartItem: {}", map, e);
-            throw new CartException(ErrorCode.CART_NOT_FOUND);
-        }
+    /**
+     * 모든 장바구니 변경 경로의 마지막 단계
+     * L1 캐시를 무효화(다른 레플리카 포함)하고, DB 반영은 write-behind 큐(CartSyncQueue)에 위임
+     */
+    private void syncToDatabaseAsync(UUID customerId, List<CartItem> cartItems, Long version) {
+        cartLocalCache.invalidate(customerId);
+        cartSyncQueue.enqueue(customerId, cartItems, version);
     }
 
     private List<CartItem> convertCartEntityToItems(Cart cart) {
@@ -395,23 +660,6 @@ public class CartService {
         return new ArrayList<>(cart.getCartItems());
     }
 
-    private Cart convertCartItemsToEntity(UUID customerId, List<CartItem> cartItems) {
-        Optional<Cart> existingCart = cartRepository.findByCustomerId(customerId);
-        Cart cart;
-
-        if (existingCart.isPresent()) {
-            cart = existingCart.get();
-            cart.setCartItems(new ArrayList<>(cartItems));
-        } else {
-            cart = Cart.builder()
-                .cartItems(new ArrayList<>(cartItems))
-                .customerId(customerId)
-                .build();
-        }
-
-        return cart;
-    }
-
     private void validateAddItemRequest(AddCartItemRequest request) {
         if (request == null) {
             throw new CartException(ErrorCode.INVALID_UPDATE_REQUEST);
@@ -445,89 +693,12 @@ public class CartService {
         }
     }
 
-    @PostConstruct
-    public void initBatchProcessor() {
-        scheduler.scheduleAtFixedRate(
-            this::processBatchChanges,
-            BATCH_INTERVAL_SECONDS,
-            BATCH_INTERVAL_SECONDS,
-            TimeUnit.SECONDS
-        );
-
-        log.info("Cart batch processor started with {} seconds interval", BATCH_INTERVAL_SECONDS);
-    }
-
-    @PreDestroy
-    public void cleanup() {
-        if (scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdown();
-            try {
-                if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
-                    scheduler.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                scheduler.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
-        }
-    }
-
-    private void processBatchChanges() {
-        if (pendingChanges.isEmpty()) return;
-
-        Map<UUID, List<CartItem>> batch = null;
-
-        try {
-            batch = new HashMap<>(pendingChanges);
-            pendingChanges.clear();
-
-            log.info("Processing batch DB sync for {} customers", batch.size());
-
-            batch.forEach((customerId, cartItems) -> {
-                try {
-                    syncToDatabase(customerId, cartItems);
-                    log.debug("Batch DB sync completed for customer: {}", customerId);
-
-                } catch (Exception e) {
-                    log.error("Batch DB sync failed for customer: {}", customerId, e);
-                    pendingChanges.put(customerId, cartItems);
-                    log.warn("Re-added failed sync to batch queue for customer: {}", customerId);
-                }
-            });
-
-            log.info("Batch DB sync completed for {} customers", batch.size());
-
-        } catch (Exception e) {
-            log.error("Failed to process batch changes", e);
-            if (batch != null) {
-                pendingChanges.putAll(batch);
-                log.warn("Re-added all failed batch items to queue due to processing error");
-            }
-        }
-    }
-
     public Map<String, Object> getBatchQueueStatus() {
-        Map<String, Object> status = new HashMap<>();
-
-        int pendingCount = pendingChanges.size();
-        List<UUID> pendingIds = new ArrayList<>(pendingChanges.keySet());
-
-        status.put("pendingChangesCount", pendingCount);
-        status.put("batchIntervalSeconds", BATCH_INTERVAL_SECONDS);
-        status.put("pendingCustomerIds", pendingIds);
-        status.put("lastProcessedTime", System.currentTimeMillis());
-
-        return status;
+        return cartSyncQueue.getStatus();
     }
 
     public void forceBatchProcessing() {
         log.info("Force batch processing triggered");
-        synchronized (this) {
-            if (!pendingChanges.isEmpty()) {
-                processBatchChanges();
-            } else {
-                log.info("No pending changes to process");
-            }
-        }
+        cartSyncQueue.flush();
     }
 }
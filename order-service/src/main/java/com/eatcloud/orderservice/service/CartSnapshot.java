@@ -0,0 +1,21 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.CartItem;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * write-behind 큐로 전달되는 고객별 장바구니 스냅샷
+ * version 은 고객별로 단조 증가하며, DB 에는 더 큰 버전만 반영된다.
+ */
+record CartSnapshot(UUID customerId, List<CartItem> cartItems, long version) {
+
+    boolean isEmpty() {
+        return cartItems == null || cartItems.isEmpty();
+    }
+
+    static CartSnapshot newer(CartSnapshot current, CartSnapshot candidate) {
+        return candidate.version() > current.version() ? candidate : current;
+    }
+}
@@ -0,0 +1,346 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.CartItem;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 장바구니 write-behind 큐 (Redis Stream)
+ * 장바구니 변경마다 그 변경에서 발급된 버전(CartVersion)이 붙은 스냅샷을 cart:sync:stream 에 XADD 하고,
+ * 모든 레플리카가 같은 consumer group 으로 읽어 나누어 DB 에 반영한다.
+ * 반영에 성공한 레코드만 XACK 하므로 인스턴스가 죽어도 다른 레플리카가 pending 레코드를 가져가 재처리한다.
+ *
+ * Redis 서킷이 열려 있으면 로컬 이중 버퍼에 보관했다가 다음 주기에 DB 로 직접 반영한다.
+ */
+@Component
+@Slf4j
+public class CartSyncQueue {
+
+    private static final String STREAM_KEY = "cart:sync:stream";
+    private static final String CONSUMER_GROUP = "cart-sync";
+
+    private static final TypeReference<List<CartItem>> CART_ITEMS_TYPE = new TypeReference<>() {
+    };
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final CartSyncWriter cartSyncWriter;
+    private final ObjectMapper objectMapper;
+
+    // 이중 버퍼: 쓰기는 현재 버퍼에, 플러시는 getAndSet 으로 새 버퍼와 원자적으로 교체한 뒤 이전 버퍼를 처리
+    private final AtomicReference<Map<UUID, CartSnapshot>> localBuffer =
+        new AtomicReference<>(new ConcurrentHashMap<>());
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final String consumerName = resolveConsumerName();
+    private volatile boolean consumerGroupReady;
+    private volatile long lastProcessedTime;
+
+    @Value("${cart.sync.batch-interval-seconds:10}")
+    private int batchIntervalSeconds;
+
+    @Value("${cart.sync.batch-size:500}")
+    private int batchSize;
+
+    @Value("${cart.sync.claim-idle-seconds:60}")
+    private long claimIdleSeconds;
+
+    public CartSyncQueue(StringRedisTemplate stringRedisTemplate,
+                         RedisHealthMonitor redisHealthMonitor,
+                         CartSyncWriter cartSyncWriter,
+                         ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisHealthMonitor = redisHealthMonitor;
+        this.cartSyncWriter = cartSyncWriter;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flush, batchIntervalSeconds, batchIntervalSeconds, TimeUnit.SECONDS);
+        log.info("Cart sync queue started: consumer={}, interval={}s, batchSize={}",
+            consumerName, batchIntervalSeconds, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        // 스트림 레코드는 Redis 에 남지만 로컬 버퍼는 종료 전에 반드시 반영
+        flushLocalBuffer();
+    }
+
+    /**
+     * 장바구니 스냅샷을 큐에 적재
+     * @param version 변경 시 발급된 버전, Redis 를 거치지 않은 변경이면 null (로컬 버전 사용)
+     */
+    public void enqueue(UUID customerId, List<CartItem> cartItems, Long version) {
+        long snapshotVersion = version != null ? version : CartVersion.nextLocal();
+
+        if (redisHealthMonitor.isAvailable()) {
+            try {
+                stringRedisTemplate.opsForStream().add(StreamRecords.string(Map.of(
+                        "customerId", customerId.toString(),
+                        "version", String.valueOf(snapshotVersion),
+                        "items", writeItems(cartItems)))
+                    .withStreamKey(STREAM_KEY));
+                redisHealthMonitor.recordSuccess();
+                log.debug("Enqueued cart snapshot to stream for customer: {}, version={}", customerId, snapshotVersion);
+                return;
+            } catch (DataAccessException e) {
+                redisHealthMonitor.recordFailure(e);
+                log.warn("Failed to enqueue cart snapshot to stream, buffering locally for customer: {}", customerId);
+            }
+        }
+
+        bufferLocally(new CartSnapshot(customerId, new ArrayList<>(cartItems), snapshotVersion));
+    }
+
+    /**
+     * 로컬 버퍼 → 스트림 순으로 반영
+     */
+    public synchronized void flush() {
+        try {
+            flushLocalBuffer();
+
+            if (redisHealthMonitor.isAvailable()) {
+                try {
+                    ensureConsumerGroup();
+                    int claimed = claimStaleRecords();
+                    int consumed = drainStream();
+                    redisHealthMonitor.recordSuccess();
+
+                    if (claimed + consumed > 0) {
+                        log.info("Cart stream sync completed: consumed={}, reclaimed={}", consumed, claimed);
+                    }
+                } catch (DataAccessException e) {
+                    redisHealthMonitor.recordFailure(e);
+                    consumerGroupReady = false;
+                    log.warn("Cart stream sync failed, will retry next interval: {}", e.getMessage());
+                }
+            }
+
+            lastProcessedTime = System.currentTimeMillis();
+
+        } catch (Exception e) {
+            log.error("Failed to process cart sync batch", e);
+        }
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        Map<UUID, CartSnapshot> buffer = localBuffer.get();
+
+        status.put("pendingChangesCount", buffer.size());
+        status.put("pendingCustomerIds", new ArrayList<>(buffer.keySet()));
+        status.put("batchIntervalSeconds", batchIntervalSeconds);
+        status.put("consumerName", consumerName);
+        status.put("lastProcessedTime", lastProcessedTime);
+
+        if (redisHealthMonitor.isAvailable()) {
+            try {
+                StreamOperations<String, Object, Object> streamOps = stringRedisTemplate.opsForStream();
+                status.put("streamLength", streamOps.size(STREAM_KEY));
+                if (consumerGroupReady) {
+                    status.put("streamPendingCount", streamOps.pending(STREAM_KEY, CONSUMER_GROUP).getTotalPendingMessages());
+                }
+                redisHealthMonitor.recordSuccess();
+            } catch (DataAccessException e) {
+                redisHealthMonitor.recordFailure(e);
+                status.put("streamLength", "unavailable");
+            }
+        }
+
+        return status;
+    }
+
+    private void bufferLocally(CartSnapshot snapshot) {
+        Map<UUID, CartSnapshot> buffer;
+        // 교체 직전의 버퍼에 쓴 경우를 대비해 현재 버퍼에 다시 기록 (버전 비교로 중복 반영은 무해)
+        do {
+            buffer = localBuffer.get();
+            buffer.merge(snapshot.customerId(), snapshot, CartSnapshot::newer);
+        } while (buffer != localBuffer.get());
+
+        log.debug("Buffered cart snapshot locally for customer: {}, buffer size: {}",
+            snapshot.customerId(), buffer.size());
+    }
+
+    private void flushLocalBuffer() {
+        if (localBuffer.get().isEmpty()) {
+            return;
+        }
+
+        Map<UUID, CartSnapshot> batch = localBuffer.getAndSet(new ConcurrentHashMap<>());
+        log.info("Processing local cart sync buffer for {} customers", batch.size());
+
+        Set<UUID> failed;
+        try {
+            failed = cartSyncWriter.writeAll(batch.values());
+        } catch (Exception e) {
+            log.error("Local buffer DB sync failed for {} customers", batch.size(), e);
+            failed = batch.keySet();
+        }
+        failed.forEach(customerId -> bufferLocally(batch.get(customerId)));
+    }
+
+    private void ensureConsumerGroup() {
+        if (consumerGroupReady) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                .xGroupCreate(STREAM_KEY.getBytes(StandardCharsets.UTF_8), CONSUMER_GROUP, ReadOffset.from("0"), true));
+            log.info("Created cart sync consumer group: {}", CONSUMER_GROUP);
+        } catch (DataAccessException e) {
+            String message = String.valueOf(e.getMostSpecificCause().getMessage());
+            if (!message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        consumerGroupReady = true;
+    }
+
+    /**
+     * 다른(또는 죽은) 컨슈머가 가져간 뒤 claim-idle 이상 ACK 하지 못한 레코드를 회수하여 처리
+     */
+    private int claimStaleRecords() {
+        StreamOperations<String, Object, Object> streamOps = stringRedisTemplate.opsForStream();
+        Duration minIdle = Duration.ofSeconds(claimIdleSeconds);
+
+        PendingMessages pending = streamOps.pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), batchSize);
+        RecordId[] staleIds = pending.stream()
+            .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+            .map(PendingMessage::getId)
+            .toArray(RecordId[]::new);
+
+        if (staleIds.length == 0) {
+            return 0;
+        }
+
+        List<MapRecord<String, Object, Object>> claimed =
+            streamOps.claim(STREAM_KEY, CONSUMER_GROUP, consumerName, minIdle, staleIds);
+        applyRecords(claimed);
+        return claimed.size();
+    }
+
+    private int drainStream() {
+        StreamOperations<String, Object, Object> streamOps = stringRedisTemplate.opsForStream();
+        int consumed = 0;
+        List<MapRecord<String, Object, Object>> records;
+
+        do {
+            records = streamOps.read(
+                Consumer.from(CONSUMER_GROUP, consumerName),
+                StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+
+            if (records == null || records.isEmpty()) {
+                break;
+            }
+
+            applyRecords(records);
+            consumed += records.size();
+        } while (records.size() == batchSize);
+
+        return consumed;
+    }
+
+    /**
+     * 고객별 최신 버전만 남겨 DB 에 일괄 반영하고, 성공한 고객의 레코드만 ACK
+     */
+    private void applyRecords(List<MapRecord<String, Object, Object>> records) {
+        Map<UUID, CartSnapshot> latest = new HashMap<>();
+        Map<UUID, List<RecordId>> recordIds = new HashMap<>();
+        List<RecordId> completed = new ArrayList<>();
+
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                CartSnapshot snapshot = toSnapshot(record.getValue());
+                latest.merge(snapshot.customerId(), snapshot, CartSnapshot::newer);
+                recordIds.computeIfAbsent(snapshot.customerId(), id -> new ArrayList<>()).add(record.getId());
+            } catch (Exception e) {
+                log.error("Discarding malformed cart sync record: id={}, value={}", record.getId(), record.getValue(), e);
+                completed.add(record.getId());
+            }
+        }
+
+        Set<UUID> failed;
+        try {
+            failed = cartSyncWriter.writeAll(latest.values());
+        } catch (Exception e) {
+            log.error("Stream DB sync failed for {} customers", latest.size(), e);
+            failed = latest.keySet();
+        }
+
+        for (Map.Entry<UUID, List<RecordId>> entry : recordIds.entrySet()) {
+            if (failed.contains(entry.getKey())) {
+                log.warn("Cart sync for customer {} left pending, will be reclaimed after {}s",
+                    entry.getKey(), claimIdleSeconds);
+            } else {
+                completed.addAll(entry.getValue());
+            }
+        }
+
+        if (!completed.isEmpty()) {
+            RecordId[] ids = completed.toArray(RecordId[]::new);
+            StreamOperations<String, Object, Object> streamOps = stringRedisTemplate.opsForStream();
+            streamOps.acknowledge(STREAM_KEY, CONSUMER_GROUP, ids);
+            streamOps.delete(STREAM_KEY, ids);
+        }
+    }
+
+    private CartSnapshot toSnapshot(Map<Object, Object> value) throws JsonProcessingException {
+        UUID customerId = UUID.fromString(value.get("customerId").toString());
+        long version = Long.parseLong(value.get("version").toString());
+        List<CartItem> cartItems = objectMapper.readValue(value.get("items").toString(), CART_ITEMS_TYPE);
+        return new CartSnapshot(customerId, cartItems, version);
+    }
+
+    private String writeItems(List<CartItem> cartItems) {
+        try {
+            return objectMapper.writeValueAsString(cartItems);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cart snapshot", e);
+        }
+    }
+
+    private static String resolveConsumerName() {
+        try {
+            return InetAddress.getLocalHost().getHostName() + "-" + ProcessHandle.current().pid();
+        } catch (Exception e) {
+            return "order-service-" + UUID.randomUUID();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.CartItem;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * write-behind 큐에서 꺼낸 장바구니 스냅샷을 DB 에 일괄 반영
+ *  - 장바구니가 있는 고객 : 청크 단위 multi-row INSERT ... ON CONFLICT (customer_id) DO UPDATE
+ *  - 비운 장바구니      : 같은 UPSERT 로 soft delete 된 tombstone 행을 기록 (행이 없던 고객도 포함)
+ * 두 문장 모두 sync_version 이 더 작은 행만 갱신하므로, 여러 레플리카가 순서 없이 반영해도 최신 상태가 유지된다.
+ * 비운 장바구니도 행과 버전을 남겨 늦게 도착한 이전 스냅샷이 되살아나지 않도록 한다.
+ */
+@Component
+@Slf4j
+public class CartSyncWriter {
+
+    private static final String UPSERT_PREFIX =
+        "INSERT INTO p_cart (cart_id, customer_id, cart_items, sync_version, created_at, created_by, updated_at, updated_by) VALUES ";
+    private static final String UPSERT_ROW = "(?, ?, CAST(? AS jsonb), ?, now(), 'system', now(), 'system')";
+    private static final String UPSERT_SUFFIX =
+        " ON CONFLICT (customer_id) DO UPDATE SET" +
+        " cart_items = EXCLUDED.cart_items, sync_version = EXCLUDED.sync_version," +
+        " updated_at = now(), updated_by = 'system', deleted_at = NULL, deleted_by = NULL" +
+        " WHERE p_cart.sync_version IS NULL OR p_cart.sync_version < EXCLUDED.sync_version";
+
+    // 행이 없어도 tombstone 을 남겨야 먼저 도착한 이전 스냅샷(더 작은 버전)이 나중에 장바구니를 되살리지 못한다
+    private static final String EMPTY_PREFIX =
+        "INSERT INTO p_cart (cart_id, customer_id, cart_items, sync_version, created_at, created_by, updated_at, updated_by," +
+        " deleted_at, deleted_by) VALUES ";
+    private static final String EMPTY_ROW =
+        "(?, ?, '[]'::jsonb, ?, now(), 'system', now(), 'system', now(), 'system')";
+    private static final String EMPTY_SUFFIX =
+        " ON CONFLICT (customer_id) DO UPDATE SET" +
+        " cart_items = EXCLUDED.cart_items, sync_version = EXCLUDED.sync_version," +
+        " updated_at = now(), updated_by = 'system', deleted_at = now(), deleted_by = 'system'" +
+        " WHERE p_cart.sync_version IS NULL OR p_cart.sync_version < EXCLUDED.sync_version";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Timer flushTimer;
+    private final DistributionSummary upsertedRows;
+    private final DistributionSummary emptiedRows;
+    private final DistributionSummary unchangedRows;
+    private final DistributionSummary failedRows;
+
+    @Value("${cart.sync.upsert-chunk-size:200}")
+    private int chunkSize;
+
+    public CartSyncWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.flushTimer = Timer.builder("cart.sync.flush.duration")
+            .description("Cart write-behind bulk flush latency")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.upsertedRows = rowsSummary(meterRegistry, "upserted");
+        this.emptiedRows = rowsSummary(meterRegistry, "emptied");
+        this.unchangedRows = rowsSummary(meterRegistry, "unchanged");
+        this.failedRows = rowsSummary(meterRegistry, "failed");
+    }
+
+    /**
+     * 스냅샷 일괄 반영 (고객별로 하나씩만 전달되어야 함)
+     * @return 반영에 실패한 고객 ID (호출 측에서 재시도)
+     */
+    public Set<UUID> writeAll(Collection<CartSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return Set.of();
+        }
+
+        long startedAt = System.nanoTime();
+        List<CartSnapshot> upserts = new ArrayList<>();
+        List<CartSnapshot> emptied = new ArrayList<>();
+        snapshots.forEach(snapshot -> (snapshot.isEmpty() ? emptied : upserts).add(snapshot));
+
+        Set<UUID> failed = new HashSet<>();
+        int upserted = executeChunked(upserts, this::upsertChunk, failed);
+        int deleted = executeChunked(emptied, this::emptyChunk, failed);
+        int unchanged = snapshots.size() - failed.size() - upserted - deleted;
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        flushTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        upsertedRows.record(upserted);
+        emptiedRows.record(deleted);
+        unchangedRows.record(unchanged);
+        failedRows.record(failed.size());
+
+        log.info("Cart bulk flush: customers={}, upserted={}, emptied={}, unchanged={}, failed={}, chunkSize={}, took={}ms",
+            snapshots.size(), upserted, deleted, unchanged, failed.size(), chunkSize,
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+        return failed;
+    }
+
+    /**
+     * 청크 단위 실행. 청크가 실패하면 행 단위로 다시 실행하여 문제 행만 실패로 분리
+     */
+    private int executeChunked(List<CartSnapshot> snapshots, ToIntFunction<List<CartSnapshot>> statement,
+                               Set<UUID> failed) {
+        int affected = 0;
+
+        for (int from = 0; from < snapshots.size(); from += chunkSize) {
+            List<CartSnapshot> chunk = snapshots.subList(from, Math.min(from + chunkSize, snapshots.size()));
+
+            try {
+                affected += statement.applyAsInt(chunk);
+            } catch (DataAccessException e) {
+                log.warn("Cart bulk flush chunk failed ({} rows), retrying row by row: {}", chunk.size(), e.getMessage());
+
+                for (CartSnapshot snapshot : chunk) {
+                    try {
+                        affected += statement.applyAsInt(List.of(snapshot));
+                    } catch (DataAccessException rowError) {
+                        log.error("Cart DB sync failed for customer: {}", snapshot.customerId(), rowError);
+                        failed.add(snapshot.customerId());
+                    }
+                }
+            }
+        }
+
+        return affected;
+    }
+
+    private int upsertChunk(List<CartSnapshot> chunk) {
+        String sql = UPSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), UPSERT_ROW)) + UPSERT_SUFFIX;
+
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (CartSnapshot snapshot : chunk) {
+                ps.setObject(index++, UUID.randomUUID());
+                ps.setObject(index++, snapshot.customerId());
+                ps.setString(index++, writeItems(snapshot.cartItems()));
+                ps.setLong(index++, snapshot.version());
+            }
+        });
+    }
+
+    private int emptyChunk(List<CartSnapshot> chunk) {
+        String sql = EMPTY_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), EMPTY_ROW)) + EMPTY_SUFFIX;
+
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (CartSnapshot snapshot : chunk) {
+                ps.setObject(index++, UUID.randomUUID());
+                ps.setObject(index++, snapshot.customerId());
+                ps.setLong(index++, snapshot.version());
+            }
+        });
+    }
+
+    private String writeItems(List<CartItem> cartItems) {
+        try {
+            return objectMapper.writeValueAsString(cartItems);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cart items", e);
+        }
+    }
+
+    private static DistributionSummary rowsSummary(MeterRegistry meterRegistry, String result) {
+        return DistributionSummary.builder("cart.sync.flush.rows")
+            .description("Rows per cart write-behind bulk flush")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.eatcloud.orderservice.service;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 장바구니 변경 버전 (write-behind 스냅샷의 sync_version)
+ *
+ * 버전은 큐에 넣을 때가 아니라 Redis 의 장바구니를 바꾸는 스크립트 안에서 같은 원자 단위로 발급한다.
+ * 그래야 두 요청이 경쟁해도 Redis 에 나중에 쓰인 장바구니가 항상 더 큰 버전을 가지고, DB 도 그 상태로 수렴한다.
+ *
+ * 버전 = max(Redis 서버 시각(μs), 직전 버전 + 1) → 고객별 단조 증가, 키가 만료되어도 역행하지 않음
+ * Redis 를 쓸 수 없는 경로는 같은 μs 단위의 로컬 시각을 사용한다.
+ */
+final class CartVersion {
+
+    static final long KEY_TTL_SECONDS = 86_400;
+
+    /**
+     * KEYS[2] = 버전 키, 실행 후 지역 변수 version 에 새 버전(문자열)이 담긴다
+     */
+    static final String NEXT_VERSION_LUA =
+        "local t = redis.call('TIME')\n" +
+        "local now = tonumber(t[1]) * 1000000 + tonumber(t[2])\n" +
+        "local last = tonumber(redis.call('GET', KEYS[2]) or '0')\n" +
+        "local version = string.format('%.0f', math.max(now, last + 1))\n" +
+        "redis.call('SET', KEYS[2], version, 'EX', " + KEY_TTL_SECONDS + ")\n";
+
+    private static final String KEY_PREFIX = "cart:sync:ver:";
+    private static final AtomicLong lastLocal = new AtomicLong();
+
+    private CartVersion() {
+    }
+
+    static String key(UUID customerId) {
+        return KEY_PREFIX + customerId;
+    }
+
+    static long nextLocal() {
+        long now = System.currentTimeMillis() * 1000;
+        return lastLocal.updateAndGet(last -> Math.max(now, last + 1));
+    }
+}
@@ -1,29 +1,82 @@
 package com.eatcloud.orderservice.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RReadWriteLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Redisson 기반 분산락 서비스
  * 분산 환경에서 동시성 제어 및 트랜잭션 보장
+ *
+ * executeWithLock 은 2단계로 락을 잡는다.
+ * 1) 로컬 스트라이프 락 (키 해시 → ReentrantLock) : 같은 인스턴스 안의 같은 키 경합은 JVM 안에서 줄 세워 Redis 로 가는 요청을 1개로 줄인다.
+ * 2) LockStrategy (fair / non-fair / fenced) : 인스턴스 간 상호 배제
+ * 대기 시간은 두 단계가 나눠 쓴다. 지표는 키 접두(마지막 ':' 앞)별로 남긴다.
+ * tryLock / unlock / executeWithMultiLock / isLocked 등도 기본 전략과 같은 종류의 락을 써서 같은 키를 서로 다른 락으로 잡지 않는다.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class DistributedLockService {
     
     private final RedissonClient redissonClient;
+    private final Map<LockStrategy.Type, LockStrategy> strategies = new EnumMap<>(LockStrategy.Type.class);
+    private final MeterRegistry meterRegistry;
     private static final String LOCK_PREFIX = "lock:";
-    
+
+    private ReentrantLock[] stripes;
+    private LockStrategy.Type defaultType;
+
+    @Value("${distributed.lock.default-strategy:non-fair}")
+    private String defaultStrategy;
+
+    @Value("${distributed.lock.local-stripes:1024}")
+    private int localStripes;
+
     /**
-     * 분산락 획득 및 작업 실행
+     * fencing token 을 받는 작업
+     */
+    @FunctionalInterface
+    public interface FencedTask<T> {
+        T call(long fencingToken) throws Exception;
+    }
+
+    public DistributedLockService(RedissonClient redissonClient, List<LockStrategy> lockStrategies,
+                                  MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.meterRegistry = meterRegistry;
+        lockStrategies.forEach(strategy -> strategies.put(strategy.type(), strategy));
+    }
+
+    @PostConstruct
+    public void init() {
+        int size = Integer.highestOneBit(Math.max(localStripes, 1) * 2 - 1);
+        stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        defaultType = LockStrategy.Type.from(defaultStrategy);
+        if (!strategies.containsKey(defaultType)) {
+            throw new IllegalStateException("Unsupported lock strategy: " + defaultType);
+        }
+        log.info("Distributed lock initialized: defaultStrategy={}, localStripes={}", defaultType, size);
+    }
+
+    /**
+     * 분산락 획득 및 작업 실행 (기본 전략: distributed.lock.default-strategy)
      * @param key 락 키
      * @param waitTime 락 획득 대기 시간
      * @param leaseTime 락 유지 시간
@@ -33,27 +86,108 @@ public class DistributedLockService {
      */
     public <T> T executeWithLock(String key, long waitTime, long leaseTime, TimeUnit unit, 
                                   Callable<T> task) throws Exception {
-        RLock lock = redissonClient.getFairLock(LOCK_PREFIX + key);
-        boolean acquired = false;
-        
+        return executeWithLock(key, defaultType, waitTime, leaseTime, unit, task);
+    }
+
+    /**
+     * 전략을 지정한 분산락 획득 및 작업 실행
+     */
+    public <T> T executeWithLock(String key, LockStrategy.Type type, long waitTime, long leaseTime, TimeUnit unit,
+                                 Callable<T> task) throws Exception {
+        return execute(key, type, waitTime, leaseTime, unit, fencingToken -> task.call());
+    }
+
+    /**
+     * fenced 전략으로 락 획득 후 fencing token 을 넘겨 작업 실행
+     */
+    public <T> T executeWithFencedLock(String key, long waitTime, long leaseTime, TimeUnit unit,
+                                       FencedTask<T> task) throws Exception {
+        return execute(key, LockStrategy.Type.FENCED, waitTime, leaseTime, unit, task);
+    }
+
+    private <T> T execute(String key, LockStrategy.Type type, long waitTime, long leaseTime, TimeUnit unit,
+                          FencedTask<T> task) throws Exception {
+        LockStrategy strategy = strategies.get(type);
+        if (strategy == null) {
+            throw new IllegalArgumentException("Unsupported lock strategy: " + type);
+        }
+
+        String prefix = prefixOf(key);
+        String strategyTag = type.name().toLowerCase();
+        long deadline = System.nanoTime() + unit.toNanos(waitTime);
+
+        ReentrantLock local = stripeFor(key);
+        long localStartedAt = System.nanoTime();
+        boolean localAcquired = local.tryLock(unit.toNanos(waitTime), TimeUnit.NANOSECONDS);
+        Timer.builder("distributed.lock.local.wait")
+            .description("Time spent waiting on the in-JVM stripe before going to Redis")
+            .tag("prefix", prefix)
+            .tag("strategy", strategyTag)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(System.nanoTime() - localStartedAt, TimeUnit.NANOSECONDS);
+
+        if (!localAcquired) {
+            timedOut(key, prefix, strategyTag, "local");
+        }
+
         try {
-            acquired = lock.tryLock(waitTime, leaseTime, unit);
-            
-            if (!acquired) {
-                log.warn("Failed to acquire lock for key: {}, thread: {}", key, Thread.currentThread().getId());
-                throw new RuntimeException("Failed to acquire lock for key: " + key);
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(Math.max(deadline - System.nanoTime(), 0));
+            long acquireStartedAt = System.nanoTime();
+            LockStrategy.Lease lease = strategy.tryAcquire(LOCK_PREFIX + key, remainingMillis, unit.toMillis(leaseTime));
+            Timer.builder("distributed.lock.acquire")
+                .description("Time to acquire the Redis lock once the local stripe is held")
+                .tag("prefix", prefix)
+                .tag("strategy", strategyTag)
+                .tag("result", lease != null ? "acquired" : "timeout")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - acquireStartedAt, TimeUnit.NANOSECONDS);
+
+            if (lease == null) {
+                timedOut(key, prefix, strategyTag, "remote");
             }
-            
-            log.debug("Lock acquired: key={}, thread={}", key, Thread.currentThread().getId());
-            return task.call();
-            
-        } finally {
-            if (acquired && lock.isHeldByCurrentThread()) {
-                lock.unlock();
+
+            try {
+                log.debug("Lock acquired: key={}, strategy={}, thread={}", key, type, Thread.currentThread().getId());
+                return task.call(lease.fencingToken());
+            } finally {
+                lease.release();
                 log.debug("Lock released: key={}, thread={}", key, Thread.currentThread().getId());
             }
+
+        } finally {
+            local.unlock();
         }
     }
+
+    private void timedOut(String key, String prefix, String strategyTag, String tier) {
+        Counter.builder("distributed.lock.timeouts")
+            .tag("prefix", prefix)
+            .tag("strategy", strategyTag)
+            .tag("tier", tier)
+            .register(meterRegistry)
+            .increment();
+        log.warn("Failed to acquire lock for key: {}, tier: {}, thread: {}", key, tier, Thread.currentThread().getId());
+        throw new RuntimeException("Failed to acquire lock for key: " + key);
+    }
+
+    private RLock lockFor(String key) {
+        return strategies.get(defaultType).lock(LOCK_PREFIX + key);
+    }
+
+    private ReentrantLock stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    /**
+     * order:create:{customerId} → order:create (지표 태그 카디널리티 제한)
+     */
+    static String prefixOf(String key) {
+        int last = key.lastIndexOf(':');
+        return last > 0 ? key.substring(0, last) : key;
+    }
     
     /**
      * 분산락 획득 시도 (논블로킹)
@@ -63,7 +197,7 @@ public class DistributedLockService {
      * @return 락 획득 성공 여부
      */
     public boolean tryLock(String key, long leaseTime, TimeUnit unit) {
-        RLock lock = redissonClient.getFairLock(LOCK_PREFIX + key);
+        RLock lock = lockFor(key);
         
         try {
             boolean acquired = lock.tryLock(0, leaseTime, unit);
@@ -83,7 +217,7 @@ public class DistributedLockService {
      * @param key 락 키
      */
     public void unlock(String key) {
-        RLock lock = redissonClient.getFairLock(LOCK_PREFIX + key);
+        RLock lock = lockFor(key);
         
         if (lock.isHeldByCurrentThread()) {
             lock.unlock();
@@ -106,7 +240,7 @@ public class DistributedLockService {
                                        Callable<T> task) throws Exception {
         RLock[] locks = new RLock[keys.length];
         for (int i = 0; i < keys.length; i++) {
-            locks[i] = redissonClient.getFairLock(LOCK_PREFIX + keys[i]);
+            locks[i] = lockFor(keys[i]);
         }
         
         RLock multiLock = redissonClient.getMultiLock(locks);
@@ -206,7 +340,7 @@ public class DistributedLockService {
      * @return 락이 걸려있는지 여부
      */
     public boolean isLocked(String key) {
-        RLock lock = redissonClient.getFairLock(LOCK_PREFIX + key);
+        RLock lock = lockFor(key);
         return lock.isLocked();
     }
     
@@ -216,7 +350,7 @@ public class DistributedLockService {
      * @return 현재 스레드가 락을 보유하고 있는지 여부
      */
     public boolean isHeldByCurrentThread(String key) {
-        RLock lock = redissonClient.getFairLock(LOCK_PREFIX + key);
+        RLock lock = lockFor(key);
         return lock.isHeldByCurrentThread();
     }
 }
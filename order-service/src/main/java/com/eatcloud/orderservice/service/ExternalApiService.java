@@ -1,25 +1,53 @@
 package com.eatcloud.orderservice.service;
 
+import com.eatcloud.orderservice.dto.response.MenuPriceResponse;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.http.*;
 
-import java.util.UUID;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 public class ExternalApiService {
 
+    private static final ParameterizedTypeReference<List<MenuPriceResponse>> MENU_PRICE_LIST_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
     private final RestTemplate restTemplate;
 
+    // 일괄 조회 실패 시 단건 가격 조회를 병렬로 보내기 위한 풀
+    private final ExecutorService menuPriceExecutor = Executors.newFixedThreadPool(8, r -> {
+        Thread thread = new Thread(r, "menu-price-fallback");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${external.store.menu-price-fallback-timeout-ms:3000}")
+    private long menuPriceFallbackTimeoutMs;
+
     // @LoadBalanced가 적용된 RestTemplate 주입
     public ExternalApiService(@Qualifier("restTemplate") RestTemplate restTemplate) {
         this.restTemplate = restTemplate;
     }
 
+    @PreDestroy
+    public void shutdown() {
+        menuPriceExecutor.shutdownNow();
+    }
+
     /**
      * 고객 존재 여부 확인
      */
@@ -75,4 +103,63 @@ public class ExternalApiService {
             throw new RuntimeException("Store service is temporarily unavailable for menu: " + menuId, e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 메뉴 가격/판매 가능 여부 일괄 조회
+     * POST /stores/menus/prices 한 번으로 장바구니 전체를 조회하고,
+     * 실패하면 단건 가격 조회를 병렬로 보내 모은다.
+     * @return 메뉴 ID 별 결과
+     *         일괄 조회 : 존재하지 않거나 삭제된 메뉴는 빠진다
+     *         폴백     : 요청한 모든 메뉴가 들어가며, 판매 가능 여부는 null, 조회에 실패한 메뉴는 가격도 null
+     */
+    public Map<UUID, MenuPriceResponse> getMenuPrices(Collection<UUID> menuIds) {
+        if (menuIds.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            String url = "http://store-service/stores/menus/prices";
+
+            ResponseEntity<List<MenuPriceResponse>> response = restTemplate.exchange(
+                    url,
+                    HttpMethod.POST,
+                    new HttpEntity<>(Map.of("menuIds", menuIds)),
+                    MENU_PRICE_LIST_TYPE
+            );
+
+            Map<UUID, MenuPriceResponse> prices = new HashMap<>();
+            if (response.getBody() != null) {
+                response.getBody().forEach(price -> prices.put(price.getMenuId(), price));
+            }
+
+            log.info("Menu prices retrieved in bulk: requested={}, found={}", menuIds.size(), prices.size());
+            return prices;
+
+        } catch (RestClientException e) {
+            log.warn("Bulk menu price lookup failed, falling back to parallel lookups: count={}, reason={}",
+                    menuIds.size(), e.getMessage());
+            return getMenuPricesInParallel(menuIds);
+        }
+    }
+
+    private Map<UUID, MenuPriceResponse> getMenuPricesInParallel(Collection<UUID> menuIds) {
+        Map<UUID, CompletableFuture<Integer>> futures = new LinkedHashMap<>();
+        for (UUID menuId : new LinkedHashSet<>(menuIds)) {
+            futures.put(menuId, CompletableFuture.supplyAsync(() -> getMenuPrice(menuId), menuPriceExecutor)
+                    .completeOnTimeout(null, menuPriceFallbackTimeoutMs, TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> null));
+        }
+
+        CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+
+        Map<UUID, MenuPriceResponse> prices = new HashMap<>();
+        futures.forEach((menuId, future) -> {
+            Integer price = future.join();
+            prices.put(menuId, MenuPriceResponse.builder()
+                    .menuId(menuId)
+                    .price(price != null ? BigDecimal.valueOf(price) : null)
+                    .build());
+        });
+        return prices;
+    }
+}
@@ -0,0 +1,31 @@
+package com.eatcloud.orderservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class FairLockStrategy implements LockStrategy {
+
+    private final RedissonClient redissonClient;
+
+    @Override
+    public Type type() {
+        return Type.FAIR;
+    }
+
+    @Override
+    public Lease tryAcquire(String lockName, long waitMillis, long leaseMillis) throws InterruptedException {
+        RLock lock = lock(lockName);
+        return lock.tryLock(waitMillis, leaseMillis, TimeUnit.MILLISECONDS) ? new RLockLease(lock, 0) : null;
+    }
+
+    @Override
+    public RLock lock(String lockName) {
+        return redissonClient.getFairLock(lockName);
+    }
+}
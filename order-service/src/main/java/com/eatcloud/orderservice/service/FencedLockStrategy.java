@@ -0,0 +1,47 @@
+package com.eatcloud.orderservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일반 락 획득 후 {lockName}:fence 카운터를 증가시켜 fencing token 으로 돌려준다.
+ * lease 만료 후 늦게 도착한 쓰기를 막으려면 쓰기 대상이 마지막으로 본 token 보다 작은 요청을 거부해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FencedLockStrategy implements LockStrategy {
+
+    private static final String FENCE_SUFFIX = ":fence";
+
+    private final RedissonClient redissonClient;
+
+    @Override
+    public Type type() {
+        return Type.FENCED;
+    }
+
+    @Override
+    public Lease tryAcquire(String lockName, long waitMillis, long leaseMillis) throws InterruptedException {
+        RLock lock = lock(lockName);
+        if (!lock.tryLock(waitMillis, leaseMillis, TimeUnit.MILLISECONDS)) {
+            return null;
+        }
+
+        try {
+            long token = redissonClient.getAtomicLong(lockName + FENCE_SUFFIX).incrementAndGet();
+            return new RLockLease(lock, token);
+        } catch (RuntimeException e) {
+            lock.unlock();
+            throw e;
+        }
+    }
+
+    @Override
+    public RLock lock(String lockName) {
+        return redissonClient.getLock(lockName);
+    }
+}
@@ -0,0 +1,51 @@
+package com.eatcloud.orderservice.service;
+
+import org.redisson.api.RLock;
+
+/**
+ * 분산락 전략 SPI
+ * DistributedLockService 가 로컬(JVM) 스트라이프 락을 잡은 뒤 호출하므로, 구현체는 Redis 쪽 획득/해제만 담당한다.
+ */
+public interface LockStrategy {
+
+    enum Type {
+        /** Redisson fair lock - 대기 큐 유지, 획득마다 추가 왕복 */
+        FAIR,
+        /** Redisson 일반 락 - 순서 보장 없음, 왕복 최소 */
+        NON_FAIR,
+        /** 일반 락 + 키별 단조 증가 fencing token */
+        FENCED;
+
+        /**
+         * 설정 값 변환 (fair, non-fair, fenced)
+         */
+        public static Type from(String value) {
+            return Type.valueOf(value.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+
+    /**
+     * 획득한 락 - 획득한 스레드에서 release 해야 한다.
+     */
+    interface Lease {
+
+        /**
+         * FENCED 가 아니면 0
+         */
+        long fencingToken();
+
+        void release();
+    }
+
+    Type type();
+
+    /**
+     * @return 대기 시간 안에 획득하지 못하면 null
+     */
+    Lease tryAcquire(String lockName, long waitMillis, long leaseMillis) throws InterruptedException;
+
+    /**
+     * tryAcquire 가 잡는 것과 같은 종류의 Redisson 락 (비차단 획득/해제/상태 조회용)
+     */
+    RLock lock(String lockName);
+}
@@ -0,0 +1,257 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.response.MenuPriceResponse;
+import com.eatcloud.orderservice.event.MenuChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메뉴 카탈로그 (읽기 전용 로컬 복제본)
+ * store-service 가 발행하는 store.menu.changed (log-compacted) 토픽을 처음부터 읽어 메뉴별 최신 가격/판매 가능 여부/매장을 보관한다.
+ * 모든 인스턴스가 전체 카탈로그를 가져야 하므로 consumer group 없이 모든 파티션을 assign 하고, 오프셋은 커밋하지 않는다.
+ *
+ * 부트스트랩 : 시작 시점의 end offset 까지 읽으면 ready
+ * 최신성     : 마지막으로 모든 파티션의 lag 이 0 이었던 시점 기준 (menu.catalog.staleness.seconds)
+ *              max-staleness 를 넘거나 ready 전이면 카탈로그를 사용하지 않고 store-service 로 조회한다.
+ */
+@Component
+@Slf4j
+public class MenuCatalog {
+
+    static final String MENU_CHANGED_TOPIC = "store.menu.changed";
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(5);
+
+    record Entry(UUID storeId, BigDecimal price, boolean available, long version) {
+    }
+
+    private final ConsumerFactory<String, MenuChangedEvent> menuCatalogConsumerFactory;
+    private final MeterRegistry meterRegistry;
+    private final Timer replicationDelay;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "menu-catalog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Consumer<String, MenuChangedEvent> consumer;
+    private volatile boolean running;
+    private volatile boolean ready;
+    private volatile long lastCaughtUpAt;
+
+    @Value("${menu.catalog.enabled:false}")
+    private boolean enabled;
+
+    @Value("${menu.catalog.max-staleness-seconds:30}")
+    private long maxStalenessSeconds;
+
+    @Value("${menu.catalog.poll-timeout-ms:1000}")
+    private long pollTimeoutMs;
+
+    public MenuCatalog(ConsumerFactory<String, MenuChangedEvent> menuCatalogConsumerFactory,
+                       MeterRegistry meterRegistry) {
+        this.menuCatalogConsumerFactory = menuCatalogConsumerFactory;
+        this.meterRegistry = meterRegistry;
+        this.replicationDelay = Timer.builder("menu.catalog.replication.delay")
+            .description("Delay between a menu change in store-service and its arrival in the local catalog")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("menu.catalog.size", entries, Map::size).register(meterRegistry);
+        Gauge.builder("menu.catalog.ready", this, catalog -> catalog.ready ? 1 : 0).register(meterRegistry);
+        Gauge.builder("menu.catalog.staleness.seconds", this, MenuCatalog::stalenessSeconds)
+            .description("Seconds since the catalog was last known to be caught up with the topic")
+            .register(meterRegistry);
+
+        if (enabled) {
+            running = true;
+            executor.submit(this::run);
+            log.info("Menu catalog replication started: topic={}, maxStaleness={}s", MENU_CHANGED_TOPIC, maxStalenessSeconds);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Consumer<String, MenuChangedEvent> current = consumer;
+        if (current != null) {
+            current.wakeup();
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 카탈로그로 확인할 수 있는 메뉴만 반환 (네트워크 호출 없음)
+     * 사용할 수 없는 상태(ready 전, 최신성 초과)이면 빈 Map - 호출 측에서 store-service 로 조회
+     * 삭제된 메뉴는 판매 불가(available=false)로 반환한다.
+     */
+    public Map<UUID, MenuPriceResponse> find(Collection<UUID> menuIds) {
+        if (!isUsable()) {
+            return Map.of();
+        }
+
+        Map<UUID, MenuPriceResponse> found = new HashMap<>();
+        for (UUID menuId : menuIds) {
+            Entry entry = entries.get(menuId);
+            if (entry != null) {
+                found.put(menuId, MenuPriceResponse.builder()
+                    .menuId(menuId)
+                    .storeId(entry.storeId())
+                    .price(entry.price())
+                    .available(entry.available())
+                    .build());
+            }
+        }
+        return found;
+    }
+
+    public boolean isUsable() {
+        return enabled && ready && stalenessSeconds() <= maxStalenessSeconds;
+    }
+
+    private double stalenessSeconds() {
+        if (!ready) {
+            return Double.NaN;
+        }
+        return (System.currentTimeMillis() - lastCaughtUpAt) / 1000.0;
+    }
+
+    private void run() {
+        while (running) {
+            try (Consumer<String, MenuChangedEvent> current = menuCatalogConsumerFactory.createConsumer()) {
+                consumer = current;
+                replicate(current);
+            } catch (WakeupException e) {
+                if (running) {
+                    log.warn("Menu catalog consumer woken up unexpectedly, restarting");
+                }
+            } catch (Exception e) {
+                log.error("Menu catalog replication failed, retrying in {}s", RETRY_BACKOFF.toSeconds(), e);
+                sleepQuietly(RETRY_BACKOFF);
+            } finally {
+                consumer = null;
+            }
+        }
+    }
+
+    /**
+     * 토픽 처음부터 읽기 시작해 시작 시점의 end offset 에 도달하면 ready, 이후 계속 변경을 반영
+     */
+    private void replicate(Consumer<String, MenuChangedEvent> current) {
+        List<TopicPartition> partitions = awaitPartitions(current);
+        if (partitions.isEmpty()) {
+            return;
+        }
+
+        current.assign(partitions);
+        current.seekToBeginning(partitions);
+        Map<TopicPartition, Long> bootstrapEndOffsets = current.endOffsets(partitions);
+        long bootstrapStartedAt = System.currentTimeMillis();
+
+        while (running) {
+            ConsumerRecords<String, MenuChangedEvent> records = current.poll(Duration.ofMillis(pollTimeoutMs));
+            records.forEach(this::apply);
+
+            if (!ready && reached(current, bootstrapEndOffsets)) {
+                ready = true;
+                lastCaughtUpAt = System.currentTimeMillis();
+                log.info("Menu catalog bootstrapped: menus={}, took={}ms",
+                    entries.size(), System.currentTimeMillis() - bootstrapStartedAt);
+            } else if (ready && isCaughtUp(current, partitions)) {
+                lastCaughtUpAt = System.currentTimeMillis();
+            }
+        }
+    }
+
+    void apply(ConsumerRecord<String, MenuChangedEvent> record) {
+        MenuChangedEvent event = record.value();
+        if (event == null || event.getMenuId() == null) {
+            log.warn("Skipping unreadable menu event: partition={}, offset={}, key={}",
+                record.partition(), record.offset(), record.key());
+            return;
+        }
+
+        // 커밋 후 발행이 동시에 일어나면 같은 메뉴의 이벤트가 뒤바뀌어 도착할 수 있다 - 메뉴 version 이 더 낮은 상태는 버린다
+        Entry current = entries.get(event.getMenuId());
+        if (current != null && current.version() > event.getVersion()) {
+            log.debug("Skipping stale menu event: menuId={}, version={}, current={}",
+                event.getMenuId(), event.getVersion(), current.version());
+            return;
+        }
+
+        entries.put(event.getMenuId(), new Entry(
+            event.getStoreId(),
+            event.getPrice(),
+            !event.isDeleted() && Boolean.TRUE.equals(event.getAvailable()),
+            event.getVersion()));
+
+        if (ready && event.getOccurredAt() > 0) {
+            replicationDelay.record(Math.max(System.currentTimeMillis() - event.getOccurredAt(), 0),
+                TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private List<TopicPartition> awaitPartitions(Consumer<String, MenuChangedEvent> current) {
+        while (running) {
+            List<PartitionInfo> infos = current.partitionsFor(MENU_CHANGED_TOPIC);
+            if (infos != null && !infos.isEmpty()) {
+                return infos.stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            }
+            log.info("Menu topic {} not found yet, waiting", MENU_CHANGED_TOPIC);
+            sleepQuietly(RETRY_BACKOFF);
+        }
+        return List.of();
+    }
+
+    private static boolean reached(Consumer<String, MenuChangedEvent> current, Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream()
+            .allMatch(end -> current.position(end.getKey()) >= end.getValue());
+    }
+
+    /**
+     * 마지막 fetch 기준 lag (브로커 호출 없음)
+     */
+    private static boolean isCaughtUp(Consumer<String, MenuChangedEvent> current, List<TopicPartition> partitions) {
+        return partitions.stream()
+            .allMatch(partition -> current.currentLag(partition).orElse(Long.MAX_VALUE) == 0);
+    }
+
+    private static void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
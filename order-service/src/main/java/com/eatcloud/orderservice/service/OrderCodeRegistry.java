@@ -0,0 +1,134 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.entity.OrderStatusCode;
+import com.eatcloud.orderservice.entity.OrderTypeCode;
+import com.eatcloud.orderservice.repository.OrderStatusCodeRepository;
+import com.eatcloud.orderservice.repository.OrderTypeCodeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 상태/타입 코드 레지스트리
+ * order_status_codes, order_type_codes 는 거의 바뀌지 않는 기준 데이터라 시작 시 불변 Map 으로 적재하고 주기적으로 다시 읽는다.
+ *
+ * 조회 결과는 EntityManager.getReference 프록시 → 주문 생성/상태 변경 시 코드 테이블 SELECT 가 발생하지 않는다.
+ * code 가 PK 이므로 프록시의 getCode() 는 초기화 없이 반환된다.
+ * 코드 존재 여부는 적재된 Map 으로 검증한다 (없는 코드로 FK 위반이 나기 전에 기존과 같은 예외).
+ */
+@Component
+@Slf4j
+public class OrderCodeRegistry {
+
+    record Snapshot(Map<String, OrderStatusCode> statuses, Map<String, OrderTypeCode> types) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+
+        boolean isEmpty() {
+            return statuses.isEmpty() && types.isEmpty();
+        }
+    }
+
+    private final OrderStatusCodeRepository orderStatusCodeRepository;
+    private final OrderTypeCodeRepository orderTypeCodeRepository;
+    private final EntityManager entityManager;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "order-code-registry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @Value("${order.codes.refresh-interval-seconds:300}")
+    private long refreshIntervalSeconds;
+
+    public OrderCodeRegistry(OrderStatusCodeRepository orderStatusCodeRepository,
+                             OrderTypeCodeRepository orderTypeCodeRepository,
+                             EntityManager entityManager) {
+        this.orderStatusCodeRepository = orderStatusCodeRepository;
+        this.orderTypeCodeRepository = orderTypeCodeRepository;
+        this.entityManager = entityManager;
+    }
+
+    @PostConstruct
+    public void start() {
+        refreshQuietly();
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly,
+            refreshIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 코드 테이블 재적재 (코드 추가/삭제 직후 즉시 반영이 필요할 때 호출)
+     */
+    public void refresh() {
+        Map<String, OrderStatusCode> statuses = orderStatusCodeRepository.findAll().stream()
+            .collect(Collectors.toUnmodifiableMap(OrderStatusCode::getCode, Function.identity()));
+        Map<String, OrderTypeCode> types = orderTypeCodeRepository.findAll().stream()
+            .collect(Collectors.toUnmodifiableMap(OrderTypeCode::getCode, Function.identity()));
+
+        snapshot = new Snapshot(statuses, types);
+        log.debug("Order codes loaded: statuses={}, types={}", statuses.keySet(), types.keySet());
+    }
+
+    public Optional<OrderStatusCode> findStatus(String code) {
+        if (code == null || !current().statuses().containsKey(code)) {
+            return Optional.empty();
+        }
+        return Optional.of(entityManager.getReference(OrderStatusCode.class, code));
+    }
+
+    public Optional<OrderTypeCode> findType(String code) {
+        if (code == null || !current().types().containsKey(code)) {
+            return Optional.empty();
+        }
+        return Optional.of(entityManager.getReference(OrderTypeCode.class, code));
+    }
+
+    public OrderStatusCode status(String code) {
+        return findStatus(code)
+            .orElseThrow(() -> new RuntimeException("주문 상태 코드를 찾을 수 없습니다: " + code));
+    }
+
+    public OrderTypeCode type(String code) {
+        return findType(code)
+            .orElseThrow(() -> new RuntimeException("주문 타입 코드를 찾을 수 없습니다: " + code));
+    }
+
+    /**
+     * 시작 시 DB 가 준비되지 않아 비어 있으면 첫 조회 시점에 적재
+     */
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current.isEmpty()) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("Failed to load order codes, keeping previous snapshot: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.eatcloud.orderservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 주문 목록 커서 - 마지막으로 내려준 행의 (created_at, order_id)
+ * 클라이언트에는 base64url 문자열로만 노출한다.
+ */
+public record OrderCursor(LocalDateTime createdAt, UUID orderId) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return cursor 가 비어 있으면 null (첫 페이지)
+     */
+    public static OrderCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | StringIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
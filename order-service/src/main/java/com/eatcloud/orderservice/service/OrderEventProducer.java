@@ -1,33 +1,48 @@
 package com.eatcloud.orderservice.service;
 
+import com.eatcloud.automessaging.outbox.OutboxWriter;
 import com.eatcloud.orderservice.event.OrderCreatedEvent;
+import com.eatcloud.orderservice.event.OrderStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.CompletableFuture;
+import java.time.LocalDateTime;
 
+/**
+ * 주문 도메인 이벤트 발행 - outbox 에 기록하고 OutboxRelay 가 Kafka 로 전송한다.
+ * 주문을 저장하는 트랜잭션 안에서 호출해야 한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OrderEventProducer {
 
-	private final KafkaTemplate<String, OrderCreatedEvent> kafkaTemplate;
-	private static final String ORDER_CREATED_TOPIC = "order.created";
-
-	public CompletableFuture<SendResult<String, OrderCreatedEvent>> publishOrderCreated(OrderCreatedEvent event) {
-		log.info("주문 생성 이벤트 발행: orderId={}, customerId={}", event.getOrderId(), event.getCustomerId());
-
-		return kafkaTemplate.send(ORDER_CREATED_TOPIC, event.getOrderId().toString(), event)
-				.whenComplete((result, throwable) -> {
-					if (throwable != null) {
-						log.error("주문 생성 이벤트 발행 실패: orderId={}", event.getOrderId(), throwable);
-					} else {
-						log.info("주문 생성 이벤트 발행 성공: orderId={}, partition={}, offset={}",
-								event.getOrderId(), result.getRecordMetadata().partition(), result.getRecordMetadata().offset());
-					}
-				});
+	static final String ORDER_AGGREGATE = "ORDER";
+	static final String ORDER_CREATED_TOPIC = "order.created";
+	static final String ORDER_STATUS_CHANGED_TOPIC = "order.status.changed";
+
+	private final OutboxWriter outboxWriter;
+
+	public void publishOrderCreated(OrderCreatedEvent event) {
+		log.info("주문 생성 이벤트 기록: orderId={}, customerId={}", event.getOrderId(), event.getCustomerId());
+
+		outboxWriter.append(ORDER_AGGREGATE, event.getOrderId().toString(), ORDER_CREATED_TOPIC, event);
+	}
+
+	/**
+	 * 주문 상태 변경 기록 - 주문 키로 발행되므로 같은 주문의 order.created 와 순서가 유지된다.
+	 */
+	public void publishOrderStatusChanged(OrderStatusChange change) {
+		outboxWriter.append(ORDER_AGGREGATE, change.orderId().toString(), ORDER_STATUS_CHANGED_TOPIC,
+			OrderStatusChangedEvent.builder()
+				.orderId(change.orderId())
+				.orderNumber(change.orderNumber())
+				.customerId(change.customerId())
+				.storeId(change.storeId())
+				.previousStatus(change.previousStatus())
+				.orderStatus(change.orderStatus())
+				.changedAt(LocalDateTime.now())
+				.build());
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.automessaging.idempotency.IdempotencyHook;
+import com.eatcloud.orderservice.exception.ErrorCode;
+import com.eatcloud.orderservice.exception.OrderException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 생성 Idempotency-Key 거절을 OrderException 으로 바꾸고, Redis 서킷 상태를 공유한다
+ * 서킷이 열려 있으면 키 없이 실행한다 (기존 락/장바구니 재확인으로 중복 방지).
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderIdempotencyHook implements IdempotencyHook {
+
+    private final RedisHealthMonitor redisHealthMonitor;
+
+    @Override
+    public RuntimeException invalidKey() {
+        return new OrderException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+    }
+
+    @Override
+    public RuntimeException keyMismatch() {
+        return new OrderException(ErrorCode.IDEMPOTENCY_KEY_MISMATCH);
+    }
+
+    @Override
+    public RuntimeException stillProcessing() {
+        return new OrderException(ErrorCode.ORDER_PROCESSING);
+    }
+
+    @Override
+    public boolean isStoreAvailable() {
+        return redisHealthMonitor.isAvailable();
+    }
+
+    @Override
+    public void recordStoreSuccess() {
+        redisHealthMonitor.recordSuccess();
+    }
+
+    @Override
+    public void recordStoreFailure(RuntimeException e) {
+        redisHealthMonitor.recordFailure(e);
+    }
+}
@@ -0,0 +1,168 @@
+package com.eatcloud.orderservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 주문번호 발급기 (ORD-yyyyMMdd-0000001)
+ * 일자별 Redis 카운터(order:number:seq:{yyyyMMdd})에서 INCRBY 로 번호 블록을 예약하고, 블록 안에서는 AtomicLong 으로 발급한다.
+ *
+ * 블록은 인스턴스마다 겹치지 않으므로 레플리카 간 중복이 없고, 인스턴스 안에서는 단조 증가한다.
+ * 네트워크 호출은 block-size 건마다 한 번 (블록 소진 시 한 스레드만 예약, 나머지는 CAS 경로)
+ *
+ * Redis 를 쓸 수 없으면 ORD-yyyyMMdd-R{48bit 난수 hex} 로 발급한다.
+ * 'R' 접두로 순번 형식과 겹치지 않고, 기존 5자리(20bit) 난수보다 충돌 가능성이 훨씬 낮다.
+ */
+@Component
+@Slf4j
+public class OrderNumberGenerator {
+
+    static final String SEQUENCE_KEY_PREFIX = "order:number:seq:";
+    private static final String PREFIX = "ORD-";
+    private static final int SEQUENCE_DIGITS = 7;
+    private static final Duration SEQUENCE_KEY_TTL = Duration.ofDays(2);
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    /**
+     * 일자별 번호 블록 예약 - size 만큼 증가시킨 뒤의 값(블록의 마지막 번호)을 반환
+     */
+    @FunctionalInterface
+    interface BlockReserver {
+        long reserve(String day, int size);
+    }
+
+    private record Block(String day, long last, AtomicLong next) {
+
+        /**
+         * 소진되었으면 -1
+         */
+        long take() {
+            long sequence = next.getAndIncrement();
+            return sequence <= last ? sequence : -1;
+        }
+    }
+
+    private final BlockReserver blockReserver;
+    private final Clock clock;
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private final Counter reservedBlocks;
+    private final Counter fallbackNumbers;
+
+    private volatile Block block;
+
+    @Value("${order.number.block-size:1000}")
+    private int blockSize;
+
+    @Autowired
+    public OrderNumberGenerator(StringRedisTemplate stringRedisTemplate,
+                                RedisHealthMonitor redisHealthMonitor,
+                                MeterRegistry meterRegistry) {
+        this((day, size) -> reserveFromRedis(stringRedisTemplate, redisHealthMonitor, day, size),
+            Clock.systemDefaultZone(), meterRegistry);
+    }
+
+    OrderNumberGenerator(BlockReserver blockReserver, Clock clock, MeterRegistry meterRegistry) {
+        this.blockReserver = blockReserver;
+        this.clock = clock;
+        this.reservedBlocks = Counter.builder("order.number.blocks")
+            .description("Order number blocks reserved from Redis")
+            .register(meterRegistry);
+        this.fallbackNumbers = Counter.builder("order.number.fallback")
+            .description("Order numbers issued with the random fallback format")
+            .register(meterRegistry);
+    }
+
+    public String next() {
+        String day = LocalDate.now(clock).format(DAY_FORMAT);
+
+        Block current = block;
+        if (current != null && current.day().equals(day)) {
+            long sequence = current.take();
+            if (sequence > 0) {
+                return format(day, sequence);
+            }
+        }
+        return nextFromNewBlock(day);
+    }
+
+    private String nextFromNewBlock(String day) {
+        refillLock.lock();
+        try {
+            // 대기 중 다른 스레드가 이미 새 블록을 받았을 수 있다
+            Block current = block;
+            if (current != null && current.day().equals(day)) {
+                long sequence = current.take();
+                if (sequence > 0) {
+                    return format(day, sequence);
+                }
+            }
+
+            long last = blockReserver.reserve(day, blockSize);
+            Block reserved = new Block(day, last, new AtomicLong(last - blockSize + 1));
+            long sequence = reserved.take();
+            block = reserved;
+            reservedBlocks.increment();
+            log.debug("Order number block reserved: day={}, range={}~{}", day, last - blockSize + 1, last);
+            return format(day, sequence);
+
+        } catch (Exception e) {
+            log.warn("Order number block reservation failed, issuing random number: {}", e.getMessage());
+            fallbackNumbers.increment();
+            return fallback(day);
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private static long reserveFromRedis(StringRedisTemplate stringRedisTemplate, RedisHealthMonitor redisHealthMonitor,
+                                         String day, int size) {
+        if (!redisHealthMonitor.isAvailable()) {
+            throw new IllegalStateException("Redis circuit is open");
+        }
+
+        try {
+            String key = SEQUENCE_KEY_PREFIX + day;
+            Long last = stringRedisTemplate.opsForValue().increment(key, size);
+            if (last == null) {
+                throw new IllegalStateException("INCRBY returned null for " + key);
+            }
+            if (last == size) {
+                stringRedisTemplate.expire(key, SEQUENCE_KEY_TTL);
+            }
+            redisHealthMonitor.recordSuccess();
+            return last;
+
+        } catch (RuntimeException e) {
+            redisHealthMonitor.recordFailure(e);
+            throw e;
+        }
+    }
+
+    private static String format(String day, long sequence) {
+        String digits = Long.toString(sequence);
+        StringBuilder number = new StringBuilder(PREFIX.length() + day.length() + 1 + Math.max(digits.length(), SEQUENCE_DIGITS))
+            .append(PREFIX).append(day).append('-');
+        for (int i = digits.length(); i < SEQUENCE_DIGITS; i++) {
+            number.append('0');
+        }
+        return number.append(digits).toString();
+    }
+
+    private static String fallback(String day) {
+        long random = ThreadLocalRandom.current().nextLong() & 0xFFFF_FFFF_FFFFL;
+        return PREFIX + day + "-R" + String.format("%012X", random);
+    }
+}
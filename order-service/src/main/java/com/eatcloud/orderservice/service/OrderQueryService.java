@@ -0,0 +1,65 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.request.OrderSearchCondition;
+import com.eatcloud.orderservice.dto.response.CursorPageResponse;
+import com.eatcloud.orderservice.dto.response.OrderSummaryResponse;
+import com.eatcloud.orderservice.repository.OrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 고객/매장 주문 목록 (커서 페이지네이션, 요약 응답)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderQueryService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    public CursorPageResponse<OrderSummaryResponse> findCustomerOrders(UUID customerId, OrderSearchCondition condition,
+                                                                       String cursor, Integer size) {
+        return findPage(OrderSummaryRepository.Owner.CUSTOMER, customerId, condition, cursor, size);
+    }
+
+    public CursorPageResponse<OrderSummaryResponse> findStoreOrders(UUID storeId, OrderSearchCondition condition,
+                                                                    String cursor, Integer size) {
+        return findPage(OrderSummaryRepository.Owner.STORE, storeId, condition, cursor, size);
+    }
+
+    private CursorPageResponse<OrderSummaryResponse> findPage(OrderSummaryRepository.Owner owner, UUID ownerId,
+                                                              OrderSearchCondition condition, String cursor,
+                                                              Integer size) {
+        if (condition != null && condition.getFrom() != null && condition.getTo() != null
+                && !condition.getFrom().isBefore(condition.getTo())) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단 (COUNT 없음)
+        List<OrderSummaryResponse> rows = orderSummaryRepository.findPage(owner, ownerId, condition,
+                OrderCursor.decode(cursor), pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<OrderSummaryResponse> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            OrderSummaryResponse last = content.get(content.size() - 1);
+            nextCursor = new OrderCursor(last.getCreatedAt(), last.getOrderId()).encode();
+        }
+
+        return CursorPageResponse.<OrderSummaryResponse>builder()
+                .content(List.copyOf(content))
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
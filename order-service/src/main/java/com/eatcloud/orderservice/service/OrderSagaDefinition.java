@@ -0,0 +1,170 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.automessaging.outbox.OutboxWriter;
+import com.eatcloud.orderservice.entity.OrderSaga;
+import com.eatcloud.orderservice.event.OrderCreatedEvent;
+import com.eatcloud.orderservice.event.PointsCommandEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 주문 saga 단계 정의
+ *
+ * 0. ORDER   : 주문 INSERT (saga 시작 트랜잭션에서 이미 수행), 보상 = 주문 취소/결제 실패 처리
+ * 1. POINTS  : 포인트 차감 명령 → customer-service 응답, 보상 = 포인트 환불 명령
+ *              (customer-service 가 명령을 처리하기 전까지 saga.order.points.enabled=false)
+ * 2. PAYMENT : order.created 발행 → payment-service 결제 결과(payment.created)가 응답
+ *
+ * 포인트를 쓰지 않는 주문은 ORDER 직후 PAYMENT 가 실행되어 order.created 가 주문과 같은 트랜잭션에 기록된다.
+ */
+@Component
+@Slf4j
+public class OrderSagaDefinition {
+
+    public static final String ORDER_STEP = "ORDER";
+    public static final String POINTS_STEP = "POINTS";
+    public static final String PAYMENT_STEP = "PAYMENT";
+
+    static final String SAGA_AGGREGATE = "ORDER_SAGA";
+    static final String POINTS_DEDUCT_TOPIC = "customer.points.deduct";
+    static final String POINTS_REFUND_TOPIC = "customer.points.refund";
+
+    private final OrderStatusTransitionService orderStatusTransitionService;
+    private final OrderCodeRegistry orderCodeRegistry;
+    private final OrderEventProducer orderEventProducer;
+    private final OutboxWriter outboxWriter;
+
+    @Value("${saga.order.points.enabled:false}")
+    private boolean pointsEnabled;
+
+    @Value("${saga.order.points.timeout-seconds:30}")
+    private long pointsTimeoutSeconds;
+
+    @Value("${saga.order.payment.timeout-seconds:1800}")
+    private long paymentTimeoutSeconds;
+
+    public OrderSagaDefinition(OrderStatusTransitionService orderStatusTransitionService,
+                               OrderCodeRegistry orderCodeRegistry,
+                               OrderEventProducer orderEventProducer, OutboxWriter outboxWriter) {
+        this.orderStatusTransitionService = orderStatusTransitionService;
+        this.orderCodeRegistry = orderCodeRegistry;
+        this.orderEventProducer = orderEventProducer;
+        this.outboxWriter = outboxWriter;
+    }
+
+    public List<SagaStep> steps() {
+        return List.of(new OrderStep(), new PointsStep(), new PaymentStep());
+    }
+
+    private final class OrderStep implements SagaStep {
+
+        @Override
+        public String name() {
+            return ORDER_STEP;
+        }
+
+        @Override
+        public Duration timeout() {
+            return null;
+        }
+
+        @Override
+        public void execute(OrderSaga saga, OrderCreatedEvent order) {
+            // 주문 INSERT 는 saga 시작 트랜잭션에서 이미 수행
+        }
+
+        @Override
+        public boolean hasCompensation() {
+            return true;
+        }
+
+        @Override
+        public void compensate(OrderSaga saga, OrderCreatedEvent order) {
+            String target = PAYMENT_STEP.equals(saga.getFailedStep()) ? "PAYMENT_FAILED" : "CANCELLED";
+            if (orderCodeRegistry.findStatus(target).isEmpty()) {
+                target = "CANCELLED";
+            }
+
+            // 이미 진행된 주문(결제 완료 등)은 건드리지 않는다 - PENDING 일 때만 반영
+            if (orderStatusTransitionService.transition(order.getOrderId(), "PENDING", target).isEmpty()) {
+                String current = orderStatusTransitionService.currentStatus(order.getOrderId())
+                    .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + order.getOrderId()));
+                log.warn("Saga compensation skipped, order is not pending: orderId={}, status={}",
+                    order.getOrderId(), current);
+            }
+        }
+    }
+
+    private final class PointsStep implements SagaStep {
+
+        @Override
+        public String name() {
+            return POINTS_STEP;
+        }
+
+        @Override
+        public boolean appliesTo(OrderCreatedEvent order) {
+            return pointsEnabled && order.getPointsToUse() != null && order.getPointsToUse() > 0;
+        }
+
+        @Override
+        public Duration timeout() {
+            return Duration.ofSeconds(pointsTimeoutSeconds);
+        }
+
+        @Override
+        public void execute(OrderSaga saga, OrderCreatedEvent order) {
+            outboxWriter.append(SAGA_AGGREGATE, order.getOrderId().toString(), POINTS_DEDUCT_TOPIC, command(saga, order, false));
+        }
+
+        @Override
+        public boolean hasCompensation() {
+            return true;
+        }
+
+        @Override
+        public Duration compensationTimeout() {
+            return Duration.ofSeconds(pointsTimeoutSeconds);
+        }
+
+        @Override
+        public void compensate(OrderSaga saga, OrderCreatedEvent order) {
+            outboxWriter.append(SAGA_AGGREGATE, order.getOrderId().toString(), POINTS_REFUND_TOPIC, command(saga, order, true));
+        }
+
+        private PointsCommandEvent command(OrderSaga saga, OrderCreatedEvent order, boolean compensation) {
+            return PointsCommandEvent.builder()
+                .sagaId(saga.getSagaId())
+                .step(POINTS_STEP)
+                .compensation(compensation)
+                .orderId(order.getOrderId())
+                .customerId(order.getCustomerId())
+                .points(order.getPointsToUse())
+                .replyTopic(SagaOrchestrator.REPLY_TOPIC)
+                .build();
+        }
+    }
+
+    private final class PaymentStep implements SagaStep {
+
+        @Override
+        public String name() {
+            return PAYMENT_STEP;
+        }
+
+        @Override
+        public Duration timeout() {
+            return Duration.ofSeconds(paymentTimeoutSeconds);
+        }
+
+        @Override
+        public void execute(OrderSaga saga, OrderCreatedEvent order) {
+            // payment-service 는 order.created 를 받아 결제 요청을 만들고, 결과를 payment.created 로 보낸다
+            orderEventProducer.publishOrderCreated(order);
+        }
+    }
+}
@@ -3,14 +3,16 @@ package com.eatcloud.orderservice.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.eatcloud.orderservice.entity.Order;
 import com.eatcloud.orderservice.repository.OrderRepository;
 import com.eatcloud.orderservice.dto.OrderMenu;
 import com.eatcloud.orderservice.entity.OrderStatusCode;
 import com.eatcloud.orderservice.entity.OrderTypeCode;
-import com.eatcloud.orderservice.repository.OrderStatusCodeRepository;
-import com.eatcloud.orderservice.repository.OrderTypeCodeRepository;
 import com.eatcloud.orderservice.exception.OrderException;
 import com.eatcloud.orderservice.exception.ErrorCode;
 import org.springframework.context.annotation.Lazy;
@@ -18,9 +20,14 @@ import org.springframework.context.annotation.Lazy;
 import com.eatcloud.orderservice.dto.CartItem;
 import com.eatcloud.orderservice.dto.request.CreateOrderRequest;
 import com.eatcloud.orderservice.dto.response.CreateOrderResponse;
+import com.eatcloud.orderservice.dto.response.MenuPriceResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -33,113 +40,86 @@ import java.util.stream.Collectors;
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private final OrderStatusCodeRepository orderStatusCodeRepository;
-    private final OrderTypeCodeRepository orderTypeCodeRepository;
+    private final OrderCodeRegistry orderCodeRegistry;
+    private final OrderNumberGenerator orderNumberGenerator;
     private final ExternalApiService externalApiService;
+    private final MenuCatalog menuCatalog;
     private final DistributedLockService distributedLockService;
-    private final OrderEventProducer orderEventProducer;
-    @Lazy
-    // private final SagaOrchestrator sagaOrchestrator;
+    private final SagaOrchestrator sagaOrchestrator;
+    private final OrderStatusTransitionService orderStatusTransitionService;
+    private final TransactionTemplate transactionTemplate;
 
+    @Lazy
     @Autowired
     private CartService cartService;
 
 
     /**
-     * 장바구니에서 주문 생성 - Saga 패턴 적용
-     * 분산 트랜잭션으로 처리하여 일관성 보장
-     */
-    // public CreateOrderResponse createOrderFromCart(UUID customerId, CreateOrderRequest request) {
-    //     // Saga 패턴을 통한 분산 트랜잭션 처리
-    //     return sagaOrchestrator.createOrderSaga(customerId, request);
-    // }
-
-    /**
-     * 레거시 메서드 - 단순 분산락만 사용하는 버전
-     * (하위 호환성을 위해 유지)
+     * 장바구니 주문 생성 - 단순 분산락 버전
+     *
+     * 1) 검증/가격 확정 : 트랜잭션 없음(NOT_SUPPORTED), 락 없음 (store-service 조회 등 원격 호출은 이 단계에서만)
+     * 2) 고객 락 + 짧은 쓰기 트랜잭션 : 장바구니가 1) 이후 그대로인지 L1 을 거치지 않고 확인하고 주문 + saga 시작(첫 단계 명령 outbox 기록) INSERT 수행
+     *    같은 트랜잭션에서 DB 장바구니도 바로 비운다 (버전이 붙은 tombstone) - 롤백되면 장바구니도 그대로 남는다
+     * 3) 커밋 후 (TransactionSynchronization.afterCommit) : Redis/L1 장바구니 비우기 - 락을 쥔 채로 실행된다
+     *
+     * 이후 단계(포인트, 결제)는 SagaOrchestrator 가 응답 이벤트로 진행하므로 요청은 첫 단계 직후 반환된다.
+     *
+     * 같은 장바구니로 들어온 중복 요청은 먼저 끝난 요청이 락을 놓기 전에 Redis 와 DB 장바구니를 모두 비우므로,
+     * 2) 의 재확인에서 캐시 미스로 DB 를 읽더라도 빈 장바구니를 보고 EMPTY_CART 로 끝난다.
+     * 커밋 후 Redis 정리가 실패해 Redis 에 장바구니가 남아 있어도, 재확인(reloadCart)이 Redis 의 마지막 변경 버전 이상인
+     * DB tombstone 을 보고 빈 장바구니로 판단하므로 같은 장바구니로 다시 주문되지 않는다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CreateOrderResponse createOrderFromCartSimple(UUID customerId, CreateOrderRequest request) {
         String lockKey = "order:create:" + customerId;
         
         try {
-            return distributedLockService.executeWithLock(
+            log.info("Starting order creation for customer: {}", customerId);
+
+            // 1) 장바구니 조회, 가격/판매 가능 여부 확인
+            List<CartItem> cartItems = cartService.getCart(customerId);
+            if (cartItems.isEmpty()) {
+                throw new OrderException(ErrorCode.EMPTY_CART);
+            }
+
+            List<OrderMenu> orderMenuList = toOrderMenuList(cartItems);
+            Order pendingOrder = preparePendingOrder(
+                customerId,
+                request.getStoreId(),
+                orderMenuList,
+                request.getUsePoints(),
+                request.getPointsToUse()
+            );
+
+            // 2) 락은 장바구니 재확인 + INSERT 동안만 (고객 단위 락이라 순서 보장이 필요 없어 기본 non-fair 전략)
+            Order order = distributedLockService.executeWithLock(
                 lockKey,
-                5,  // 5초 대기
-                10, // 10초 유지
+                3,  // 3초 대기
+                5,  // 5초 유지
                 TimeUnit.SECONDS,
                 () -> {
-                    log.info("Starting order creation for customer: {}", customerId);
-
-                    // 장바구니 조회
-                    List<CartItem> cartItems = cartService.getCart(customerId);
-                    if (cartItems.isEmpty()) {
+                    List<CartItem> currentItems = cartService.reloadCart(customerId);
+                    if (currentItems.isEmpty()) {
                         throw new OrderException(ErrorCode.EMPTY_CART);
                     }
-
-                    // 장바구니 아이템을 주문 메뉴로 변환
-                    List<OrderMenu> orderMenuList = cartItems.stream()
-                        .map(item -> OrderMenu.builder()
-                            .menuId(item.getMenuId())
-                            .menuName(item.getMenuName())
-                            .quantity(item.getQuantity())
-                            .price(item.getPrice())
-                            .build())
-                        .collect(Collectors.toList());
-
-                    // 주문 생성
-                    Order order = createPendingOrder(
-                        customerId,
-                        request.getStoreId(),
-                        orderMenuList,
-                        request.getOrderType(),
-                        request.getUsePoints(),
-                        request.getPointsToUse()
-                    );
-
-                    // 이벤트 발행 (주문 생성)
-                    try {
-                        com.eatcloud.orderservice.event.OrderCreatedEvent event =
-                            com.eatcloud.orderservice.event.OrderCreatedEvent.builder()
-                                .orderId(order.getOrderId())
-                                .customerId(order.getCustomerId())
-                                .storeId(order.getStoreId())
-                                .totalAmount(order.getTotalPrice())
-                                .finalAmount(order.getFinalPaymentAmount())
-                                .pointsToUse(order.getPointsToUse())
-                                .orderItems(orderMenuList.stream()
-                                    .map(m -> com.eatcloud.orderservice.event.OrderCreatedEvent.OrderItemEvent.builder()
-                                        .menuId(m.getMenuId())
-                                        .menuName(m.getMenuName())
-                                        .quantity(m.getQuantity())
-                                        .unitPrice(m.getPrice())
-                                        .build())
-                                    .collect(java.util.stream.Collectors.toList()))
-                                .build();
-                        orderEventProducer.publishOrderCreated(event);
-                    } catch (Exception publishEx) {
-                        log.error("주문 생성 이벤트 발행 실패: orderId={}", order.getOrderId(), publishEx);
+                    if (!currentItems.equals(cartItems)) {
+                        throw new OrderException(ErrorCode.CART_CHANGED);
                     }
+                    return insertPendingOrder(pendingOrder, request.getOrderType(), orderMenuList);
+                }
+            );
 
-                    // 장바구니 비우기
-                    try {
-                        cartService.clearCart(customerId);
-                        log.info("Cart cleared for customer: {}", customerId);
-                    } catch (Exception e) {
-                        log.error("Failed to clear cart for customer: {}, but order created successfully", customerId, e);
-                    }
+            log.info("Order created successfully: orderId={}, customerId={}", order.getOrderId(), customerId);
 
-                    log.info("Order created successfully: orderId={}, customerId={}", order.getOrderId(), customerId);
+            return CreateOrderResponse.builder()
+                .orderId(order.getOrderId())
+                .orderNumber(order.getOrderNumber())
+                .totalPrice(order.getTotalPrice())
+                .finalPaymentAmount(order.getFinalPaymentAmount())
+                .orderStatus(order.getOrderStatusCode().getCode())
+                .message("주문이 생성되었습니다.")
+                .build();
 
-                    return CreateOrderResponse.builder()
-                        .orderId(order.getOrderId())
-                        .orderNumber(order.getOrderNumber())
-                        .totalPrice(order.getTotalPrice())
-                        .finalPaymentAmount(order.getFinalPaymentAmount())
-                        .orderStatus(order.getOrderStatusCode().getCode())
-                        .message("주문이 생성되었습니다.")
-                        .build();
-                }
-            );
         } catch (Exception e) {
             log.error("Order creation failed for customer: {}", customerId, e);
             if (e instanceof OrderException) {
@@ -149,32 +129,130 @@ public class OrderService {
         }
     }
 
-    public Order createPendingOrder(UUID customerId, UUID storeId, List<OrderMenu> orderMenuList, String orderType,
-                                   Boolean usePoints, Integer pointsToUse) {
-        String orderNumber = generateOrderNumber();
+    /**
+     * 주문과 saga(첫 단계 명령 outbox 포함) INSERT + DB 장바구니 비우기만 하는 짧은 트랜잭션, Redis 장바구니 정리는 커밋 후 실행되도록 등록
+     */
+    private Order insertPendingOrder(Order pendingOrder, String orderType, List<OrderMenu> orderMenuList) {
+        return transactionTemplate.execute(status -> {
+            pendingOrder.setOrderStatusCode(orderCodeRegistry.status("PENDING"));
+            pendingOrder.setOrderTypeCode(orderCodeRegistry.type(orderType));
+            Order saved = orderRepository.save(pendingOrder);
+            sagaOrchestrator.start(toOrderCreatedEvent(saved, orderMenuList));
+            cartService.clearCartInDatabase(saved.getCustomerId());
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clearCartAfterOrder(saved.getCustomerId());
+                }
+            });
+            return saved;
+        });
+    }
+
+    private static com.eatcloud.orderservice.event.OrderCreatedEvent toOrderCreatedEvent(Order order,
+                                                                                  List<OrderMenu> orderMenuList) {
+        return com.eatcloud.orderservice.event.OrderCreatedEvent.builder()
+            .orderId(order.getOrderId())
+            .customerId(order.getCustomerId())
+            .storeId(order.getStoreId())
+            .totalAmount(order.getTotalPrice())
+            .finalAmount(order.getFinalPaymentAmount())
+            .pointsToUse(order.getPointsToUse())
+            .createdAt(order.getCreatedAt())
+            .orderItems(orderMenuList.stream()
+                .map(m -> com.eatcloud.orderservice.event.OrderCreatedEvent.OrderItemEvent.builder()
+                    .menuId(m.getMenuId())
+                    .menuName(m.getMenuName())
+                    .quantity(m.getQuantity())
+                    .unitPrice(m.getPrice())
+                    .build())
+                .collect(java.util.stream.Collectors.toList()))
+            .build();
+    }
+
+    private void clearCartAfterOrder(UUID customerId) {
+        try {
+            cartService.clearCart(customerId);
+            log.info("Cart cleared for customer: {}", customerId);
+        } catch (Exception e) {
+            log.error("Failed to clear cart for customer: {}, but order created successfully", customerId, e);
+        }
+    }
 
-        OrderStatusCode statusCode = orderStatusCodeRepository.findByCode("PENDING")
-                .orElseThrow(() -> new RuntimeException("주문 상태 코드를 찾을 수 없습니다: PENDING"));
+    private static List<OrderMenu> toOrderMenuList(List<CartItem> cartItems) {
+        return cartItems.stream()
+            .map(item -> OrderMenu.builder()
+                .menuId(item.getMenuId())
+                .menuName(item.getMenuName())
+                .quantity(item.getQuantity())
+                .price(item.getPrice())
+                .build())
+            .collect(Collectors.toList());
+    }
 
-        OrderTypeCode typeCode = orderTypeCodeRepository.findByCode(orderType)
-                .orElseThrow(() -> new RuntimeException("주문 타입 코드를 찾을 수 없습니다: " + orderType));
+    /**
+     * 장바구니 전체 메뉴의 현재 가격/판매 가능 여부를 반영
+     * 로컬 메뉴 카탈로그(MenuCatalog)로 먼저 확인하고, 카탈로그에 없는 메뉴만 store-service 에 한 번에 조회한다.
+     * store-service 를 사용할 수 없으면 장바구니 가격을 유지한다.
+     */
+    void applyCurrentMenuPrices(UUID storeId, List<OrderMenu> orderMenuList) {
+        Set<UUID> menuIds = orderMenuList.stream()
+                .map(OrderMenu::getMenuId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<UUID, MenuPriceResponse> menuPrices = new HashMap<>(menuCatalog.find(menuIds));
+        Set<UUID> unresolved = menuIds.stream()
+                .filter(menuId -> !menuPrices.containsKey(menuId))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (!unresolved.isEmpty()) {
+            log.debug("Menu catalog miss, querying store-service: count={}", unresolved.size());
+            menuPrices.putAll(externalApiService.getMenuPrices(unresolved));
+        }
 
         for (OrderMenu orderMenu : orderMenuList) {
-            try {
-                Integer menuPrice = externalApiService.getMenuPrice(orderMenu.getMenuId());
-                if (menuPrice != null && menuPrice > 0) {
-                    orderMenu.setPrice(menuPrice);
-                } else {
-                    log.warn("Menu price is null/invalid for menuId: {}, keep cart price: {}",
-                            orderMenu.getMenuId(), orderMenu.getPrice());
-                }
-            } catch (Exception e) {
-                // log.error("Failed to get menu price for menuId: {}", orderMenu.getMenuId(), e);
-                // throw new RuntimeException("메뉴 가격을 조회할 수 없습니다: " + orderMenu.getMenuId());
-                log.warn("Store-service unavailable. Fallback to cart price for menuId: {}. reason={}",
-                        orderMenu.getMenuId(), e.getMessage());
+            MenuPriceResponse menuPrice = menuPrices.get(orderMenu.getMenuId());
+
+            if (menuPrice == null) {
+                log.warn("Menu not found in store-service: menuId={}", orderMenu.getMenuId());
+                throw new OrderException(ErrorCode.MENU_NOT_FOUND);
+            }
+            if (Boolean.FALSE.equals(menuPrice.getAvailable())) {
+                log.warn("Menu not available: menuId={}", orderMenu.getMenuId());
+                throw new OrderException(ErrorCode.MENU_NOT_AVAILABLE);
+            }
+            if (storeId != null && menuPrice.getStoreId() != null && !storeId.equals(menuPrice.getStoreId())) {
+                throw new OrderException(ErrorCode.CART_STORE_MISMATCH);
+            }
+
+            if (menuPrice.getPrice() != null && menuPrice.getPrice().signum() > 0) {
+                orderMenu.setPrice(menuPrice.getPrice().intValue());
+            } else {
+                log.warn("Store-service price unavailable for menuId: {}, keep cart price: {}",
+                        orderMenu.getMenuId(), orderMenu.getPrice());
             }
         }
+    }
+
+    public Order createPendingOrder(UUID customerId, UUID storeId, List<OrderMenu> orderMenuList, String orderType,
+                                   Boolean usePoints, Integer pointsToUse) {
+        OrderStatusCode statusCode = orderCodeRegistry.status("PENDING");
+        OrderTypeCode typeCode = orderCodeRegistry.type(orderType);
+
+        Order order = preparePendingOrder(customerId, storeId, orderMenuList, usePoints, pointsToUse);
+        order.setOrderStatusCode(statusCode);
+        order.setOrderTypeCode(typeCode);
+
+        return orderRepository.save(order);
+    }
+
+    /**
+     * 가격 확정, 금액 계산, 주문번호 발급까지 (DB 접근 없음, 상태/타입 코드는 저장 시점에 설정)
+     */
+    Order preparePendingOrder(UUID customerId, UUID storeId, List<OrderMenu> orderMenuList,
+                              Boolean usePoints, Integer pointsToUse) {
+        applyCurrentMenuPrices(storeId, orderMenuList);
 
         Integer totalPrice = calculateTotalAmount(orderMenuList);
 
@@ -187,20 +265,16 @@ public class OrderService {
 
         Integer finalPaymentAmount = Math.max(totalPrice - pointsToUse, 0);
 
-        Order order = Order.builder()
-                .orderNumber(orderNumber)
+        return Order.builder()
+                .orderNumber(orderNumberGenerator.next())
                 .orderMenuList(orderMenuList)
                 .customerId(customerId)
                 .storeId(storeId)
-                .orderStatusCode(statusCode)
-                .orderTypeCode(typeCode)
                 .totalPrice(totalPrice)
                 .usePoints(usePoints)
                 .pointsToUse(pointsToUse)
                 .finalPaymentAmount(finalPaymentAmount)
                 .build();
-
-        return orderRepository.save(order);
     }
 
     @Transactional(readOnly = true)
@@ -214,61 +288,38 @@ public class OrderService {
     }
 
     public void completePayment(UUID orderId, UUID paymentId) {
-        Order order = orderRepository.findById(orderId)
+        if (orderStatusTransitionService.markPaid(orderId, paymentId).isPresent()) {
+            log.info("주문 결제 완료 처리: orderId={}, paymentId={}", orderId, paymentId);
+            return;
+        }
+
+        String currentStatus = orderStatusTransitionService.currentStatus(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
 
         // 이미 PAID 상태면 중복 처리 방지 (멱등성 보장)
-        if ("PAID".equals(order.getOrderStatusCode().getCode())) {
+        if ("PAID".equals(currentStatus)) {
             log.warn("주문이 이미 결제 완료 상태입니다: orderId={}, paymentId={}", orderId, paymentId);
             return;
         }
 
-        // PENDING 상태가 아니면 결제 완료 불가
-        if (!"PENDING".equals(order.getOrderStatusCode().getCode())) {
-            log.error("결제 완료할 수 없는 주문 상태: orderId={}, currentStatus={}",
-                     orderId, order.getOrderStatusCode().getCode());
-            throw new RuntimeException("결제 완료할 수 없는 주문 상태입니다: " + order.getOrderStatusCode().getCode());
-        }
-
-        OrderStatusCode paidStatus = orderStatusCodeRepository.findByCode("PAID")
-                .orElseThrow(() -> new RuntimeException("주문 상태 코드를 찾을 수 없습니다: PAID"));
-
-        order.setPaymentId(paymentId);
-        order.setOrderStatusCode(paidStatus);
-        orderRepository.save(order);
-
-        log.info("주문 결제 완료 처리: orderId={}, paymentId={}", orderId, paymentId);
+        log.error("결제 완료할 수 없는 주문 상태: orderId={}, currentStatus={}", orderId, currentStatus);
+        throw new RuntimeException("결제 완료할 수 없는 주문 상태입니다: " + currentStatus);
     }
 
     public void failPayment(UUID orderId, String failureReason) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
-
-        // PENDING 상태가 아니면 결제 실패 처리 불가
-        if (!"PENDING".equals(order.getOrderStatusCode().getCode())) {
-            log.warn("결제 실패 처리할 수 없는 주문 상태: orderId={}, currentStatus={}",
-                    orderId, order.getOrderStatusCode().getCode());
+        if (orderStatusTransitionService.transition(orderId, "PENDING", "PAYMENT_FAILED").isPresent()) {
+            log.info("주문 결제 실패 처리: orderId={}, reason={}", orderId, failureReason);
             return;
         }
 
-        OrderStatusCode failedStatus = orderStatusCodeRepository.findByCode("PAYMENT_FAILED")
-                .orElseThrow(() -> new RuntimeException("주문 상태 코드를 찾을 수 없습니다: PAYMENT_FAILED"));
-
-        order.setOrderStatusCode(failedStatus);
-        orderRepository.save(order);
-
-        log.info("주문 결제 실패 처리: orderId={}, reason={}", orderId, failureReason);
+        // PENDING 상태가 아니면 결제 실패 처리 불가
+        String currentStatus = orderStatusTransitionService.currentStatus(orderId)
+                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
+        log.warn("결제 실패 처리할 수 없는 주문 상태: orderId={}, currentStatus={}", orderId, currentStatus);
     }
 
     public void cancelOrder(UUID orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
-
-        OrderStatusCode canceledStatus = orderStatusCodeRepository.findByCode("CANCELED")
-                .orElseThrow(() -> new RuntimeException("주문 상태 코드를 찾을 수 없습니다: CANCELED"));
-        order.setOrderStatusCode(canceledStatus);
-
-        orderRepository.save(order);
+        orderStatusTransitionService.moveTo(orderId, "CANCELLED");
     }
 
     @Transactional(readOnly = true)
@@ -278,25 +329,11 @@ public class OrderService {
                 .sum();
     }
 
-    private String generateOrderNumber() {
-        String date = java.time.LocalDate.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String randomPart = UUID.randomUUID().toString().substring(0, 5).toUpperCase();
-        return "ORD-" + date + "-" + randomPart;
-    }
-
-    public List<Order> findOrdersByCustomer(UUID customerId) {
-        return orderRepository.findAllByCustomerId(customerId);
-    }
-
     public Order findOrderByCustomerAndOrderId(UUID customerId, UUID orderId) {
         		return orderRepository.findByOrderIdAndCustomerIdAndDeletedAtIsNull(orderId, customerId)
                 .orElseThrow(() -> new RuntimeException("해당 주문이 없습니다."));
     }
 
-    public List<Order> findOrdersByStore(UUID storeId) {
-        return orderRepository.findAllByStoreId(storeId);
-    }
-
     public Order findOrderByStoreAndOrderId(UUID storeId, UUID orderId) {
         return orderRepository.findByOrderIdAndStoreId(orderId, storeId)
                 .orElseThrow(() -> new RuntimeException("해당 매장에 주문이 없습니다."));
@@ -304,12 +341,10 @@ public class OrderService {
 
     @Transactional
     public void updateOrderStatus(UUID orderId, String statusCode) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다."));
-
-        OrderStatusCode statusCodeEntity = orderStatusCodeRepository.findById(statusCode)
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 상태 코드입니다."));
+        if (orderCodeRegistry.findStatus(statusCode).isEmpty()) {
+            throw new IllegalArgumentException("유효하지 않은 상태 코드입니다.");
+        }
 
-        order.setOrderStatusCode(statusCodeEntity);
+        orderStatusTransitionService.moveTo(orderId, statusCode);
     }
 }
@@ -0,0 +1,10 @@
+package com.eatcloud.orderservice.service;
+
+import java.util.UUID;
+
+/**
+ * 조건부 UPDATE 로 실제 반영된 상태 전이 한 건
+ */
+public record OrderStatusChange(UUID orderId, String orderNumber, UUID customerId, UUID storeId,
+                                String previousStatus, String orderStatus) {
+}
@@ -0,0 +1,131 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.exception.ErrorCode;
+import com.eatcloud.orderservice.exception.OrderException;
+import com.eatcloud.orderservice.repository.OrderStatusRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 주문 상태 전이
+ *
+ * 허용 전이는 TRANSITIONS 표로만 선언하고, 전이는 조건부 UPDATE 한 문장(compare-and-set)으로 수행한다.
+ * 조회 → 검사 → 저장 사이에 다른 전이가 끼어들 수 없고, 같은 주문에 동시에 전이를 시도하면 한 쪽만 반영된다.
+ * 반영된 전이마다 order.status.changed 를 outbox 에 기록하므로 호출자의 트랜잭션 안에서 실행된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class OrderStatusTransitionService {
+
+    static final int MAX_BULK_SIZE = 200;
+
+    // 현재 상태 → 이동 가능한 상태 (표에 없는 상태는 종료 상태)
+    private static final Map<String, Set<String>> TRANSITIONS = Map.of(
+        "PENDING", Set.of("PAID", "PAYMENT_FAILED", "CANCELLED"),
+        "PAID", Set.of("CONFIRMED", "PREPARING", "CANCELLED"),
+        "CONFIRMED", Set.of("PREPARING", "READY", "COMPLETED", "CANCELLED"),
+        "PREPARING", Set.of("READY", "CANCELLED"),
+        "READY", Set.of("COMPLETED")
+    );
+
+    private final OrderStatusRepository orderStatusRepository;
+    private final OrderCodeRegistry orderCodeRegistry;
+    private final OrderEventProducer orderEventProducer;
+    private final AuditorAware<String> auditorAware;
+
+    public static boolean isAllowed(String from, String to) {
+        return TRANSITIONS.getOrDefault(from, Set.of()).contains(to);
+    }
+
+    /**
+     * @return 현재 상태가 from 이 아니거나 주문이 없으면 empty
+     */
+    public Optional<OrderStatusChange> transition(UUID orderId, String from, String to) {
+        return compareAndSet(orderId, from, to, null);
+    }
+
+    /**
+     * PENDING → PAID 와 결제 ID 기록을 한 문장으로
+     */
+    public Optional<OrderStatusChange> markPaid(UUID orderId, UUID paymentId) {
+        return compareAndSet(orderId, "PENDING", "PAID", paymentId);
+    }
+
+    /**
+     * 결제 완료 배치 반영 - PENDING 인 주문만 PAID 로 바뀌고 나머지(이미 PAID 등)는 결과에서 빠진다
+     * @param paymentIds 주문 ID → 결제 ID
+     */
+    public List<OrderStatusChange> markPaidAll(Map<UUID, UUID> paymentIds) {
+        orderCodeRegistry.status("PAID");
+
+        List<OrderStatusChange> changed = orderStatusRepository.compareAndSetEach(paymentIds, "PENDING", "PAID", actor());
+        changed.forEach(orderEventProducer::publishOrderStatusChanged);
+        return changed;
+    }
+
+    /**
+     * 현재 상태에서 to 로 이동 (관리자 상태 변경, 취소 등 출발 상태를 호출자가 모르는 경우)
+     */
+    public OrderStatusChange moveTo(UUID orderId, String to) {
+        String current = currentStatus(orderId)
+            .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
+        // 조회 이후 다른 전이가 먼저 반영되었으면 0 row
+        return compareAndSet(orderId, current, to, null)
+            .orElseThrow(() -> new OrderException(ErrorCode.INVALID_STATUS_TRANSITION));
+    }
+
+    /**
+     * 매장 주문 일괄 전이 (관리자 일괄 수락 등) - 현재 상태가 from 인 주문만 반영되고 나머지는 건너뛴다
+     */
+    public List<OrderStatusChange> transitionAll(UUID storeId, Collection<UUID> orderIds, String from, String to) {
+        Set<UUID> distinct = new LinkedHashSet<>(orderIds);
+        if (distinct.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 주문은 최대 " + MAX_BULK_SIZE + "건입니다.");
+        }
+        requireAllowed(from, to);
+        orderCodeRegistry.status(to);
+
+        List<OrderStatusChange> changed = orderStatusRepository.compareAndSetAll(storeId, distinct, from, to, actor());
+        changed.forEach(orderEventProducer::publishOrderStatusChanged);
+        log.info("주문 상태 일괄 변경: storeId={}, {} -> {}, requested={}, changed={}",
+            storeId, from, to, distinct.size(), changed.size());
+        return changed;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> currentStatus(UUID orderId) {
+        return orderStatusRepository.findStatus(orderId);
+    }
+
+    private Optional<OrderStatusChange> compareAndSet(UUID orderId, String from, String to, UUID paymentId) {
+        requireAllowed(from, to);
+        orderCodeRegistry.status(to);
+
+        Optional<OrderStatusChange> changed = orderStatusRepository.compareAndSet(orderId, from, to, paymentId, actor());
+        changed.ifPresent(orderEventProducer::publishOrderStatusChanged);
+        return changed;
+    }
+
+    private static void requireAllowed(String from, String to) {
+        if (!isAllowed(from, to)) {
+            throw new OrderException(ErrorCode.INVALID_STATUS_TRANSITION);
+        }
+    }
+
+    private String actor() {
+        return auditorAware.getCurrentAuditor().orElse("system");
+    }
+}
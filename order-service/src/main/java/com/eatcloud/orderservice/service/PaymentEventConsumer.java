@@ -1,39 +1,126 @@
 package com.eatcloud.orderservice.service;
 
-import com.eatcloud.orderservice.entity.OrderStatus;
+import com.eatcloud.automessaging.retry.RetryTopicRouter;
 import com.eatcloud.orderservice.event.PaymentCreatedEvent;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * payment.created 배치 소비
+ *
+ * 결제 완료 이벤트는 배치 전체를 한 트랜잭션에서 PENDING → PAID 일괄 UPDATE 하고 saga 에 반영한다.
+ * 일괄 처리가 실패하거나 일괄 대상이 아닌 이벤트(결제 실패, 이미 PAID 등)는 레코드마다 별도 트랜잭션으로
+ * 처리하므로 한 레코드의 실패가 같은 배치의 다른 레코드를 되돌리지 않는다.
+ * 건별 처리에 실패한 레코드는 재시도 토픽으로 옮겨 원 파티션을 막지 않는다 (RetryTopicRouter).
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentEventConsumer {
-    
+
+    static final String TOPIC = "payment.created";
+    static final String GROUP_ID = "order-service";
+
     private final OrderService orderService;
-    
-    @KafkaListener(topics = "payment.created", groupId = "order-service")
-    @Transactional
-    public void handlePaymentCreated(PaymentCreatedEvent event) {
-        log.info("결제 생성 이벤트 수신: paymentId={}, orderId={}, status={}",
-                event.getPaymentId(), event.getOrderId(), event.getPaymentStatus());
+    private final SagaOrchestrator sagaOrchestrator;
+    private final OrderStatusTransitionService orderStatusTransitionService;
+    private final TransactionTemplate transactionTemplate;
+    private final RetryTopicRouter retryTopicRouter;
 
-        try {
-            if ("COMPLETED".equals(event.getPaymentStatus())) {
-                orderService.completePayment(event.getOrderId(), event.getPaymentId());
-                log.info("주문 결제 완료 처리: orderId={}, paymentId={}", event.getOrderId(), event.getPaymentId());
+    @PostConstruct
+    void registerRetryTopics() {
+        retryTopicRouter.register(TOPIC, GROUP_ID, PaymentCreatedEvent.class,
+                event -> transactionTemplate.executeWithoutResult(status -> apply(event)));
+    }
+
+    @KafkaListener(topics = TOPIC, groupId = GROUP_ID)
+    public void handlePaymentCreated(List<ConsumerRecord<String, PaymentCreatedEvent>> records) {
+        List<ConsumerRecord<String, PaymentCreatedEvent>> valid = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, PaymentCreatedEvent> record : records) {
+            if (record.value() == null) {
+                // 역직렬화 실패 - 재시도 없이 DLQ
+                retryTopicRouter.route(record, null);
             } else {
-                orderService.failPayment(event.getOrderId(), "결제 실패");
-                log.info("주문 결제 실패 처리: orderId={}, paymentStatus={}",
-                        event.getOrderId(), event.getPaymentStatus());
+                valid.add(record);
             }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> paid = completeAll(valid.stream().map(ConsumerRecord::value).toList());
+        valid.stream()
+                .filter(record -> !(isCompleted(record.value()) && paid.contains(record.value().getOrderId())))
+                .forEach(this::handleOne);
+
+        log.info("결제 생성 이벤트 배치 처리: size={}, bulkPaid={}", valid.size(), paid.size());
+    }
+
+    /**
+     * @return 일괄 UPDATE 로 결제 완료 처리된 주문 ID (실패 시 비어 있음 → 건별 처리)
+     */
+    private Set<UUID> completeAll(List<PaymentCreatedEvent> events) {
+        Map<UUID, UUID> paymentIds = new LinkedHashMap<>();
+        events.stream()
+                .filter(PaymentEventConsumer::isCompleted)
+                .forEach(event -> paymentIds.putIfAbsent(event.getOrderId(), event.getPaymentId()));
+        if (paymentIds.isEmpty()) {
+            return Set.of();
+        }
 
+        try {
+            Set<UUID> paid = transactionTemplate.execute(status -> {
+                Set<UUID> changed = orderStatusTransitionService.markPaidAll(paymentIds).stream()
+                        .map(OrderStatusChange::orderId)
+                        .collect(Collectors.toSet());
+                changed.forEach(orderId -> sagaOrchestrator.onPaymentResult(orderId, true, null));
+                return changed;
+            });
+            return paid == null ? Set.of() : paid;
         } catch (Exception e) {
-            log.error("결제 생성 이벤트 처리 실패: orderId={}", event.getOrderId(), e);
-            // 실제 운영에서는 Dead Letter Queue나 재시도 로직을 구현해야 합니다.
+            log.warn("결제 완료 일괄 처리 실패, 건별 처리로 전환: size={}, error={}", paymentIds.size(), e.getMessage());
+            return Set.of();
         }
     }
-} 
\ No newline at end of file
+
+    private void handleOne(ConsumerRecord<String, PaymentCreatedEvent> record) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(record.value()));
+        } catch (Exception e) {
+            log.error("결제 생성 이벤트 처리 실패, 재시도 토픽으로 이동: orderId={}", record.value().getOrderId(), e);
+            retryTopicRouter.route(record, e);
+        }
+    }
+
+    private void apply(PaymentCreatedEvent event) {
+        if (isCompleted(event)) {
+            orderService.completePayment(event.getOrderId(), event.getPaymentId());
+            sagaOrchestrator.onPaymentResult(event.getOrderId(), true, null);
+            log.info("주문 결제 완료 처리: orderId={}, paymentId={}", event.getOrderId(), event.getPaymentId());
+        } else {
+            // saga 가 있으면 보상 단계에서 주문 상태를 바꾸고 이전 단계(포인트 등)를 되돌린다
+            if (!sagaOrchestrator.onPaymentResult(event.getOrderId(), false, "결제 실패: " + event.getPaymentStatus())) {
+                orderService.failPayment(event.getOrderId(), "결제 실패");
+            }
+            log.info("주문 결제 실패 처리: orderId={}, paymentStatus={}",
+                    event.getOrderId(), event.getPaymentStatus());
+        }
+    }
+
+    private static boolean isCompleted(PaymentCreatedEvent event) {
+        return "COMPLETED".equals(event.getPaymentStatus());
+    }
+}
@@ -0,0 +1,16 @@
+package com.eatcloud.orderservice.service;
+
+import org.redisson.api.RLock;
+
+/**
+ * Redisson RLock 기반 Lease
+ */
+record RLockLease(RLock lock, long fencingToken) implements LockStrategy.Lease {
+
+    @Override
+    public void release() {
+        if (lock.isHeldByCurrentThread()) {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.eatcloud.orderservice.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Redis 상태 모니터 (서킷 브레이커)
+ * 백그라운드에서 주기적으로 PING 을 보내 상태를 갱신하고,
+ * 장바구니 요청 경로에서는 I/O 없이 상태만 조회한다.
+ *
+ * CLOSED    : 정상, 모든 요청 허용
+ * OPEN      : 장애, open-duration 동안 모든 요청 차단 (DB 폴백)
+ * HALF_OPEN : open-duration 경과 후 단 한 번의 시험 호출만 허용, 결과에 따라 CLOSED/OPEN 전환
+ *             (시험 권한을 받은 스레드의 결과만 반영 - 열리기 전에 시작된 호출의 늦은 성공/실패는 무시)
+ */
+@Component
+@Slf4j
+public class RedisHealthMonitor {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private static final String METRIC_PREFIX = "cart.redis.circuit";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicReference<Trial> trial = new AtomicReference<>();
+    private volatile long openedAt;
+
+    private final ScheduledExecutorService prober = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "redis-health-prober");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${cart.redis.circuit.failure-threshold:3}")
+    private int failureThreshold;
+
+    @Value("${cart.redis.circuit.open-duration-ms:5000}")
+    private long openDurationMs;
+
+    @Value("${cart.redis.circuit.probe-interval-ms:1000}")
+    private long probeIntervalMs;
+
+    private record Trial(Thread owner, long startedAt) {
+    }
+
+    public RedisHealthMonitor(RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder(METRIC_PREFIX + ".state", state, s -> s.get().ordinal())
+            .description("Redis circuit state (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".consecutive.failures", consecutiveFailures, AtomicInteger::get)
+            .register(meterRegistry);
+
+        prober.scheduleWithFixedDelay(this::probe, probeIntervalMs, probeIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("Redis health prober started: interval={}ms, failureThreshold={}, openDuration={}ms",
+            probeIntervalMs, failureThreshold, openDurationMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        prober.shutdownNow();
+    }
+
+    /**
+     * Redis 호출 허용 여부 (I/O 없음)
+     * HALF_OPEN 에서는 시험 호출 권한을 얻은 한 스레드만 true 를 받으며,
+     * 호출 측은 반드시 recordSuccess / recordFailure 로 결과를 알려야 한다.
+     */
+    public boolean isAvailable() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+
+        long now = System.currentTimeMillis();
+        if (current == State.OPEN) {
+            if (now - openedAt < openDurationMs) {
+                return false;
+            }
+            transition(State.OPEN, State.HALF_OPEN);
+        }
+
+        return tryAcquireTrial(now);
+    }
+
+    public void recordSuccess() {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+
+        if (state.get() != State.HALF_OPEN) {
+            return;
+        }
+        Trial current = heldTrial();
+        if (current != null && transition(State.HALF_OPEN, State.CLOSED)) {
+            trial.compareAndSet(current, null);
+        }
+    }
+
+    public void recordFailure(Throwable cause) {
+        long now = System.currentTimeMillis();
+        State current = state.get();
+
+        if (current == State.HALF_OPEN) {
+            Trial held = heldTrial();
+            if (held == null) {
+                return;
+            }
+            openedAt = now;
+            if (transition(State.HALF_OPEN, State.OPEN)) {
+                trial.compareAndSet(held, null);
+                log.warn("Redis trial call failed, circuit re-opened: {}", cause.getMessage());
+            }
+            return;
+        }
+
+        if (current == State.CLOSED && consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = now;
+            if (transition(State.CLOSED, State.OPEN)) {
+                log.warn("Redis circuit opened after {} consecutive failures: {}",
+                    consecutiveFailures.get(), cause.getMessage());
+            }
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    private boolean tryAcquireTrial(long now) {
+        Trial current = trial.get();
+
+        // 시험 호출이 결과를 보고하지 못한 채 끝난 경우를 대비해 일정 시간 후 권한 재발급
+        if (current != null && now - current.startedAt() < openDurationMs) {
+            return false;
+        }
+        return trial.compareAndSet(current, new Trial(Thread.currentThread(), now));
+    }
+
+    /**
+     * 현재 스레드가 쥔 시험 권한 (없으면 null)
+     */
+    private Trial heldTrial() {
+        Trial current = trial.get();
+        return current != null && current.owner() == Thread.currentThread() ? current : null;
+    }
+
+    private boolean transition(State from, State to) {
+        if (!state.compareAndSet(from, to)) {
+            return false;
+        }
+
+        meterRegistry.counter(METRIC_PREFIX + ".transitions", "from", from.name(), "to", to.name()).increment();
+        log.info("Redis circuit transition: {} -> {}", from, to);
+        return true;
+    }
+
+    private void probe() {
+        if (!isAvailable()) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute((RedisCallback<String>) RedisConnection::ping);
+            recordSuccess();
+        } catch (Exception e) {
+            log.debug("Redis health probe failed: {}", e.getMessage());
+            recordFailure(e);
+        }
+    }
+}
@@ -1,269 +1,418 @@
-// package com.eatcloud.orderservice.service;
-//
-// import com.eatcloud.orderservice.dto.CartItem;
-// import com.eatcloud.orderservice.dto.OrderMenu;
-// import com.eatcloud.orderservice.dto.request.CreateOrderRequest;
-// import com.eatcloud.orderservice.dto.response.CreateOrderResponse;
-// import com.eatcloud.orderservice.entity.Order;
-// import com.eatcloud.orderservice.exception.ErrorCode;
-// import com.eatcloud.orderservice.exception.OrderException;
-// import lombok.RequiredArgsConstructor;
-// import lombok.extern.slf4j.Slf4j;
-//
-// import org.springframework.context.annotation.Lazy;
-// import org.springframework.stereotype.Service;
-// import org.springframework.transaction.annotation.Transactional;
-//
-// import java.util.List;
-// import java.util.UUID;
-// import java.util.concurrent.TimeUnit;
-// import java.util.stream.Collectors;
-//
-// /**
-//  * Saga 패턴 오케스트레이터
-//  * 분산 트랜잭션을 관리하고 보상 로직을 처리
-//  */
-// @Service
-// @RequiredArgsConstructor
-// @Slf4j
-// public class SagaOrchestrator {
-//
-//     private final DistributedLockService lockService;
-//     @Lazy
-//     // private final OrderService orderService;
-//     private final CartService cartService;
-//     private final ExternalApiService externalApiService;
-//
-//     /**
-//      * 주문 생성 Saga - 분산 트랜잭션 처리
-//      * 1. 분산락 획득
-//      * 2. 재고 확인 및 예약
-//      * 3. 포인트 차감 (선택적)
-//      * 4. 주문 생성
-//      * 5. 결제 준비
-//      * 6. 장바구니 비우기
-//      */
-//     @Transactional
-//     public CreateOrderResponse createOrderSaga(UUID customerId, CreateOrderRequest request) {
-//         String sagaId = UUID.randomUUID().toString();
-//         SagaTransaction saga = new SagaTransaction(sagaId);
-//
-//         log.info("Starting order saga: sagaId={}, customerId={}, storeId={}",
-//                 sagaId, customerId, request.getStoreId());
-//
-//         try {
-//             // 분산락 키 설정 (고객, 매장, 장바구니에 대한 락)
-//             String[] lockKeys = {
-//                 "customer:" + customerId,
-//                 "store:" + request.getStoreId(),
-//                 "cart:" + customerId
-//             };
-//
-//             // 분산락을 사용한 트랜잭션 실행
-//             return lockService.executeWithMultiLock(
-//                 lockKeys,
-//                 10,  // 10초 대기
-//                 30,  // 30초 유지
-//                 TimeUnit.SECONDS,
-//                 () -> executeOrderCreation(customerId, request, saga)
-//             );
-//
-//         } catch (Exception e) {
-//             log.error("Order saga failed: sagaId={}, error={}", sagaId, e.getMessage(), e);
-//
-//             // Saga 보상 실행
-//             saga.compensate();
-//
-//             if (e instanceof OrderException) {
-//                 throw (OrderException) e;
-//             }
-//             throw new OrderException(ErrorCode.ORDER_PROCESSING,
-//                     "주문 처리 중 오류가 발생했습니다: " + e.getMessage());
-//         }
-//     }
-//
-//     /**
-//      * 실제 주문 생성 로직 실행
-//      */
-//     private CreateOrderResponse executeOrderCreation(UUID customerId, CreateOrderRequest request,
-//                                                      SagaTransaction saga) throws Exception {
-//         log.info("Executing order creation: customerId={}, storeId={}", customerId, request.getStoreId());
-//
-//         // Step 1: 장바구니 조회
-//         log.info("Step 1: Fetching cart items for customer: {}", customerId);
-//         List<CartItem> cartItems = cartService.getCart(customerId);
-//         if (cartItems.isEmpty()) {
-//             throw new OrderException(ErrorCode.EMPTY_CART, "장바구니가 비어있습니다.");
-//         }
-//
-//         // Step 2: 재고 확인 (store-service 호출)
-//         log.info("Step 2: Checking inventory availability");
-//         boolean inventoryAvailable = checkInventoryAvailability(request.getStoreId(), cartItems);
-//         if (!inventoryAvailable) {
-//             throw new OrderException(ErrorCode.INSUFFICIENT_INVENTORY, "재고가 부족합니다.");
-//         }
-//
-//         // Step 3: 장바구니 아이템을 주문 메뉴로 변환
-//         log.info("Step 3: Converting cart items to order menu");
-//         List<OrderMenu> orderMenuList = cartItems.stream()
-//             .map(item -> OrderMenu.builder()
-//                 .menuId(item.getMenuId())
-//                 .menuName(item.getMenuName())
-//                 .quantity(item.getQuantity())
-//                 .price(item.getPrice())
-//                 .build())
-//             .collect(Collectors.toList());
-//
-//         // Step 4: 메뉴 가격 검증 및 업데이트
-//         log.info("Step 4: Validating menu prices");
-//         validateAndUpdateMenuPrices(orderMenuList);
-//
-//         // Step 5: 포인트 차감 (사용하는 경우)
-//         String pointTransactionId = null;
-//         if (Boolean.TRUE.equals(request.getUsePoints()) && request.getPointsToUse() > 0) {
-//             log.info("Step 5: Deducting points: {} points", request.getPointsToUse());
-//             pointTransactionId = deductCustomerPoints(customerId, request.getPointsToUse());
-//
-//             // 포인트 복구를 위한 보상 추가
-//             final String txId = pointTransactionId;
-//             saga.addCompensation("Refund Points",
-//                 () -> refundCustomerPoints(customerId, txId, request.getPointsToUse()));
-//         }
-//
-//         // Step 6: 주문 생성
-//         log.info("Step 6: Creating pending order");
-//         Order order = orderService.createPendingOrder(
-//             customerId,
-//             request.getStoreId(),
-//             orderMenuList,
-//             request.getOrderType(),
-//             request.getUsePoints(),
-//             request.getPointsToUse()
-//         );
-//
-//         // 주문 취소를 위한 보상 추가
-//         saga.addCompensation("Cancel Order",
-//             () -> orderService.cancelOrder(order.getOrderId()));
-//
-//         // Step 7: 재고 예약
-//         log.info("Step 7: Reserving inventory for order: {}", order.getOrderNumber());
-//         String reservationId = reserveInventory(request.getStoreId(), orderMenuList);
-//
-//         // 재고 예약 취소를 위한 보상 추가
-//         saga.addCompensation("Release Inventory",
-//             () -> releaseInventory(request.getStoreId(), reservationId));
-//
-//         // Step 8: 장바구니 비우기
-//         log.info("Step 8: Clearing cart for customer: {}", customerId);
-//         try {
-//             cartService.clearCart(customerId);
-//         } catch (Exception e) {
-//             // 장바구니 삭제 실패는 critical하지 않음
-//             log.warn("Failed to clear cart for customer: {}, continuing...", customerId, e);
-//         }
-//
-//         // Saga 완료
-//         saga.complete();
-//
-//         log.info("Order created successfully: orderId={}, orderNumber={}",
-//                 order.getOrderId(), order.getOrderNumber());
-//
-//         // 응답 생성
-//         return CreateOrderResponse.builder()
-//             .orderId(order.getOrderId())
-//             .orderNumber(order.getOrderNumber())
-//             .totalPrice(order.getTotalPrice())
-//             .finalPaymentAmount(order.getFinalPaymentAmount())
-//             .orderStatus(order.getOrderStatusCode().getCode())
-//             .message("주문이 성공적으로 생성되었습니다. 결제를 진행해주세요.")
-//             .build();
-//     }
-//
-//     /**
-//      * 재고 가용성 확인
-//      */
-//     private boolean checkInventoryAvailability(UUID storeId, List<CartItem> items) {
-//         try {
-//             // TODO: store-service API 호출 구현
-//             // 현재는 항상 true 반환 (개발 중)
-//             return true;
-//         } catch (Exception e) {
-//             log.error("Failed to check inventory availability: {}", e.getMessage());
-//             return false;
-//         }
-//     }
-//
-//     /**
-//      * 메뉴 가격 검증 및 업데이트
-//      */
-//     private void validateAndUpdateMenuPrices(List<OrderMenu> orderMenuList) {
-//         for (OrderMenu menu : orderMenuList) {
-//             try {
-//                 Integer currentPrice = externalApiService.getMenuPrice(menu.getMenuId());
-//                 menu.setPrice(currentPrice);
-//             } catch (Exception e) {
-//                 log.error("Failed to get menu price for menuId: {}", menu.getMenuId(), e);
-//                 throw new OrderException(ErrorCode.MENU_NOT_FOUND,
-//                     "메뉴 가격을 조회할 수 없습니다: " + menu.getMenuId());
-//             }
-//         }
-//     }
-//
-//     /**
-//      * 고객 포인트 차감
-//      */
-//     private String deductCustomerPoints(UUID customerId, Integer points) {
-//         try {
-//             // TODO: customer-service API 호출 구현
-//             // 트랜잭션 ID 반환
-//             return UUID.randomUUID().toString();
-//         } catch (Exception e) {
-//             log.error("Failed to deduct customer points: {}", e.getMessage());
-//             throw new OrderException(ErrorCode.POINT_DEDUCTION_FAILED,
-//                 "포인트 차감에 실패했습니다.");
-//         }
-//     }
-//
-//     /**
-//      * 고객 포인트 환불 (보상)
-//      */
-//     private void refundCustomerPoints(UUID customerId, String transactionId, Integer points) {
-//         try {
-//             log.info("Refunding {} points to customer: {}, transactionId: {}",
-//                     points, customerId, transactionId);
-//             // TODO: customer-service API 호출 구현
-//         } catch (Exception e) {
-//             log.error("Failed to refund customer points: customerId={}, transactionId={}, points={}",
-//                      customerId, transactionId, points, e);
-//         }
-//     }
-//
-//     /**
-//      * 재고 예약
-//      */
-//     private String reserveInventory(UUID storeId, List<OrderMenu> items) {
-//         try {
-//             // TODO: store-service API 호출 구현
-//             // 예약 ID 반환
-//             return UUID.randomUUID().toString();
-//         } catch (Exception e) {
-//             log.error("Failed to reserve inventory: {}", e.getMessage());
-//             throw new OrderException(ErrorCode.INVENTORY_RESERVATION_FAILED,
-//                 "재고 예약에 실패했습니다.");
-//         }
-//     }
-//
-//     /**
-//      * 재고 예약 취소 (보상)
-//      */
-//     private void releaseInventory(UUID storeId, String reservationId) {
-//         try {
-//             log.info("Releasing inventory reservation: storeId={}, reservationId={}",
-//                     storeId, reservationId);
-//             // TODO: store-service API 호출 구현
-//         } catch (Exception e) {
-//             log.error("Failed to release inventory: storeId={}, reservationId={}",
-//                      storeId, reservationId, e);
-//         }
-//     }
-// }
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.entity.OrderSaga;
+import com.eatcloud.orderservice.entity.OrderSagaLog;
+import com.eatcloud.orderservice.entity.ParkedCompensation;
+import com.eatcloud.orderservice.entity.SagaStatus;
+import com.eatcloud.orderservice.event.OrderCreatedEvent;
+import com.eatcloud.orderservice.repository.OrderSagaLogRepository;
+import com.eatcloud.orderservice.repository.OrderSagaRepository;
+import com.eatcloud.orderservice.repository.ParkedCompensationRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 saga 오케스트레이터 (상태는 p_order_sagas, 이력은 p_order_saga_logs 에 저장)
+ *
+ * - start      : 주문 INSERT 트랜잭션 안에서 saga 를 만들고 첫 원격 단계의 명령까지 outbox 에 기록 → 요청 스레드는 바로 반환
+ * - onReply    : 응답 이벤트로 다음 단계 진행, 거절이면 완료된 단계를 역순으로 보상
+ * - 타임아웃    : deadline_at 이 지난 saga 를 주기적으로 찾아 (FOR UPDATE SKIP LOCKED) 실패로 처리
+ *                응답을 받지 못한 단계는 실제로 반영되었을 수 있으므로 그 단계부터 보상한다
+ * - 보상 실패   : 지수 백오프로 재시도, max-attempts 를 넘기면 parking 테이블에 기록하고 FAILED
+ *
+ * 상태 변경은 saga 행 락(PESSIMISTIC_WRITE) 아래에서 수행하므로 중복/늦은 응답은 IGNORED 로 기록만 한다.
+ */
+@Component
+@Slf4j
+public class SagaOrchestrator {
+
+    public static final String REPLY_TOPIC = "order.saga.reply";
+    private static final int MAX_DETAIL_LENGTH = 500;
+
+    private final OrderSagaRepository orderSagaRepository;
+    private final OrderSagaLogRepository orderSagaLogRepository;
+    private final ParkedCompensationRepository parkedCompensationRepository;
+    private final List<SagaStep> steps;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate compensationTransaction;
+    private final Counter completedSagas;
+    private final Counter compensatedSagas;
+    private final Counter timedOutSteps;
+    private final Counter parkedCompensations;
+
+    private ScheduledExecutorService scheduler;
+
+    @Value("${saga.timeout-scan.enabled:true}")
+    private boolean timeoutScanEnabled;
+
+    @Value("${saga.timeout-scan.interval-ms:1000}")
+    private long scanIntervalMs;
+
+    @Value("${saga.timeout-scan.batch-size:100}")
+    private int scanBatchSize;
+
+    @Value("${saga.compensation.max-attempts:5}")
+    private int maxCompensationAttempts;
+
+    @Value("${saga.compensation.backoff-initial-ms:1000}")
+    private long backoffInitialMs;
+
+    @Value("${saga.compensation.backoff-max-ms:60000}")
+    private long backoffMaxMs;
+
+    public SagaOrchestrator(OrderSagaRepository orderSagaRepository,
+                            OrderSagaLogRepository orderSagaLogRepository,
+                            ParkedCompensationRepository parkedCompensationRepository,
+                            OrderSagaDefinition orderSagaDefinition,
+                            ObjectMapper objectMapper,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry) {
+        this.orderSagaRepository = orderSagaRepository;
+        this.orderSagaLogRepository = orderSagaLogRepository;
+        this.parkedCompensationRepository = parkedCompensationRepository;
+        this.steps = orderSagaDefinition.steps();
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.compensationTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.compensationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.completedSagas = counter(meterRegistry, "completed");
+        this.compensatedSagas = counter(meterRegistry, "compensated");
+        this.timedOutSteps = counter(meterRegistry, "timed_out");
+        this.parkedCompensations = counter(meterRegistry, "parked");
+    }
+
+    @PostConstruct
+    public void startTimeoutScanner() {
+        if (!timeoutScanEnabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "saga-timeout-scanner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::scanQuietly, scanIntervalMs, scanIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopTimeoutScanner() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * saga 시작 - 주문을 저장하는 트랜잭션 안에서 호출 (롤백되면 saga 와 명령도 함께 사라진다)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public UUID start(OrderCreatedEvent order) {
+        LocalDateTime now = LocalDateTime.now();
+        OrderSaga saga = OrderSaga.builder()
+            .sagaId(UUID.randomUUID())
+            .orderId(order.getOrderId())
+            .status(SagaStatus.RUNNING)
+            .currentStep(-1)
+            .awaitingReply(false)
+            .payload(write(order))
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+
+        advance(saga, order);
+        orderSagaRepository.save(saga);
+        return saga.getSagaId();
+    }
+
+    /**
+     * 명령/보상 명령 응답 처리
+     * @param compensation 보상 명령에 대한 응답인지 (늦게 도착한 원 명령 응답을 보상 응답으로 오인하지 않도록)
+     */
+    @Transactional
+    public void onReply(UUID sagaId, String step, boolean compensation, boolean success, String reason) {
+        Optional<OrderSaga> found = orderSagaRepository.findForUpdate(sagaId);
+        if (found.isEmpty()) {
+            log.warn("Saga reply for unknown saga: sagaId={}, step={}", sagaId, step);
+            return;
+        }
+        handleReply(found.get(), step, compensation, success, reason);
+    }
+
+    /**
+     * 결제 결과(payment.created)를 주문 saga 의 PAYMENT 단계 응답으로 반영
+     * @return 해당 주문의 saga 가 있으면 true
+     */
+    @Transactional
+    public boolean onPaymentResult(UUID orderId, boolean success, String reason) {
+        Optional<OrderSaga> found = orderSagaRepository.findByOrderIdForUpdate(orderId);
+        found.ifPresent(saga -> handleReply(saga, OrderSagaDefinition.PAYMENT_STEP, false, success, reason));
+        return found.isPresent();
+    }
+
+    /**
+     * deadline 이 지난 saga 처리 (레플리카마다 실행해도 SKIP LOCKED 로 나뉜다)
+     * @return 처리한 saga 수
+     */
+    public int processExpired() {
+        Integer processed = transactionTemplate.execute(status -> {
+            List<OrderSaga> expired = orderSagaRepository.findExpiredForUpdate(scanBatchSize);
+            expired.forEach(this::handleExpired);
+            return expired.size();
+        });
+        return processed == null ? 0 : processed;
+    }
+
+    private void scanQuietly() {
+        try {
+            while (processExpired() >= scanBatchSize) {
+                // 밀린 saga 가 더 있으면 바로 다음 배치
+            }
+        } catch (Exception e) {
+            log.error("Saga timeout scan failed", e);
+        }
+    }
+
+    void handleReply(OrderSaga saga, String step, boolean compensation, boolean success, String reason) {
+        SagaStep current = currentStep(saga);
+        boolean expected = current != null && current.name().equals(step)
+            && Boolean.TRUE.equals(saga.getAwaitingReply())
+            && compensation == (saga.getStatus() == SagaStatus.COMPENSATING);
+        if (!expected) {
+            log(saga, step, "IGNORED", "status=" + saga.getStatus() + ", compensation=" + compensation
+                + ", success=" + success);
+            return;
+        }
+        OrderCreatedEvent order = read(saga);
+
+        if (saga.getStatus() == SagaStatus.RUNNING) {
+            if (success) {
+                log(saga, step, "SUCCEEDED", null);
+                advance(saga, order);
+            } else {
+                log(saga, step, "FAILED", reason);
+                // 거절된 단계는 반영되지 않았으므로 이전 단계부터 보상
+                beginCompensation(saga, order, step, reason, false);
+            }
+        } else if (saga.getStatus() == SagaStatus.COMPENSATING) {
+            if (success) {
+                log(saga, step, "COMPENSATED", null);
+                saga.setCurrentStep(saga.getCurrentStep() - 1);
+                saga.setAttempts(0);
+                compensate(saga, order);
+            } else {
+                compensationFailed(saga, current, reason);
+            }
+        }
+        touch(saga);
+    }
+
+    void handleExpired(OrderSaga saga) {
+        SagaStep current = currentStep(saga);
+        if (current == null) {
+            return;
+        }
+        OrderCreatedEvent order = read(saga);
+
+        if (saga.getStatus() == SagaStatus.RUNNING) {
+            timedOutSteps.increment();
+            log(saga, current.name(), "TIMEOUT", null);
+            // 응답이 유실되었을 뿐 반영되었을 수 있으므로 타임아웃된 단계도 보상
+            beginCompensation(saga, order, current.name(), "timeout", true);
+        } else if (Boolean.TRUE.equals(saga.getAwaitingReply())) {
+            compensationFailed(saga, current, "compensation timeout");
+        } else {
+            // 백오프 후 보상 재시도
+            compensate(saga, order);
+        }
+        touch(saga);
+    }
+
+    /**
+     * 다음 적용 단계 실행 - 로컬 단계는 이어서 진행하고, 원격 단계는 명령 기록 후 응답을 기다린다
+     */
+    private void advance(OrderSaga saga, OrderCreatedEvent order) {
+        for (int index = saga.getCurrentStep() + 1; index < steps.size(); index++) {
+            SagaStep step = steps.get(index);
+            if (!step.appliesTo(order)) {
+                continue;
+            }
+
+            saga.setCurrentStep(index);
+            step.execute(saga, order);
+            log(saga, step.name(), "EXECUTE", null);
+
+            if (step.timeout() != null) {
+                saga.setAwaitingReply(true);
+                saga.setDeadlineAt(LocalDateTime.now().plus(step.timeout()));
+                return;
+            }
+        }
+
+        saga.setStatus(SagaStatus.COMPLETED);
+        saga.setAwaitingReply(false);
+        saga.setDeadlineAt(null);
+        completedSagas.increment();
+        log.info("Saga completed: sagaId={}, orderId={}", saga.getSagaId(), saga.getOrderId());
+    }
+
+    private void beginCompensation(OrderSaga saga, OrderCreatedEvent order, String failedStep, String reason,
+                                   boolean includeCurrent) {
+        saga.setStatus(SagaStatus.COMPENSATING);
+        saga.setFailedStep(failedStep);
+        saga.setLastError(truncate(reason));
+        saga.setAttempts(0);
+        if (!includeCurrent) {
+            saga.setCurrentStep(saga.getCurrentStep() - 1);
+        }
+        log.info("Saga compensating: sagaId={}, orderId={}, failedStep={}, reason={}",
+            saga.getSagaId(), saga.getOrderId(), failedStep, reason);
+        compensate(saga, order);
+    }
+
+    /**
+     * current_step 부터 역순으로 보상 - 로컬 보상은 바로 실행, 원격 보상은 명령 기록 후 응답 대기
+     * 로컬 보상은 별도 트랜잭션(REQUIRES_NEW)에서 실행한다. 실패해도 saga 트랜잭션이 rollback-only 가 되지 않아
+     * 시도 횟수/parking 기록이 커밋된다 (로컬 보상은 saga 행을 건드리지 않으므로 saga 행 락과 엇갈리지 않는다).
+     */
+    private void compensate(OrderSaga saga, OrderCreatedEvent order) {
+        while (saga.getCurrentStep() >= 0) {
+            SagaStep step = steps.get(saga.getCurrentStep());
+            if (!step.hasCompensation() || !step.appliesTo(order)) {
+                saga.setCurrentStep(saga.getCurrentStep() - 1);
+                continue;
+            }
+
+            log(saga, step.name(), "COMPENSATE", "attempt=" + (saga.getAttempts() + 1));
+            if (step.compensationTimeout() != null) {
+                step.compensate(saga, order);
+                saga.setAwaitingReply(true);
+                saga.setDeadlineAt(LocalDateTime.now().plus(step.compensationTimeout()));
+                return;
+            }
+
+            try {
+                compensationTransaction.executeWithoutResult(status -> step.compensate(saga, order));
+            } catch (Exception e) {
+                compensationFailed(saga, step, e.getMessage());
+                return;
+            }
+            log(saga, step.name(), "COMPENSATED", null);
+            saga.setCurrentStep(saga.getCurrentStep() - 1);
+            saga.setAttempts(0);
+        }
+
+        saga.setStatus(SagaStatus.COMPENSATED);
+        saga.setAwaitingReply(false);
+        saga.setDeadlineAt(null);
+        compensatedSagas.increment();
+        log.info("Saga compensated: sagaId={}, orderId={}", saga.getSagaId(), saga.getOrderId());
+    }
+
+    /**
+     * 보상 실패 - 백오프 후 재시도, 한도를 넘기면 parking
+     */
+    private void compensationFailed(OrderSaga saga, SagaStep step, String reason) {
+        int attempts = saga.getAttempts() + 1;
+        saga.setAttempts(attempts);
+        saga.setAwaitingReply(false);
+        saga.setLastError(truncate(reason));
+        log(saga, step.name(), "COMPENSATION_FAILED", "attempt=" + attempts + ", " + reason);
+
+        if (attempts >= maxCompensationAttempts) {
+            parkedCompensationRepository.save(ParkedCompensation.builder()
+                .sagaId(saga.getSagaId())
+                .orderId(saga.getOrderId())
+                .step(step.name())
+                .attempts(attempts)
+                .lastError(truncate(reason))
+                .payload(saga.getPayload())
+                .createdAt(LocalDateTime.now())
+                .build());
+            saga.setStatus(SagaStatus.FAILED);
+            saga.setDeadlineAt(null);
+            parkedCompensations.increment();
+            log(saga, step.name(), "PARKED", null);
+            log.error("MANUAL_INTERVENTION_REQUIRED: saga compensation parked: sagaId={}, orderId={}, step={}, error={}",
+                saga.getSagaId(), saga.getOrderId(), step.name(), reason);
+            return;
+        }
+
+        saga.setDeadlineAt(LocalDateTime.now().plus(backoff(attempts)));
+    }
+
+    Duration backoff(int attempts) {
+        long delay = backoffInitialMs << Math.min(attempts - 1, 20);
+        return Duration.ofMillis(Math.min(delay, backoffMaxMs));
+    }
+
+    private SagaStep currentStep(OrderSaga saga) {
+        int index = saga.getCurrentStep();
+        if (index < 0 || index >= steps.size()
+            || (saga.getStatus() != SagaStatus.RUNNING && saga.getStatus() != SagaStatus.COMPENSATING)) {
+            return null;
+        }
+        return steps.get(index);
+    }
+
+    private void touch(OrderSaga saga) {
+        saga.setUpdatedAt(LocalDateTime.now());
+        orderSagaRepository.save(saga);
+    }
+
+    private void log(OrderSaga saga, String step, String action, String detail) {
+        orderSagaLogRepository.save(OrderSagaLog.builder()
+            .sagaId(saga.getSagaId())
+            .step(step)
+            .action(action)
+            .detail(truncate(detail))
+            .createdAt(LocalDateTime.now())
+            .build());
+    }
+
+    private OrderCreatedEvent read(OrderSaga saga) {
+        try {
+            return objectMapper.readValue(saga.getPayload(), OrderCreatedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupted saga payload: " + saga.getSagaId(), e);
+        }
+    }
+
+    private String write(OrderCreatedEvent order) {
+        try {
+            return objectMapper.writeValueAsString(order);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize saga payload: " + order.getOrderId(), e);
+        }
+    }
+
+    private static String truncate(String value) {
+        if (value == null || value.length() <= MAX_DETAIL_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_DETAIL_LENGTH);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("order.saga").tag("result", result).register(meterRegistry);
+    }
+}
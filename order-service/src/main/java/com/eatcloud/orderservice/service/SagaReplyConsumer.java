@@ -0,0 +1,30 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.config.KafkaConfig;
+import com.eatcloud.orderservice.event.SagaReplyEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * saga 명령 응답 수신 (order.saga.reply)
+ * 처리 중 예외는 다시 던져 컨테이너가 재전달하도록 한다 - 상태 반영은 saga 행 락 아래에서 멱등하게 수행된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SagaReplyConsumer {
+
+    private final SagaOrchestrator sagaOrchestrator;
+
+    @KafkaListener(topics = SagaOrchestrator.REPLY_TOPIC, groupId = KafkaConfig.SAGA_REPLY_GROUP,
+            containerFactory = "sagaReplyListenerContainerFactory")
+    public void handleReply(SagaReplyEvent reply) {
+        log.info("Saga 응답 수신: sagaId={}, step={}, compensation={}, success={}",
+                reply.getSagaId(), reply.getStep(), reply.isCompensation(), reply.isSuccess());
+
+        sagaOrchestrator.onReply(reply.getSagaId(), reply.getStep(), reply.isCompensation(), reply.isSuccess(),
+                reply.getReason());
+    }
+}
@@ -0,0 +1,43 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.entity.OrderSaga;
+import com.eatcloud.orderservice.event.OrderCreatedEvent;
+
+import java.time.Duration;
+
+/**
+ * 주문 saga 단계
+ *
+ * 원격 단계(timeout 이 있는 단계)는 execute 에서 명령을 outbox 에 기록만 하고, 결과는 응답 이벤트로 받는다.
+ * 로컬 단계는 execute/compensate 가 끝나면 완료로 본다.
+ * 명령과 보상은 재전송될 수 있으므로 받는 쪽에서 sagaId 기준으로 멱등하게 처리해야 한다.
+ */
+public interface SagaStep {
+
+    String name();
+
+    default boolean appliesTo(OrderCreatedEvent order) {
+        return true;
+    }
+
+    /**
+     * 응답 대기 시간, 로컬 단계면 null
+     */
+    Duration timeout();
+
+    void execute(OrderSaga saga, OrderCreatedEvent order);
+
+    default boolean hasCompensation() {
+        return false;
+    }
+
+    /**
+     * 보상 응답 대기 시간, 로컬 보상이면 null
+     */
+    default Duration compensationTimeout() {
+        return null;
+    }
+
+    default void compensate(OrderSaga saga, OrderCreatedEvent order) {
+    }
+}
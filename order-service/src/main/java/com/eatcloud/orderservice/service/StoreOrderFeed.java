@@ -0,0 +1,350 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.response.StoreOrderFeedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 매장 주문 피드 (SSE)
+ *
+ * 주문 delta 를 매장별 Redis Stream(order:feed:{storeId})에 XADD 하고 같은 스크립트에서 PUBLISH 한다.
+ * - 레플리카 간 전달: 모든 인스턴스가 order:feed:live 채널을 구독해 자기에게 붙은 매장 구독자에게만 보낸다.
+ * - 재연결: 스트림 ID 가 SSE 이벤트 ID 이므로 Last-Event-ID 이후 항목을 스트림에서 다시 보낸다.
+ *   커서가 보존 범위(stream-max-length)를 벗어났으면 reset 이벤트로 목록 재조회를 요청한다.
+ *
+ * 피드는 보조 채널이다. Redis 를 쓸 수 없으면 delta 를 버리고, 클라이언트는 재연결 시 reset 을 받는다.
+ */
+@Component
+@Slf4j
+public class StoreOrderFeed {
+
+    static final String STREAM_KEY_PREFIX = "order:feed:";
+    static final String CHANNEL = "order:feed:live";
+    static final String EVENT_NAME = "order";
+    static final String RESET_EVENT_NAME = "reset";
+
+    private static final Pattern STREAM_ID = Pattern.compile("\\d+-\\d+");
+
+    // KEYS: stream, channel / ARGV: maxLen, payload, storeId, ttlSeconds
+    // 메시지 형식: {storeId}|{streamId}|{payload}
+    private static final RedisScript<String> PUBLISH_SCRIPT = new DefaultRedisScript<>(
+        "local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', 'payload', ARGV[2])\n" +
+        "redis.call('EXPIRE', KEYS[1], ARGV[4])\n" +
+        "redis.call('PUBLISH', KEYS[2], ARGV[3] .. '|' .. id .. '|' .. ARGV[2])\n" +
+        "return id\n",
+        String.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedissonClient redissonClient;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final ObjectMapper objectMapper;
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Counter published;
+    private final Counter dropped;
+
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "order-feed-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private RTopic topic;
+    private int listenerId;
+
+    @Value("${order.feed.stream-max-length:1000}")
+    private long streamMaxLength;
+
+    @Value("${order.feed.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${order.feed.replay-limit:500}")
+    private int replayLimit;
+
+    @Value("${order.feed.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${order.feed.heartbeat-seconds:20}")
+    private long heartbeatSeconds;
+
+    public StoreOrderFeed(StringRedisTemplate stringRedisTemplate, RedissonClient redissonClient,
+                          RedisHealthMonitor redisHealthMonitor, ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redissonClient = redissonClient;
+        this.redisHealthMonitor = redisHealthMonitor;
+        this.objectMapper = objectMapper;
+        this.published = Counter.builder("order.feed.events").tag("result", "published").register(meterRegistry);
+        this.dropped = Counter.builder("order.feed.events").tag("result", "dropped").register(meterRegistry);
+        Gauge.builder("order.feed.subscribers", subscribers,
+                map -> map.values().stream().mapToInt(Set::size).sum())
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        topic = redissonClient.getTopic(CHANNEL, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> onMessage(message));
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        log.info("Store order feed started: channel={}, maxLength={}, heartbeat={}s",
+            CHANNEL, streamMaxLength, heartbeatSeconds);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+        if (topic != null) {
+            topic.removeListener(listenerId);
+        }
+        // 연결을 닫아 클라이언트가 다른 레플리카로 재연결(Last-Event-ID)하게 한다
+        subscribers.values().forEach(set -> set.forEach(Subscriber::close));
+        subscribers.clear();
+    }
+
+    /**
+     * delta 기록 + 전 레플리카 전달 (Kafka consumer 에서 호출)
+     */
+    public void publish(StoreOrderFeedEvent event) {
+        if (!redisHealthMonitor.isAvailable()) {
+            dropped.increment();
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(PUBLISH_SCRIPT,
+                List.of(streamKey(event.getStoreId()), CHANNEL),
+                String.valueOf(streamMaxLength),
+                objectMapper.writeValueAsString(event),
+                event.getStoreId().toString(),
+                String.valueOf(TimeUnit.HOURS.toSeconds(retentionHours)));
+            redisHealthMonitor.recordSuccess();
+            published.increment();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize feed event", e);
+        } catch (RuntimeException e) {
+            redisHealthMonitor.recordFailure(e);
+            dropped.increment();
+            log.warn("Failed to publish order feed event: storeId={}, orderId={}, error={}",
+                event.getStoreId(), event.getOrderId(), e.getMessage());
+        }
+    }
+
+    /**
+     * @param lastEventId 마지막으로 받은 이벤트 ID (SSE Last-Event-ID), 없으면 지금부터
+     */
+    public SseEmitter subscribe(UUID storeId, String lastEventId) {
+        if (lastEventId != null && !lastEventId.isBlank() && !STREAM_ID.matcher(lastEventId).matches()) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        String cursor = lastEventId == null || lastEventId.isBlank() ? null : lastEventId;
+
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(emitter, cursor);
+        emitter.onCompletion(() -> unregister(storeId, subscriber));
+        emitter.onTimeout(() -> unregister(storeId, subscriber));
+        emitter.onError(e -> unregister(storeId, subscriber));
+
+        // 먼저 등록해 재전송 중 도착한 delta 를 놓치지 않는다 (재전송이 끝날 때까지 구독자 안에 보관)
+        subscribers.computeIfAbsent(storeId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        try {
+            if (cursor != null) {
+                replay(storeId, subscriber, cursor);
+            }
+        } finally {
+            subscriber.finishReplay();
+        }
+        return emitter;
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(emitterTimeoutMs);
+    }
+
+    private void replay(UUID storeId, Subscriber subscriber, String cursor) {
+        if (!redisHealthMonitor.isAvailable()) {
+            subscriber.reset();
+            return;
+        }
+        List<MapRecord<String, Object, Object>> records;
+        try {
+            // 커서 자신부터 조회해 보존 범위 안에 있는지 확인
+            records = stringRedisTemplate.opsForStream().range(streamKey(storeId),
+                Range.closed(cursor, "+"), Limit.limit().count(replayLimit + 2));
+            redisHealthMonitor.recordSuccess();
+        } catch (RuntimeException e) {
+            redisHealthMonitor.recordFailure(e);
+            log.warn("Order feed replay failed: storeId={}, error={}", storeId, e.getMessage());
+            subscriber.reset();
+            return;
+        }
+        if (records == null || records.isEmpty()) {
+            // 스트림이 만료되었거나 커서 이후 변화 없음 (잘린 경우라면 더 새 항목이 남아 있다)
+            return;
+        }
+        if (!cursor.equals(records.get(0).getId().getValue()) || records.size() > replayLimit + 1) {
+            subscriber.reset();
+            return;
+        }
+        for (MapRecord<String, Object, Object> record : records.subList(1, records.size())) {
+            subscriber.replay(record.getId().getValue(), String.valueOf(record.getValue().get("payload")));
+        }
+    }
+
+    void onMessage(String message) {
+        int first = message.indexOf('|');
+        int second = message.indexOf('|', first + 1);
+        if (first < 0 || second < 0) {
+            return;
+        }
+        Set<Subscriber> targets = subscribers.get(UUID.fromString(message.substring(0, first)));
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        String id = message.substring(first + 1, second);
+        String payload = message.substring(second + 1);
+        for (Subscriber subscriber : targets) {
+            subscriber.deliver(id, payload);
+        }
+    }
+
+    private void sendHeartbeats() {
+        subscribers.values().forEach(set -> set.forEach(Subscriber::heartbeat));
+    }
+
+    private void unregister(UUID storeId, Subscriber subscriber) {
+        subscribers.computeIfPresent(storeId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static String streamKey(UUID storeId) {
+        return STREAM_KEY_PREFIX + storeId;
+    }
+
+    /**
+     * 스트림 ID 비교 ({ms}-{seq})
+     */
+    static int compareIds(String left, String right) {
+        int l = left.indexOf('-');
+        int r = right.indexOf('-');
+        int byTime = Long.compare(Long.parseLong(left.substring(0, l)), Long.parseLong(right.substring(0, r)));
+        return byTime != 0 ? byTime
+            : Long.compare(Long.parseLong(left.substring(l + 1)), Long.parseLong(right.substring(r + 1)));
+    }
+
+    /**
+     * SSE 연결 하나 - 재전송과 실시간 delta 가 섞여도 ID 순서대로 한 번씩만 보낸다.
+     */
+    static final class Subscriber {
+
+        private record Pending(String id, String payload) {
+        }
+
+        private final SseEmitter emitter;
+        private final List<Pending> pending = new ArrayList<>();
+        private String lastSentId;
+        private boolean replaying = true;
+        private boolean closed;
+
+        Subscriber(SseEmitter emitter, String lastSentId) {
+            this.emitter = emitter;
+            this.lastSentId = lastSentId;
+        }
+
+        synchronized void deliver(String id, String payload) {
+            if (replaying) {
+                pending.add(new Pending(id, payload));
+                return;
+            }
+            send(id, payload);
+        }
+
+        synchronized void replay(String id, String payload) {
+            send(id, payload);
+        }
+
+        synchronized void finishReplay() {
+            replaying = false;
+            pending.sort((a, b) -> compareIds(a.id(), b.id()));
+            for (Pending delta : pending) {
+                send(delta.id(), delta.payload());
+            }
+            pending.clear();
+        }
+
+        /**
+         * 놓친 delta 를 채워줄 수 없음 → 클라이언트가 목록을 다시 조회한 뒤 이어서 받는다
+         */
+        synchronized void reset() {
+            if (closed) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(RESET_EVENT_NAME).data("{}", MediaType.APPLICATION_JSON));
+                lastSentId = null;
+            } catch (IOException | IllegalStateException e) {
+                close();
+            }
+        }
+
+        synchronized void heartbeat() {
+            if (closed) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().comment("ping"));
+            } catch (IOException | IllegalStateException e) {
+                close();
+            }
+        }
+
+        synchronized void close() {
+            if (!closed) {
+                closed = true;
+                emitter.complete();
+            }
+        }
+
+        private void send(String id, String payload) {
+            if (closed || (lastSentId != null && compareIds(id, lastSentId) <= 0)) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().id(id).name(EVENT_NAME).data(payload, MediaType.APPLICATION_JSON));
+                lastSentId = id;
+            } catch (IOException | IllegalStateException e) {
+                close();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.response.StoreOrderFeedEvent;
+import com.eatcloud.orderservice.event.OrderCreatedEvent;
+import com.eatcloud.orderservice.event.OrderStatusChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 주문 이벤트 → 매장 주문 피드
+ * 별도 consumer group 으로 레플리카 중 한 곳에서만 소비하고, 레플리카 간 전달은 StoreOrderFeed(Redis pub/sub)가 맡는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StoreOrderFeedConsumer {
+
+    private final StoreOrderFeed storeOrderFeed;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = {OrderEventProducer.ORDER_CREATED_TOPIC, OrderEventProducer.ORDER_STATUS_CHANGED_TOPIC},
+        groupId = "order-feed", containerFactory = "orderFeedListenerContainerFactory")
+    public void handle(ConsumerRecord<String, String> record) {
+        StoreOrderFeedEvent event;
+        try {
+            event = OrderEventProducer.ORDER_CREATED_TOPIC.equals(record.topic())
+                ? fromCreated(objectMapper.readValue(record.value(), OrderCreatedEvent.class), record.timestamp())
+                : fromStatusChanged(objectMapper.readValue(record.value(), OrderStatusChangedEvent.class));
+        } catch (JsonProcessingException e) {
+            // 피드는 보조 채널이므로 읽을 수 없는 레코드는 건너뛴다
+            log.warn("Skipping unreadable order event for feed: topic={}, key={}", record.topic(), record.key());
+            return;
+        }
+        if (event.getStoreId() == null) {
+            return;
+        }
+        storeOrderFeed.publish(event);
+    }
+
+    private static StoreOrderFeedEvent fromCreated(OrderCreatedEvent created, long timestamp) {
+        return StoreOrderFeedEvent.builder()
+            .type(StoreOrderFeedEvent.ORDER_CREATED)
+            .orderId(created.getOrderId())
+            .storeId(created.getStoreId())
+            .orderStatus("PENDING")
+            .totalPrice(created.getTotalAmount())
+            .finalPaymentAmount(created.getFinalAmount())
+            .itemCount(created.getOrderItems() == null ? 0 : created.getOrderItems().size())
+            .occurredAt(created.getCreatedAt() != null ? created.getCreatedAt()
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault()))
+            .build();
+    }
+
+    private static StoreOrderFeedEvent fromStatusChanged(OrderStatusChangedEvent changed) {
+        return StoreOrderFeedEvent.builder()
+            .type(StoreOrderFeedEvent.STATUS_CHANGED)
+            .orderId(changed.getOrderId())
+            .orderNumber(changed.getOrderNumber())
+            .storeId(changed.getStoreId())
+            .orderStatus(changed.getOrderStatus())
+            .previousStatus(changed.getPreviousStatus())
+            .occurredAt(changed.getChangedAt())
+            .build();
+    }
+}
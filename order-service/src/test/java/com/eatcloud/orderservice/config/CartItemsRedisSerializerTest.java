@@ -0,0 +1,96 @@
+package com.eatcloud.orderservice.config;
+
+import com.eatcloud.orderservice.dto.CartItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CartItemsRedisSerializer 단위 테스트")
+class CartItemsRedisSerializerTest {
+
+    private List<CartItem> cartItems;
+
+    @BeforeEach
+    void setUp() {
+        UUID storeId = UUID.randomUUID();
+        cartItems = List.of(
+                CartItem.builder()
+                        .storeId(storeId)
+                        .menuId(UUID.randomUUID())
+                        .menuName("김치찌개")
+                        .quantity(2)
+                        .price(8000)
+                        .build(),
+                CartItem.builder()
+                        .storeId(storeId)
+                        .menuId(UUID.randomUUID())
+                        .menuName("공기밥")
+                        .quantity(1)
+                        .price(1000)
+                        .build());
+    }
+
+    @Test
+    @DisplayName("바이너리 형식 왕복 변환, JSON 보다 작다")
+    void binary_RoundTrip() {
+        // Given
+        CartItemsRedisSerializer binary = new CartItemsRedisSerializer(CartItemsRedisSerializer.Format.BINARY);
+
+        // When
+        byte[] bytes = binary.serialize(cartItems);
+
+        // Then
+        assertThat(binary.deserialize(bytes)).isEqualTo(cartItems);
+        assertThat(bytes.length).isLessThan(new GenericJackson2JsonRedisSerializer().serialize(cartItems).length / 2);
+    }
+
+    @Test
+    @DisplayName("바이너리 쓰기 설정에서도 기존 JSON 값을 읽는다")
+    void binary_ReadsLegacyJson() {
+        // Given
+        byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(cartItems);
+
+        // When
+        List<CartItem> result = new CartItemsRedisSerializer(CartItemsRedisSerializer.Format.BINARY).deserialize(legacy);
+
+        // Then
+        assertThat(result).isEqualTo(cartItems);
+    }
+
+    @Test
+    @DisplayName("타입 정보 없는 JSON 아이템도 변환")
+    void json_ReadsUntypedItems() {
+        // Given
+        CartItem item = cartItems.getFirst();
+        String json = "[\"java.util.ArrayList\",[{\"menuId\":\"" + item.getMenuId() + "\",\"menuName\":\"김치찌개\","
+                + "\"quantity\":2,\"price\":8000,\"storeId\":\"" + item.getStoreId() + "\"}]]";
+
+        // When
+        List<CartItem> result = new CartItemsRedisSerializer(CartItemsRedisSerializer.Format.JSON)
+                .deserialize(json.getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertThat(result).containsExactly(item);
+    }
+
+    @Test
+    @DisplayName("잘린 바이너리 값은 SerializationException")
+    void binary_Truncated_Throws() {
+        // Given
+        CartItemsRedisSerializer binary = new CartItemsRedisSerializer(CartItemsRedisSerializer.Format.BINARY);
+        byte[] bytes = binary.serialize(cartItems);
+
+        // When & Then
+        assertThatThrownBy(() -> binary.deserialize(Arrays.copyOf(bytes, bytes.length - 3)))
+                .isInstanceOf(SerializationException.class);
+    }
+}
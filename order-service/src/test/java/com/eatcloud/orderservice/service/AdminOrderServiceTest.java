@@ -1,10 +1,10 @@
 package com.eatcloud.orderservice.service;
 
+import com.eatcloud.orderservice.dto.response.AdminOrderBulkResponseDto;
 import com.eatcloud.orderservice.dto.response.AdminOrderResponseDto;
 import com.eatcloud.orderservice.entity.Order;
 import com.eatcloud.orderservice.entity.OrderStatusCode;
 import com.eatcloud.orderservice.repository.OrderRepository;
-import com.eatcloud.orderservice.repository.OrderStatusCodeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,7 +12,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,6 +27,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 @DisplayName("AdminOrderService 단위 테스트")
 class AdminOrderServiceTest {
 
@@ -28,7 +35,7 @@ class AdminOrderServiceTest {
     private OrderRepository orderRepository;
 
     @Mock
-    private OrderStatusCodeRepository orderStatusCodeRepository;
+    private OrderStatusTransitionService orderStatusTransitionService;
 
     @InjectMocks
     private AdminOrderService adminOrderService;
@@ -36,50 +43,45 @@ class AdminOrderServiceTest {
     private UUID orderId;
     private Order order;
     private OrderStatusCode paidStatus;
-    private OrderStatusCode confirmedStatus;
-    private OrderStatusCode completedStatus;
-    private OrderStatusCode pendingStatus;
+
+    // p_orders.order_status 대신 쓰는 상태 저장소 (조건부 UPDATE 를 흉내)
+    private final Map<UUID, String> statuses = new HashMap<>();
 
     @BeforeEach
     void setUp() {
         orderId = UUID.randomUUID();
 
-        // 상태 코드들 설정
         paidStatus = OrderStatusCode.builder()
                 .code("PAID")
                 .displayName("결제완료")
                 .build();
 
-        confirmedStatus = OrderStatusCode.builder()
-                .code("CONFIRMED")
-                .displayName("주문확인")
-                .build();
-
-        completedStatus = OrderStatusCode.builder()
-                .code("COMPLETED")
-                .displayName("완료")
-                .build();
-
-        pendingStatus = OrderStatusCode.builder()
-                .code("PENDING")
-                .displayName("대기중")
-                .build();
-
         // 주문 엔티티 설정
         order = Order.builder()
                 .orderId(orderId)
                 .orderNumber("ORD-20241215-ABCDE")
                 .orderStatusCode(paidStatus)
                 .build();
+
+        given(orderStatusTransitionService.transition(any(), anyString(), anyString())).willAnswer(invocation -> {
+            UUID id = invocation.getArgument(0);
+            String from = invocation.getArgument(1);
+            String to = invocation.getArgument(2);
+            if (!from.equals(statuses.get(id))) {
+                return Optional.empty();
+            }
+            statuses.put(id, to);
+            return Optional.of(new OrderStatusChange(id, "ORD-20241215-ABCDE", null, null, from, to));
+        });
+        given(orderStatusTransitionService.currentStatus(any()))
+                .willAnswer(invocation -> Optional.ofNullable(statuses.get(invocation.<UUID>getArgument(0))));
     }
 
     @Test
     @DisplayName("주문 수락 - 성공")
     void confirmOrder_Success() {
         // Given
-        given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
-        given(orderStatusCodeRepository.findByCode("CONFIRMED")).willReturn(Optional.of(confirmedStatus));
-        given(orderRepository.save(any(Order.class))).willReturn(order);
+        statuses.put(orderId, "PAID");
 
         // When
         AdminOrderResponseDto response = adminOrderService.confirmOrder(orderId);
@@ -91,77 +93,52 @@ class AdminOrderServiceTest {
         assertThat(response.getOrderStatus()).isEqualTo("CONFIRMED");
         assertThat(response.getMessage()).isEqualTo("주문이 수락되었습니다.");
 
-        verify(orderRepository).findById(orderId);
-        verify(orderStatusCodeRepository).findByCode("CONFIRMED");
-        verify(orderRepository).save(any(Order.class));
+        verify(orderStatusTransitionService).transition(orderId, "PAID", "CONFIRMED");
+        verify(orderStatusTransitionService, never()).currentStatus(any());
     }
 
     @Test
     @DisplayName("주문 수락 - 주문 없음 예외")
     void confirmOrder_OrderNotFound_ThrowsException() {
-        // Given
-        given(orderRepository.findById(orderId)).willReturn(Optional.empty());
-
         // When & Then
         assertThatThrownBy(() -> adminOrderService.confirmOrder(orderId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("주문을 찾을 수 없습니다: " + orderId);
-
-        verify(orderRepository).findById(orderId);
-        verify(orderRepository, never()).save(any(Order.class));
     }
 
     @Test
     @DisplayName("주문 수락 - 결제 미완료 상태 예외")
     void confirmOrder_NotPaidStatus_ThrowsException() {
         // Given
-        Order pendingOrder = Order.builder()
-                .orderId(orderId)
-                .orderNumber("ORD-20241215-ABCDE")
-                .orderStatusCode(pendingStatus)
-                .build();
-
-        given(orderRepository.findById(orderId)).willReturn(Optional.of(pendingOrder));
+        statuses.put(orderId, "PENDING");
 
         // When & Then
         assertThatThrownBy(() -> adminOrderService.confirmOrder(orderId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("결제 완료된 주문만 수락할 수 있습니다. 현재 상태: PENDING");
-
-        verify(orderRepository).findById(orderId);
-        verify(orderRepository, never()).save(any(Order.class));
+        assertThat(statuses).containsEntry(orderId, "PENDING");
     }
 
     @Test
     @DisplayName("주문 수락 - 상태 코드 없음 예외")
     void confirmOrder_StatusCodeNotFound_ThrowsException() {
         // Given
-        given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
-        given(orderStatusCodeRepository.findByCode("CONFIRMED")).willReturn(Optional.empty());
+        statuses.put(orderId, "PAID");
+        willThrow(new RuntimeException("주문 상태 코드를 찾을 수 없습니다: CONFIRMED"))
+                .given(orderStatusTransitionService).transition(orderId, "PAID", "CONFIRMED");
 
         // When & Then
         assertThatThrownBy(() -> adminOrderService.confirmOrder(orderId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("주문 상태 코드를 찾을 수 없습니다: CONFIRMED");
-
-        verify(orderRepository).findById(orderId);
-        verify(orderStatusCodeRepository).findByCode("CONFIRMED");
-        verify(orderRepository, never()).save(any(Order.class));
+        assertThat(statuses).containsEntry(orderId, "PAID");
     }
 
     @Test
     @DisplayName("주문 완료 - 성공")
     void completeOrder_Success() {
         // Given
-        Order confirmedOrder = Order.builder()
-                .orderId(orderId)
-                .orderNumber("ORD-20241215-ABCDE")
-                .orderStatusCode(confirmedStatus)
-                .build();
-
-        given(orderRepository.findById(orderId)).willReturn(Optional.of(confirmedOrder));
-        given(orderStatusCodeRepository.findByCode("COMPLETED")).willReturn(Optional.of(completedStatus));
-        given(orderRepository.save(any(Order.class))).willReturn(confirmedOrder);
+        statuses.put(orderId, "CONFIRMED");
 
         // When
         AdminOrderResponseDto response = adminOrderService.completeOrder(orderId);
@@ -173,24 +150,44 @@ class AdminOrderServiceTest {
         assertThat(response.getOrderStatus()).isEqualTo("COMPLETED");
         assertThat(response.getMessage()).isEqualTo("주문이 완료되었습니다.");
 
-        verify(orderRepository).findById(orderId);
-        verify(orderStatusCodeRepository).findByCode("COMPLETED");
-        verify(orderRepository).save(any(Order.class));
+        verify(orderStatusTransitionService).transition(orderId, "CONFIRMED", "COMPLETED");
     }
 
     @Test
     @DisplayName("주문 완료 - 수락되지 않은 주문 예외")
     void completeOrder_NotConfirmedStatus_ThrowsException() {
         // Given
-        given(orderRepository.findById(orderId)).willReturn(Optional.of(order)); // PAID 상태
+        statuses.put(orderId, "PAID");
 
         // When & Then
         assertThatThrownBy(() -> adminOrderService.completeOrder(orderId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("수락된 주문만 완료할 수 있습니다. 현재 상태: PAID");
+    }
 
-        verify(orderRepository).findById(orderId);
-        verify(orderRepository, never()).save(any(Order.class));
+    @Test
+    @DisplayName("주문 일괄 수락 - PAID 주문만 수락하고 나머지는 건너뛴다")
+    void confirmOrders_PartiallyApplied() {
+        // Given
+        UUID storeId = UUID.randomUUID();
+        UUID pendingOrderId = UUID.randomUUID();
+        given(orderStatusTransitionService.transitionAll(eq(storeId), anyCollection(), eq("PAID"), eq("CONFIRMED")))
+                .willAnswer(invocation -> {
+                    Collection<UUID> ids = invocation.getArgument(1);
+                    return ids.stream()
+                            .filter(id -> "PAID".equals(statuses.get(id)))
+                            .map(id -> new OrderStatusChange(id, null, null, storeId, "PAID", "CONFIRMED"))
+                            .toList();
+                });
+        statuses.put(orderId, "PAID");
+        statuses.put(pendingOrderId, "PENDING");
+
+        // When
+        AdminOrderBulkResponseDto response = adminOrderService.confirmOrders(storeId, List.of(orderId, pendingOrderId));
+
+        // Then
+        assertThat(response.getConfirmedOrderIds()).containsExactly(orderId);
+        assertThat(response.getSkippedOrderIds()).containsExactly(pendingOrderId);
     }
 
     @Test
@@ -230,61 +227,23 @@ class AdminOrderServiceTest {
     @DisplayName("주문 상태별 비즈니스 로직 테스트 - 전체 플로우")
     void orderStatusFlow_CompleteWorkflow() {
         // Given - PAID 상태의 주문
-        Order paidOrder = Order.builder()
-                .orderId(orderId)
-                .orderNumber("ORD-20241215-ABCDE")
-                .orderStatusCode(paidStatus)
-                .build();
+        statuses.put(orderId, "PAID");
 
-        // 1. 주문 수락 (PAID -> CONFIRMED)
-        given(orderRepository.findById(orderId)).willReturn(Optional.of(paidOrder));
-        given(orderStatusCodeRepository.findByCode("CONFIRMED")).willReturn(Optional.of(confirmedStatus));
-
-        Order confirmedOrder = Order.builder()
-                .orderId(orderId)
-                .orderNumber("ORD-20241215-ABCDE")
-                .orderStatusCode(confirmedStatus)
-                .build();
-        given(orderRepository.save(any(Order.class))).willReturn(confirmedOrder);
-
-        // When - 주문 수락
+        // When - 주문 수락 (PAID -> CONFIRMED), 주문 완료 (CONFIRMED -> COMPLETED)
         AdminOrderResponseDto confirmResponse = adminOrderService.confirmOrder(orderId);
-
-        // Then - 수락 성공 확인
-        assertThat(confirmResponse.getOrderStatus()).isEqualTo("CONFIRMED");
-
-        // Given - 이제 CONFIRMED 상태의 주문
-        given(orderRepository.findById(orderId)).willReturn(Optional.of(confirmedOrder));
-        given(orderStatusCodeRepository.findByCode("COMPLETED")).willReturn(Optional.of(completedStatus));
-
-        Order completedOrder = Order.builder()
-                .orderId(orderId)
-                .orderNumber("ORD-20241215-ABCDE")
-                .orderStatusCode(completedStatus)
-                .build();
-        given(orderRepository.save(any(Order.class))).willReturn(completedOrder);
-
-        // When - 주문 완료
         AdminOrderResponseDto completeResponse = adminOrderService.completeOrder(orderId);
 
-        // Then - 완료 성공 확인
+        // Then
+        assertThat(confirmResponse.getOrderStatus()).isEqualTo("CONFIRMED");
         assertThat(completeResponse.getOrderStatus()).isEqualTo("COMPLETED");
-
-        verify(orderRepository, times(2)).findById(orderId);
-        verify(orderRepository, times(2)).save(any(Order.class));
+        assertThat(statuses).containsEntry(orderId, "COMPLETED");
     }
 
     @Test
     @DisplayName("잘못된 상태 전환 시도 - 비즈니스 규칙 위반")
     void invalidStatusTransition_ThrowsException() {
         // Given - PENDING 상태에서 바로 COMPLETED로 전환 시도
-        Order pendingOrder = Order.builder()
-                .orderId(orderId)
-                .orderNumber("ORD-20241215-ABCDE")
-                .orderStatusCode(pendingStatus)
-                .build();
-
-        given(orderRepository.findById(orderId)).willReturn(Optional.of(pendingOrder));
+        statuses.put(orderId, "PENDING");
 
         // When & Then - PENDING -> COMPLETED는 불가능
         assertThatThrownBy(() -> adminOrderService.completeOrder(orderId))
@@ -293,28 +252,18 @@ class AdminOrderServiceTest {
     }
 
     @Test
-    @DisplayName("동시성 테스트 - 같은 주문에 대한 동시 상태 변경")
+    @DisplayName("동시성 테스트 - 같은 주문에 대한 중복 수락은 한 번만 반영")
     void concurrentStatusUpdate_ShouldHandleGracefully() {
         // Given
-        given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
-        given(orderStatusCodeRepository.findByCode("CONFIRMED")).willReturn(Optional.of(confirmedStatus));
-        given(orderRepository.save(any(Order.class))).willReturn(order);
+        statuses.put(orderId, "PAID");
 
         // When - 같은 주문에 대해 두 번 수락 시도
         AdminOrderResponseDto response1 = adminOrderService.confirmOrder(orderId);
 
-        // 이미 CONFIRMED 상태인 주문에 대해 다시 수락 시도
-        Order alreadyConfirmedOrder = Order.builder()
-                .orderId(orderId)
-                .orderNumber("ORD-20241215-ABCDE")
-                .orderStatusCode(confirmedStatus)
-                .build();
-
-        given(orderRepository.findById(orderId)).willReturn(Optional.of(alreadyConfirmedOrder));
-
-        // Then - 이미 수락된 주문이므로 예외 발생
+        // Then - 두 번째는 조건부 UPDATE 가 0 row → 이미 수락된 주문이므로 예외 발생
+        assertThat(response1.getOrderStatus()).isEqualTo("CONFIRMED");
         assertThatThrownBy(() -> adminOrderService.confirmOrder(orderId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("결제 완료된 주문만 수락할 수 있습니다. 현재 상태: CONFIRMED");
     }
-}
\ No newline at end of file
+}
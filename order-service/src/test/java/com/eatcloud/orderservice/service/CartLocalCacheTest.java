@@ -0,0 +1,145 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.CartItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CartLocalCache 단위 테스트")
+class CartLocalCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private RedisHealthMonitor redisHealthMonitor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CartLocalCache cartLocalCache;
+
+    private UUID customerId;
+    private List<CartItem> cartItems;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cartLocalCache = new CartLocalCache(stringRedisTemplate, listenerContainer, redisHealthMonitor, meterRegistry);
+        ReflectionTestUtils.setField(cartLocalCache, "enabled", true);
+        ReflectionTestUtils.setField(cartLocalCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(cartLocalCache, "ttlSeconds", 30L);
+        cartLocalCache.start();
+
+        lenient().when(redisHealthMonitor.getState()).thenReturn(RedisHealthMonitor.State.CLOSED);
+
+        customerId = UUID.randomUUID();
+        cartItems = List.of(CartItem.builder()
+                .storeId(UUID.randomUUID())
+                .menuId(UUID.randomUUID())
+                .menuName("김치찌개")
+                .quantity(2)
+                .price(8000)
+                .build());
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 L1 에서 반환하고 복사본을 돌려준다")
+    void get_SecondCall_HitsLocalCache() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Function<UUID, List<CartItem>> loader = id -> {
+            loads.incrementAndGet();
+            return cartItems;
+        };
+
+        // When
+        cartLocalCache.get(customerId, loader);
+        List<CartItem> cached = cartLocalCache.get(customerId, loader);
+        cached.getFirst().setQuantity(99);
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(cartLocalCache.get(customerId, loader).getFirst().getQuantity()).isEqualTo(2);
+        assertThat(meterRegistry.get("cart.cache.local.requests").tag("result", "hit").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("조회 중 더 큰 버전의 무효화가 도착하면 결과를 L1 에 적재하지 않는다")
+    void get_InvalidatedDuringLoad_DoesNotCache() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Function<UUID, List<CartItem>> racingLoader = id -> {
+            loads.incrementAndGet();
+            cartLocalCache.applyInvalidation(id, 1L);
+            return cartItems;
+        };
+
+        // When
+        cartLocalCache.get(customerId, racingLoader);
+        cartLocalCache.get(customerId, id -> {
+            loads.incrementAndGet();
+            return cartItems;
+        });
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("이미 본 버전 이하의 무효화 메시지는 무시")
+    void applyInvalidation_StaleVersion_Ignored() {
+        // Given
+        cartLocalCache.applyInvalidation(customerId, 5L);
+        cartLocalCache.get(customerId, id -> cartItems);
+
+        // When
+        cartLocalCache.applyInvalidation(customerId, 3L);
+
+        // Then
+        AtomicInteger loads = new AtomicInteger();
+        cartLocalCache.get(customerId, id -> {
+            loads.incrementAndGet();
+            return cartItems;
+        });
+        assertThat(loads).hasValue(0);
+        assertThat(meterRegistry.get("cart.cache.local.invalidations").tag("result", "ignored").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 서킷이 열리면 L1 을 비우고 우회")
+    void get_CircuitOpen_BypassesCache() {
+        // Given
+        cartLocalCache.get(customerId, id -> cartItems);
+        given(redisHealthMonitor.getState()).willReturn(RedisHealthMonitor.State.OPEN);
+
+        // When
+        AtomicInteger loads = new AtomicInteger();
+        cartLocalCache.get(customerId, id -> {
+            loads.incrementAndGet();
+            return cartItems;
+        });
+
+        // Then
+        assertThat(loads).hasValue(1);
+    }
+}
@@ -0,0 +1,128 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.CartItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CartRedisHashStore 단위 테스트")
+class CartRedisHashStoreTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private CartRedisHashStore cartRedisHashStore;
+
+    private UUID customerId;
+    private UUID storeId;
+    private UUID menuId;
+
+    @BeforeEach
+    void setUp() {
+        cartRedisHashStore = new CartRedisHashStore(stringRedisTemplate, new ObjectMapper());
+        customerId = UUID.randomUUID();
+        storeId = UUID.randomUUID();
+        menuId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Hash 필드를 CartItem 으로 변환")
+    void toCartItems_ParsesFields() {
+        // Given
+        Map<String, String> fields = new HashMap<>();
+        fields.put("_store", storeId.toString());
+        fields.put("q:" + menuId, "3");
+        fields.put("m:" + menuId, "{\"menuName\":\"김치찌개\",\"price\":8000}");
+
+        // When
+        List<CartItem> result = cartRedisHashStore.toCartItems(fields);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().getMenuId()).isEqualTo(menuId);
+        assertThat(result.getFirst().getMenuName()).isEqualTo("김치찌개");
+        assertThat(result.getFirst().getPrice()).isEqualTo(8000);
+        assertThat(result.getFirst().getQuantity()).isEqualTo(3);
+        assertThat(result.getFirst().getStoreId()).isEqualTo(storeId);
+    }
+
+    @Test
+    @DisplayName("매장 마커만 있는 Hash 는 빈 장바구니")
+    void toCartItems_StoreMarkerOnly_ReturnsEmpty() {
+        // When
+        List<CartItem> result = cartRedisHashStore.toCartItems(Map.of("_store", ""));
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("아이템 추가 - 스크립트 스냅샷 반환")
+    @SuppressWarnings("unchecked")
+    void addItem_ReturnsSnapshot() {
+        // Given
+        CartItem item = CartItem.builder()
+                .storeId(storeId)
+                .menuId(menuId)
+                .menuName("김치찌개")
+                .quantity(2)
+                .price(8000)
+                .build();
+
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of("OK", 1700000000000000L,
+                        "_store", storeId.toString(),
+                        "q:" + menuId, "2",
+                        "m:" + menuId, "{\"menuName\":\"김치찌개\",\"price\":8000}"));
+
+        // When
+        CartRedisHashStore.Result result = cartRedisHashStore.addItem(customerId, item, Duration.ofHours(1), false);
+
+        // Then
+        assertThat(result.status()).isEqualTo(CartRedisHashStore.Status.OK);
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.items().getFirst().getQuantity()).isEqualTo(2);
+        assertThat(result.version()).isEqualTo(1700000000000000L);
+    }
+
+    @Test
+    @DisplayName("아이템 추가 - 다른 매장 상품이면 STORE_MISMATCH")
+    @SuppressWarnings("unchecked")
+    void addItem_DifferentStore_ReturnsMismatch() {
+        // Given
+        CartItem item = CartItem.builder()
+                .storeId(storeId)
+                .menuId(menuId)
+                .menuName("김치찌개")
+                .quantity(1)
+                .price(8000)
+                .build();
+
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of("STORE_MISMATCH"));
+
+        // When
+        CartRedisHashStore.Result result = cartRedisHashStore.addItem(customerId, item, Duration.ofHours(1), true);
+
+        // Then
+        assertThat(result.status()).isEqualTo(CartRedisHashStore.Status.STORE_MISMATCH);
+        assertThat(result.items()).isEmpty();
+    }
+}
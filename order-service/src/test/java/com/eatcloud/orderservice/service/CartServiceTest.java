@@ -3,21 +3,29 @@ package com.eatcloud.orderservice.service;
 import com.eatcloud.orderservice.dto.CartItem;
 import com.eatcloud.orderservice.dto.request.AddCartItemRequest;
 import com.eatcloud.orderservice.dto.request.UpdateCartItemRequest;
+import com.eatcloud.orderservice.entity.Cart;
 import com.eatcloud.orderservice.exception.CartException;
 import com.eatcloud.orderservice.repository.CartRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -28,13 +36,25 @@ import static org.mockito.BDDMockito.*;
 class CartServiceTest {
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private RedisTemplate<String, List<CartItem>> cartRedisTemplate;
 
     @Mock
     private CartRepository cartRepository;
 
     @Mock
-    private ValueOperations<String, Object> valueOperations;
+    private ValueOperations<String, List<CartItem>> valueOperations;
+
+    @Mock
+    private RedisHealthMonitor redisHealthMonitor;
+
+    @Mock
+    private CartSyncQueue cartSyncQueue;
+
+    @Mock
+    private CartLocalCache cartLocalCache;
+
+    @Mock
+    private CartSyncWriter cartSyncWriter;
 
     @InjectMocks
     private CartService cartService;
@@ -53,7 +73,11 @@ class CartServiceTest {
         menuId = UUID.randomUUID();
 
         // Mock Redis Operations
-        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        lenient().when(cartRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        // L1 캐시는 통과시켜 Redis/DB 경로를 검증
+        lenient().when(cartLocalCache.get(any(), any())).thenAnswer(invocation ->
+                invocation.<Function<UUID, List<CartItem>>>getArgument(1).apply(invocation.getArgument(0)));
 
         // 장바구니 아이템 추가 요청
         addRequest = AddCartItemRequest.builder()
@@ -103,7 +127,7 @@ class CartServiceTest {
         );
 
         // Then
-        verify(redisTemplate).opsForValue();
+        verify(cartRedisTemplate).opsForValue();
     }
 
     @Test
@@ -118,7 +142,7 @@ class CartServiceTest {
         );
 
         // Then
-        verify(redisTemplate).opsForValue();
+        verify(cartRedisTemplate).opsForValue();
     }
 
     @Test
@@ -170,7 +194,7 @@ class CartServiceTest {
         );
 
         // Then
-        verify(redisTemplate).opsForValue();
+        verify(cartRedisTemplate).opsForValue();
     }
 
     @Test
@@ -202,7 +226,7 @@ class CartServiceTest {
         );
 
         // Then
-        verify(redisTemplate).opsForValue();
+        verify(cartRedisTemplate).opsForValue();
     }
 
     @Test
@@ -247,6 +271,42 @@ class CartServiceTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("주문 직전 재확인 - Redis 에 남은 장바구니보다 DB tombstone 버전이 같거나 크면 빈 장바구니")
+    @SuppressWarnings("unchecked")
+    void reloadCart_TombstoneNotOlderThanRedis_ReturnsEmpty() {
+        // Given - 주문 커밋 후 Redis 정리가 실패해 이전 장바구니가 남은 상황
+        given(valueOperations.get(anyString())).willReturn(cartItems);
+        given(cartRepository.findByCustomerId(customerId)).willReturn(Optional.of(
+                Cart.builder().customerId(customerId).cartItems(List.of()).syncVersion(1700000000000000L).build()));
+        given(cartRedisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class),
+                anyList())).willReturn(1700000000000000L);
+
+        // When
+        List<CartItem> result = cartService.reloadCart(customerId);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문 직전 재확인 - tombstone 이후 Redis 장바구니가 바뀌었으면 Redis 장바구니 사용")
+    @SuppressWarnings("unchecked")
+    void reloadCart_RedisNewerThanTombstone_ReturnsRedisCart() {
+        // Given
+        given(valueOperations.get(anyString())).willReturn(cartItems);
+        given(cartRepository.findByCustomerId(customerId)).willReturn(Optional.of(
+                Cart.builder().customerId(customerId).cartItems(List.of()).syncVersion(1700000000000000L).build()));
+        given(cartRedisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class),
+                anyList())).willReturn(1700000000000001L);
+
+        // When
+        List<CartItem> result = cartService.reloadCart(customerId);
+
+        // Then
+        assertThat(result).isEqualTo(cartItems);
+    }
+
     @Test
     @DisplayName("장바구니 전체 삭제 - 성공")
     void clearCart_Success() {
@@ -256,7 +316,7 @@ class CartServiceTest {
         );
 
         // Then
-        verify(cartRepository).deleteByCustomerId(customerId);
+        verify(cartSyncQueue).enqueue(eq(customerId), eq(List.of()), any());
     }
 
     @Test
@@ -284,7 +344,7 @@ class CartServiceTest {
         );
 
         // Then
-        verify(redisTemplate).opsForValue();
+        verify(cartRedisTemplate).opsForValue();
     }
 
     @Test
@@ -296,6 +356,42 @@ class CartServiceTest {
         );
 
         // Then
-        verify(cartRepository).deleteByCustomerId(customerId);
+        verify(cartSyncQueue).enqueue(eq(customerId), eq(List.of()), any());
+    }
+
+    @Test
+    @DisplayName("주문 트랜잭션용 DB 장바구니 비우기 - Redis 에서 발급한 버전으로 tombstone 기록")
+    @SuppressWarnings("unchecked")
+    void clearCartInDatabase_WritesVersionedTombstone() {
+        // Given
+        given(cartRedisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class),
+                anyList())).willReturn(1700000000000000L);
+        given(cartSyncWriter.writeAll(anyCollection())).willReturn(Set.of());
+
+        // When
+        cartService.clearCartInDatabase(customerId);
+
+        // Then
+        ArgumentCaptor<Collection<CartSnapshot>> snapshotCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(cartSyncWriter).writeAll(snapshotCaptor.capture());
+        assertThat(snapshotCaptor.getValue()).singleElement()
+                .satisfies(snapshot -> {
+                    assertThat(snapshot.customerId()).isEqualTo(customerId);
+                    assertThat(snapshot.isEmpty()).isTrue();
+                    assertThat(snapshot.version()).isEqualTo(1700000000000000L);
+                });
+        verifyNoInteractions(cartSyncQueue);
+    }
+
+    @Test
+    @DisplayName("주문 트랜잭션용 DB 장바구니 비우기 - DB 반영 실패 시 예외로 주문 트랜잭션 롤백")
+    void clearCartInDatabase_WriteFails_Throws() {
+        // Given
+        given(redisHealthMonitor.isAvailable()).willReturn(false);
+        given(cartSyncWriter.writeAll(anyCollection())).willReturn(Set.of(customerId));
+
+        // When & Then
+        assertThatThrownBy(() -> cartService.clearCartInDatabase(customerId))
+                .isInstanceOf(IllegalStateException.class);
     }
 }
@@ -0,0 +1,119 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.CartItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CartSyncQueue 단위 테스트")
+class CartSyncQueueTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisHealthMonitor redisHealthMonitor;
+
+    @Mock
+    private CartSyncWriter cartSyncWriter;
+
+    private CartSyncQueue cartSyncQueue;
+
+    private UUID customerId;
+    private List<CartItem> cartItems;
+
+    @BeforeEach
+    void setUp() {
+        cartSyncQueue = new CartSyncQueue(stringRedisTemplate, redisHealthMonitor, cartSyncWriter, new ObjectMapper());
+        customerId = UUID.randomUUID();
+        cartItems = List.of(CartItem.builder()
+                .storeId(UUID.randomUUID())
+                .menuId(UUID.randomUUID())
+                .menuName("김치찌개")
+                .quantity(1)
+                .price(8000)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Redis 서킷이 열려 있으면 로컬 버퍼에 적재 후 DB 에 직접 반영")
+    void enqueue_RedisUnavailable_BuffersLocally() {
+        // Given
+        given(redisHealthMonitor.isAvailable()).willReturn(false);
+
+        // When
+        cartSyncQueue.enqueue(customerId, List.of(), null);
+        cartSyncQueue.enqueue(customerId, cartItems, null);
+
+        // Then
+        assertThat(cartSyncQueue.getStatus().get("pendingChangesCount")).isEqualTo(1);
+
+        cartSyncQueue.flush();
+
+        ArgumentCaptor<Collection<CartSnapshot>> snapshotCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(cartSyncWriter).writeAll(snapshotCaptor.capture());
+        assertThat(snapshotCaptor.getValue()).singleElement()
+                .satisfies(snapshot -> {
+                    assertThat(snapshot.customerId()).isEqualTo(customerId);
+                    assertThat(snapshot.cartItems()).hasSize(1);
+                });
+        assertThat(cartSyncQueue.getStatus().get("pendingChangesCount")).isEqualTo(0);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패한 고객은 로컬 버퍼에 다시 보관")
+    void flush_WriteFails_RebuffersSnapshot() {
+        // Given
+        given(redisHealthMonitor.isAvailable()).willReturn(false);
+        given(cartSyncWriter.writeAll(anyCollection())).willReturn(Set.of(customerId));
+        cartSyncQueue.enqueue(customerId, cartItems, null);
+
+        // When
+        cartSyncQueue.flush();
+
+        // Then
+        Map<String, Object> status = cartSyncQueue.getStatus();
+        assertThat(status.get("pendingChangesCount")).isEqualTo(1);
+        assertThat((List<?>) status.get("pendingCustomerIds")).containsExactly(customerId);
+    }
+
+    @Test
+    @DisplayName("큐 적재 순서와 무관하게 변경 시 발급된 버전이 높은 스냅샷이 남음")
+    @SuppressWarnings("unchecked")
+    void enqueue_OutOfOrder_KeepsHigherVersion() {
+        // Given
+        given(redisHealthMonitor.isAvailable()).willReturn(false);
+
+        // When - 나중에 Redis 에 쓰인 변경(버전 200)이 먼저 큐에 들어온 경우
+        cartSyncQueue.enqueue(customerId, cartItems, 200L);
+        cartSyncQueue.enqueue(customerId, List.of(), 100L);
+        cartSyncQueue.flush();
+
+        // Then
+        ArgumentCaptor<Collection<CartSnapshot>> snapshotCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(cartSyncWriter).writeAll(snapshotCaptor.capture());
+        assertThat(snapshotCaptor.getValue()).singleElement()
+                .satisfies(snapshot -> {
+                    assertThat(snapshot.version()).isEqualTo(200L);
+                    assertThat(snapshot.cartItems()).hasSize(1);
+                });
+    }
+}
@@ -0,0 +1,113 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.CartItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CartSyncWriter 단위 테스트")
+class CartSyncWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CartSyncWriter cartSyncWriter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cartSyncWriter = new CartSyncWriter(jdbcTemplate, new ObjectMapper(), meterRegistry);
+        ReflectionTestUtils.setField(cartSyncWriter, "chunkSize", 2);
+    }
+
+    @Test
+    @DisplayName("청크 크기 단위로 multi-row UPSERT, 비운 장바구니는 별도 tombstone UPSERT")
+    void writeAll_SplitsIntoChunks() {
+        // Given
+        List<CartSnapshot> snapshots = List.of(snapshot(1), snapshot(1), snapshot(1), snapshot(0));
+        given(jdbcTemplate.update(contains("deleted_at = NULL"), any(PreparedStatementSetter.class)))
+                .willReturn(2, 1);
+        given(jdbcTemplate.update(contains("deleted_at = now()"), any(PreparedStatementSetter.class)))
+                .willReturn(1);
+
+        // When
+        Set<UUID> failed = cartSyncWriter.writeAll(snapshots);
+
+        // Then
+        assertThat(failed).isEmpty();
+        verify(jdbcTemplate, times(2)).update(contains("deleted_at = NULL"), any(PreparedStatementSetter.class));
+        verify(jdbcTemplate).update(contains("deleted_at = now()"), any(PreparedStatementSetter.class));
+        assertThat(meterRegistry.get("cart.sync.flush.rows").tag("result", "upserted").summary().totalAmount())
+                .isEqualTo(3.0);
+        assertThat(meterRegistry.get("cart.sync.flush.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("청크 실패 시 행 단위로 재시도하여 실패한 고객만 반환")
+    void writeAll_ChunkFails_FallsBackRowByRow() {
+        // Given
+        CartSnapshot ok = snapshot(1);
+        CartSnapshot broken = snapshot(1);
+        given(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .willThrow(new DataIntegrityViolationException("chunk"))
+                .willReturn(1)
+                .willThrow(new DataIntegrityViolationException("row"));
+
+        // When
+        Set<UUID> failed = cartSyncWriter.writeAll(List.of(ok, broken));
+
+        // Then
+        assertThat(failed).containsExactly(broken.customerId());
+        verify(jdbcTemplate, times(3)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("비운 장바구니는 DB 에 행이 없어도 버전이 있는 tombstone 을 INSERT")
+    void writeAll_Emptied_InsertsTombstoneWhenRowMissing() {
+        // Given
+        given(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).willReturn(1);
+
+        // When
+        Set<UUID> failed = cartSyncWriter.writeAll(List.of(snapshot(0)));
+
+        // Then
+        assertThat(failed).isEmpty();
+        verify(jdbcTemplate).update(argThat((String sql) -> sql.startsWith("INSERT INTO p_cart")
+                        && sql.contains("ON CONFLICT (customer_id) DO UPDATE")
+                        && sql.contains("deleted_at = now()")
+                        && sql.contains("p_cart.sync_version < EXCLUDED.sync_version")),
+                any(PreparedStatementSetter.class));
+        assertThat(meterRegistry.get("cart.sync.flush.rows").tag("result", "emptied").summary().totalAmount())
+                .isEqualTo(1.0);
+    }
+
+    private CartSnapshot snapshot(int itemCount) {
+        List<CartItem> items = itemCount == 0 ? List.of() : List.of(CartItem.builder()
+                .storeId(UUID.randomUUID())
+                .menuId(UUID.randomUUID())
+                .menuName("김치찌개")
+                .quantity(itemCount)
+                .price(8000)
+                .build());
+        return new CartSnapshot(UUID.randomUUID(), items, System.currentTimeMillis() * 1000);
+    }
+}
@@ -0,0 +1,152 @@
+package com.eatcloud.orderservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DistributedLockService 단위 테스트")
+class DistributedLockServiceTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private LockStrategy nonFairStrategy;
+
+    @Mock
+    private LockStrategy fencedStrategy;
+
+    @Mock
+    private LockStrategy.Lease lease;
+
+    @Mock
+    private RLock rLock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DistributedLockService distributedLockService;
+
+    @BeforeEach
+    void setUp() {
+        given(nonFairStrategy.type()).willReturn(LockStrategy.Type.NON_FAIR);
+        given(fencedStrategy.type()).willReturn(LockStrategy.Type.FENCED);
+        meterRegistry = new SimpleMeterRegistry();
+        distributedLockService = new DistributedLockService(redissonClient,
+                List.of(nonFairStrategy, fencedStrategy), meterRegistry);
+        ReflectionTestUtils.setField(distributedLockService, "defaultStrategy", "non-fair");
+        ReflectionTestUtils.setField(distributedLockService, "localStripes", 64);
+        distributedLockService.init();
+    }
+
+    @Test
+    @DisplayName("같은 키의 인스턴스 내 경합은 로컬 스트라이프에서 줄을 서 Redis 에는 한 번에 하나만 도달")
+    void executeWithLock_SameKey_CoalescedLocally() throws Exception {
+        // Given
+        AtomicInteger inRedis = new AtomicInteger();
+        AtomicInteger maxInRedis = new AtomicInteger();
+        given(nonFairStrategy.tryAcquire(eq("lock:order:create:c1"), anyLong(), anyLong())).willAnswer(invocation -> {
+            maxInRedis.accumulateAndGet(inRedis.incrementAndGet(), Math::max);
+            return lease;
+        });
+        willAnswer(invocation -> inRedis.decrementAndGet()).given(lease).release();
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return distributedLockService.executeWithLock("order:create:c1", 5, 10, TimeUnit.SECONDS, () -> {
+                    Thread.sleep(5);
+                    return "ok";
+                });
+            }));
+        }
+
+        // When
+        start.countDown();
+        for (Future<String> future : futures) {
+            assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo("ok");
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(maxInRedis).hasValue(1);
+        assertThat(meterRegistry.get("distributed.lock.acquire")
+                .tag("prefix", "order:create").tag("strategy", "non_fair").tag("result", "acquired")
+                .timer().count()).isEqualTo(threads);
+    }
+
+    @Test
+    @DisplayName("Redis 락 획득 시간 초과 시 예외와 timeout 지표, 로컬 락은 해제")
+    void executeWithLock_RemoteTimeout_Throws() throws Exception {
+        // Given
+        given(nonFairStrategy.tryAcquire(anyString(), anyLong(), anyLong())).willReturn(null);
+
+        // When & Then
+        assertThatThrownBy(() -> distributedLockService.executeWithLock("order:create:c1", 1, 10, TimeUnit.SECONDS,
+                () -> "never"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Failed to acquire lock for key: order:create:c1");
+        assertThat(meterRegistry.get("distributed.lock.timeouts").tag("tier", "remote").counter().count())
+                .isEqualTo(1.0);
+
+        given(nonFairStrategy.tryAcquire(anyString(), anyLong(), anyLong())).willReturn(lease);
+        assertThat(distributedLockService.executeWithLock("order:create:c1", 1, 10, TimeUnit.SECONDS, () -> "ok"))
+                .isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("fenced 전략은 fencing token 을 작업에 전달")
+    void executeWithFencedLock_PassesToken() throws Exception {
+        // Given
+        given(lease.fencingToken()).willReturn(42L);
+        given(fencedStrategy.tryAcquire(eq("lock:payment:apply:p1"), anyLong(), anyLong())).willReturn(lease);
+
+        // When
+        long token = distributedLockService.executeWithFencedLock("payment:apply:p1", 1, 10, TimeUnit.SECONDS,
+                fencingToken -> fencingToken);
+
+        // Then
+        assertThat(token).isEqualTo(42L);
+        verify(lease).release();
+    }
+
+    @Test
+    @DisplayName("비차단 획득/해제/상태 조회도 기본 전략과 같은 종류의 락을 쓴다")
+    void tryLock_UsesDefaultStrategyLock() throws Exception {
+        // Given
+        given(nonFairStrategy.lock("lock:order:create:c1")).willReturn(rLock);
+        given(rLock.tryLock(0, 10, TimeUnit.SECONDS)).willReturn(true);
+        given(rLock.isHeldByCurrentThread()).willReturn(true);
+
+        // When
+        boolean acquired = distributedLockService.tryLock("order:create:c1", 10, TimeUnit.SECONDS);
+        distributedLockService.unlock("order:create:c1");
+
+        // Then
+        assertThat(acquired).isTrue();
+        verify(rLock).unlock();
+        verify(redissonClient, never()).getFairLock(anyString());
+    }
+}
@@ -0,0 +1,132 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.response.MenuPriceResponse;
+import com.eatcloud.orderservice.event.MenuChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuCatalog 단위 테스트")
+class MenuCatalogTest {
+
+    @Mock
+    private ConsumerFactory<String, MenuChangedEvent> consumerFactory;
+
+    private MenuCatalog menuCatalog;
+
+    private UUID menuId;
+    private UUID storeId;
+
+    @BeforeEach
+    void setUp() {
+        menuCatalog = new MenuCatalog(consumerFactory, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(menuCatalog, "enabled", true);
+        ReflectionTestUtils.setField(menuCatalog, "maxStalenessSeconds", 30L);
+        menuId = UUID.randomUUID();
+        storeId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("부트스트랩 전에는 카탈로그를 사용하지 않는다")
+    void find_BeforeReady_ReturnsEmpty() {
+        // Given
+        menuCatalog.apply(record(event(false, true)));
+
+        // When & Then
+        assertThat(menuCatalog.find(List.of(menuId))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최신 이벤트 기준으로 가격과 판매 가능 여부를 반환, 삭제된 메뉴는 판매 불가")
+    void find_AfterReady_ReturnsLatestState() {
+        // Given
+        markCaughtUp(System.currentTimeMillis());
+        menuCatalog.apply(record(event(false, true)));
+
+        // When
+        Map<UUID, MenuPriceResponse> found = menuCatalog.find(List.of(menuId, UUID.randomUUID()));
+
+        // Then
+        assertThat(found).containsOnlyKeys(menuId);
+        assertThat(found.get(menuId).getPrice()).isEqualByComparingTo("9000");
+        assertThat(found.get(menuId).getStoreId()).isEqualTo(storeId);
+
+        menuCatalog.apply(record(event(true, true)));
+        assertThat(menuCatalog.find(List.of(menuId)).get(menuId).getAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 반영된 것보다 오래된 이벤트는 무시한다")
+    void apply_OlderEvent_IsIgnored() {
+        // Given
+        markCaughtUp(System.currentTimeMillis());
+        MenuChangedEvent deleted = event(true, true);
+        MenuChangedEvent stale = MenuChangedEvent.builder()
+                .menuId(menuId)
+                .storeId(storeId)
+                .menuName("김치찌개")
+                .price(BigDecimal.valueOf(8000))
+                .available(true)
+                .version(deleted.getVersion() - 1)
+                .occurredAt(System.currentTimeMillis())
+                .build();
+
+        // When
+        menuCatalog.apply(record(deleted));
+        menuCatalog.apply(record(stale));
+
+        // Then
+        MenuPriceResponse found = menuCatalog.find(List.of(menuId)).get(menuId);
+        assertThat(found.getAvailable()).isFalse();
+        assertThat(found.getPrice()).isEqualByComparingTo("9000");
+    }
+
+    @Test
+    @DisplayName("허용 최신성을 넘기면 카탈로그를 사용하지 않는다")
+    void find_Stale_ReturnsEmpty() {
+        // Given
+        markCaughtUp(System.currentTimeMillis() - 60_000);
+        menuCatalog.apply(record(event(false, true)));
+
+        // When & Then
+        assertThat(menuCatalog.isUsable()).isFalse();
+        assertThat(menuCatalog.find(List.of(menuId))).isEmpty();
+    }
+
+    private void markCaughtUp(long at) {
+        ReflectionTestUtils.setField(menuCatalog, "ready", true);
+        ReflectionTestUtils.setField(menuCatalog, "lastCaughtUpAt", at);
+    }
+
+    private MenuChangedEvent event(boolean deleted, boolean available) {
+        return MenuChangedEvent.builder()
+                .menuId(menuId)
+                .storeId(storeId)
+                .menuName("김치찌개")
+                .price(BigDecimal.valueOf(9000))
+                .available(available)
+                .deleted(deleted)
+                .version(1L)
+                .occurredAt(System.currentTimeMillis())
+                .build();
+    }
+
+    private ConsumerRecord<String, MenuChangedEvent> record(MenuChangedEvent event) {
+        return new ConsumerRecord<>(MenuCatalog.MENU_CHANGED_TOPIC, 0, 0L, menuId.toString(), event);
+    }
+}
@@ -0,0 +1,100 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.entity.OrderStatusCode;
+import com.eatcloud.orderservice.entity.OrderTypeCode;
+import com.eatcloud.orderservice.repository.OrderStatusCodeRepository;
+import com.eatcloud.orderservice.repository.OrderTypeCodeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderCodeRegistry 단위 테스트")
+class OrderCodeRegistryTest {
+
+    @Mock
+    private OrderStatusCodeRepository orderStatusCodeRepository;
+
+    @Mock
+    private OrderTypeCodeRepository orderTypeCodeRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private OrderCodeRegistry orderCodeRegistry;
+
+    private OrderStatusCode paidStatus;
+
+    @BeforeEach
+    void setUp() {
+        orderCodeRegistry = new OrderCodeRegistry(orderStatusCodeRepository, orderTypeCodeRepository, entityManager);
+        ReflectionTestUtils.setField(orderCodeRegistry, "refreshIntervalSeconds", 300L);
+        paidStatus = OrderStatusCode.builder().code("PAID").displayName("결제완료").sortOrder(2).build();
+    }
+
+    @Test
+    @DisplayName("적재된 코드는 조회 SELECT 없이 참조를 반환")
+    void status_Loaded_ReturnsReferenceWithoutQuery() {
+        // Given
+        given(orderStatusCodeRepository.findAll()).willReturn(List.of(paidStatus));
+        given(orderTypeCodeRepository.findAll()).willReturn(List.of(
+                OrderTypeCode.builder().code("DELIVERY").displayName("배달").sortOrder(1).build()));
+        given(entityManager.getReference(OrderStatusCode.class, "PAID")).willReturn(paidStatus);
+        orderCodeRegistry.refresh();
+
+        // When
+        OrderStatusCode first = orderCodeRegistry.status("PAID");
+        OrderStatusCode second = orderCodeRegistry.status("PAID");
+
+        // Then
+        assertThat(first).isSameAs(paidStatus);
+        assertThat(second).isSameAs(paidStatus);
+        verify(orderStatusCodeRepository, times(1)).findAll();
+        verify(orderStatusCodeRepository, never()).findByCode(anyString());
+    }
+
+    @Test
+    @DisplayName("없는 코드는 기존과 같은 예외, 참조를 만들지 않는다")
+    void status_Unknown_Throws() {
+        // Given
+        given(orderStatusCodeRepository.findAll()).willReturn(List.of(paidStatus));
+        given(orderTypeCodeRepository.findAll()).willReturn(List.of());
+        orderCodeRegistry.refresh();
+
+        // When & Then
+        assertThatThrownBy(() -> orderCodeRegistry.status("SHIPPED"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("주문 상태 코드를 찾을 수 없습니다: SHIPPED");
+        assertThat(orderCodeRegistry.findType("TAKEOUT")).isEmpty();
+        verify(entityManager, never()).getReference(any(), any());
+    }
+
+    @Test
+    @DisplayName("시작 시 적재에 실패했으면 첫 조회 시점에 적재")
+    void status_EmptySnapshot_LoadsLazily() {
+        // Given
+        given(orderStatusCodeRepository.findAll())
+                .willThrow(new RuntimeException("connection refused"))
+                .willReturn(List.of(paidStatus));
+        given(orderTypeCodeRepository.findAll()).willReturn(List.of());
+        given(entityManager.getReference(OrderStatusCode.class, "PAID")).willReturn(paidStatus);
+        orderCodeRegistry.start();
+
+        // When
+        OrderStatusCode status = orderCodeRegistry.status("PAID");
+
+        // Then
+        assertThat(status).isSameAs(paidStatus);
+        orderCodeRegistry.stop();
+    }
+}
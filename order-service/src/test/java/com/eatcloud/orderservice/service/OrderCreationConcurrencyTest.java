@@ -0,0 +1,272 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.CartItem;
+import com.eatcloud.orderservice.dto.request.CreateOrderRequest;
+import com.eatcloud.orderservice.dto.response.CreateOrderResponse;
+import com.eatcloud.orderservice.dto.response.MenuPriceResponse;
+import com.eatcloud.orderservice.entity.Order;
+import com.eatcloud.orderservice.entity.OrderStatusCode;
+import com.eatcloud.orderservice.entity.OrderTypeCode;
+import com.eatcloud.orderservice.exception.ErrorCode;
+import com.eatcloud.orderservice.exception.OrderException;
+import com.eatcloud.orderservice.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("주문 생성 단계 분리 동시성 테스트")
+class OrderCreationConcurrencyTest {
+
+    private static final long PRICE_LOOKUP_MILLIS = 200;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderCodeRegistry orderCodeRegistry;
+
+    @Mock
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @Mock
+    private ExternalApiService externalApiService;
+
+    @Mock
+    private MenuCatalog menuCatalog;
+
+    @Mock
+    private DistributedLockService distributedLockService;
+
+    @Mock
+    private SagaOrchestrator sagaOrchestrator;
+
+    @Mock
+    private OrderStatusTransitionService orderStatusTransitionService;
+
+    @Mock
+    private CartService cartService;
+
+    private PoolTrackingTransactionManager transactionManager;
+    private OrderService orderService;
+
+    private final List<Long> lockHoldNanos = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong orderNumbers = new AtomicLong();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        transactionManager = new PoolTrackingTransactionManager();
+        orderService = new OrderService(orderRepository, orderCodeRegistry, orderNumberGenerator, externalApiService,
+                menuCatalog, distributedLockService, sagaOrchestrator, orderStatusTransitionService,
+                new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(orderService, "cartService", cartService);
+
+        given(orderCodeRegistry.status("PENDING")).willReturn(OrderStatusCode.builder().code("PENDING").build());
+        given(orderCodeRegistry.type("DELIVERY")).willReturn(OrderTypeCode.builder().code("DELIVERY").build());
+        given(orderNumberGenerator.next()).willAnswer(invocation -> "ORD-20261017-" + orderNumbers.incrementAndGet());
+        given(menuCatalog.find(anyCollection())).willReturn(Map.of());
+
+        // store-service 조회는 느린 원격 호출
+        given(externalApiService.getMenuPrices(anyCollection())).willAnswer(invocation -> {
+            Thread.sleep(PRICE_LOOKUP_MILLIS);
+            Collection<UUID> menuIds = invocation.getArgument(0);
+            return menuIds.stream().collect(Collectors.toMap(menuId -> menuId,
+                    menuId -> MenuPriceResponse.builder().menuId(menuId).price(BigDecimal.valueOf(9000)).available(true).build()));
+        });
+
+        given(orderRepository.save(any(Order.class))).willAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            order.setOrderId(UUID.randomUUID());
+            return order;
+        });
+
+        // 락 보유 시간 측정
+        given(distributedLockService.executeWithLock(anyString(), anyLong(), anyLong(), any(TimeUnit.class), any()))
+                .willAnswer(invocation -> {
+            long startedAt = System.nanoTime();
+            try {
+                return ((Callable<?>) invocation.getArgument(4)).call();
+            } finally {
+                lockHoldNanos.add(System.nanoTime() - startedAt);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("원격 가격 조회는 트랜잭션/락 밖에서 수행되어 커넥션 보유 시간이 조회 지연과 무관하게 짧다")
+    void createOrder_Concurrent_PoolHoldTimeBounded() throws Exception {
+        // Given
+        int customers = 16;
+        List<UUID> customerIds = new ArrayList<>();
+        for (int i = 0; i < customers; i++) {
+            UUID customerId = UUID.randomUUID();
+            customerIds.add(customerId);
+            given(cartService.getCart(customerId)).willReturn(cartItems());
+            given(cartService.reloadCart(customerId)).willReturn(cartItems());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(customers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CreateOrderResponse>> futures = new ArrayList<>();
+        for (UUID customerId : customerIds) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return orderService.createOrderFromCartSimple(customerId, request());
+            }));
+        }
+
+        // When
+        start.countDown();
+        for (Future<CreateOrderResponse> future : futures) {
+            assertThat(future.get(10, TimeUnit.SECONDS).getOrderStatus()).isEqualTo("PENDING");
+        }
+        executor.shutdown();
+
+        // Then
+        long boundNanos = TimeUnit.MILLISECONDS.toNanos(PRICE_LOOKUP_MILLIS / 4);
+        assertThat(transactionManager.holdNanos).hasSize(customers).allMatch(nanos -> nanos < boundNanos);
+        assertThat(lockHoldNanos).hasSize(customers).allMatch(nanos -> nanos < boundNanos);
+        verify(sagaOrchestrator, times(customers)).start(any());
+        customerIds.forEach(customerId -> verify(cartService).clearCart(customerId));
+    }
+
+    @Test
+    @DisplayName("INSERT 가 롤백되면 saga 를 시작하지 않고 장바구니도 비우지 않는다")
+    void createOrder_InsertFails_NoSideEffects() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        given(cartService.getCart(customerId)).willReturn(cartItems());
+        given(cartService.reloadCart(customerId)).willReturn(cartItems());
+        given(orderRepository.save(any(Order.class))).willThrow(new IllegalStateException("duplicate order_number"));
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.createOrderFromCartSimple(customerId, request()))
+                .isInstanceOf(OrderException.class);
+        assertThat(transactionManager.rollbacks).hasValue(1);
+        verify(sagaOrchestrator, never()).start(any());
+        verify(cartService, never()).clearCart(any());
+    }
+
+    @Test
+    @DisplayName("DB 장바구니는 주문 트랜잭션 안에서 비워져 중복 요청이 캐시 미스로 DB 를 읽어도 EMPTY_CART 로 끝난다")
+    void createOrder_DuplicateRequest_SeesClearedDatabaseCart() {
+        // Given - 재확인(reloadCart)은 Redis 캐시 미스 후 DB 를 읽는 상황, L1(getCart)은 아직 이전 장바구니
+        UUID customerId = UUID.randomUUID();
+        AtomicBoolean databaseCleared = new AtomicBoolean();
+        given(cartService.getCart(customerId)).willReturn(cartItems());
+        given(cartService.reloadCart(customerId))
+                .willAnswer(invocation -> databaseCleared.get() ? List.of() : cartItems());
+        willAnswer(invocation -> {
+            assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+            databaseCleared.set(true);
+            return null;
+        }).given(cartService).clearCartInDatabase(customerId);
+
+        // When
+        orderService.createOrderFromCartSimple(customerId, request());
+
+        // Then
+        assertThatThrownBy(() -> orderService.createOrderFromCartSimple(customerId, request()))
+                .isInstanceOf(OrderException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.EMPTY_CART);
+        verify(orderRepository, times(1)).save(any(Order.class));
+        verify(sagaOrchestrator, times(1)).start(any());
+    }
+
+    @Test
+    @DisplayName("DB 장바구니 비우기에 실패하면 주문 INSERT 도 롤백된다")
+    void createOrder_DatabaseCartClearFails_RollsBack() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        given(cartService.getCart(customerId)).willReturn(cartItems());
+        given(cartService.reloadCart(customerId)).willReturn(cartItems());
+        willThrow(new IllegalStateException("cart tombstone failed")).given(cartService).clearCartInDatabase(customerId);
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.createOrderFromCartSimple(customerId, request()))
+                .isInstanceOf(OrderException.class);
+        assertThat(transactionManager.rollbacks).hasValue(1);
+        verify(cartService, never()).clearCart(any());
+    }
+
+    private List<CartItem> cartItems() {
+        return List.of(CartItem.builder()
+                .menuId(UUID.fromString("11111111-1111-1111-1111-111111111111"))
+                .menuName("김치찌개")
+                .quantity(2)
+                .price(8000)
+                .build());
+    }
+
+    private CreateOrderRequest request() {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setOrderType("DELIVERY");
+        return request;
+    }
+
+    /**
+     * 트랜잭션 시작(커넥션 획득)부터 정리(반환)까지의 시간을 기록하는 트랜잭션 매니저
+     */
+    static class PoolTrackingTransactionManager extends AbstractPlatformTransactionManager {
+
+        final List<Long> holdNanos = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger rollbacks = new AtomicInteger();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new long[1];
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            ((long[]) transaction)[0] = System.nanoTime();
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rollbacks.incrementAndGet();
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            holdNanos.add(System.nanoTime() - ((long[]) transaction)[0]);
+        }
+    }
+}
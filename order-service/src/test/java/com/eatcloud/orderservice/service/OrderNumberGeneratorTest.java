@@ -0,0 +1,143 @@
+package com.eatcloud.orderservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderNumberGenerator 단위 테스트")
+class OrderNumberGeneratorTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+
+    /**
+     * Redis INCRBY 와 같은 동작 (일자별 카운터)
+     */
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final AtomicInteger reservations = new AtomicInteger();
+    private final OrderNumberGenerator.BlockReserver inMemoryReserver = (day, size) -> {
+        reservations.incrementAndGet();
+        return counters.computeIfAbsent(day, key -> new AtomicLong()).addAndGet(size);
+    };
+
+    @Test
+    @DisplayName("여러 레플리카, 여러 스레드에서 동시에 발급해도 중복이 없고 스레드별로 단조 증가")
+    void next_ConcurrentReplicas_UniqueAndMonotonic() throws Exception {
+        // Given
+        int replicas = 3;
+        int threadsPerReplica = 8;
+        int perThread = 5_000;
+        Clock clock = Clock.fixed(Instant.parse("2026-10-17T03:00:00Z"), ZONE);
+
+        List<OrderNumberGenerator> generators = new ArrayList<>();
+        for (int i = 0; i < replicas; i++) {
+            generators.add(generator(inMemoryReserver, clock, 100));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(replicas * threadsPerReplica);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (OrderNumberGenerator generator : generators) {
+            for (int t = 0; t < threadsPerReplica; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<String> issued = new ArrayList<>(perThread);
+                    for (int n = 0; n < perThread; n++) {
+                        issued.add(generator.next());
+                    }
+                    return issued;
+                }));
+            }
+        }
+
+        // When
+        start.countDown();
+        Set<String> all = ConcurrentHashMap.newKeySet();
+        for (Future<List<String>> future : futures) {
+            List<String> issued = future.get(30, TimeUnit.SECONDS);
+            assertThat(issued).isSorted();
+            all.addAll(issued);
+        }
+        executor.shutdown();
+
+        // Then
+        int total = replicas * threadsPerReplica * perThread;
+        assertThat(all).hasSize(total);
+        assertThat(all).allMatch(number -> number.matches("ORD-20261017-\\d{7,}"));
+        assertThat(reservations.get()).isLessThanOrEqualTo(total / 100 + replicas);
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 새 일자 카운터에서 블록을 받는다")
+    void next_DayRollover_ReservesNewDayBlock() {
+        // Given
+        AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-10-17T23:59:59Z"));
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZONE;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+        OrderNumberGenerator generator = generator(inMemoryReserver, clock, 100);
+
+        // When
+        String before = generator.next();
+        now.set(Instant.parse("2026-10-18T00:00:01Z"));
+        String after = generator.next();
+
+        // Then
+        assertThat(before).isEqualTo("ORD-20261017-0000001");
+        assertThat(after).isEqualTo("ORD-20261018-0000001");
+    }
+
+    @Test
+    @DisplayName("블록 예약 실패 시 순번과 겹치지 않는 난수 형식으로 발급")
+    void next_ReservationFails_IssuesFallbackNumber() {
+        // Given
+        OrderNumberGenerator generator = generator((day, size) -> {
+            throw new IllegalStateException("Redis circuit is open");
+        }, Clock.fixed(Instant.parse("2026-10-17T03:00:00Z"), ZONE), 100);
+
+        // When
+        String number = generator.next();
+
+        // Then
+        assertThat(number).matches("ORD-20261017-R[0-9A-F]{12}");
+    }
+
+    private OrderNumberGenerator generator(OrderNumberGenerator.BlockReserver reserver, Clock clock, int blockSize) {
+        OrderNumberGenerator generator = new OrderNumberGenerator(reserver, clock, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(generator, "blockSize", blockSize);
+        return generator;
+    }
+}
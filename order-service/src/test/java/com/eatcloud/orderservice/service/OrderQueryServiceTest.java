@@ -0,0 +1,128 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.dto.request.OrderSearchCondition;
+import com.eatcloud.orderservice.dto.response.CursorPageResponse;
+import com.eatcloud.orderservice.dto.response.OrderSummaryResponse;
+import com.eatcloud.orderservice.repository.OrderSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderQueryService 단위 테스트")
+class OrderQueryServiceTest {
+
+    @Mock
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @InjectMocks
+    private OrderQueryService orderQueryService;
+
+    private UUID customerId;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        customerId = UUID.randomUUID();
+        now = LocalDateTime.of(2026, 10, 17, 12, 0, 0, 123_456_000);
+    }
+
+    @Test
+    @DisplayName("size 보다 한 건 더 조회되면 hasNext 와 마지막 행 기준 nextCursor 를 내려준다")
+    void findCustomerOrders_MoreRows_ReturnsNextCursor() {
+        // Given
+        given(orderSummaryRepository.findPage(eq(OrderSummaryRepository.Owner.CUSTOMER), eq(customerId), any(),
+                isNull(), eq(4))).willReturn(rows(4));
+
+        // When
+        CursorPageResponse<OrderSummaryResponse> page = orderQueryService.findCustomerOrders(customerId, null, null, 3);
+
+        // Then
+        assertThat(page.getContent()).hasSize(3);
+        assertThat(page.isHasNext()).isTrue();
+        OrderCursor next = OrderCursor.decode(page.getNextCursor());
+        assertThat(next.orderId()).isEqualTo(page.getContent().get(2).getOrderId());
+        assertThat(next.createdAt()).isEqualTo(page.getContent().get(2).getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("마지막 페이지면 nextCursor 가 없다")
+    void findCustomerOrders_LastPage_NoCursor() {
+        // Given
+        given(orderSummaryRepository.findPage(any(), any(), any(), any(), anyInt())).willReturn(rows(2));
+
+        // When
+        CursorPageResponse<OrderSummaryResponse> page = orderQueryService.findCustomerOrders(customerId, null, null, 3);
+
+        // Then
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("전달받은 커서와 필터를 그대로 조회 조건으로 넘긴다")
+    void findStoreOrders_WithCursor_PassesDecodedCursor() {
+        // Given
+        UUID storeId = UUID.randomUUID();
+        OrderCursor cursor = new OrderCursor(now, UUID.randomUUID());
+        OrderSearchCondition condition = new OrderSearchCondition(List.of("PAID"), now.minusDays(7), now);
+        given(orderSummaryRepository.findPage(any(), any(), any(), any(), anyInt())).willReturn(List.of());
+
+        // When
+        orderQueryService.findStoreOrders(storeId, condition, cursor.encode(), null);
+
+        // Then
+        verify(orderSummaryRepository).findPage(OrderSummaryRepository.Owner.STORE, storeId, condition, cursor,
+                OrderQueryService.DEFAULT_PAGE_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("size 는 1 ~ 최대값 사이로 보정한다")
+    void findCustomerOrders_SizeClamped() {
+        // Given
+        given(orderSummaryRepository.findPage(any(), any(), any(), any(), anyInt())).willReturn(List.of());
+
+        // When
+        orderQueryService.findCustomerOrders(customerId, null, null, 10_000);
+        orderQueryService.findCustomerOrders(customerId, null, null, 0);
+
+        // Then
+        verify(orderSummaryRepository).findPage(any(), any(), any(), any(), eq(OrderQueryService.MAX_PAGE_SIZE + 1));
+        verify(orderSummaryRepository).findPage(any(), any(), any(), any(), eq(2));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서나 역전된 기간은 IllegalArgumentException")
+    void findCustomerOrders_InvalidInput_Rejected() {
+        assertThatThrownBy(() -> orderQueryService.findCustomerOrders(customerId, null, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> orderQueryService.findCustomerOrders(customerId,
+                new OrderSearchCondition(null, now, now.minusDays(1)), null, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<OrderSummaryResponse> rows(int count) {
+        List<OrderSummaryResponse> rows = new ArrayList<>();
+        IntStream.range(0, count).forEach(i -> rows.add(OrderSummaryResponse.builder()
+                .orderId(UUID.randomUUID())
+                .customerId(customerId)
+                .orderStatus("PAID")
+                .createdAt(now.minusMinutes(i))
+                .build()));
+        return rows;
+    }
+}
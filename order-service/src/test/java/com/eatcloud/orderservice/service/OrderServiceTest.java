@@ -4,12 +4,13 @@ import com.eatcloud.orderservice.dto.CartItem;
 import com.eatcloud.orderservice.dto.OrderMenu;
 import com.eatcloud.orderservice.dto.request.CreateOrderRequest;
 import com.eatcloud.orderservice.dto.response.CreateOrderResponse;
+import com.eatcloud.orderservice.dto.response.MenuPriceResponse;
 import com.eatcloud.orderservice.entity.Order;
 import com.eatcloud.orderservice.entity.OrderStatusCode;
 import com.eatcloud.orderservice.entity.OrderTypeCode;
+import com.eatcloud.orderservice.exception.ErrorCode;
+import com.eatcloud.orderservice.exception.OrderException;
 import com.eatcloud.orderservice.repository.OrderRepository;
-import com.eatcloud.orderservice.repository.OrderStatusCodeRepository;
-import com.eatcloud.orderservice.repository.OrderTypeCodeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,10 +18,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -35,17 +40,23 @@ class OrderServiceTest {
     private OrderRepository orderRepository;
 
     @Mock
-    private OrderStatusCodeRepository orderStatusCodeRepository;
+    private OrderCodeRegistry orderCodeRegistry;
 
     @Mock
-    private OrderTypeCodeRepository orderTypeCodeRepository;
+    private OrderNumberGenerator orderNumberGenerator;
 
     @Mock
     private ExternalApiService externalApiService;
 
+    @Mock
+    private MenuCatalog menuCatalog;
+
     @Mock
     private CartService cartService;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -127,9 +138,13 @@ class OrderServiceTest {
     void createOrderFromCart_Success() {
         // Given
         given(cartService.getCart(customerId)).willReturn(cartItems);
-        given(orderStatusCodeRepository.findByCode("PENDING")).willReturn(Optional.of(pendingStatus));
-        given(orderTypeCodeRepository.findByCode("DELIVERY")).willReturn(Optional.of(deliveryType));
-        given(externalApiService.getMenuPrice(any(UUID.class))).willReturn(8000, 7000);
+        given(orderCodeRegistry.status("PENDING")).willReturn(pendingStatus);
+        given(orderCodeRegistry.type("DELIVERY")).willReturn(deliveryType);
+        given(externalApiService.getMenuPrices(anyCollection())).willReturn(Map.of(
+                cartItems.get(0).getMenuId(), MenuPriceResponse.builder().menuId(cartItems.get(0).getMenuId())
+                        .price(BigDecimal.valueOf(8000)).available(true).build(),
+                cartItems.get(1).getMenuId(), MenuPriceResponse.builder().menuId(cartItems.get(1).getMenuId())
+                        .price(BigDecimal.valueOf(7000)).available(true).build()));
         given(orderRepository.save(any(Order.class))).willReturn(order);
 
         // When
@@ -162,12 +177,85 @@ class OrderServiceTest {
         verify(orderRepository, never()).save(any(Order.class));
     }
 
+    @Test
+    @DisplayName("메뉴 가격 일괄 조회 - 한 번의 호출로 현재 가격 반영")
+    void applyCurrentMenuPrices_UsesSingleBulkCall() {
+        // Given
+        UUID menuId = UUID.randomUUID();
+        List<OrderMenu> orderMenuList = List.of(
+                OrderMenu.builder().menuId(menuId).price(8000).quantity(2).build(),
+                OrderMenu.builder().menuId(menuId).price(8000).quantity(1).build());
+        given(externalApiService.getMenuPrices(anyCollection())).willReturn(Map.of(menuId,
+                MenuPriceResponse.builder().menuId(menuId).price(BigDecimal.valueOf(9000)).available(true).build()));
+
+        // When
+        orderService.applyCurrentMenuPrices(null, orderMenuList);
+
+        // Then
+        assertThat(orderMenuList).extracting(OrderMenu::getPrice).containsOnly(9000);
+        verify(externalApiService).getMenuPrices(Set.of(menuId));
+        verify(externalApiService, never()).getMenuPrice(any());
+    }
+
+    @Test
+    @DisplayName("메뉴 가격 확인 - 카탈로그에 있는 메뉴는 store-service 를 호출하지 않는다")
+    void applyCurrentMenuPrices_CatalogHit_SkipsRemoteCall() {
+        // Given
+        UUID cachedMenuId = UUID.randomUUID();
+        UUID unknownMenuId = UUID.randomUUID();
+        List<OrderMenu> orderMenuList = List.of(
+                OrderMenu.builder().menuId(cachedMenuId).price(8000).quantity(1).build(),
+                OrderMenu.builder().menuId(unknownMenuId).price(5000).quantity(1).build());
+        given(menuCatalog.find(anyCollection())).willReturn(Map.of(cachedMenuId,
+                MenuPriceResponse.builder().menuId(cachedMenuId).price(BigDecimal.valueOf(8500)).available(true).build()));
+        given(externalApiService.getMenuPrices(anyCollection())).willReturn(Map.of(unknownMenuId,
+                MenuPriceResponse.builder().menuId(unknownMenuId).price(BigDecimal.valueOf(5000)).available(true).build()));
+
+        // When
+        orderService.applyCurrentMenuPrices(null, orderMenuList);
+
+        // Then
+        assertThat(orderMenuList).extracting(OrderMenu::getPrice).containsExactly(8500, 5000);
+        verify(externalApiService).getMenuPrices(Set.of(unknownMenuId));
+    }
+
+    @Test
+    @DisplayName("메뉴 가격 일괄 조회 - 판매 중지 메뉴가 있으면 예외")
+    void applyCurrentMenuPrices_UnavailableMenu_ThrowsException() {
+        // Given
+        UUID menuId = UUID.randomUUID();
+        List<OrderMenu> orderMenuList = List.of(OrderMenu.builder().menuId(menuId).price(8000).quantity(1).build());
+        given(externalApiService.getMenuPrices(anyCollection())).willReturn(Map.of(menuId,
+                MenuPriceResponse.builder().menuId(menuId).price(BigDecimal.valueOf(8000)).available(false).build()));
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.applyCurrentMenuPrices(null, orderMenuList))
+                .isInstanceOf(OrderException.class)
+                .hasMessage(ErrorCode.MENU_NOT_AVAILABLE.getMessage());
+    }
+
+    @Test
+    @DisplayName("메뉴 가격 일괄 조회 - 폴백에서 가격을 얻지 못하면 장바구니 가격 유지")
+    void applyCurrentMenuPrices_FallbackWithoutPrice_KeepsCartPrice() {
+        // Given
+        UUID menuId = UUID.randomUUID();
+        List<OrderMenu> orderMenuList = List.of(OrderMenu.builder().menuId(menuId).price(8000).quantity(1).build());
+        given(externalApiService.getMenuPrices(anyCollection())).willReturn(Map.of(menuId,
+                MenuPriceResponse.builder().menuId(menuId).build()));
+
+        // When
+        orderService.applyCurrentMenuPrices(null, orderMenuList);
+
+        // Then
+        assertThat(orderMenuList.getFirst().getPrice()).isEqualTo(8000);
+    }
+
     @Test
     @DisplayName("결제 완료 처리 - 성공")
     void completePayment_Success() {
         // Given
         given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
-        given(orderStatusCodeRepository.findByCode("PAID")).willReturn(Optional.of(paidStatus));
+        given(orderCodeRegistry.status("PAID")).willReturn(paidStatus);
         given(orderRepository.save(any(Order.class))).willReturn(order);
 
         // When
@@ -175,7 +263,7 @@ class OrderServiceTest {
 
         // Then
         verify(orderRepository).findById(orderId);
-        verify(orderStatusCodeRepository).findByCode("PAID");
+        verify(orderCodeRegistry).status("PAID");
         verify(orderRepository).save(any(Order.class));
     }
 
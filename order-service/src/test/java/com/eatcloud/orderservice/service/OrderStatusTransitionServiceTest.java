@@ -0,0 +1,164 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.exception.ErrorCode;
+import com.eatcloud.orderservice.exception.OrderException;
+import com.eatcloud.orderservice.repository.OrderStatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.AuditorAware;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("OrderStatusTransitionService 단위 테스트")
+class OrderStatusTransitionServiceTest {
+
+    @Mock
+    private OrderStatusRepository orderStatusRepository;
+
+    @Mock
+    private OrderCodeRegistry orderCodeRegistry;
+
+    @Mock
+    private OrderEventProducer orderEventProducer;
+
+    private OrderStatusTransitionService orderStatusTransitionService;
+    private UUID orderId;
+    private UUID storeId;
+
+    @BeforeEach
+    void setUp() {
+        AuditorAware<String> auditorAware = () -> Optional.of("manager-1");
+        orderStatusTransitionService = new OrderStatusTransitionService(orderStatusRepository, orderCodeRegistry,
+                orderEventProducer, auditorAware);
+        orderId = UUID.randomUUID();
+        storeId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("전이 표에 있는 전이만 허용한다")
+    void isAllowed_FollowsTable() {
+        assertThat(OrderStatusTransitionService.isAllowed("PENDING", "PAID")).isTrue();
+        assertThat(OrderStatusTransitionService.isAllowed("PAID", "CONFIRMED")).isTrue();
+        assertThat(OrderStatusTransitionService.isAllowed("CONFIRMED", "COMPLETED")).isTrue();
+        assertThat(OrderStatusTransitionService.isAllowed("PENDING", "COMPLETED")).isFalse();
+        assertThat(OrderStatusTransitionService.isAllowed("COMPLETED", "CANCELLED")).isFalse();
+        assertThat(OrderStatusTransitionService.isAllowed("CANCELLED", "PAID")).isFalse();
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 가 반영되면 상태 변경 이벤트를 기록한다")
+    void transition_Applied_PublishesEvent() {
+        // Given
+        OrderStatusChange change = new OrderStatusChange(orderId, "ORD-1", UUID.randomUUID(), storeId, "PAID", "CONFIRMED");
+        given(orderStatusRepository.compareAndSet(orderId, "PAID", "CONFIRMED", null, "manager-1"))
+                .willReturn(Optional.of(change));
+
+        // When
+        Optional<OrderStatusChange> result = orderStatusTransitionService.transition(orderId, "PAID", "CONFIRMED");
+
+        // Then
+        assertThat(result).contains(change);
+        verify(orderCodeRegistry).status("CONFIRMED");
+        verify(orderEventProducer).publishOrderStatusChanged(change);
+    }
+
+    @Test
+    @DisplayName("현재 상태가 달라 0 row 면 empty 를 반환하고 이벤트를 기록하지 않는다")
+    void transition_NotApplied_ReturnsEmpty() {
+        // Given
+        given(orderStatusRepository.compareAndSet(any(), anyString(), anyString(), any(), anyString()))
+                .willReturn(Optional.empty());
+
+        // When
+        Optional<OrderStatusChange> result = orderStatusTransitionService.transition(orderId, "PAID", "CONFIRMED");
+
+        // Then
+        assertThat(result).isEmpty();
+        then(orderEventProducer).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("표에 없는 전이는 UPDATE 없이 INVALID_STATUS_TRANSITION")
+    void transition_NotAllowed_Rejected() {
+        assertThatThrownBy(() -> orderStatusTransitionService.transition(orderId, "PENDING", "COMPLETED"))
+                .isInstanceOf(OrderException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_STATUS_TRANSITION);
+        then(orderStatusRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("결제 완료는 PENDING → PAID 와 결제 ID 를 한 문장으로 기록한다")
+    void markPaid_SetsPaymentIdInSameStatement() {
+        // Given
+        UUID paymentId = UUID.randomUUID();
+        given(orderStatusRepository.compareAndSet(orderId, "PENDING", "PAID", paymentId, "manager-1"))
+                .willReturn(Optional.of(new OrderStatusChange(orderId, "ORD-1", null, storeId, "PENDING", "PAID")));
+
+        // When
+        Optional<OrderStatusChange> result = orderStatusTransitionService.markPaid(orderId, paymentId);
+
+        // Then
+        assertThat(result).isPresent();
+        verify(orderStatusRepository).compareAndSet(orderId, "PENDING", "PAID", paymentId, "manager-1");
+    }
+
+    @Test
+    @DisplayName("moveTo 는 조회한 현재 상태를 조건으로 걸고, 그 사이 상태가 바뀌었으면 INVALID_STATUS_TRANSITION")
+    void moveTo_ConcurrentChange_Rejected() {
+        // Given
+        given(orderStatusRepository.findStatus(orderId)).willReturn(Optional.of("PAID"));
+        given(orderStatusRepository.compareAndSet(orderId, "PAID", "CANCELLED", null, "manager-1"))
+                .willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> orderStatusTransitionService.moveTo(orderId, "CANCELLED"))
+                .isInstanceOf(OrderException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_STATUS_TRANSITION);
+    }
+
+    @Test
+    @DisplayName("일괄 전이는 중복을 제거해 한 번에 UPDATE 하고 반영된 주문마다 이벤트를 기록한다")
+    void transitionAll_DistinctIdsSingleStatement() {
+        // Given
+        UUID other = UUID.randomUUID();
+        OrderStatusChange change = new OrderStatusChange(orderId, "ORD-1", null, storeId, "PAID", "CONFIRMED");
+        given(orderStatusRepository.compareAndSetAll(eq(storeId), anyCollection(), eq("PAID"), eq("CONFIRMED"),
+                eq("manager-1"))).willReturn(List.of(change));
+
+        // When
+        List<OrderStatusChange> result = orderStatusTransitionService.transitionAll(storeId,
+                List.of(orderId, other, orderId), "PAID", "CONFIRMED");
+
+        // Then
+        assertThat(result).containsExactly(change);
+        verify(orderStatusRepository).compareAndSetAll(storeId, Set.of(orderId, other), "PAID", "CONFIRMED", "manager-1");
+        verify(orderEventProducer, times(1)).publishOrderStatusChanged(change);
+    }
+
+    @Test
+    @DisplayName("일괄 전이 최대 건수를 넘으면 IllegalArgumentException")
+    void transitionAll_TooMany_Rejected() {
+        List<UUID> orderIds = IntStream.rangeClosed(0, OrderStatusTransitionService.MAX_BULK_SIZE)
+                .mapToObj(i -> UUID.randomUUID())
+                .toList();
+
+        assertThatThrownBy(() -> orderStatusTransitionService.transitionAll(storeId, orderIds, "PAID", "CONFIRMED"))
+                .isInstanceOf(IllegalArgumentException.class);
+        then(orderStatusRepository).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,132 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.automessaging.retry.RetryTopicRouter;
+import com.eatcloud.orderservice.event.PaymentCreatedEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("PaymentEventConsumer 단위 테스트")
+class PaymentEventConsumerTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private SagaOrchestrator sagaOrchestrator;
+
+    @Mock
+    private OrderStatusTransitionService orderStatusTransitionService;
+
+    @Mock
+    private RetryTopicRouter retryTopicRouter;
+
+    private PaymentEventConsumer paymentEventConsumer;
+
+    @BeforeEach
+    void setUp() {
+        paymentEventConsumer = new PaymentEventConsumer(orderService, sagaOrchestrator, orderStatusTransitionService,
+                new TransactionTemplate(new SagaOrchestratorTest.NoOpTransactionManager()), retryTopicRouter);
+    }
+
+    @Test
+    @DisplayName("결제 완료 이벤트는 배치 한 번의 일괄 UPDATE 로 반영하고, 반영되지 않은 주문만 건별 처리한다")
+    void handle_CompletedBatch_BulkUpdate() {
+        // Given
+        PaymentCreatedEvent first = event("COMPLETED");
+        PaymentCreatedEvent second = event("COMPLETED");
+        PaymentCreatedEvent alreadyPaid = event("COMPLETED");
+        given(orderStatusTransitionService.markPaidAll(anyMap())).willReturn(List.of(
+                change(first.getOrderId()), change(second.getOrderId())));
+
+        // When
+        paymentEventConsumer.handlePaymentCreated(List.of(record(first), record(second), record(alreadyPaid)));
+
+        // Then
+        verify(orderStatusTransitionService).markPaidAll(Map.of(
+                first.getOrderId(), first.getPaymentId(),
+                second.getOrderId(), second.getPaymentId(),
+                alreadyPaid.getOrderId(), alreadyPaid.getPaymentId()));
+        verify(sagaOrchestrator).onPaymentResult(first.getOrderId(), true, null);
+        verify(sagaOrchestrator).onPaymentResult(second.getOrderId(), true, null);
+        verify(orderService).completePayment(alreadyPaid.getOrderId(), alreadyPaid.getPaymentId());
+        verify(orderService, never()).completePayment(eq(first.getOrderId()), any());
+    }
+
+    @Test
+    @DisplayName("일괄 처리가 실패하면 건별로 처리하고, 실패한 레코드만 재시도 토픽으로 옮긴다")
+    void handle_BulkFailed_FallsBackPerRecord() {
+        // Given
+        PaymentCreatedEvent broken = event("COMPLETED");
+        PaymentCreatedEvent ok = event("COMPLETED");
+        given(orderStatusTransitionService.markPaidAll(anyMap()))
+                .willThrow(new DataAccessResourceFailureException("db down"));
+        willThrow(new RuntimeException("결제 완료할 수 없는 주문 상태입니다: CANCELLED"))
+                .given(orderService).completePayment(broken.getOrderId(), broken.getPaymentId());
+
+        ConsumerRecord<String, PaymentCreatedEvent> brokenRecord = record(broken);
+
+        // When
+        paymentEventConsumer.handlePaymentCreated(List.of(brokenRecord, record(ok)));
+
+        // Then
+        verify(retryTopicRouter).route(eq(brokenRecord), any(RuntimeException.class));
+        verify(retryTopicRouter, times(1)).route(any(), any());
+        verify(orderService).completePayment(ok.getOrderId(), ok.getPaymentId());
+        verify(sagaOrchestrator).onPaymentResult(ok.getOrderId(), true, null);
+        verify(sagaOrchestrator, never()).onPaymentResult(eq(broken.getOrderId()), anyBoolean(), any());
+    }
+
+    @Test
+    @DisplayName("결제 실패 이벤트는 saga 가 없으면 주문을 결제 실패로 바꾸고, 역직렬화 실패 레코드는 DLQ 로 보낸다")
+    void handle_FailedAndUndeserializable() {
+        // Given
+        PaymentCreatedEvent failed = event("FAILED");
+        given(sagaOrchestrator.onPaymentResult(failed.getOrderId(), false, "결제 실패: FAILED")).willReturn(false);
+
+        ConsumerRecord<String, PaymentCreatedEvent> undeserializable =
+                new ConsumerRecord<>("payment.created", 0, 0L, "key", null);
+
+        // When
+        paymentEventConsumer.handlePaymentCreated(List.of(undeserializable, record(failed)));
+
+        // Then
+        verify(retryTopicRouter).route(undeserializable, null);
+        verify(orderStatusTransitionService, never()).markPaidAll(anyMap());
+        verify(orderService).failPayment(failed.getOrderId(), "결제 실패");
+    }
+
+    private static PaymentCreatedEvent event(String status) {
+        return PaymentCreatedEvent.builder()
+                .paymentId(UUID.randomUUID())
+                .orderId(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .totalAmount(10000)
+                .paymentStatus(status)
+                .build();
+    }
+
+    private static ConsumerRecord<String, PaymentCreatedEvent> record(PaymentCreatedEvent event) {
+        return new ConsumerRecord<>("payment.created", 0, 0L, event.getOrderId().toString(), event);
+    }
+
+    private static OrderStatusChange change(UUID orderId) {
+        return new OrderStatusChange(orderId, "ORD-" + orderId, UUID.randomUUID(), UUID.randomUUID(), "PENDING", "PAID");
+    }
+}
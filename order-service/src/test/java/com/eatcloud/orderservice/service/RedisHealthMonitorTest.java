@@ -0,0 +1,111 @@
+package com.eatcloud.orderservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisHealthMonitor 단위 테스트")
+class RedisHealthMonitorTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RedisHealthMonitor redisHealthMonitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        redisHealthMonitor = new RedisHealthMonitor(redisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(redisHealthMonitor, "failureThreshold", 2);
+        ReflectionTestUtils.setField(redisHealthMonitor, "openDurationMs", 50L);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 OPEN")
+    void recordFailure_ReachesThreshold_Opens() {
+        // When
+        redisHealthMonitor.recordFailure(new RedisConnectionFailureException("down"));
+        assertThat(redisHealthMonitor.isAvailable()).isTrue();
+        redisHealthMonitor.recordFailure(new RedisConnectionFailureException("down"));
+
+        // Then
+        assertThat(redisHealthMonitor.getState()).isEqualTo(RedisHealthMonitor.State.OPEN);
+        assertThat(redisHealthMonitor.isAvailable()).isFalse();
+        assertThat(meterRegistry.counter("cart.redis.circuit.transitions", "from", "CLOSED", "to", "OPEN").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 에서는 단 한 번의 시험 호출만 허용, 성공 시 CLOSED")
+    void halfOpen_AllowsSingleTrial_ThenCloses() throws InterruptedException {
+        // Given
+        redisHealthMonitor.recordFailure(new RedisConnectionFailureException("down"));
+        redisHealthMonitor.recordFailure(new RedisConnectionFailureException("down"));
+        Thread.sleep(60);
+
+        // When
+        boolean firstTrial = redisHealthMonitor.isAvailable();
+        boolean secondTrial = redisHealthMonitor.isAvailable();
+
+        // Then
+        assertThat(firstTrial).isTrue();
+        assertThat(secondTrial).isFalse();
+        assertThat(redisHealthMonitor.getState()).isEqualTo(RedisHealthMonitor.State.HALF_OPEN);
+
+        redisHealthMonitor.recordSuccess();
+        assertThat(redisHealthMonitor.getState()).isEqualTo(RedisHealthMonitor.State.CLOSED);
+        assertThat(redisHealthMonitor.isAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출 실패 시 다시 OPEN")
+    void halfOpen_TrialFails_ReOpens() throws InterruptedException {
+        // Given
+        redisHealthMonitor.recordFailure(new RedisConnectionFailureException("down"));
+        redisHealthMonitor.recordFailure(new RedisConnectionFailureException("down"));
+        Thread.sleep(60);
+        assertThat(redisHealthMonitor.isAvailable()).isTrue();
+
+        // When
+        redisHealthMonitor.recordFailure(new RedisConnectionFailureException("still down"));
+
+        // Then
+        assertThat(redisHealthMonitor.getState()).isEqualTo(RedisHealthMonitor.State.OPEN);
+        assertThat(redisHealthMonitor.isAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 에서 시험 권한이 없는 스레드의 성공/실패는 상태를 바꾸지 않는다")
+    void halfOpen_ResultFromOtherThread_Ignored() throws Exception {
+        // Given
+        redisHealthMonitor.recordFailure(new RedisConnectionFailureException("down"));
+        redisHealthMonitor.recordFailure(new RedisConnectionFailureException("down"));
+        Thread.sleep(60);
+        assertThat(redisHealthMonitor.isAvailable()).isTrue();
+
+        // When - 열리기 전에 시작된 호출이 늦게 결과를 알리는 경우
+        Thread late = new Thread(() -> {
+            redisHealthMonitor.recordSuccess();
+            redisHealthMonitor.recordFailure(new RedisConnectionFailureException("late"));
+        });
+        late.start();
+        late.join();
+
+        // Then
+        assertThat(redisHealthMonitor.getState()).isEqualTo(RedisHealthMonitor.State.HALF_OPEN);
+
+        redisHealthMonitor.recordSuccess();
+        assertThat(redisHealthMonitor.getState()).isEqualTo(RedisHealthMonitor.State.CLOSED);
+    }
+}
@@ -0,0 +1,315 @@
+package com.eatcloud.orderservice.service;
+
+import com.eatcloud.orderservice.entity.OrderSaga;
+import com.eatcloud.orderservice.entity.ParkedCompensation;
+import com.eatcloud.orderservice.entity.SagaStatus;
+import com.eatcloud.orderservice.event.OrderCreatedEvent;
+import com.eatcloud.orderservice.repository.OrderSagaLogRepository;
+import com.eatcloud.orderservice.repository.OrderSagaRepository;
+import com.eatcloud.orderservice.repository.ParkedCompensationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("SagaOrchestrator 단위 테스트")
+class SagaOrchestratorTest {
+
+    @Mock
+    private OrderSagaRepository orderSagaRepository;
+
+    @Mock
+    private OrderSagaLogRepository orderSagaLogRepository;
+
+    @Mock
+    private ParkedCompensationRepository parkedCompensationRepository;
+
+    @Mock
+    private OrderSagaDefinition orderSagaDefinition;
+
+    private final List<String> calls = new ArrayList<>();
+    private RecordingStep orderStep;
+    private RecordingStep pointsStep;
+    private RecordingStep paymentStep;
+
+    private NoOpTransactionManager transactionManager;
+    private SagaOrchestrator sagaOrchestrator;
+    private OrderSaga saga;
+    private OrderCreatedEvent order;
+
+    @BeforeEach
+    void setUp() {
+        orderStep = new RecordingStep("ORDER", null, true, null);
+        pointsStep = new RecordingStep("POINTS", Duration.ofSeconds(30), true, Duration.ofSeconds(30));
+        paymentStep = new RecordingStep("PAYMENT", Duration.ofMinutes(30), false, null);
+        given(orderSagaDefinition.steps()).willReturn(List.of(orderStep, pointsStep, paymentStep));
+
+        transactionManager = new NoOpTransactionManager();
+        sagaOrchestrator = new SagaOrchestrator(orderSagaRepository, orderSagaLogRepository,
+                parkedCompensationRepository, orderSagaDefinition, new ObjectMapper().registerModule(new JavaTimeModule()),
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(sagaOrchestrator, "scanBatchSize", 100);
+        ReflectionTestUtils.setField(sagaOrchestrator, "maxCompensationAttempts", 3);
+        ReflectionTestUtils.setField(sagaOrchestrator, "backoffInitialMs", 1000L);
+        ReflectionTestUtils.setField(sagaOrchestrator, "backoffMaxMs", 60000L);
+
+        given(orderSagaRepository.save(any(OrderSaga.class))).willAnswer(invocation -> {
+            saga = invocation.getArgument(0);
+            return saga;
+        });
+        given(orderSagaRepository.findForUpdate(any())).willAnswer(invocation -> Optional.ofNullable(saga));
+        given(orderSagaRepository.findByOrderIdForUpdate(any())).willAnswer(invocation -> Optional.ofNullable(saga));
+
+        order = OrderCreatedEvent.builder()
+                .orderId(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .storeId(UUID.randomUUID())
+                .totalAmount(20000)
+                .finalAmount(18000)
+                .pointsToUse(2000)
+                .build();
+    }
+
+    @Test
+    @DisplayName("시작 시 로컬 단계는 바로 진행하고 첫 원격 단계의 명령까지만 실행한 뒤 응답을 기다린다")
+    void start_RunsUntilFirstRemoteStep() {
+        // When
+        sagaOrchestrator.start(order);
+
+        // Then
+        assertThat(calls).containsExactly("execute:ORDER", "execute:POINTS");
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.RUNNING);
+        assertThat(saga.getCurrentStep()).isEqualTo(1);
+        assertThat(saga.getAwaitingReply()).isTrue();
+        assertThat(saga.getDeadlineAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("모든 원격 단계가 성공 응답을 받으면 COMPLETED")
+    void reply_AllSucceeded_Completed() {
+        // Given
+        sagaOrchestrator.start(order);
+
+        // When
+        sagaOrchestrator.onReply(saga.getSagaId(), "POINTS", false, true, null);
+        sagaOrchestrator.onPaymentResult(order.getOrderId(), true, null);
+
+        // Then
+        assertThat(calls).containsExactly("execute:ORDER", "execute:POINTS", "execute:PAYMENT");
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPLETED);
+        assertThat(saga.getDeadlineAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("결제가 거절되면 완료된 단계를 역순으로 보상하고, 원격 보상은 응답을 받은 뒤 다음 보상으로 넘어간다")
+    void reply_PaymentFailed_CompensatesInReverse() {
+        // Given
+        sagaOrchestrator.start(order);
+        sagaOrchestrator.onReply(saga.getSagaId(), "POINTS", false, true, null);
+
+        // When
+        sagaOrchestrator.onPaymentResult(order.getOrderId(), false, "결제 실패");
+
+        // Then - 포인트 환불 명령 후 응답 대기
+        assertThat(calls).endsWith("compensate:POINTS");
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATING);
+        assertThat(saga.getFailedStep()).isEqualTo("PAYMENT");
+
+        // When - 환불 완료 응답
+        sagaOrchestrator.onReply(saga.getSagaId(), "POINTS", true, true, null);
+
+        // Then
+        assertThat(calls).endsWith("compensate:POINTS", "compensate:ORDER");
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATED);
+    }
+
+    @Test
+    @DisplayName("응답 없이 deadline 이 지나면 타임아웃된 단계부터 보상한다")
+    void processExpired_StepTimeout_CompensatesTimedOutStep() {
+        // Given
+        sagaOrchestrator.start(order);
+        saga.setDeadlineAt(LocalDateTime.now().minusSeconds(1));
+        given(orderSagaRepository.findExpiredForUpdate(anyInt())).willReturn(List.of(saga));
+
+        // When
+        int processed = sagaOrchestrator.processExpired();
+
+        // Then
+        assertThat(processed).isEqualTo(1);
+        assertThat(calls).endsWith("compensate:POINTS");
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATING);
+        assertThat(saga.getFailedStep()).isEqualTo("POINTS");
+    }
+
+    @Test
+    @DisplayName("보상이 계속 실패하면 백오프로 재시도하고, 한도를 넘기면 parking 후 FAILED")
+    void compensationFailed_RetriesWithBackoffThenParks() {
+        // Given
+        sagaOrchestrator.start(order);
+        sagaOrchestrator.onReply(saga.getSagaId(), "POINTS", false, true, null);
+        sagaOrchestrator.onPaymentResult(order.getOrderId(), false, "결제 실패");
+        given(orderSagaRepository.findExpiredForUpdate(anyInt())).willAnswer(invocation -> List.of(saga));
+
+        // When - 첫 보상 거절
+        sagaOrchestrator.onReply(saga.getSagaId(), "POINTS", true, false, "customer-service 오류");
+
+        // Then - 재시도 예약 (응답 대기 아님)
+        assertThat(saga.getAttempts()).isEqualTo(1);
+        assertThat(saga.getAwaitingReply()).isFalse();
+        assertThat(saga.getDeadlineAt()).isAfter(LocalDateTime.now().plusMillis(500));
+
+        // When - 재시도 시각 도래 → 재전송 → 응답 타임아웃 반복
+        for (int i = 0; i < 4; i++) {
+            saga.setDeadlineAt(LocalDateTime.now().minusSeconds(1));
+            sagaOrchestrator.processExpired();
+        }
+
+        // Then
+        assertThat(calls.stream().filter("compensate:POINTS"::equals)).hasSize(3);
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.FAILED);
+        verify(parkedCompensationRepository).save(argThat((ParkedCompensation parked) ->
+                parked.getStep().equals("POINTS") && parked.getAttempts() == 3));
+        assertThat(calls).doesNotContain("compensate:ORDER");
+    }
+
+    @Test
+    @DisplayName("보상 중에 늦게 도착한 원 명령 응답은 무시한다")
+    void reply_LateForwardReplyDuringCompensation_Ignored() {
+        // Given
+        sagaOrchestrator.start(order);
+        saga.setDeadlineAt(LocalDateTime.now().minusSeconds(1));
+        given(orderSagaRepository.findExpiredForUpdate(anyInt())).willReturn(List.of(saga));
+        sagaOrchestrator.processExpired();
+
+        // When
+        sagaOrchestrator.onReply(saga.getSagaId(), "POINTS", false, true, null);
+
+        // Then
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATING);
+        assertThat(saga.getCurrentStep()).isEqualTo(1);
+        assertThat(calls).doesNotContain("execute:PAYMENT");
+    }
+
+    @Test
+    @DisplayName("로컬 보상이 실패하면 그 보상 트랜잭션만 롤백되고 시도 횟수는 saga 에 기록된다")
+    void compensate_LocalFailure_RollsBackOnlyCompensation() {
+        // Given
+        sagaOrchestrator.start(order);
+        orderStep.compensationFailure = new IllegalStateException("order row locked");
+
+        // When - 포인트 차감 거절 → 이전 단계(ORDER) 로컬 보상 실패
+        sagaOrchestrator.onReply(saga.getSagaId(), "POINTS", false, false, "insufficient points");
+
+        // Then
+        assertThat(transactionManager.rollbacks).isEqualTo(1);
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATING);
+        assertThat(saga.getCurrentStep()).isZero();
+        assertThat(saga.getAttempts()).isEqualTo(1);
+        assertThat(saga.getLastError()).isEqualTo("order row locked");
+        assertThat(saga.getDeadlineAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("보상 재시도 간격은 지수적으로 늘어나고 최대값에서 멈춘다")
+    void backoff_Exponential_Capped() {
+        assertThat(sagaOrchestrator.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(sagaOrchestrator.backoff(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(sagaOrchestrator.backoff(30)).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    private final class RecordingStep implements SagaStep {
+
+        private final String name;
+        private final Duration timeout;
+        private final boolean compensatable;
+        private final Duration compensationTimeout;
+        private RuntimeException compensationFailure;
+
+        RecordingStep(String name, Duration timeout, boolean compensatable, Duration compensationTimeout) {
+            this.name = name;
+            this.timeout = timeout;
+            this.compensatable = compensatable;
+            this.compensationTimeout = compensationTimeout;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public Duration timeout() {
+            return timeout;
+        }
+
+        @Override
+        public void execute(OrderSaga saga, OrderCreatedEvent order) {
+            calls.add("execute:" + name);
+        }
+
+        @Override
+        public boolean hasCompensation() {
+            return compensatable;
+        }
+
+        @Override
+        public Duration compensationTimeout() {
+            return compensationTimeout;
+        }
+
+        @Override
+        public void compensate(OrderSaga saga, OrderCreatedEvent order) {
+            calls.add("compensate:" + name);
+            if (compensationFailure != null) {
+                throw compensationFailure;
+            }
+        }
+    }
+
+    static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        int rollbacks;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rollbacks++;
+        }
+    }
+}
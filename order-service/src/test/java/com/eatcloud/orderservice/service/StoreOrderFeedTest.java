@@ -0,0 +1,173 @@
+package com.eatcloud.orderservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("StoreOrderFeed 단위 테스트")
+class StoreOrderFeedTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RedisHealthMonitor redisHealthMonitor;
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private StoreOrderFeed storeOrderFeed;
+    private UUID storeId;
+
+    @BeforeEach
+    void setUp() {
+        storeOrderFeed = new StoreOrderFeed(stringRedisTemplate, redissonClient, redisHealthMonitor, new ObjectMapper(),
+                new SimpleMeterRegistry()) {
+            @Override
+            SseEmitter newEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        ReflectionTestUtils.setField(storeOrderFeed, "replayLimit", 500);
+        ReflectionTestUtils.setField(storeOrderFeed, "emitterTimeoutMs", 60000L);
+        storeId = UUID.randomUUID();
+
+        given(redisHealthMonitor.isAvailable()).willReturn(true);
+        given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+    }
+
+    @Test
+    @DisplayName("재연결 시 커서 이후 delta 를 재전송하고, 재전송 중 도착한 실시간 delta 는 중복 없이 순서대로 이어 보낸다")
+    void subscribe_WithCursor_ReplaysThenContinuesLive() {
+        // Given - 재전송 조회 도중 pub/sub 로 1-3(중복), 1-4(신규) 도착
+        given(streamOperations.range(anyString(), any(Range.class), any(Limit.class))).willAnswer(invocation -> {
+            storeOrderFeed.onMessage(message(storeId, "1-4"));
+            storeOrderFeed.onMessage(message(storeId, "1-3"));
+            return List.of(record("1-1"), record("1-2"), record("1-3"));
+        });
+
+        // When
+        storeOrderFeed.subscribe(storeId, "1-1");
+        storeOrderFeed.onMessage(message(storeId, "1-5"));
+
+        // Then
+        assertThat(emitters.get(0).ids).containsExactly("1-2", "1-3", "1-4", "1-5");
+    }
+
+    @Test
+    @DisplayName("커서가 보존 범위 밖이면 reset 을 보내고 이후 실시간 delta 를 이어 보낸다")
+    void subscribe_CursorTrimmed_SendsReset() {
+        // Given - 1-1 은 이미 잘려 나감
+        given(streamOperations.range(anyString(), any(Range.class), any(Limit.class)))
+                .willReturn(List.of(record("5-0"), record("6-0")));
+
+        // When
+        storeOrderFeed.subscribe(storeId, "1-1");
+        storeOrderFeed.onMessage(message(storeId, "7-0"));
+
+        // Then
+        assertThat(emitters.get(0).events).containsExactly("reset", "order");
+        assertThat(emitters.get(0).ids).containsExactly("7-0");
+    }
+
+    @Test
+    @DisplayName("실시간 delta 는 해당 매장 구독자에게만 전달된다")
+    void onMessage_DeliversOnlyToStoreSubscribers() {
+        // Given
+        UUID otherStoreId = UUID.randomUUID();
+        storeOrderFeed.subscribe(storeId, null);
+        storeOrderFeed.subscribe(otherStoreId, null);
+
+        // When
+        storeOrderFeed.onMessage(message(storeId, "1-0"));
+
+        // Then
+        assertThat(emitters.get(0).ids).containsExactly("1-0");
+        assertThat(emitters.get(1).ids).isEmpty();
+        then(streamOperations).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException")
+    void subscribe_InvalidCursor_Rejected() {
+        assertThatThrownBy(() -> storeOrderFeed.subscribe(storeId, "abc"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("스트림 ID 는 시각, 순번 순으로 비교한다")
+    void compareIds_NumericOrder() {
+        assertThat(StoreOrderFeed.compareIds("10-0", "9-5")).isPositive();
+        assertThat(StoreOrderFeed.compareIds("10-2", "10-10")).isNegative();
+        assertThat(StoreOrderFeed.compareIds("10-2", "10-2")).isZero();
+    }
+
+    private static String message(UUID storeId, String id) {
+        return storeId + "|" + id + "|{\"orderId\":\"" + id + "\"}";
+    }
+
+    private static MapRecord<String, Object, Object> record(String id) {
+        return StreamRecords.newRecord()
+                .in("order:feed")
+                .withId(RecordId.of(id))
+                .ofMap(Map.<Object, Object>of("payload", "{}"));
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern ID = Pattern.compile("^id:(\\S+)$", Pattern.MULTILINE);
+        private static final Pattern EVENT = Pattern.compile("^event:(\\S+)$", Pattern.MULTILINE);
+
+        private final List<String> ids = new ArrayList<>();
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(data -> text.append(data.getData()));
+            Matcher id = ID.matcher(text);
+            if (id.find()) {
+                ids.add(id.group(1));
+            }
+            Matcher event = EVENT.matcher(text);
+            if (event.find()) {
+                events.add(event.group(1));
+            }
+        }
+    }
+}
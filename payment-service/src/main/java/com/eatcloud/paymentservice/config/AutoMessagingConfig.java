@@ -0,0 +1,11 @@
+package com.eatcloud.paymentservice.config;
+
+import org.springframework.context.annotation.Configuration;
+
+import com.eatcloud.automessaging.annotation.EnableAutoMessaging;
+
+@Configuration
+@EnableAutoMessaging //  AutoMessagingConfiguration를 @Import 하며, outbox / 재시도 토픽 / Idempotency-Key 빈과 엔티티 패키지를 등록
+public class AutoMessagingConfig {
+
+}
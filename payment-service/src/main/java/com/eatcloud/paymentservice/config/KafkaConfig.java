@@ -11,6 +11,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
@@ -22,6 +23,12 @@ public class KafkaConfig {
     
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
+
+    @Value("${order-events.consumer.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Value("${order-events.consumer.concurrency:3}")
+    private int concurrency;
     
     // Producer 설정
     @Bean
@@ -40,8 +47,31 @@ public class KafkaConfig {
     public KafkaTemplate<String, PaymentCreatedEvent> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
+
+    /**
+     * outbox relay 전용 Producer - payload 는 이미 JSON 문자열로 저장되어 있으므로 그대로 전송
+     * 멱등 Producer 로 재시도 시에도 파티션 내 순서와 중복 없는 전송을 보장
+     */
+    @Bean
+    public ProducerFactory<String, String> outboxProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, String> outboxKafkaTemplate() {
+        return new KafkaTemplate<>(outboxProducerFactory());
+    }
     
-    // Consumer 설정
+    // Consumer 설정 - 배치 소비, 역직렬화 실패 레코드는 null 값으로 넘겨 배치 전체가 막히지 않도록 한다
     @Bean
     public ConsumerFactory<String, OrderCreatedEvent> consumerFactory() {
         Map<String, Object> configProps = new HashMap<>();
@@ -50,12 +80,14 @@ public class KafkaConfig {
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxBatchSize);
 
         JsonDeserializer<OrderCreatedEvent> valueDeserializer = new JsonDeserializer<>(OrderCreatedEvent.class);
         valueDeserializer.addTrustedPackages("*");
         valueDeserializer.setUseTypeHeaders(false);
 
-        return new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(), valueDeserializer);
+        return new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(valueDeserializer));
     }
     
     @Bean
@@ -63,6 +95,23 @@ public class KafkaConfig {
         ConcurrentKafkaListenerContainerFactory<String, OrderCreatedEvent> factory = 
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        // 파티션 수까지 consumer 스레드를 늘리고, poll 한 묶음을 List 로 한 번에 처리
+        factory.setConcurrency(concurrency);
+        factory.setBatchListener(true);
         return factory;
     }
-} 
\ No newline at end of file
+
+    /**
+     * 재시도 단계 / DLQ 토픽 Consumer - 값은 원본 JSON 문자열 그대로 받는다
+     * group 은 재시도 컨테이너마다 지정하고, DLQ 조회는 group 없이 파티션을 직접 assign 한다.
+     */
+    @Bean
+    public ConsumerFactory<String, String> retryConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        return new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(), new StringDeserializer());
+    }
+}
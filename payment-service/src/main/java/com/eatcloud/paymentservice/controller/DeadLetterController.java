@@ -0,0 +1,56 @@
+package com.eatcloud.paymentservice.controller;
+
+import com.eatcloud.automessaging.retry.DeadLetterService;
+import com.eatcloud.paymentservice.dto.response.DeadLetterRecordResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/payments/admin/dead-letters")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Payment Dead Letters", description = "결제 이벤트 DLQ 관리 API")
+public class DeadLetterController {
+
+    private final DeadLetterService deadLetterService;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    @Operation(summary = "DLQ 조회", description = "offset 을 생략하면 파티션의 최근 레코드를 반환합니다.")
+    public ResponseEntity<List<DeadLetterRecordResponse>> getDeadLetters(
+            @RequestParam(defaultValue = "order.created") String topic,
+            @RequestParam(defaultValue = "0") int partition,
+            @RequestParam(required = false) Long offset,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            return ResponseEntity.ok(deadLetterService.find(topic, partition, offset, size).stream()
+                    .map(DeadLetterRecordResponse::from)
+                    .toList());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{partition}/{offset}/replay")
+    @Operation(summary = "DLQ 재처리", description = "DLQ 레코드를 원 토픽으로 다시 보냅니다.")
+    public ResponseEntity<DeadLetterRecordResponse> replay(
+            @RequestParam(defaultValue = "order.created") String topic,
+            @PathVariable int partition,
+            @PathVariable long offset) {
+        log.info("DLQ 재처리 요청: topic={}, partition={}, offset={}", topic, partition, offset);
+        try {
+            return ResponseEntity.ok(DeadLetterRecordResponse.from(deadLetterService.replay(topic, partition, offset)));
+        } catch (IllegalArgumentException e) {
+            log.warn("DLQ 재처리 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.eatcloud.paymentservice.controller;
 
+import com.eatcloud.automessaging.idempotency.IdempotencyService;
 import com.eatcloud.paymentservice.service.PaymentService;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -22,14 +25,29 @@ import org.springframework.beans.factory.annotation.Value;
 @Tag(name = "Payment Service", description = "결제 서비스 API")
 public class PaymentController {
     
+    private static final TypeReference<String> CONFIRM_BODY = new TypeReference<>() {
+    };
+
     private final PaymentService paymentService;
+    private final IdempotencyService idempotencyService;
     @Value("${payment.mock.enabled:false}")
     private boolean mockEnabled;
     
     @PostMapping("/confirm")
-    @Operation(summary = "결제 승인", description = "토스페이먼츠 결제 승인을 처리합니다.")
+    @Operation(summary = "결제 승인", description = "토스페이먼츠 결제 승인을 처리합니다. Idempotency-Key 헤더로 재시도 시 같은 결과를 반환합니다.")
     public ResponseEntity<String> confirmPayment(@RequestBody Map<String, Object> request,
+                                               @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
                                                @AuthenticationPrincipal Jwt jwt) {
+        if (jwt == null) {
+            return ResponseEntity.badRequest().body("결제 처리 중 오류가 발생했습니다: 인증 정보가 없습니다.");
+        }
+
+        // 같은 키의 재시도는 저장된 응답을 반환, 처리 중이면 완료를 기다린다
+        return idempotencyService.execute("payment-confirm", jwt.getSubject(), idempotencyKey, request, CONFIRM_BODY,
+                () -> doConfirmPayment(request, jwt));
+    }
+
+    private ResponseEntity<String> doConfirmPayment(Map<String, Object> request, Jwt jwt) {
         try {
             UUID customerId = UUID.fromString(jwt.getSubject());
             
@@ -0,0 +1,45 @@
+package com.eatcloud.paymentservice.dto.response;
+
+import com.eatcloud.automessaging.retry.DeadLetterRecord;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeadLetterRecordResponse {
+    private String topic;
+    private int partition;
+    private long offset;
+    private String key;
+    private String payload;
+    private String originalTopic;
+    private Integer originalPartition;
+    private Long originalOffset;
+    private Integer attempts;
+    private String exception;
+    private LocalDateTime deadLetteredAt;
+
+    public static DeadLetterRecordResponse from(DeadLetterRecord record) {
+        return DeadLetterRecordResponse.builder()
+            .topic(record.topic())
+            .partition(record.partition())
+            .offset(record.offset())
+            .key(record.key())
+            .payload(record.payload())
+            .originalTopic(record.originalTopic())
+            .originalPartition(record.originalPartition())
+            .originalOffset(record.originalOffset())
+            .attempts(record.attempts())
+            .exception(record.exception())
+            .deadLetteredAt(record.deadLetteredAt())
+            .build();
+    }
+}
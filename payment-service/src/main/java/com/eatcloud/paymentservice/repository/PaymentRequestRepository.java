@@ -5,6 +5,7 @@ import com.eatcloud.paymentservice.entity.PaymentRequest;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,5 +13,7 @@ import java.util.UUID;
 @Repository
 public interface PaymentRequestRepository extends SoftDeleteRepository<PaymentRequest, UUID> {
     Optional<PaymentRequest> findByOrderId(UUID orderId);
+    boolean existsByOrderId(UUID orderId);
+    List<PaymentRequest> findByOrderIdIn(Collection<UUID> orderIds);
     List<PaymentRequest> findByStatusAndTimeoutAtBefore(String status, LocalDateTime timeoutAt);
 } 
\ No newline at end of file
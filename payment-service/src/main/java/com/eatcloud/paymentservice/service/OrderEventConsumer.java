@@ -1,36 +1,88 @@
 package com.eatcloud.paymentservice.service;
 
+import com.eatcloud.automessaging.retry.RetryTopicRouter;
 import com.eatcloud.paymentservice.event.OrderCreatedEvent;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * order.created 배치 소비
+ *
+ * poll 한 번에 받은 레코드를 한 트랜잭션으로 결제 요청 일괄 생성한다.
+ * 일괄 저장이 실패하면 해당 배치만 건별 처리로 내려가고, 건별로도 실패한 레코드는 재시도 토픽으로 옮긴다 (RetryTopicRouter).
+ * 역직렬화에 실패한 레코드는 값이 null 로 넘어오므로 재시도 없이 DLQ 로 보낸다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OrderEventConsumer {
+
+    static final String TOPIC = "order.created";
+    static final String GROUP_ID = "payment-service";
     
     private final PaymentService paymentService;
+    private final RetryTopicRouter retryTopicRouter;
+
+    @PostConstruct
+    void registerRetryTopics() {
+        retryTopicRouter.register(TOPIC, GROUP_ID, OrderCreatedEvent.class, this::createPaymentRequest);
+    }
     
-    @KafkaListener(topics = "order.created", groupId = "payment-service")
-    public void handleOrderCreated(OrderCreatedEvent event) {
-        log.info("주문 생성 이벤트 수신: orderId={}, customerId={}, finalAmount={}", 
-                event.getOrderId(), event.getCustomerId(), event.getFinalAmount());
-        
+    @KafkaListener(topics = TOPIC, groupId = GROUP_ID)
+    public void handleOrderCreated(List<ConsumerRecord<String, OrderCreatedEvent>> records) {
+        List<ConsumerRecord<String, OrderCreatedEvent>> valid = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, OrderCreatedEvent> record : records) {
+            if (record.value() == null) {
+                // 역직렬화 실패 - 재시도 없이 DLQ
+                retryTopicRouter.route(record, null);
+            } else {
+                valid.add(record);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+        log.info("주문 생성 이벤트 배치 수신: size={}", valid.size());
+
+        try {
+            paymentService.createPaymentRequests(valid.stream().map(ConsumerRecord::value).toList());
+        } catch (Exception e) {
+            log.warn("결제 요청 일괄 생성 실패, 건별 처리로 전환: size={}, error={}", valid.size(), e.getMessage());
+            valid.forEach(this::handleOne);
+        }
+    }
+
+    private void handleOne(ConsumerRecord<String, OrderCreatedEvent> record) {
         try {
-            // 결제 요청 생성
-            paymentService.createPaymentRequest(
-                    event.getOrderId(),
-                    event.getCustomerId(),
-                    event.getFinalAmount()
-            );
-            
-            log.info("주문 생성 이벤트 처리 완료: orderId={}", event.getOrderId());
-            
+            createPaymentRequest(record.value());
         } catch (Exception e) {
-            log.error("주문 생성 이벤트 처리 실패: orderId={}", event.getOrderId(), e);
-            // 실제 운영에서는 Dead Letter Queue나 재시도 로직을 구현해야 합니다.
+            log.error("주문 생성 이벤트 처리 실패, 재시도 토픽으로 이동: orderId={}", record.value().getOrderId(), e);
+            retryTopicRouter.route(record, e);
+        }
+    }
+
+    /**
+     * 건별 처리 / 재시도 - 일괄 경로와 같이 이미 결제 요청이 있는 주문은 건너뛰므로 재처리해도 중복 생성되지 않는다
+     * 다른 소비자와 동시에 넣다가 유니크 인덱스에 걸린 경우도 이미 만들어진 것으로 보고 끝낸다.
+     */
+    private void createPaymentRequest(OrderCreatedEvent event) {
+        try {
+            paymentService.createPaymentRequests(List.of(event));
+        } catch (DataIntegrityViolationException e) {
+            if (!paymentService.hasPaymentRequest(event.getOrderId())) {
+                throw e;
+            }
+            log.info("이미 결제 요청이 있는 주문, 건너뜀: orderId={}", event.getOrderId());
+            return;
         }
+        log.info("주문 생성 이벤트 처리 완료: orderId={}", event.getOrderId());
     }
-} 
\ No newline at end of file
+}
@@ -1,33 +1,28 @@
 package com.eatcloud.paymentservice.service;
 
+import com.eatcloud.automessaging.outbox.OutboxWriter;
 import com.eatcloud.paymentservice.event.PaymentCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.CompletableFuture;
-
+/**
+ * 결제 도메인 이벤트 발행 - outbox 에 기록하고 OutboxRelay 가 Kafka 로 전송한다.
+ * 결제를 저장하는 트랜잭션 안에서 호출해야 한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentEventProducer {
 
-	private final KafkaTemplate<String, PaymentCreatedEvent> kafkaTemplate;
+	static final String PAYMENT_AGGREGATE = "PAYMENT";
 	private static final String PAYMENT_CREATED_TOPIC = "payment.created";
 
-	public CompletableFuture<SendResult<String, PaymentCreatedEvent>> publishPaymentCreated(PaymentCreatedEvent event) {
-		log.info("결제 생성 이벤트 발행: paymentId={}, orderId={}", event.getPaymentId(), event.getOrderId());
+	private final OutboxWriter outboxWriter;
+
+	public void publishPaymentCreated(PaymentCreatedEvent event) {
+		log.info("결제 생성 이벤트 기록: paymentId={}, orderId={}", event.getPaymentId(), event.getOrderId());
 
-		return kafkaTemplate.send(PAYMENT_CREATED_TOPIC, event.getPaymentId().toString(), event)
-				.whenComplete((result, throwable) -> {
-					if (throwable != null) {
-						log.error("결제 생성 이벤트 발행 실패: paymentId={}", event.getPaymentId(), throwable);
-					} else {
-						log.info("결제 생성 이벤트 발행 성공: paymentId={}, partition={}, offset={}",
-								event.getPaymentId(), result.getRecordMetadata().partition(), result.getRecordMetadata().offset());
-					}
-				});
+		outboxWriter.append(PAYMENT_AGGREGATE, event.getPaymentId().toString(), PAYMENT_CREATED_TOPIC, event);
 	}
-}
\ No newline at end of file
+}
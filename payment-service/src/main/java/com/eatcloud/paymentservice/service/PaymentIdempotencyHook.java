@@ -0,0 +1,29 @@
+package com.eatcloud.paymentservice.service;
+
+import com.eatcloud.automessaging.idempotency.IdempotencyHook;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 결제 승인 Idempotency-Key 거절 응답 - Redis 상태 감시는 없어 오류 시 키 없이 실행한다
+ */
+@Component
+public class PaymentIdempotencyHook implements IdempotencyHook {
+
+    @Override
+    public RuntimeException invalidKey() {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 Idempotency-Key 입니다.");
+    }
+
+    @Override
+    public RuntimeException keyMismatch() {
+        return new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                "같은 Idempotency-Key 로 다른 요청이 전송되었습니다.");
+    }
+
+    @Override
+    public RuntimeException stillProcessing() {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "결제가 이미 처리 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+}
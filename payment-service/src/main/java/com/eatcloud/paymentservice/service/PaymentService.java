@@ -5,6 +5,7 @@ import com.eatcloud.paymentservice.entity.PaymentMethodCode;
 import com.eatcloud.paymentservice.entity.PaymentRequest;
 import com.eatcloud.paymentservice.entity.PaymentStatus;
 import com.eatcloud.paymentservice.entity.PaymentRequestStatus;
+import com.eatcloud.paymentservice.event.OrderCreatedEvent;
 import com.eatcloud.paymentservice.event.PaymentCreatedEvent;
 import com.eatcloud.paymentservice.repository.PaymentMethodCodeRepository;
 import com.eatcloud.paymentservice.repository.PaymentRepository;
@@ -16,6 +17,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -60,7 +64,51 @@ public class PaymentService {
         
         return savedRequest;
     }
+
+    /**
+     * order.created 배치 단위 결제 요청 생성 - 한 트랜잭션에서 saveAll 로 묶어 insert 한다 (hibernate jdbc batch)
+     * 이미 결제 요청이 있는 주문(재전달)은 건너뛴다. 한 건이라도 실패하면 전체가 롤백되고 호출자가 건별 처리로 내려간다.
+     * 조회와 insert 사이에 다른 소비자가 같은 주문을 넣었으면 uq_payment_requests_order 위반(DataIntegrityViolationException)으로 실패한다.
+     */
+    @Transactional
+    public List<PaymentRequest> createPaymentRequests(List<OrderCreatedEvent> events) {
+        Map<UUID, OrderCreatedEvent> byOrderId = new LinkedHashMap<>();
+        events.forEach(event -> byOrderId.putIfAbsent(event.getOrderId(), event));
+        paymentRequestRepository.findByOrderIdIn(byOrderId.keySet())
+                .forEach(existing -> byOrderId.remove(existing.getOrderId()));
+
+        LocalDateTime timeoutAt = LocalDateTime.now().plusMinutes(PAYMENT_TIMEOUT_MINUTES);
+        List<PaymentRequest> paymentRequests = new ArrayList<>(byOrderId.size());
+        for (OrderCreatedEvent event : byOrderId.values()) {
+            String redirectUrl = tossPaymentService.createPaymentRequest(
+                    event.getOrderId().toString(), event.getFinalAmount(), event.getCustomerId().toString()
+            );
+            paymentRequests.add(PaymentRequest.builder()
+                    .orderId(event.getOrderId())
+                    .customerId(event.getCustomerId())
+                    .pgProvider("TOSS")
+                    .requestPayload("{}")
+                    .redirectUrl(redirectUrl)
+                    .status(PaymentRequestStatus.PENDING)
+                    .timeoutAt(timeoutAt)
+                    .build());
+        }
+        if (paymentRequests.isEmpty()) {
+            return List.of();
+        }
+
+        List<PaymentRequest> savedRequests = paymentRequestRepository.saveAll(paymentRequests);
+        schedulePaymentTimeout(savedRequests.stream().map(PaymentRequest::getPaymentRequestId).toList());
+
+        log.info("결제 요청 일괄 생성 완료: received={}, created={}", events.size(), savedRequests.size());
+        return savedRequests;
+    }
     
+    @Transactional(readOnly = true)
+    public boolean hasPaymentRequest(UUID orderId) {
+        return paymentRequestRepository.existsByOrderId(orderId);
+    }
+
     @Transactional
     public Payment confirmPayment(String paymentKey, String orderId, Integer amount) {
         log.info("결제 승인 처리: paymentKey={}, orderId={}, amount={}", paymentKey, orderId, amount);
@@ -175,13 +223,21 @@ public class PaymentService {
     
     @Async
     public CompletableFuture<Void> schedulePaymentTimeout(UUID paymentRequestId) {
+        return schedulePaymentTimeout(List.of(paymentRequestId));
+    }
+
+    /**
+     * 같은 배치로 생성된 요청은 타임아웃 시각이 같으므로 대기 작업 하나로 처리한다
+     */
+    @Async
+    public CompletableFuture<Void> schedulePaymentTimeout(List<UUID> paymentRequestIds) {
         return CompletableFuture.runAsync(() -> {
             try {
                 // 5분 대기
                 Thread.sleep(PAYMENT_TIMEOUT_MINUTES * 60 * 1000);
                 
                 // 타임아웃 처리
-                updateExpiredPaymentRequest(paymentRequestId);
+                paymentRequestIds.forEach(this::updateExpiredPaymentRequest);
                 
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -2,6 +2,8 @@
 
 -- 기존 테이블 삭제 (순서 주의: 외래키 참조 순서대로)
 DROP TABLE IF EXISTS p_payments CASCADE;
+DROP TABLE IF EXISTS p_outbox_events CASCADE;
+DROP TABLE IF EXISTS p_outbox_lane_leases CASCADE;
 DROP TABLE IF EXISTS p_payment_requests CASCADE;
 DROP TABLE IF EXISTS payment_status_codes CASCADE;
 DROP TABLE IF EXISTS payment_method_codes CASCADE;
@@ -51,6 +53,8 @@ CREATE TABLE p_payment_requests (
     deleted_at         TIMESTAMP,
     deleted_by         VARCHAR(100)
 );
+-- 주문당 결제 요청 1건 (order.created 재전달/동시 소비 시 중복 insert 방지)
+CREATE UNIQUE INDEX IF NOT EXISTS uq_payment_requests_order ON p_payment_requests (order_id) WHERE deleted_at IS NULL;
 
 CREATE TABLE p_payments (
     payment_id         UUID PRIMARY KEY,
@@ -76,3 +80,26 @@ CREATE TABLE p_payments (
     deleted_at         TIMESTAMP,
     deleted_by         VARCHAR(100)
 );
+
+-- 트랜잭셔널 outbox (도메인 변경과 같은 트랜잭션에서 기록, OutboxRelay 가 전송 후 sent_at 기록)
+CREATE TABLE IF NOT EXISTS p_outbox_events (
+    outbox_id      BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50)  NOT NULL,
+    aggregate_id   VARCHAR(100) NOT NULL, -- Kafka key
+    key_hash       INTEGER      NOT NULL, -- relay lane = key_hash % lanes
+    topic          VARCHAR(200) NOT NULL,
+    payload        TEXT         NOT NULL,
+    attempts       INTEGER      NOT NULL DEFAULT 0,
+    last_error     VARCHAR(500),
+    created_at     TIMESTAMP    NOT NULL DEFAULT now(),
+    sent_at        TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_outbox_pending ON p_outbox_events (outbox_id) WHERE sent_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_sent_at ON p_outbox_events (sent_at) WHERE sent_at IS NOT NULL;
+
+-- OutboxRelay 레인 소유권 (lease 를 가진 레플리카 한 곳만 레인을 전송, lease_until 이 지나면 다른 레플리카가 이어받음)
+CREATE TABLE IF NOT EXISTS p_outbox_lane_leases (
+    lane        INTEGER      PRIMARY KEY,
+    owner       VARCHAR(100) NOT NULL,
+    lease_until TIMESTAMP    NOT NULL
+);
@@ -0,0 +1,142 @@
+package com.eatcloud.paymentservice.service;
+
+import com.eatcloud.automessaging.retry.RetryTopicRouter;
+import com.eatcloud.paymentservice.event.OrderCreatedEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("OrderEventConsumer 단위 테스트")
+class OrderEventConsumerTest {
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private RetryTopicRouter retryTopicRouter;
+
+    private OrderEventConsumer orderEventConsumer;
+
+    @BeforeEach
+    void setUp() {
+        orderEventConsumer = new OrderEventConsumer(paymentService, retryTopicRouter);
+    }
+
+    @Test
+    @DisplayName("배치의 주문은 한 번의 일괄 호출로 결제 요청을 만든다")
+    void handle_Batch_CreatesAllAtOnce() {
+        // Given
+        OrderCreatedEvent first = event();
+        OrderCreatedEvent second = event();
+
+        // When
+        orderEventConsumer.handleOrderCreated(List.of(record(first), record(second)));
+
+        // Then
+        verify(paymentService, times(1)).createPaymentRequests(anyList());
+        verify(paymentService).createPaymentRequests(List.of(first, second));
+        verify(retryTopicRouter, never()).route(any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 생성이 실패하면 건별로 처리하고, 실패한 레코드만 재시도 토픽으로 옮긴다")
+    void handle_BatchFailed_FallsBackPerRecord() {
+        // Given
+        OrderCreatedEvent broken = event();
+        OrderCreatedEvent ok = event();
+        ConsumerRecord<String, OrderCreatedEvent> brokenRecord = record(broken);
+        given(paymentService.createPaymentRequests(List.of(broken, ok)))
+                .willThrow(new DataAccessResourceFailureException("db down"));
+        given(paymentService.createPaymentRequests(List.of(broken)))
+                .willThrow(new IllegalStateException("toss down"));
+
+        // When
+        orderEventConsumer.handleOrderCreated(List.of(brokenRecord, record(ok)));
+
+        // Then
+        verify(paymentService).createPaymentRequests(List.of(ok));
+        verify(retryTopicRouter).route(eq(brokenRecord), any(IllegalStateException.class));
+        verify(retryTopicRouter, times(1)).route(any(), any());
+    }
+
+    @Test
+    @DisplayName("역직렬화에 실패한 레코드(null 값)는 재시도 없이 DLQ 로 보내고 나머지는 그대로 처리한다")
+    void handle_NullValue_DeadLettered() {
+        // Given
+        OrderCreatedEvent ok = event();
+        ConsumerRecord<String, OrderCreatedEvent> undeserializable =
+                new ConsumerRecord<>(OrderEventConsumer.TOPIC, 0, 0L, "key", null);
+
+        // When
+        orderEventConsumer.handleOrderCreated(List.of(undeserializable, record(ok)));
+
+        // Then
+        verify(retryTopicRouter).route(undeserializable, null);
+        verify(paymentService).createPaymentRequests(List.of(ok));
+    }
+
+    @Test
+    @DisplayName("건별 처리 중 유니크 인덱스 위반이어도 결제 요청이 이미 있으면 건너뛴다")
+    void handle_DuplicateInsert_AlreadyExists_Skipped() {
+        // Given
+        OrderCreatedEvent duplicated = event();
+        given(paymentService.createPaymentRequests(anyList()))
+                .willThrow(new DataIntegrityViolationException("uk_payment_requests_order_id"));
+        given(paymentService.hasPaymentRequest(duplicated.getOrderId())).willReturn(true);
+
+        // When
+        orderEventConsumer.handleOrderCreated(List.of(record(duplicated)));
+
+        // Then
+        verify(paymentService).hasPaymentRequest(duplicated.getOrderId());
+        verify(retryTopicRouter, never()).route(any(), any());
+    }
+
+    @Test
+    @DisplayName("유니크 인덱스 위반인데 결제 요청이 없으면 다른 무결성 오류로 보고 재시도 토픽으로 옮긴다")
+    void handle_IntegrityViolation_NotExisting_Routed() {
+        // Given
+        OrderCreatedEvent broken = event();
+        ConsumerRecord<String, OrderCreatedEvent> brokenRecord = record(broken);
+        given(paymentService.createPaymentRequests(anyList()))
+                .willThrow(new DataIntegrityViolationException("not null violation"));
+        given(paymentService.hasPaymentRequest(broken.getOrderId())).willReturn(false);
+
+        // When
+        orderEventConsumer.handleOrderCreated(List.of(brokenRecord));
+
+        // Then
+        verify(retryTopicRouter).route(eq(brokenRecord), any(DataIntegrityViolationException.class));
+    }
+
+    private static OrderCreatedEvent event() {
+        return OrderCreatedEvent.builder()
+                .orderId(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .storeId(UUID.randomUUID())
+                .totalAmount(20000)
+                .finalAmount(20000)
+                .orderStatus("PENDING")
+                .orderType("DELIVERY")
+                .build();
+    }
+
+    private static ConsumerRecord<String, OrderCreatedEvent> record(OrderCreatedEvent event) {
+        return new ConsumerRecord<>(OrderEventConsumer.TOPIC, 0, 0L, event.getOrderId().toString(), event);
+    }
+}
@@ -0,0 +1,101 @@
+package com.eatcloud.paymentservice.service;
+
+import com.eatcloud.paymentservice.entity.PaymentRequest;
+import com.eatcloud.paymentservice.event.OrderCreatedEvent;
+import com.eatcloud.paymentservice.repository.PaymentMethodCodeRepository;
+import com.eatcloud.paymentservice.repository.PaymentRepository;
+import com.eatcloud.paymentservice.repository.PaymentRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentService 단위 테스트")
+class PaymentServiceTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentRequestRepository paymentRequestRepository;
+
+    @Mock
+    private TossPaymentService tossPaymentService;
+
+    @Mock
+    private PaymentMethodCodeRepository paymentMethodCodeRepository;
+
+    @Mock
+    private PaymentEventProducer paymentEventProducer;
+
+    private PaymentService paymentService;
+
+    @BeforeEach
+    void setUp() {
+        paymentService = new PaymentService(paymentRepository, paymentRequestRepository, tossPaymentService,
+                paymentMethodCodeRepository, paymentEventProducer);
+    }
+
+    @Test
+    @DisplayName("이미 결제 요청이 있는 주문과 배치 안의 중복 주문은 건너뛰고 나머지만 만든다")
+    @SuppressWarnings("unchecked")
+    void createPaymentRequests_SkipsExistingAndDuplicates() {
+        // Given
+        OrderCreatedEvent existing = event();
+        OrderCreatedEvent fresh = event();
+        given(paymentRequestRepository.findByOrderIdIn(anyCollection())).willReturn(List.of(
+                PaymentRequest.builder().orderId(existing.getOrderId()).build()));
+        given(tossPaymentService.createPaymentRequest(anyString(), anyInt(), anyString())).willReturn("https://pay/redirect");
+        given(paymentRequestRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<PaymentRequest> created = paymentService.createPaymentRequests(List.of(existing, fresh, fresh));
+
+        // Then
+        ArgumentCaptor<List<PaymentRequest>> saved = ArgumentCaptor.forClass(List.class);
+        verify(paymentRequestRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(PaymentRequest::getOrderId).containsExactly(fresh.getOrderId());
+        assertThat(created).hasSize(1);
+        verify(tossPaymentService, times(1)).createPaymentRequest(anyString(), anyInt(), anyString());
+        verify(tossPaymentService, never()).createPaymentRequest(eq(existing.getOrderId().toString()), anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("모든 주문에 이미 결제 요청이 있으면 PG 호출과 저장을 하지 않는다")
+    void createPaymentRequests_AllExisting_NoOp() {
+        // Given
+        OrderCreatedEvent existing = event();
+        given(paymentRequestRepository.findByOrderIdIn(anyCollection())).willReturn(List.of(
+                PaymentRequest.builder().orderId(existing.getOrderId()).build()));
+
+        // When
+        List<PaymentRequest> created = paymentService.createPaymentRequests(List.of(existing));
+
+        // Then
+        assertThat(created).isEmpty();
+        verifyNoInteractions(tossPaymentService);
+        verify(paymentRequestRepository, never()).saveAll(anyList());
+    }
+
+    private static OrderCreatedEvent event() {
+        return OrderCreatedEvent.builder()
+                .orderId(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .storeId(UUID.randomUUID())
+                .totalAmount(20000)
+                .finalAmount(20000)
+                .orderStatus("PENDING")
+                .orderType("DELIVERY")
+                .build();
+    }
+}
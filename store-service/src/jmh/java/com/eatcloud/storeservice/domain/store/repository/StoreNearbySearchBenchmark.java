@@ -0,0 +1,175 @@
+package com.eatcloud.storeservice.domain.store.repository;
+
+import com.eatcloud.storeservice.domain.store.dto.StoreSearchResponseDto;
+import com.eatcloud.storeservice.domain.store.event.StoreChangedEvent;
+import com.eatcloud.storeservice.domain.store.service.StoreGeoIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 거리순 매장 검색 첫 페이지 지연 - 인메모리 geohash 격자(StoreGeoIndex) vs PostGIS GiST + KNN SQL
+ * 서울 중심 ±0.5도에 합성 매장 100,000 건(카테고리 10개, 20% 영업 종료)을 같은 시드로 양쪽에 적재한다.
+ * SQL 경로는 PostGIS 컨테이너(Docker 필요)에 한 커넥션으로 붙어 네트워크/풀 비용을 최소화한 값이다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(1)
+public class StoreNearbySearchBenchmark {
+
+    static final int STORES = 100_000;
+    static final int CATEGORIES = 10;
+    static final int PAGE_SIZE = 21;
+    static final double LAT = 37.5665;
+    static final double LON = 126.9780;
+
+    @State(Scope.Benchmark)
+    public static class Query {
+
+        @Param({"1", "3", "10"})
+        double radiusKm;
+
+        private final double[][] origins = new double[1024][];
+        private final AtomicInteger next = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(11);
+            for (int i = 0; i < origins.length; i++) {
+                origins[i] = new double[]{LAT + (random.nextDouble() - 0.5) * 0.6,
+                        LON + (random.nextDouble() - 0.5) * 0.6, random.nextInt(CATEGORIES) + 1};
+            }
+        }
+
+        double[] nextOrigin() {
+            return origins[next.getAndIncrement() & (origins.length - 1)];
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class IndexState {
+
+        StoreGeoIndex index;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            index = new StoreGeoIndex();
+            syntheticStores().forEach(index::apply);
+            index.markReady();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SqlState {
+
+        PostgreSQLContainer<?> postgis;
+        SingleConnectionDataSource dataSource;
+        NamedParameterJdbcTemplate jdbc;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            postgis = new PostgreSQLContainer<>(
+                    DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+            postgis.start();
+            dataSource = new SingleConnectionDataSource(postgis.getJdbcUrl(), postgis.getUsername(),
+                    postgis.getPassword(), true);
+            new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql")).execute(dataSource);
+            jdbc = new NamedParameterJdbcTemplate(dataSource);
+
+            List<StoreChangedEvent> stores = syntheticStores();
+            for (int from = 0; from < stores.size(); from += 1000) {
+                MapSqlParameterSource[] batch = stores.subList(from, Math.min(from + 1000, stores.size())).stream()
+                        .map(store -> new MapSqlParameterSource()
+                                .addValue("storeId", store.getStoreId())
+                                .addValue("storeName", store.getStoreName())
+                                .addValue("categoryId", store.getStoreCategoryId())
+                                .addValue("lat", store.getStoreLat())
+                                .addValue("lon", store.getStoreLon())
+                                .addValue("openStatus", store.getOpenStatus()))
+                        .toArray(MapSqlParameterSource[]::new);
+                jdbc.batchUpdate("""
+                        INSERT INTO p_stores (store_id, store_name, store_category_id, store_lat, store_lon,
+                                              open_status, open_time, close_time, location, created_by, updated_by)
+                        VALUES (:storeId, :storeName, :categoryId, :lat, :lon, :openStatus, '09:00', '22:00',
+                                CAST(ST_SetSRID(ST_MakePoint(:lon, :lat), 4326) AS geography), 'bench', 'bench')
+                        """, batch);
+            }
+            jdbc.getJdbcTemplate().execute("ANALYZE p_stores");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            dataSource.destroy();
+            postgis.stop();
+        }
+    }
+
+    @Benchmark
+    public List<StoreSearchResponseDto> inMemoryIndex(IndexState state, Query query) {
+        double[] origin = query.nextOrigin();
+        return state.index.findWithinDistance((int) origin[2], origin[0], origin[1], query.radiusKm * 1000,
+                null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<StoreSearchResponseDto> postgisKnn(SqlState state, Query query) {
+        double[] origin = query.nextOrigin();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("categoryId", (int) origin[2])
+                .addValue("lat", origin[0])
+                .addValue("lon", origin[1])
+                .addValue("distanceMeters", query.radiusKm * 1000)
+                .addValue("limit", PAGE_SIZE);
+        return state.jdbc.query(StoreCustomRepositoryImpl.nearbySql(StoreCustomRepositoryImpl.CATEGORY_FILTER, null),
+                params, (rs, rowNum) -> StoreSearchResponseDto.builder()
+                        .storeId(rs.getObject("store_id", UUID.class))
+                        .storeName(rs.getString("store_name"))
+                        .storeAddress(rs.getString("store_address"))
+                        .storeLat(rs.getDouble("store_lat"))
+                        .storeLon(rs.getDouble("store_lon"))
+                        .minCost(rs.getInt("min_cost"))
+                        .openStatus(rs.getBoolean("open_status"))
+                        .distanceMeters(rs.getDouble("distance"))
+                        .build());
+    }
+
+    static List<StoreChangedEvent> syntheticStores() {
+        Random random = new Random(42);
+        List<StoreChangedEvent> stores = new ArrayList<>(STORES);
+        for (int i = 0; i < STORES; i++) {
+            stores.add(StoreChangedEvent.builder()
+                    .storeId(new UUID(random.nextLong(), random.nextLong()))
+                    .storeName("store-" + i)
+                    .storeCategoryId(random.nextInt(CATEGORIES) + 1)
+                    .storeLat(LAT + (random.nextDouble() - 0.5))
+                    .storeLon(LON + (random.nextDouble() - 0.5))
+                    .minCost(0)
+                    .openStatus(random.nextInt(5) != 0)
+                    .version(1L)
+                    .build());
+        }
+        return stores;
+    }
+}
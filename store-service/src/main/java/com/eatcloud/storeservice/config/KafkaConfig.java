@@ -0,0 +1,205 @@
+package com.eatcloud.storeservice.config;
+
+import com.eatcloud.storeservice.domain.menu.event.MenuChangedEvent;
+import com.eatcloud.storeservice.domain.menu.event.MenuEventPublisher;
+import com.eatcloud.storeservice.domain.store.event.StoreChangedEvent;
+import com.eatcloud.storeservice.domain.store.event.StoreEventPublisher;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+@Configuration
+public class KafkaConfig {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${menu.events.topic.partitions:3}")
+    private int menuTopicPartitions;
+
+    @Value("${menu.events.topic.replicas:1}")
+    private int menuTopicReplicas;
+
+    @Value("${store.events.topic.partitions:3}")
+    private int storeTopicPartitions;
+
+    @Value("${store.events.topic.replicas:1}")
+    private int storeTopicReplicas;
+
+    /**
+     * 메뉴 변경 토픽 - 키(menuId)별 마지막 상태만 남기는 log-compacted 토픽
+     */
+    @Bean
+    public NewTopic menuChangedTopic() {
+        return TopicBuilder.name(MenuEventPublisher.MENU_CHANGED_TOPIC)
+                .partitions(menuTopicPartitions)
+                .replicas(menuTopicReplicas)
+                .compact()
+                .config(TopicConfig.MIN_COMPACTION_LAG_MS_CONFIG, "60000")
+                .build();
+    }
+
+    /**
+     * 매장 변경 토픽 - 키(storeId)별 마지막 상태만 남기는 log-compacted 토픽
+     */
+    @Bean
+    public NewTopic storeChangedTopic() {
+        return TopicBuilder.name(StoreEventPublisher.STORE_CHANGED_TOPIC)
+                .partitions(storeTopicPartitions)
+                .replicas(storeTopicReplicas)
+                .compact()
+                .config(TopicConfig.MIN_COMPACTION_LAG_MS_CONFIG, "60000")
+                .build();
+    }
+
+    @Bean
+    public ProducerFactory<String, MenuChangedEvent> menuEventProducerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerProps());
+    }
+
+    @Bean
+    public KafkaTemplate<String, MenuChangedEvent> menuEventKafkaTemplate() {
+        return new KafkaTemplate<>(menuEventProducerFactory());
+    }
+
+    @Bean
+    public ProducerFactory<String, StoreChangedEvent> storeEventProducerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerProps());
+    }
+
+    @Bean
+    public KafkaTemplate<String, StoreChangedEvent> storeEventKafkaTemplate() {
+        return new KafkaTemplate<>(storeEventProducerFactory());
+    }
+
+    /**
+     * store.changed 소비 (StoreGeoIndex, StoreAutocompleteIndex) - consumer group 없이 파티션을 직접 할당받아
+     * (broadcastPartitions) 인스턴스마다 전체를 읽는다. 시작 시점 이전 상태는 DB 부트스트랩으로 채우므로
+     * 항상 끝에서부터 읽고 오프셋은 커밋하지 않는다.
+     */
+    @Bean
+    public ConsumerFactory<String, StoreChangedEvent> storeEventConsumerFactory() {
+        Map<String, Object> configProps = broadcastConsumerProps();
+        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, StoreChangedEvent.class.getName());
+        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "com.eatcloud.storeservice.domain.store.event");
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, StoreChangedEvent> storeEventListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, StoreChangedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(storeEventConsumerFactory());
+        // ack 를 호출하지 않으므로 오프셋 커밋이 일어나지 않는다
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+
+    /**
+     * store.menu.changed 소비 (StoreAutocompleteIndex) - store.changed 와 같은 인스턴스별 구독
+     */
+    @Bean
+    public ConsumerFactory<String, MenuChangedEvent> menuEventConsumerFactory() {
+        Map<String, Object> configProps = broadcastConsumerProps();
+        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, MenuChangedEvent.class.getName());
+        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "com.eatcloud.storeservice.domain.menu.event");
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, MenuChangedEvent> menuEventListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, MenuChangedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(menuEventConsumerFactory());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+
+    /**
+     * 인스턴스별 구독의 수동 할당 파티션 - @KafkaListener(topicPartitions) 에서 SpEL 로 조회
+     */
+    @Bean
+    public BroadcastPartitions broadcastPartitions() {
+        return new BroadcastPartitions(storeEventConsumerFactory(), Map.of(
+                StoreEventPublisher.STORE_CHANGED_TOPIC, storeTopicPartitions,
+                MenuEventPublisher.MENU_CHANGED_TOPIC, menuTopicPartitions));
+    }
+
+    public static class BroadcastPartitions {
+
+        private static final Duration METADATA_TIMEOUT = Duration.ofSeconds(5);
+
+        private final ConsumerFactory<String, ?> consumerFactory;
+        private final Map<String, Integer> configuredPartitions;
+
+        BroadcastPartitions(ConsumerFactory<String, ?> consumerFactory, Map<String, Integer> configuredPartitions) {
+            this.consumerFactory = consumerFactory;
+            this.configuredPartitions = configuredPartitions;
+        }
+
+        /**
+         * 토픽이 아직 없거나(첫 기동, NewTopic 생성 전) 메타데이터를 받지 못하면 설정된 파티션 수를 쓴다
+         */
+        public String[] of(String topic) {
+            try (Consumer<String, ?> consumer = consumerFactory.createConsumer()) {
+                List<PartitionInfo> infos = consumer.partitionsFor(topic, METADATA_TIMEOUT);
+                if (infos != null && !infos.isEmpty()) {
+                    return infos.stream().map(info -> String.valueOf(info.partition())).toArray(String[]::new);
+                }
+            } catch (RuntimeException e) {
+                // 구독 측은 Kafka 가 없어도 SQL 경로로 동작하므로 기동을 막지 않는다
+            }
+            return IntStream.range(0, configuredPartitions.getOrDefault(topic, 1))
+                    .mapToObj(String::valueOf)
+                    .toArray(String[]::new);
+        }
+    }
+
+    private Map<String, Object> broadcastConsumerProps() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+        configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        return configProps;
+    }
+
+    private Map<String, Object> producerProps() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        return configProps;
+    }
+}
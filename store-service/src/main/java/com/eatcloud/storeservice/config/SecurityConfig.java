@@ -30,6 +30,7 @@ public class SecurityConfig {
             .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/v1/stores/**",
+                                 "/stores/menus/**", // 서비스 간 메뉴 가격 조회
                                  "/actuator/**",
                                  "/swagger-ui/**",
                                  "/v3/api-docs/**").permitAll()
@@ -2,17 +2,22 @@ package com.eatcloud.storeservice.domain.manager.service;
 
 import com.eatcloud.storeservice.domain.menu.dto.MenuRequestDto;
 import com.eatcloud.storeservice.domain.menu.entity.Menu;
+import com.eatcloud.storeservice.domain.menu.event.MenuChangedEvent;
+import com.eatcloud.storeservice.domain.menu.event.MenuEventPublisher;
 import com.eatcloud.storeservice.domain.menu.exception.MenuErrorCode;
 import com.eatcloud.storeservice.domain.menu.exception.MenuException;
 import com.eatcloud.storeservice.domain.menu.repository.MenuRepository;
 import com.eatcloud.storeservice.domain.store.dto.StoreRequestDto;
 import com.eatcloud.storeservice.domain.store.entity.Store;
+import com.eatcloud.storeservice.domain.store.event.StoreChangedEvent;
+import com.eatcloud.storeservice.domain.store.event.StoreEventPublisher;
 import com.eatcloud.storeservice.domain.store.exception.StoreErrorCode;
 import com.eatcloud.storeservice.domain.store.exception.StoreException;
 import com.eatcloud.storeservice.domain.store.repository.StoreRepository;
-import jakarta.transaction.Transactional;
+import com.eatcloud.storeservice.domain.store.service.StoreSearchIndexer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.util.UUID;
 
@@ -21,13 +26,22 @@ public class ManagerService {
 
     private final MenuRepository menuRepository;
     private final StoreRepository storeRepository;
+    private final MenuEventPublisher menuEventPublisher;
+    private final StoreEventPublisher storeEventPublisher;
+    private final StoreSearchIndexer storeSearchIndexer;
 
     @Autowired
-    public ManagerService(MenuRepository menuRepository, StoreRepository storeRepository) {
+    public ManagerService(MenuRepository menuRepository, StoreRepository storeRepository,
+                          MenuEventPublisher menuEventPublisher, StoreEventPublisher storeEventPublisher,
+                          StoreSearchIndexer storeSearchIndexer) {
         this.menuRepository = menuRepository;
         this.storeRepository = storeRepository;
+        this.menuEventPublisher = menuEventPublisher;
+        this.storeEventPublisher = storeEventPublisher;
+        this.storeSearchIndexer = storeSearchIndexer;
     }
 
+    @Transactional
     public Menu createMenu(UUID storeId, MenuRequestDto dto) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new StoreException(StoreErrorCode.STORE_NOT_FOUND));
@@ -57,12 +71,19 @@ public class ManagerService {
                 .price(dto.getPrice())
                 .description(dto.getDescription())
                 .isAvailable(isAvailable)
+                .isUnlimited(dto.getIsUnlimited() != null ? dto.getIsUnlimited() : dto.getStockQuantity() == null)
+                .stockQuantity(dto.getStockQuantity() != null ? dto.getStockQuantity() : 0)
                 .imageUrl(dto.getImageUrl())
                 .build();
 
-        return menuRepository.save(menu);
+        // version 이 채워진 뒤 이벤트에 담도록 flush
+        Menu saved = menuRepository.saveAndFlush(menu);
+        storeSearchIndexer.reindex(saved.getStore().getStoreId());
+        menuEventPublisher.publish(MenuChangedEvent.of(saved, false));
+        return saved;
     }
 
+    @Transactional
     public Menu updateMenu(UUID storeId, UUID menuId, MenuRequestDto dto) {
         Menu menu = menuRepository.findById(menuId)
                 .orElseThrow(() -> new MenuException(MenuErrorCode.MENU_NOT_FOUND));
@@ -88,20 +109,37 @@ public class ManagerService {
         menu.setPrice(dto.getPrice());
         menu.setDescription(dto.getDescription());
         menu.setIsAvailable(dto.getIsAvailable() != null ? dto.getIsAvailable() : true);
+        // 재고 필드는 보낸 경우에만 바꾼다 (기존 클라이언트가 재고를 0 으로 덮어쓰지 않게)
+        if (dto.getIsUnlimited() != null) {
+            menu.setIsUnlimited(dto.getIsUnlimited());
+        } else if (dto.getStockQuantity() != null) {
+            menu.setIsUnlimited(false);
+        }
+        if (dto.getStockQuantity() != null) {
+            menu.setStockQuantity(dto.getStockQuantity());
+        }
         menu.setImageUrl(dto.getImageUrl());
 
-        return menuRepository.save(menu);
+        // 올라간 version 을 이벤트에 담도록 flush (행 락은 커밋까지 유지되어 version 순서 = 커밋 순서)
+        Menu saved = menuRepository.saveAndFlush(menu);
+        storeSearchIndexer.reindex(saved.getStore().getStoreId());
+        menuEventPublisher.publish(MenuChangedEvent.of(saved, false));
+        return saved;
     }
 
 
     @Transactional
     public void deleteMenu(UUID menuId) {
-        menuRepository.findById(menuId)
+        Menu menu = menuRepository.findById(menuId)
                 .orElseThrow(() -> new MenuException(MenuErrorCode.MENU_NOT_FOUND));
 
         menuRepository.softDeleteById(menuId,"매니저");
+        menuRepository.flush();
+        storeSearchIndexer.reindex(menu.getStore().getStoreId());
+        menuEventPublisher.publish(MenuChangedEvent.of(menu, true));
     }
 
+    @Transactional
     public void updateStore(UUID storeId, StoreRequestDto dto) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new StoreException(StoreErrorCode.STORE_NOT_FOUND));
@@ -115,6 +153,11 @@ public class ManagerService {
         if (dto.getStoreLon() != null) store.setStoreLon(dto.getStoreLon());
         if (dto.getOpenTime() != null) store.setOpenTime(dto.getOpenTime());
         if (dto.getCloseTime() != null) store.setCloseTime(dto.getCloseTime());
+
+        // updated_at 이 채워진 뒤 이벤트 version 으로 쓰도록 flush
+        storeRepository.saveAndFlush(store);
+        storeSearchIndexer.reindex(storeId);
+        storeEventPublisher.publish(StoreChangedEvent.of(store, false));
     }
 
 
@@ -0,0 +1,38 @@
+package com.eatcloud.storeservice.domain.menu.controller;
+
+import com.eatcloud.storeservice.domain.menu.dto.MenuPriceRequestDto;
+import com.eatcloud.storeservice.domain.menu.dto.MenuPriceResponseDto;
+import com.eatcloud.storeservice.domain.menu.service.MenuService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 서비스 간 메뉴 가격 조회 (order-service 주문 생성 시 사용)
+ * 응답은 ApiResponse 로 감싸지 않은 원본 값
+ */
+@RestController
+@RequestMapping("/stores/menus")
+@RequiredArgsConstructor
+@Tag(name = "5-3. MenuPriceController")
+public class MenuPriceController {
+
+	private final MenuService menuService;
+
+	@Operation(summary = "메뉴 가격/판매 가능 여부 일괄 조회")
+	@PostMapping("/prices")
+	public List<MenuPriceResponseDto> getMenuPrices(@Valid @RequestBody MenuPriceRequestDto request) {
+		return menuService.getMenuPrices(request.getMenuIds());
+	}
+
+	@Operation(summary = "단일 메뉴 가격 조회")
+	@GetMapping("/{menuId}/price")
+	public Integer getMenuPrice(@PathVariable UUID menuId) {
+		return menuService.getMenuPrice(menuId).intValue();
+	}
+}
@@ -0,0 +1,22 @@
+package com.eatcloud.storeservice.domain.menu.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MenuPriceRequestDto {
+
+    @NotEmpty(message = "메뉴 ID 목록은 필수입니다.")
+    @Size(max = 100, message = "한 번에 최대 100개 메뉴까지 조회할 수 있습니다.")
+    private List<UUID> menuIds;
+}
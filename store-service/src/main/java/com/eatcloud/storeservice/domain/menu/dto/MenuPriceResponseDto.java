@@ -0,0 +1,36 @@
+package com.eatcloud.storeservice.domain.menu.dto;
+
+import com.eatcloud.storeservice.domain.menu.entity.Menu;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 주문 검증용 메뉴 가격/판매 가능 여부
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuPriceResponseDto {
+    private UUID menuId;
+    private UUID storeId;
+    private BigDecimal price;
+    private Boolean available;
+
+    public static MenuPriceResponseDto from(Menu menu) {
+        boolean inStock = Boolean.TRUE.equals(menu.getIsUnlimited())
+                || (menu.getStockQuantity() != null && menu.getStockQuantity() > 0);
+
+        return MenuPriceResponseDto.builder()
+                .menuId(menu.getId())
+                .storeId(menu.getStore().getStoreId())
+                .price(menu.getPrice())
+                .available(Boolean.TRUE.equals(menu.getIsAvailable()) && inStock)
+                .build();
+    }
+}
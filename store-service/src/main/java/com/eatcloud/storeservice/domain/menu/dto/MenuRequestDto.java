@@ -35,6 +35,12 @@ public class MenuRequestDto {
 
     private Boolean isAvailable;
 
+    // 재고 - 둘 다 비우면 무제한 판매, stockQuantity 만 주면 재고 관리
+    private Boolean isUnlimited;
+
+    @Min(value = 0, message = "재고 수량은 0 이상이어야 합니다.")
+    private Integer stockQuantity;
+
     private String imageUrl;
 
     private UUID pTimeId;
@@ -20,6 +20,8 @@ public class MenuResponseDto {
     private BigDecimal price;
     private String description;
     private Boolean isAvailable;
+    private Boolean isUnlimited;
+    private Integer stockQuantity;
     private String imageUrl;
 
     public static MenuResponseDto from(Menu menu) {
@@ -31,6 +33,8 @@ public class MenuResponseDto {
                 .price(menu.getPrice())
                 .description(menu.getDescription())
                 .isAvailable(menu.getIsAvailable())
+                .isUnlimited(menu.getIsUnlimited())
+                .stockQuantity(menu.getStockQuantity())
                 .imageUrl(menu.getImageUrl())
                 .build();
     }
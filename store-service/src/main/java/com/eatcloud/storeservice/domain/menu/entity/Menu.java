@@ -59,5 +59,10 @@ public class Menu extends BaseTimeEntity {
     @Builder.Default
     private Integer stockQuantity = 0;
 
+    // 변경마다 DB 행 락 아래에서 올라가므로 같은 메뉴의 변경끼리는 커밋 순서와 같다 (메뉴 변경 이벤트 순서 기준)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 
 }
@@ -0,0 +1,47 @@
+package com.eatcloud.storeservice.domain.menu.event;
+
+import com.eatcloud.storeservice.domain.menu.entity.Menu;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 메뉴 변경 이벤트 (store.menu.changed, 키 = menuId, log-compacted)
+ * 키별 마지막 레코드가 메뉴의 현재 상태이므로 항상 전체 상태를 담는다.
+ * 삭제도 tombstone(null) 대신 deleted=true 로 남겨 뒤늦게 부트스트랩하는 소비자도 삭제를 알 수 있게 한다.
+ * 소비자는 version(Menu @Version) 으로 오래된 이벤트를 버리고, occurredAt 은 복제 지연 측정에만 쓴다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuChangedEvent {
+    private UUID menuId;
+    private UUID storeId;
+    private String menuName;
+    private BigDecimal price;
+    private Boolean available;
+    private boolean deleted;
+    private long version;
+    private long occurredAt;
+
+    public static MenuChangedEvent of(Menu menu, boolean deleted) {
+        boolean inStock = Boolean.TRUE.equals(menu.getIsUnlimited())
+                || (menu.getStockQuantity() != null && menu.getStockQuantity() > 0);
+
+        return MenuChangedEvent.builder()
+                .menuId(menu.getId())
+                .storeId(menu.getStore().getStoreId())
+                .menuName(menu.getMenuName())
+                .price(menu.getPrice())
+                .available(!deleted && Boolean.TRUE.equals(menu.getIsAvailable()) && inStock)
+                .deleted(deleted)
+                .version(menu.getVersion() == null ? 0L : menu.getVersion())
+                .occurredAt(System.currentTimeMillis())
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.eatcloud.storeservice.domain.menu.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메뉴 변경 이벤트 발행
+ * 트랜잭션 안에서 호출되면 커밋 이후에 발행하여 롤백된 변경이 전파되지 않도록 한다.
+ * 커밋 후 발행은 스레드마다 따로 일어나 같은 메뉴의 이벤트 순서가 뒤바뀔 수 있으므로, 소비자는 version 으로 순서를 정한다.
+ * occurredAt 은 발행 직전에 찍는다 (복제 지연 측정용).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MenuEventPublisher {
+
+    public static final String MENU_CHANGED_TOPIC = "store.menu.changed";
+
+    private final KafkaTemplate<String, MenuChangedEvent> menuEventKafkaTemplate;
+
+    public void publish(MenuChangedEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    event.setOccurredAt(System.currentTimeMillis());
+                    send(event);
+                }
+            });
+            return;
+        }
+        send(event);
+    }
+
+    private void send(MenuChangedEvent event) {
+        menuEventKafkaTemplate.send(MENU_CHANGED_TOPIC, event.getMenuId().toString(), event)
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        log.error("메뉴 변경 이벤트 발행 실패: menuId={}", event.getMenuId(), throwable);
+                    } else {
+                        log.info("메뉴 변경 이벤트 발행: menuId={}, deleted={}, offset={}",
+                                event.getMenuId(), event.isDeleted(), result.getRecordMetadata().offset());
+                    }
+                });
+    }
+}
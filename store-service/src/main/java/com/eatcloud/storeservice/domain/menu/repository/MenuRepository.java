@@ -6,6 +6,7 @@ import com.eatcloud.storeservice.domain.menu.entity.Menu;
 import com.eatcloud.storeservice.domain.store.entity.Store;
 import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.Query;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +21,12 @@ public interface MenuRepository extends SoftDeleteRepository<Menu, UUID> {
     List<Menu> findAllByStore(Store store);
     Optional<Menu> findByIdAndStore(UUID id, Store store);
 
+    // 가격 일괄 조회: 메뉴 ID IN 한 번의 쿼리 (store 는 FK 값만 사용하므로 조인하지 않음)
+    List<Menu> findAllByIdIn(Collection<UUID> ids);
+
+    // 자동완성 인덱스 부트스트랩 - menu_id keyset 으로 끊어 읽기
+    List<Menu> findTop1000ByIdGreaterThanOrderByIdAsc(UUID id);
+
     @Query("SELECT DISTINCT m.store FROM Menu m WHERE m.menuCategoryCode = :code AND m.isAvailable = true")
     List<Store> findDistinctStoresByMenuCategoryCode(@Param("code") String code);
 }
@@ -1,5 +1,6 @@
 package com.eatcloud.storeservice.domain.menu.service;
 
+import com.eatcloud.storeservice.domain.menu.dto.MenuPriceResponseDto;
 import com.eatcloud.storeservice.domain.menu.entity.Menu;
 import com.eatcloud.storeservice.domain.menu.exception.MenuErrorCode;
 import com.eatcloud.storeservice.domain.menu.exception.MenuException;
@@ -10,6 +11,10 @@ import com.eatcloud.storeservice.domain.store.exception.StoreException;
 import com.eatcloud.storeservice.domain.store.repository.StoreRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -40,4 +45,22 @@ public class MenuService {
         return menuRepository.findByIdAndStore(menuId, store)
                 .orElseThrow(() -> new MenuException(MenuErrorCode.MENU_NOT_FOUND));
     }
+
+    /**
+     * 여러 메뉴의 가격/판매 가능 여부를 한 번에 조회 (주문 생성 시 장바구니 검증용)
+     * 존재하지 않거나 삭제된 메뉴는 결과에서 빠진다.
+     */
+    @Transactional(readOnly = true)
+    public List<MenuPriceResponseDto> getMenuPrices(Collection<UUID> menuIds) {
+        return menuRepository.findAllByIdIn(menuIds).stream()
+                .map(MenuPriceResponseDto::from)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal getMenuPrice(UUID menuId) {
+        return menuRepository.findById(menuId)
+                .map(Menu::getPrice)
+                .orElseThrow(() -> new MenuException(MenuErrorCode.MENU_NOT_FOUND));
+    }
 }
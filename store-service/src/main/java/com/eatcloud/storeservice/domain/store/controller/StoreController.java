@@ -1,13 +1,17 @@
 package com.eatcloud.storeservice.domain.store.controller;
 
 import com.eatcloud.autoresponse.core.ApiResponse;
+import com.eatcloud.storeservice.domain.store.dto.StoreAutocompleteResponseDto;
+import com.eatcloud.storeservice.domain.store.dto.StoreDistancePageResponseDto;
 import com.eatcloud.storeservice.domain.store.dto.StoreKeywordSearchRequestDto;
+import com.eatcloud.storeservice.domain.store.dto.StoreKeywordSliceResponseDto;
 import com.eatcloud.storeservice.domain.store.dto.StoreSearchByMenuCategoryRequestDto;
 import com.eatcloud.storeservice.domain.store.dto.StoreSearchRequestDto;
 import com.eatcloud.storeservice.domain.store.dto.StoreSearchResponseDto;
 import com.eatcloud.storeservice.domain.store.service.StoreService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,7 +21,6 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
 
-
 import java.util.List;
 
 @RestController
@@ -27,24 +30,24 @@ import java.util.List;
 @Tag(name = "5-1. StoreController")
 public class StoreController {
 
+	private static final int MAX_AUTOCOMPLETE_SIZE = 20;
+
 	private final StoreService storeService;
 
 	@Operation(summary = "1. 매장 카테고리 별 거리기반 매장 조회")
 	@GetMapping("/search/category")
-	public ApiResponse<List<StoreSearchResponseDto>> searchStoresByCategoryAndDistance(
-		@ModelAttribute StoreSearchRequestDto condition
+	public ApiResponse<StoreDistancePageResponseDto> searchStoresByCategoryAndDistance(
+		@Valid @ModelAttribute StoreSearchRequestDto condition
 	) {
-		List<StoreSearchResponseDto> stores = storeService.searchStoresByCategoryAndDistance(condition);
-		return ApiResponse.success(stores);
+		return ApiResponse.success(storeService.searchStoresByCategoryAndDistance(condition));
 	}
 
 	@Operation(summary = "2. 메뉴 카테고리 별 거리 기반 매장 검색")
 	@GetMapping("/search/menu-category")
-	public ApiResponse<List<StoreSearchResponseDto>> searchStoresByMenuCategoryAndDistance(
-		@ModelAttribute StoreSearchByMenuCategoryRequestDto condition
+	public ApiResponse<StoreDistancePageResponseDto> searchStoresByMenuCategoryAndDistance(
+		@Valid @ModelAttribute StoreSearchByMenuCategoryRequestDto condition
 	) {
-		List<StoreSearchResponseDto> stores = storeService.searchStoresByMenuCategory(condition);
-		return ApiResponse.success(stores);
+		return ApiResponse.success(storeService.searchStoresByMenuCategory(condition));
 	}
 
 	@Operation(summary = "3. 키워드 + 카테고리 + 페이지네이션 + 정렬")
@@ -55,6 +58,23 @@ public class StoreController {
 		return ApiResponse.success(storeService.searchStoresByKeyword(req));
 	}
 
+	@Operation(summary = "3-1. 키워드 검색 무한 스크롤 (mode=slice, 전체 건수 count 생략)")
+	@GetMapping(value = "/search", params = "mode=slice")
+	public ApiResponse<StoreKeywordSliceResponseDto> searchByKeywordSlice(
+			@ModelAttribute StoreKeywordSearchRequestDto req
+	) {
+		return ApiResponse.success(storeService.searchStoresByKeywordSlice(req));
+	}
+
+	@Operation(summary = "4. 검색어 자동완성 (매장명 / 메뉴명 / 카테고리)")
+	@GetMapping("/autocomplete")
+	public ApiResponse<List<StoreAutocompleteResponseDto>> autocomplete(
+			@RequestParam("q") String q,
+			@RequestParam(value = "size", defaultValue = "10") int size
+	) {
+		return ApiResponse.success(storeService.autocomplete(q, Math.max(1, Math.min(size, MAX_AUTOCOMPLETE_SIZE))));
+	}
+
 	// 키워드 검색
 	// 필터 정렬
 }
\ No newline at end of file
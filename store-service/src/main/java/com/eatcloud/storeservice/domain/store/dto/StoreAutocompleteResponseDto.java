@@ -0,0 +1,24 @@
+package com.eatcloud.storeservice.domain.store.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 검색어 자동완성 항목
+ * type: STORE | MENU | STORE_CATEGORY | MENU_CATEGORY
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+public class StoreAutocompleteResponseDto {
+    private String type;
+    private String text;
+    private UUID storeId;         // STORE, MENU
+    private String storeName;     // MENU - 메뉴가 속한 매장
+    private UUID menuId;          // MENU
+    private Integer categoryId;   // STORE_CATEGORY
+    private String categoryCode;  // MENU_CATEGORY
+}
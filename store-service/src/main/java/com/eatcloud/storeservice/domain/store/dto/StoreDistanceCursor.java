@@ -0,0 +1,58 @@
+package com.eatcloud.storeservice.domain.store.dto;
+
+import com.eatcloud.autoresponse.error.BusinessException;
+import com.eatcloud.storeservice.domain.store.exception.StoreErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 거리순 검색 커서 - 마지막으로 받은 매장의 (거리, store_id) 와 그 페이지를 만든 경로
+ * 거리값은 Double.toString 으로 그대로 왕복하므로 같은 경로의 다음 페이지 조건과 정확히 이어진다.
+ * 인메모리 인덱스(haversine)와 SQL(PostGIS) 의 거리는 부동소수 끝자리가 다를 수 있어 경로를 섞으면
+ * 경계의 매장이 빠지거나 겹칠 수 있으므로, 다음 페이지는 커서를 만든 경로로 조회한다.
+ */
+public record StoreDistanceCursor(double distanceMeters, UUID storeId, Source source) {
+
+    public enum Source {
+        /** StoreGeoIndex */
+        INDEX,
+        /** p_stores.location KNN 쿼리 */
+        DATABASE
+    }
+
+    public StoreDistanceCursor(double distanceMeters, UUID storeId) {
+        this(distanceMeters, storeId, Source.DATABASE);
+    }
+
+    public String encode() {
+        String raw = distanceMeters + "|" + storeId + "|" + source;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 경로가 없는 이전 형식 커서는 DATABASE 로 본다
+     * @return 비어 있으면 null (첫 페이지)
+     */
+    public static StoreDistanceCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length < 2 || parts.length > 3) {
+                throw new IllegalArgumentException("malformed cursor");
+            }
+            double distance = Double.parseDouble(parts[0]);
+            if (!Double.isFinite(distance) || distance < 0) {
+                throw new IllegalArgumentException("distance out of range");
+            }
+            Source source = parts.length == 3 ? Source.valueOf(parts[2]) : Source.DATABASE;
+            return new StoreDistanceCursor(distance, UUID.fromString(parts[1]), source);
+        } catch (RuntimeException e) {
+            throw new BusinessException(StoreErrorCode.INVALID_SEARCH_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.eatcloud.storeservice.domain.store.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 거리순 매장 검색 결과 - 전체 건수 없이 다음 페이지 커서만 반환
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+public class StoreDistancePageResponseDto {
+    private List<StoreSearchResponseDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
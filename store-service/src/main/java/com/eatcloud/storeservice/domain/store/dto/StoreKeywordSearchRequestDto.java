@@ -33,4 +33,10 @@ public class StoreKeywordSearchRequestDto {
 
     @Schema(description = "정렬 방향: ASC | DESC", example = "DESC")
     @Builder.Default private String direction = "DESC";
+
+    @Schema(description = "페이지 방식: page(전체 건수 포함) | slice(무한 스크롤, count 생략)", example = "slice")
+    @Builder.Default private String mode = "page";
+
+    @Schema(description = "slice 모드에서 추정 전체 건수(estimatedTotal) 포함 여부 (짧은 TTL 캐시)", example = "false")
+    @Builder.Default private Boolean withTotal = false;
 }
@@ -0,0 +1,22 @@
+package com.eatcloud.storeservice.domain.store.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 키워드 검색 slice 결과 - count 없이 다음 페이지 여부만 반환
+ * estimatedTotal 은 withTotal=true 일 때만 채우며, 캐시된 값이라 최근 변경이 반영되지 않았을 수 있다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+public class StoreKeywordSliceResponseDto {
+    private List<StoreSearchResponseDto> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long estimatedTotal;
+}
@@ -1,15 +1,24 @@
 package com.eatcloud.storeservice.domain.store.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.UUID;
 
 @Getter
 @Setter
 public class StoreSearchRequestDto {
-    private UUID categoryId;
+    private Integer categoryId;        // 상위 매장 카테고리 ID (store_category_id)
+    @DecimalMin("-90.0") @DecimalMax("90.0")
     private double userLat;
+    @DecimalMin("-180.0") @DecimalMax("180.0")
     private double userLon;
+    @DecimalMin(value = "0.0", inclusive = false) @DecimalMax("30.0")
     private double distanceKm = 3.0; // 기본값
+    private String cursor;             // 이전 응답의 nextCursor
+    @Min(1) @Max(100)
+    private int size = 20;
 }
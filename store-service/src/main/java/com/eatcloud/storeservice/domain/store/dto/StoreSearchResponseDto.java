@@ -17,6 +17,7 @@ public class StoreSearchResponseDto {
     private Double storeLon;
     private Integer minCost;
     private Boolean openStatus;
+    private Double distanceMeters;     // 거리순 검색에서만 채워짐
 
     public static StoreSearchResponseDto of(
             UUID storeId, String storeName, String storeAddress,
@@ -6,7 +6,10 @@ import com.eatcloud.autotime.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLRestriction;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
 
 import java.math.BigDecimal;
 import java.time.LocalTime;
@@ -22,6 +25,9 @@ import java.util.UUID;
 @Setter
 @Builder
 public class Store extends BaseTimeEntity {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     @Column(name = "store_id")
@@ -56,9 +62,14 @@ public class Store extends BaseTimeEntity {
     @Column(name = "store_lon")
     private Double storeLon;
 
+    // 거리 검색 전용 (GiST 인덱스) - store_lat/store_lon 이 바뀌면 저장 시 함께 갱신된다
     @Column(columnDefinition = "GEOGRAPHY(Point, 4326)")
     private Point location;
 
+    // 키워드 검색 2-gram 문서 - StoreSearchIndexer 가 native UPDATE 로만 갱신
+    @Column(name = "search_vector", columnDefinition = "tsvector", insertable = false, updatable = false)
+    private String searchVector;
+
     @Column(name = "open_status")
     private Boolean openStatus;
 
@@ -84,4 +95,11 @@ public class Store extends BaseTimeEntity {
     @Builder.Default
     private BigDecimal avgRating = BigDecimal.ZERO;
 
-}
\ No newline at end of file
+    @PrePersist
+    @PreUpdate
+    void syncLocation() {
+        location = (storeLat == null || storeLon == null)
+                ? null
+                : GEOMETRY_FACTORY.createPoint(new Coordinate(storeLon, storeLat));
+    }
+}
@@ -0,0 +1,141 @@
+package com.eatcloud.storeservice.domain.store.event;
+
+import com.eatcloud.storeservice.domain.menu.entity.Menu;
+import com.eatcloud.storeservice.domain.menu.event.MenuChangedEvent;
+import com.eatcloud.storeservice.domain.menu.event.MenuEventPublisher;
+import com.eatcloud.storeservice.domain.menu.repository.MenuRepository;
+import com.eatcloud.storeservice.domain.store.entity.Store;
+import com.eatcloud.storeservice.domain.store.repository.StoreRepository;
+import com.eatcloud.storeservice.domain.store.service.StoreAutocompleteIndex;
+import com.eatcloud.storeservice.external.admin.AdminCategoryPort;
+import com.eatcloud.storeservice.external.admin.dto.CategoryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * StoreAutocompleteIndex 부트스트랩 / 증분 갱신
+ *
+ * ManagerService / StoreAdminService 의 매장·메뉴 변경은 커밋 후 store.changed / store.menu.changed 로 발행되고,
+ * consumer group 없이 두 토픽의 파티션을 직접 할당받아 끝에서부터 읽고 오프셋은 커밋하지 않는다 (StoreGeoIndexUpdater 와 같은 방식).
+ * 두 토픽의 파티션이 모두 할당된 뒤 카테고리(admin-service) → 매장 → 메뉴 순으로 DB 스냅샷을 적재한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StoreAutocompleteIndexUpdater implements ConsumerSeekAware {
+
+    static final int BOOTSTRAP_BATCH_SIZE = 1000;
+
+    private final StoreAutocompleteIndex storeAutocompleteIndex;
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+    private final AdminCategoryPort adminCategoryPort;
+    private final Set<String> assignedTopics = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean bootstrapStarted = new AtomicBoolean();
+
+    @KafkaListener(
+            topicPartitions = @org.springframework.kafka.annotation.TopicPartition(
+                    topic = StoreEventPublisher.STORE_CHANGED_TOPIC,
+                    partitions = "#{@broadcastPartitions.of('" + StoreEventPublisher.STORE_CHANGED_TOPIC + "')}"),
+            containerFactory = "storeEventListenerContainerFactory",
+            autoStartup = "${store.autocomplete.enabled:true}"
+    )
+    public void onStoreChanged(StoreChangedEvent event) {
+        if (event != null && event.getStoreId() != null) {
+            storeAutocompleteIndex.applyStore(event);
+        }
+    }
+
+    @KafkaListener(
+            topicPartitions = @org.springframework.kafka.annotation.TopicPartition(
+                    topic = MenuEventPublisher.MENU_CHANGED_TOPIC,
+                    partitions = "#{@broadcastPartitions.of('" + MenuEventPublisher.MENU_CHANGED_TOPIC + "')}"),
+            containerFactory = "menuEventListenerContainerFactory",
+            autoStartup = "${store.autocomplete.enabled:true}"
+    )
+    public void onMenuChanged(MenuChangedEvent event) {
+        if (event != null && event.getMenuId() != null) {
+            storeAutocompleteIndex.applyMenu(event);
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerCallback callback) {
+        assignments.keySet().forEach(partition -> assignedTopics.add(partition.topic()));
+        if (assignedTopics.contains(StoreEventPublisher.STORE_CHANGED_TOPIC)
+                && assignedTopics.contains(MenuEventPublisher.MENU_CHANGED_TOPIC)
+                && bootstrapStarted.compareAndSet(false, true)) {
+            // 소비 스레드를 막지 않도록 별도 스레드에서 적재
+            CompletableFuture.runAsync(this::bootstrap)
+                    .exceptionally(e -> {
+                        log.error("자동완성 인덱스 부트스트랩 실패", e);
+                        bootstrapStarted.set(false);
+                        return null;
+                    });
+        }
+    }
+
+    void bootstrap() {
+        long startedAt = System.currentTimeMillis();
+        loadCategories();
+
+        UUID lastStoreId = new UUID(0L, 0L);
+        while (true) {
+            List<Store> stores = storeRepository.findTop1000ByStoreIdGreaterThanOrderByStoreIdAsc(lastStoreId);
+            stores.forEach(store -> storeAutocompleteIndex.applyStore(StoreChangedEvent.of(store, false)));
+            if (stores.size() < BOOTSTRAP_BATCH_SIZE) {
+                break;
+            }
+            lastStoreId = stores.get(stores.size() - 1).getStoreId();
+        }
+
+        UUID lastMenuId = new UUID(0L, 0L);
+        while (true) {
+            List<Menu> menus = menuRepository.findTop1000ByIdGreaterThanOrderByIdAsc(lastMenuId);
+            for (Menu menu : menus) {
+                // 스냅샷도 행의 version 을 담으므로 먼저 도착한 최신 이벤트를 덮어쓰지 않는다
+                storeAutocompleteIndex.applyMenu(MenuChangedEvent.of(menu, false));
+            }
+            if (menus.size() < BOOTSTRAP_BATCH_SIZE) {
+                break;
+            }
+            lastMenuId = menus.get(menus.size() - 1).getId();
+        }
+
+        storeAutocompleteIndex.markReady();
+        log.info("자동완성 인덱스 부트스트랩: entries={}, elapsedMs={}",
+                storeAutocompleteIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void loadCategories() {
+        try {
+            for (CategoryDto category : adminCategoryPort.listStoreCategories()) {
+                if (!Boolean.FALSE.equals(category.getIsActive())) {
+                    storeAutocompleteIndex.putCategory(StoreAutocompleteIndex.Type.STORE_CATEGORY,
+                            category.getId(), category.getCode(), category.getDisplayName());
+                }
+            }
+            for (CategoryDto category : adminCategoryPort.listMenuCategories()) {
+                if (!Boolean.FALSE.equals(category.getIsActive())) {
+                    storeAutocompleteIndex.putCategory(StoreAutocompleteIndex.Type.MENU_CATEGORY,
+                            null, category.getCode(), category.getDisplayName());
+                }
+            }
+        } catch (Exception e) {
+            // 카테고리 제안 없이도 매장/메뉴 자동완성은 동작
+            log.warn("자동완성 카테고리 적재 실패: error={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.eatcloud.storeservice.domain.store.event;
+
+import com.eatcloud.storeservice.domain.store.entity.Store;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * 매장 변경 이벤트 (store.changed, 키 = storeId, log-compacted)
+ * 메뉴 이벤트와 같이 항상 전체 상태를 담고, 삭제도 deleted=true 로 남긴다.
+ * version 은 updated_at(ms) - 부트스트랩 스냅샷과 이벤트가 엇갈려 도착해도 오래된 상태로 덮어쓰지 않게 비교한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreChangedEvent {
+    private UUID storeId;
+    private String storeName;
+    private String storeAddress;
+    private Integer storeCategoryId;
+    private Double storeLat;
+    private Double storeLon;
+    private Integer minCost;
+    private Boolean openStatus;
+    private Integer ratingCount;
+    private Double avgRating;
+    private boolean deleted;
+    private long version;
+
+    public static StoreChangedEvent of(Store store, boolean deleted) {
+        return StoreChangedEvent.builder()
+                .storeId(store.getStoreId())
+                .storeName(store.getStoreName())
+                .storeAddress(store.getStoreAddress())
+                .storeCategoryId(store.getStoreCategoryId())
+                .storeLat(store.getStoreLat())
+                .storeLon(store.getStoreLon())
+                .minCost(store.getMinCost())
+                .openStatus(store.getOpenStatus())
+                .ratingCount(store.getRatingCount())
+                .avgRating(store.getAvgRating() == null ? null : store.getAvgRating().doubleValue())
+                .deleted(deleted || store.isDeleted())
+                .version(store.getUpdatedAt() == null
+                        ? System.currentTimeMillis()
+                        : store.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.eatcloud.storeservice.domain.store.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 매장 변경 이벤트 발행
+ * 트랜잭션 안에서 호출되면 커밋 이후에 발행하여 롤백된 변경이 전파되지 않도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StoreEventPublisher {
+
+    public static final String STORE_CHANGED_TOPIC = "store.changed";
+
+    private final KafkaTemplate<String, StoreChangedEvent> storeEventKafkaTemplate;
+
+    public void publish(StoreChangedEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+            return;
+        }
+        send(event);
+    }
+
+    private void send(StoreChangedEvent event) {
+        storeEventKafkaTemplate.send(STORE_CHANGED_TOPIC, event.getStoreId().toString(), event)
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        log.error("매장 변경 이벤트 발행 실패: storeId={}", event.getStoreId(), throwable);
+                    } else {
+                        log.info("매장 변경 이벤트 발행: storeId={}, openStatus={}, deleted={}, offset={}",
+                                event.getStoreId(), event.getOpenStatus(), event.isDeleted(),
+                                result.getRecordMetadata().offset());
+                    }
+                });
+    }
+}
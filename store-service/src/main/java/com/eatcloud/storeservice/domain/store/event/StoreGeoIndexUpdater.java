@@ -0,0 +1,83 @@
+package com.eatcloud.storeservice.domain.store.event;
+
+import com.eatcloud.storeservice.domain.store.entity.Store;
+import com.eatcloud.storeservice.domain.store.repository.StoreRepository;
+import com.eatcloud.storeservice.domain.store.service.StoreGeoIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * StoreGeoIndex 부트스트랩 / 증분 갱신
+ *
+ * consumer group 없이 store.changed 의 파티션을 직접 할당받아 끝에서부터 읽고(오프셋 커밋 없음), 할당된 뒤에 DB 를 읽어 채운다.
+ * 할당 이후의 변경은 모두 이벤트로 들어오므로 스냅샷과 겹치는 구간은 version 비교로 정리된다.
+ * 부트스트랩이 끝나기 전(또는 Kafka 를 쓸 수 없을 때)에는 인덱스가 준비되지 않아 검색이 SQL 경로로 간다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StoreGeoIndexUpdater implements ConsumerSeekAware {
+
+    static final int BOOTSTRAP_BATCH_SIZE = 1000;
+
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreRepository storeRepository;
+    private final AtomicBoolean bootstrapStarted = new AtomicBoolean();
+
+    @KafkaListener(
+            topicPartitions = @org.springframework.kafka.annotation.TopicPartition(
+                    topic = StoreEventPublisher.STORE_CHANGED_TOPIC,
+                    partitions = "#{@broadcastPartitions.of('" + StoreEventPublisher.STORE_CHANGED_TOPIC + "')}"),
+            containerFactory = "storeEventListenerContainerFactory",
+            autoStartup = "${store.geo-index.enabled:true}"
+    )
+    public void onStoreChanged(StoreChangedEvent event) {
+        if (event == null || event.getStoreId() == null) {
+            return;
+        }
+        if (!storeGeoIndex.apply(event)) {
+            log.debug("오래된 매장 변경 이벤트 무시: storeId={}, version={}", event.getStoreId(), event.getVersion());
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerCallback callback) {
+        if (bootstrapStarted.compareAndSet(false, true)) {
+            // 소비 스레드를 막지 않도록 별도 스레드에서 적재
+            CompletableFuture.runAsync(this::bootstrap)
+                    .exceptionally(e -> {
+                        log.error("매장 공간 인덱스 부트스트랩 실패 - SQL 경로로 계속 조회", e);
+                        bootstrapStarted.set(false);
+                        return null;
+                    });
+        }
+    }
+
+    void bootstrap() {
+        long startedAt = System.currentTimeMillis();
+        UUID lastId = new UUID(0L, 0L);
+        int loaded = 0;
+        while (true) {
+            List<Store> batch = storeRepository.findTop1000ByStoreIdGreaterThanOrderByStoreIdAsc(lastId);
+            batch.forEach(store -> storeGeoIndex.apply(StoreChangedEvent.of(store, false)));
+            loaded += batch.size();
+            if (batch.size() < BOOTSTRAP_BATCH_SIZE) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).getStoreId();
+        }
+        storeGeoIndex.markReady();
+        log.info("매장 공간 인덱스 부트스트랩: scanned={}, indexed={}, elapsedMs={}",
+                loaded, storeGeoIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+}
@@ -8,7 +8,8 @@ public enum StoreErrorCode implements ErrorCode {
     STORE_APPLICATION_PENDING("STORE_003", "등록 요청이 이미 진행 중입니다."),
     STORE_ALREADY_CLOSED("STORE_004", "이미 폐업된 매장입니다."),
     NOT_AUTHORIZED("STORE_005", "해당 요청에 대한 권한이 없습니다."),
-    CATEGORY_NOT_FOUND("STORE_006", "해당 카테고리를 찾을 수 없습니다."),;
+    CATEGORY_NOT_FOUND("STORE_006", "해당 카테고리를 찾을 수 없습니다."),
+    INVALID_SEARCH_CURSOR("STORE_007", "유효하지 않은 검색 커서입니다."),;
 
     private final String code;
     private final String message;
@@ -25,4 +26,14 @@ public enum StoreErrorCode implements ErrorCode {
     public String getMessage() {
         return message;
     }
+
+    @Override
+    public String code() {
+        return code;
+    }
+
+    @Override
+    public String message() {
+        return message;
+    }
 }
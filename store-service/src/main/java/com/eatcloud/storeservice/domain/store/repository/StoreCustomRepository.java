@@ -1,23 +1,44 @@
 package com.eatcloud.storeservice.domain.store.repository;
 
 
+import com.eatcloud.storeservice.domain.store.dto.StoreDistanceCursor;
 import com.eatcloud.storeservice.domain.store.dto.StoreKeywordSearchRequestDto;
 import com.eatcloud.storeservice.domain.store.dto.StoreSearchResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface StoreCustomRepository {
+    /**
+     * 반경 내 영업 중 매장을 가까운 순으로 (cursor 가 있으면 그 다음부터 limit 건)
+     */
     List<StoreSearchResponseDto> findStoresByCategoryWithinDistance(
-            UUID categoryId, double userLat, double userLon, double distanceKm
+            Integer categoryId, double userLat, double userLon, double distanceKm,
+            StoreDistanceCursor cursor, int limit
     );
 
     List<StoreSearchResponseDto> findStoresByMenuCategoryWithinDistance(
-            String menuCategoryCode, double userLat, double userLon, double distanceKm);
+            String menuCategoryCode, double userLat, double userLon, double distanceKm,
+            StoreDistanceCursor cursor, int limit);
 
     Page<StoreSearchResponseDto> searchByKeywordAndCategory(StoreKeywordSearchRequestDto req, Pageable pageable);
+
+    /**
+     * count 없이 size + 1 건으로 다음 페이지 여부만 판단
+     */
+    Slice<StoreSearchResponseDto> searchSliceByKeywordAndCategory(StoreKeywordSearchRequestDto req, Pageable pageable);
+
+    long countByKeywordAndCategory(StoreKeywordSearchRequestDto req);
+
+    /**
+     * 매장명/메뉴명/설명으로 키워드 검색 문서(search_vector) 재생성 - 매장/메뉴 쓰기 트랜잭션 안에서 호출
+     */
+    void refreshSearchDocument(UUID storeId);
+
+    List<UUID> findStoreIdsWithoutSearchDocument(int limit);
 }
 
 
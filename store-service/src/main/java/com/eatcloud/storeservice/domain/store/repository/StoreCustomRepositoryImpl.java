@@ -1,6 +1,7 @@
 package com.eatcloud.storeservice.domain.store.repository;
 
 import com.eatcloud.storeservice.domain.menu.entity.QMenu;
+import com.eatcloud.storeservice.domain.store.dto.StoreDistanceCursor;
 import com.eatcloud.storeservice.domain.store.dto.StoreKeywordSearchRequestDto;
 import com.eatcloud.storeservice.domain.store.dto.StoreSearchResponseDto;
 import com.eatcloud.storeservice.domain.store.entity.QStore;
@@ -11,18 +12,25 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+@Slf4j
 @Repository
 public class StoreCustomRepositoryImpl implements StoreCustomRepository {
 
@@ -31,129 +39,275 @@ public class StoreCustomRepositoryImpl implements StoreCustomRepository {
 
     private final JPAQueryFactory query;
 
+    @Value("${store.search.full-text.enabled:true}")
+    private boolean fullTextEnabled;
+
     public StoreCustomRepositoryImpl(JPAQueryFactory query) {
         this.query = query;
     }
 
-    @Override
-    public List<StoreSearchResponseDto> findStoresByCategoryWithinDistance(UUID categoryId, double lat, double lon, double distanceKm) {
-        String sql = """
-                SELECT 
-                    s.store_id,
-                    s.store_name,
-                    s.store_address,
-                    s.store_lat,
-                    s.store_lon,
-                    s.min_cost,
-                    s.open_status
-                FROM p_stores s
-                WHERE s.category_id = :categoryId
-                  AND ST_DWithin(
-                        geography(ST_MakePoint(s.store_lon, s.store_lat)),
-                        geography(ST_MakePoint(:lon, :lat)),
-                        :distanceMeters
-                  )
-                  AND s.open_status = true
+    /**
+     * 거리 검색 공통 SQL
+     * location(GiST idx_stores_location)에 ST_DWithin 으로 반경을 자르고 KNN(<->) 순으로 읽는다.
+     * 기준점은 상수식으로 인라인해야 플래너가 인덱스 순서 스캔을 쓴다 (CTE/조인으로 빼면 전체 정렬).
+     * 거리 컬럼·커서 조건·정렬이 모두 같은 <-> 식을 써서 페이지 경계가 어긋나지 않는다.
+     */
+    static final String ORIGIN = "CAST(ST_SetSRID(ST_MakePoint(:lon, :lat), 4326) AS geography)";
+
+    static final String NEARBY_SELECT = """
+            SELECT
+                s.store_id,
+                s.store_name,
+                s.store_address,
+                s.store_lat,
+                s.store_lon,
+                s.min_cost,
+                s.open_status,
+                s.location <-> %1$s AS distance
+            FROM p_stores s
+            WHERE s.deleted_at IS NULL
+              AND s.open_status = true
+              AND ST_DWithin(s.location, %1$s, :distanceMeters)
+            """.formatted(ORIGIN);
+
+    static final String CATEGORY_FILTER = """
+              AND s.store_category_id = :categoryId
             """;
 
-        List<Object[]> resultList = em.createNativeQuery(sql)
-                .setParameter("categoryId", categoryId)
-                .setParameter("lat", lat)
-                .setParameter("lon", lon)
-                .setParameter("distanceMeters", distanceKm * 1000)
-                .getResultList();
+    static final String MENU_CATEGORY_FILTER = """
+              AND EXISTS (
+                    SELECT 1 FROM p_menus m
+                    WHERE m.store_id = s.store_id
+                      AND m.menu_category_code = :menuCategoryCode
+                      AND m.deleted_at IS NULL
+              )
+            """;
 
-        return resultList.stream()
-                .map(row -> StoreSearchResponseDto.of(
-                        (UUID) row[0],
-                        (String) row[1],
-                        (String) row[2],
-                        (Double) row[3],
-                        (Double) row[4],
-                        (Integer) row[5],
-                        (Boolean) row[6]
-                ))
-                .toList();
+    static final String CURSOR_FILTER = """
+              AND (s.location <-> %1$s > :cursorDistance
+                   OR (s.location <-> %1$s = :cursorDistance AND s.store_id > :cursorStoreId))
+            """.formatted(ORIGIN);
+
+    static final String NEARBY_ORDER = """
+            ORDER BY s.location <-> %s, s.store_id
+            LIMIT :limit
+            """.formatted(ORIGIN);
+
+    @Override
+    public List<StoreSearchResponseDto> findStoresByCategoryWithinDistance(
+            Integer categoryId, double lat, double lon, double distanceKm, StoreDistanceCursor cursor, int limit) {
+
+        Query nativeQuery = em.createNativeQuery(nearbySql(CATEGORY_FILTER, cursor))
+                .setParameter("categoryId", categoryId);
+        return findNearby(nativeQuery, lat, lon, distanceKm, cursor, limit);
     }
 
     @Override
     public List<StoreSearchResponseDto> findStoresByMenuCategoryWithinDistance(
-            String menuCategoryCode, double userLat, double userLon, double distanceKm) {
-
-        String sql = """
-        SELECT 
-            s.store_id,
-            s.store_name,
-            s.store_address,
-            s.store_lat,
-            s.store_lon,
-            s.min_cost,
-            s.open_status
-        FROM p_stores s
-        JOIN p_menus m ON m.store_id = s.store_id
-        WHERE ST_DistanceSphere(
-            ST_MakePoint(s.store_lon, s.store_lat),
-            ST_MakePoint(:userLon, :userLat)
-        ) <= (:distanceKm * 1000)
-        AND m.menu_category_code = :menuCategoryCode
-        AND s.open_status = true
-        GROUP BY s.store_id, s.store_name, s.store_address, s.store_lat, s.store_lon, s.min_cost, s.open_status
-    """;
-
-        List<Object[]> resultList = em.createNativeQuery(sql)
-                .setParameter("userLat", userLat)
-                .setParameter("userLon", userLon)
-                .setParameter("distanceKm", distanceKm)
-                .setParameter("menuCategoryCode", menuCategoryCode)
-                .getResultList();
+            String menuCategoryCode, double userLat, double userLon, double distanceKm,
+            StoreDistanceCursor cursor, int limit) {
+
+        // 메뉴 JOIN + GROUP BY 대신 EXISTS (idx_menus_store_category) - 매장 행이 중복되지 않아 KNN 순서가 유지된다
+        Query nativeQuery = em.createNativeQuery(nearbySql(MENU_CATEGORY_FILTER, cursor))
+                .setParameter("menuCategoryCode", menuCategoryCode);
+        return findNearby(nativeQuery, userLat, userLon, distanceKm, cursor, limit);
+    }
+
+    static String nearbySql(String filter, StoreDistanceCursor cursor) {
+        return NEARBY_SELECT + filter + (cursor != null ? CURSOR_FILTER : "") + NEARBY_ORDER;
+    }
 
+    @SuppressWarnings("unchecked")
+    private List<StoreSearchResponseDto> findNearby(Query nativeQuery, double lat, double lon, double distanceKm,
+                                                    StoreDistanceCursor cursor, int limit) {
+        nativeQuery.setParameter("lat", lat)
+                .setParameter("lon", lon)
+                .setParameter("distanceMeters", distanceKm * 1000)
+                .setParameter("limit", limit);
+        if (cursor != null) {
+            nativeQuery.setParameter("cursorDistance", cursor.distanceMeters())
+                    .setParameter("cursorStoreId", cursor.storeId());
+        }
+
+        List<Object[]> resultList = nativeQuery.getResultList();
         return resultList.stream()
-                .map(row -> StoreSearchResponseDto.of(
-                        (UUID) row[0],
-                        (String) row[1],
-                        (String) row[2],
-                        (Double) row[3],
-                        (Double) row[4],
-                        (Integer) row[5],
-                        (Boolean) row[6]
-                ))
+                .map(row -> StoreSearchResponseDto.builder()
+                        .storeId((UUID) row[0])
+                        .storeName((String) row[1])
+                        .storeAddress((String) row[2])
+                        .storeLat((Double) row[3])
+                        .storeLon((Double) row[4])
+                        .minCost((Integer) row[5])
+                        .openStatus((Boolean) row[6])
+                        .distanceMeters(((Number) row[7]).doubleValue())
+                        .build())
                 .toList();
     }
 
+    /**
+     * 키워드 검색 - 검색어가 있으면 search_vector(GIN) 전문 검색, 없거나 비활성/실패 시 기존 QueryDSL 경로
+     * 결과가 한 페이지에 다 들어오면 count 를 생략한다 (PageableExecutionUtils)
+     */
     @Override
     public Page<StoreSearchResponseDto> searchByKeywordAndCategory(
             StoreKeywordSearchRequestDto req, Pageable pageable) {
 
-        QStore s = QStore.store;   // TODO: 패키지/클래스명 확인
-        QMenu  m = QMenu.menu;     // TODO: 패키지/클래스명 확인
+        List<StoreSearchResponseDto> content = findByKeyword(req, pageable, pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> countByKeywordAndCategory(req));
+    }
 
-        BooleanBuilder where = new BooleanBuilder();
+    /**
+     * 무한 스크롤용 - size + 1 건을 읽어 다음 페이지 여부만 판단하고 count 는 실행하지 않는다
+     */
+    @Override
+    public Slice<StoreSearchResponseDto> searchSliceByKeywordAndCategory(
+            StoreKeywordSearchRequestDto req, Pageable pageable) {
 
-        // 키워드: 매장명/설명/메뉴명 (ILIKE 대체)
-        if (req.getQ() != null && !req.getQ().isBlank()) {
-            String like = "%" + req.getQ() + "%";
-            where.and(
-                    s.storeName.likeIgnoreCase(like)
-                            .or(s.description.likeIgnoreCase(like))
-                            .or(m.menuName.likeIgnoreCase(like))
-            );
+        List<StoreSearchResponseDto> rows = findByKeyword(req, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public long countByKeywordAndCategory(StoreKeywordSearchRequestDto req) {
+        String tsQuery = StoreSearchTokens.query(req.getQ());
+        if (fullTextEnabled && tsQuery != null) {
+            try {
+                Query countQuery = em.createNativeQuery("SELECT count(*)\n" + FULL_TEXT_FROM + fullTextFilter(req));
+                bindFullText(countQuery, req, tsQuery);
+                return ((Number) countQuery.getSingleResult()).longValue();
+            } catch (PersistenceException e) {
+                log.warn("전문 검색 count 실패, LIKE 검색으로 대체: q={}, error={}", req.getQ(), e.getMessage());
+            }
         }
+        return countByLike(req);
+    }
 
-        // 카테고리 필터
+    private List<StoreSearchResponseDto> findByKeyword(StoreKeywordSearchRequestDto req, Pageable pageable,
+                                                       int limit) {
+        String tsQuery = StoreSearchTokens.query(req.getQ());
+        if (fullTextEnabled && tsQuery != null) {
+            try {
+                return searchByFullText(req, tsQuery, pageable, limit);
+            } catch (PersistenceException e) {
+                // search_vector 컬럼/인덱스가 아직 없는 DB 등 - 느리더라도 결과는 같은 LIKE 경로로
+                log.warn("전문 검색 실패, LIKE 검색으로 대체: q={}, error={}", req.getQ(), e.getMessage());
+            }
+        }
+        return searchByLike(req, pageable, limit);
+    }
+
+    static final String FULL_TEXT_FROM = """
+            FROM p_stores s
+            WHERE s.deleted_at IS NULL
+              AND s.search_vector @@ CAST(:query AS tsquery)
+            """;
+
+    private List<StoreSearchResponseDto> searchByFullText(StoreKeywordSearchRequestDto req, String tsQuery,
+                                                          Pageable pageable, int limit) {
+        // 평점 정렬을 요청했으면 평점 우선, 아니면 관련도(매장명 > 메뉴명 > 설명 가중치) 순
+        Sort.Order byRating = pageable.getSort().getOrderFor("avgRating");
+        String orderBy = byRating == null
+                ? "ORDER BY rank DESC, s.store_id DESC"
+                : "ORDER BY s.avg_rating " + (byRating.isAscending() ? "ASC" : "DESC") + ", rank DESC, s.store_id DESC";
+
+        Query contentQuery = em.createNativeQuery("""
+                SELECT s.store_id, s.store_name, s.store_address, s.store_lat, s.store_lon, s.min_cost, s.open_status,
+                       ts_rank(s.search_vector, CAST(:query AS tsquery)) AS rank
+                """ + FULL_TEXT_FROM + fullTextFilter(req) + orderBy + "\nLIMIT :limit OFFSET :offset")
+                .setParameter("limit", limit)
+                .setParameter("offset", pageable.getOffset());
+        bindFullText(contentQuery, req, tsQuery);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = contentQuery.getResultList();
+        return rows.stream()
+                .map(row -> StoreSearchResponseDto.builder()
+                        .storeId((UUID) row[0])
+                        .storeName((String) row[1])
+                        .storeAddress((String) row[2])
+                        .storeLat((Double) row[3])
+                        .storeLon((Double) row[4])
+                        .minCost((Integer) row[5])
+                        .openStatus((Boolean) row[6])
+                        .build())
+                .toList();
+    }
+
+    private static String fullTextFilter(StoreKeywordSearchRequestDto req) {
+        StringBuilder filter = new StringBuilder();
         if (req.getStoreCategoryId() != null) {
-            // TODO: Store 엔티티에 상위 카테고리 컬럼명이 다르면 수정
-            where.and(s.storeCategoryId.eq(req.getStoreCategoryId()));
+            filter.append("  AND s.store_category_id = :storeCategoryId\n");
+        }
+        if (hasMenuCategory(req)) {
+            filter.append(MENU_CATEGORY_FILTER);
         }
+        return filter.toString();
+    }
 
-        if (req.getMenuCategoryCode() != null && !req.getMenuCategoryCode().isBlank()) {
-            where.and(m.menuCategoryCode.eq(req.getMenuCategoryCode()));
+    private static void bindFullText(Query q, StoreKeywordSearchRequestDto req, String tsQuery) {
+        q.setParameter("query", tsQuery);
+        if (req.getStoreCategoryId() != null) {
+            q.setParameter("storeCategoryId", req.getStoreCategoryId());
+        }
+        if (hasMenuCategory(req)) {
+            q.setParameter("menuCategoryCode", req.getMenuCategoryCode());
+        }
+    }
+
+    private static boolean hasMenuCategory(StoreKeywordSearchRequestDto req) {
+        return req.getMenuCategoryCode() != null && !req.getMenuCategoryCode().isBlank();
+    }
+
+    @Override
+    public void refreshSearchDocument(UUID storeId) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> stores = em.createNativeQuery(
+                        "SELECT store_name, description FROM p_stores WHERE store_id = :storeId")
+                .setParameter("storeId", storeId)
+                .getResultList();
+        if (stores.isEmpty()) {
+            return;
         }
+        @SuppressWarnings("unchecked")
+        List<String> menuNames = em.createNativeQuery("""
+                        SELECT menu_name FROM p_menus
+                        WHERE store_id = :storeId AND deleted_at IS NULL
+                        ORDER BY menu_num
+                        """)
+                .setParameter("storeId", storeId)
+                .getResultList();
+
+        Object[] store = stores.get(0);
+        em.createNativeQuery("UPDATE p_stores SET search_vector = CAST(:document AS tsvector) WHERE store_id = :storeId")
+                .setParameter("document", StoreSearchTokens.document((String) store[0], menuNames, (String) store[1]))
+                .setParameter("storeId", storeId)
+                .executeUpdate();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<UUID> findStoreIdsWithoutSearchDocument(int limit) {
+        return em.createNativeQuery("""
+                        SELECT store_id FROM p_stores
+                        WHERE search_vector IS NULL AND deleted_at IS NULL
+                        LIMIT :limit
+                        """)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    private List<StoreSearchResponseDto> searchByLike(StoreKeywordSearchRequestDto req, Pageable pageable,
+                                                      int limit) {
+
+        QStore s = QStore.store;   // TODO: 패키지/클래스명 확인
+        QMenu  m = QMenu.menu;     // TODO: 패키지/클래스명 확인
 
         // 정렬 매핑 (rating/createdAt)
         OrderSpecifier<?>[] orderSpecifiers = toOrderSpecifiers(pageable, s);
 
         // 본 쿼리: DTO로 바로 프로젝션
-        List<StoreSearchResponseDto> content = query
+        return query
                 .select(Projections.bean(
                         StoreSearchResponseDto.class,
                         s.storeId.as("storeId"),
@@ -166,21 +320,50 @@ public class StoreCustomRepositoryImpl implements StoreCustomRepository {
                 ))
                 .from(s)
                 .leftJoin(m).on(m.store.storeId.eq(s.storeId))
-                .where(where)
+                .where(likeWhere(req, s, m))
                 .groupBy(s.storeId, s.storeName, s.storeAddress, s.storeLat, s.storeLon, s.minCost, s.openStatus)
                 .orderBy(orderSpecifiers)
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(limit)
                 .fetch();
+    }
+
+    private long countByLike(StoreKeywordSearchRequestDto req) {
+        QStore s = QStore.store;
+        QMenu  m = QMenu.menu;
 
         Long total = query
                 .select(s.storeId.countDistinct())
                 .from(s)
                 .leftJoin(m).on(m.store.storeId.eq(s.storeId))
-                .where(where)
+                .where(likeWhere(req, s, m))
                 .fetchOne();
+        return total == null ? 0 : total;
+    }
+
+    private static BooleanBuilder likeWhere(StoreKeywordSearchRequestDto req, QStore s, QMenu m) {
+        BooleanBuilder where = new BooleanBuilder();
+
+        // 키워드: 매장명/설명/메뉴명 (ILIKE 대체)
+        if (req.getQ() != null && !req.getQ().isBlank()) {
+            String like = "%" + req.getQ() + "%";
+            where.and(
+                    s.storeName.likeIgnoreCase(like)
+                            .or(s.description.likeIgnoreCase(like))
+                            .or(m.menuName.likeIgnoreCase(like))
+            );
+        }
 
-        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+        // 카테고리 필터
+        if (req.getStoreCategoryId() != null) {
+            // TODO: Store 엔티티에 상위 카테고리 컬럼명이 다르면 수정
+            where.and(s.storeCategoryId.eq(req.getStoreCategoryId()));
+        }
+
+        if (hasMenuCategory(req)) {
+            where.and(m.menuCategoryCode.eq(req.getMenuCategoryCode()));
+        }
+        return where;
     }
 
     private OrderSpecifier<?>[] toOrderSpecifiers(Pageable pageable, QStore s) {
@@ -4,6 +4,7 @@ package com.eatcloud.storeservice.domain.store.repository;
 import com.eatcloud.autotime.repository.SoftDeleteRepository;
 import com.eatcloud.storeservice.domain.store.entity.Store;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,6 +18,9 @@ public interface StoreRepository extends SoftDeleteRepository<Store, UUID>, Stor
     //Optional<Store> findByIdAndOwnerId(UUID storeId, UUID ownerId);
     //Optional<Store> findByStoreIdAndOwnerId(UUID storeId, UUID ownerId);
     Optional<Store> findByApplicationId(UUID applicationId);
+
+    // 공간 인덱스 부트스트랩 - store_id keyset 으로 끊어 읽기
+    List<Store> findTop1000ByStoreIdGreaterThanOrderByStoreIdAsc(UUID storeId);
     // (선택) 단순히 존재만 확인할 때
     //boolean existsById(UUID storeId);
 
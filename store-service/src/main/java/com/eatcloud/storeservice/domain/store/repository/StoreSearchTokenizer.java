@@ -0,0 +1,47 @@
+package com.eatcloud.storeservice.domain.store.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 매장 검색 토큰 분리 - 키워드 검색(StoreSearchTokens)과 자동완성(StoreAutocompleteIndex)이 같은 규칙으로 쪼개도록 한 곳에 둔다
+ * 소문자로 바꾼 뒤 글자/숫자 연속 구간을 단어로, 단어 안의 연속한 두 글자를 2-gram 으로 본다.
+ */
+public final class StoreSearchTokenizer {
+
+    private StoreSearchTokenizer() {
+    }
+
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        StringBuilder current = new StringBuilder();
+        text.toLowerCase(Locale.ROOT).codePoints().forEach(cp -> {
+            if (Character.isLetterOrDigit(cp)) {
+                current.appendCodePoint(cp);
+            } else if (!current.isEmpty()) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        });
+        if (!current.isEmpty()) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+
+    /**
+     * @return 한 글자 단어면 빈 목록
+     */
+    public static List<String> bigrams(String word) {
+        int[] codePoints = word.codePoints().toArray();
+        List<String> bigrams = new ArrayList<>(Math.max(codePoints.length - 1, 0));
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            bigrams.add(new String(codePoints, i, 2));
+        }
+        return bigrams;
+    }
+}
@@ -0,0 +1,85 @@
+package com.eatcloud.storeservice.domain.store.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 키워드 검색용 2-gram 토큰 (p_stores.search_vector)
+ *
+ * 한국어는 형태소 분석 없이는 단어 경계가 맞지 않아(교촌치킨 / 치킨) 내장 text search 구성을 쓸 수 없고,
+ * pg_trgm 은 두 글자 검색어(치킨, 피자)에서 trigram 을 뽑지 못해 인덱스를 타지 못한다.
+ * 그래서 글자/숫자 연속 구간마다 2-gram 을 만들어 위치와 함께 tsvector 로 저장하고,
+ * 검색어도 같은 2-gram 을 <-> (연속 위치) 로 묶어 ILIKE '%q%' 와 같은 부분 문자열 일치를 GIN 으로 찾는다.
+ * 단어의 마지막 글자는 2-gram 의 첫 글자가 되지 못하므로 한 글자 토큰으로 한 번 더 넣는다 (통닭 → 통닭, 닭).
+ * 토큰은 글자/숫자만으로 만들어지므로 tsvector/tsquery 리터럴에 그대로 넣어도 안전하다.
+ */
+final class StoreSearchTokens {
+
+    // tsvector 위치 최댓값
+    private static final int MAX_POSITION = 16383;
+
+    private StoreSearchTokens() {
+    }
+
+    /**
+     * 매장명(A) / 메뉴명(B) / 설명(C) 가중치를 붙인 tsvector 리터럴
+     */
+    static String document(String storeName, List<String> menuNames, String description) {
+        StringJoiner lexemes = new StringJoiner(" ");
+        int[] position = {1};
+        appendField(lexemes, position, storeName, 'A');
+        for (String menuName : menuNames) {
+            appendField(lexemes, position, menuName, 'B');
+        }
+        appendField(lexemes, position, description, 'C');
+        return lexemes.toString();
+    }
+
+    /**
+     * 검색어 → tsquery 리터럴 (단어마다 2-gram 구문, 단어끼리는 AND)
+     * 한 글자 단어는 그 글자로 시작하는 토큰 접두어 검색으로 바꾼다 (단어 안 어디에 있어도 걸린다).
+     * @return 검색할 토큰이 없으면 null
+     */
+    static String query(String keyword) {
+        StringJoiner words = new StringJoiner(" & ");
+        for (String word : StoreSearchTokenizer.words(keyword)) {
+            if (word.codePointCount(0, word.length()) == 1) {
+                words.add("'" + word + "':*");
+                continue;
+            }
+            StringJoiner phrase = new StringJoiner(" <-> ", "(", ")");
+            grams(word).forEach(gram -> phrase.add("'" + gram + "'"));
+            words.add(phrase.toString());
+        }
+        return words.length() == 0 ? null : words.toString();
+    }
+
+    private static void appendField(StringJoiner lexemes, int[] position, String text, char weight) {
+        for (String word : StoreSearchTokenizer.words(text)) {
+            for (String gram : lexemes(word)) {
+                if (position[0] > MAX_POSITION) {
+                    return;
+                }
+                lexemes.add("'" + gram + "':" + position[0]++ + weight);
+            }
+        }
+    }
+
+    // 문서용 토큰 - 2-gram 뒤에 마지막 글자
+    static List<String> lexemes(String word) {
+        if (word.codePointCount(0, word.length()) == 1) {
+            return List.of(word);
+        }
+        List<String> lexemes = new ArrayList<>(grams(word));
+        lexemes.add(new String(Character.toChars(word.codePointBefore(word.length()))));
+        return lexemes;
+    }
+
+    static List<String> grams(String word) {
+        if (word.codePointCount(0, word.length()) == 1) {
+            return List.of(word);
+        }
+        return StoreSearchTokenizer.bigrams(word);
+    }
+}
@@ -1,6 +1,8 @@
 package com.eatcloud.storeservice.domain.store.service;
 
 import com.eatcloud.storeservice.domain.store.entity.Store;
+import com.eatcloud.storeservice.domain.store.event.StoreChangedEvent;
+import com.eatcloud.storeservice.domain.store.event.StoreEventPublisher;
 import com.eatcloud.storeservice.domain.store.exception.StoreErrorCode;
 import com.eatcloud.storeservice.domain.store.exception.StoreException;
 import com.eatcloud.storeservice.domain.store.repository.StoreRepository;
@@ -23,6 +25,8 @@ public class StoreAdminService {
 
     private final StoreRepository storeRepository;
     private final AdminCategoryPort adminCategoryPort; // ✅ 변경
+    private final StoreEventPublisher storeEventPublisher;
+    private final StoreSearchIndexer storeSearchIndexer;
     /**
      * 멱등: applicationKey가 있으면 같은 키로 이미 생성된 스토어를 반환
      */
@@ -52,6 +56,8 @@ public class StoreAdminService {
 
         try {
             storeRepository.save(store);
+            storeSearchIndexer.reindex(store.getStoreId());
+            storeEventPublisher.publish(StoreChangedEvent.of(store, false));
             return store.getStoreId();
         } catch (DataIntegrityViolationException dup) {
             return storeRepository.findByApplicationId(applicationKey)
@@ -72,6 +78,8 @@ public class StoreAdminService {
         store.setOpenStatus(false);
         // 필요하면 cmd.getReason()를 별도 감사 테이블에 적재
 
-        storeRepository.save(store);
+        // updated_at 이 채워진 뒤 이벤트 version 으로 쓰도록 flush
+        storeRepository.saveAndFlush(store);
+        storeEventPublisher.publish(StoreChangedEvent.of(store, false));
     }
 }
@@ -0,0 +1,321 @@
+package com.eatcloud.storeservice.domain.store.service;
+
+import com.eatcloud.storeservice.domain.menu.event.MenuChangedEvent;
+import com.eatcloud.storeservice.domain.store.dto.StoreAutocompleteResponseDto;
+import com.eatcloud.storeservice.domain.store.event.StoreChangedEvent;
+import com.eatcloud.storeservice.domain.store.repository.StoreSearchTokenizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색어 자동완성 인메모리 역색인 (매장명 / 메뉴명 / 매장·메뉴 카테고리명)
+ *
+ * 접두어 색인: 이름 전체(공백 제거)와 단어마다 maxPrefixLength 글자까지의 접두어
+ * 2-gram 색인: 단어 안의 2-gram - "치킨" 으로 "교촌치킨" 처럼 단어 중간 일치를 찾는다
+ * 순위는 일치 단계(이름 접두어 > 단어 접두어 > 중간 일치) → 인기도 → 이름 순이며, 상위 k 건만 힙으로 고른다.
+ *
+ * 메모리 예산을 넘기면 새 항목을 색인하지 않는다. 부트스트랩은 카테고리 → 매장 → 메뉴 순이라 예산이 모자라면 메뉴부터 빠진다.
+ * 쓰기는 apply* 에서만 직렬화하고 조회는 잠금 없이 읽는다.
+ */
+@Component
+@Slf4j
+public class StoreAutocompleteIndex {
+
+    public enum Type { STORE, MENU, STORE_CATEGORY, MENU_CATEGORY }
+
+    // 카테고리는 수가 적고 의도가 분명하므로 같은 일치 단계에서 매장/메뉴보다 앞에 둔다
+    static final double CATEGORY_POPULARITY = 100.0;
+    // 메뉴 인기도 = 소속 매장 인기도 × 비율 (같은 이름이면 매장이 먼저)
+    static final double MENU_POPULARITY_RATIO = 0.8;
+
+    // 대략적인 힙 사용량 (항목 객체 + 이름 문자열, 색인 Set 노드 1개)
+    static final long ENTRY_BYTES = 160;
+    static final long POSTING_BYTES = 48;
+
+    private final long memoryBudgetBytes;
+    private final int maxPrefixLength;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+    private final Map<String, Set<Entry>> prefixes = new ConcurrentHashMap<>();
+    private final Map<String, Set<Entry>> grams = new ConcurrentHashMap<>();
+    private final Map<UUID, Double> storePopularity = new ConcurrentHashMap<>();
+    private final Map<UUID, String> storeNames = new ConcurrentHashMap<>();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile boolean ready;
+
+    public StoreAutocompleteIndex(@Value("${store.autocomplete.memory-budget-mb:64}") long memoryBudgetMb,
+                                  @Value("${store.autocomplete.max-prefix-length:8}") int maxPrefixLength) {
+        this.memoryBudgetBytes = memoryBudgetMb * 1024 * 1024;
+        this.maxPrefixLength = maxPrefixLength;
+    }
+
+    record Entry(String key, Type type, String text, String compact, List<String> words, UUID storeId,
+                 UUID menuId, Integer categoryId, String categoryCode, double popularity, Set<String> postings) {
+
+        // 색인 Set 에서 매번 전체 필드를 해시하지 않도록 key 로만 비교
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry other && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+    }
+
+    private record Hit(Entry entry, int tier, double score) {
+    }
+
+    private static final Comparator<Hit> HIT_ORDER = Comparator
+            .comparingInt(Hit::tier)
+            .thenComparing(Comparator.comparingDouble(Hit::score).reversed())
+            .thenComparing(hit -> hit.entry().text())
+            .thenComparing(hit -> hit.entry().key());
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        ready = true;
+        log.info("자동완성 인덱스 준비 완료: entries={}, prefixes={}, grams={}, estimatedMb={}, rejected={}",
+                entries.size(), prefixes.size(), grams.size(), estimatedBytes.get() / (1024 * 1024), rejected.get());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    long estimatedBytes() {
+        return estimatedBytes.get();
+    }
+
+    /**
+     * 매장 반영 - 삭제되지 않은 매장은 모두 제안하되 영업 중이면 인기도를 올린다
+     * @return version 이 이미 반영된 것보다 오래되어 무시했으면 false
+     */
+    public synchronized boolean applyStore(StoreChangedEvent event) {
+        String key = Type.STORE + ":" + event.getStoreId();
+        if (isStale(key, event.getVersion())) {
+            return false;
+        }
+        if (event.isDeleted() || event.getStoreName() == null) {
+            remove(key);
+            storePopularity.remove(event.getStoreId());
+            storeNames.remove(event.getStoreId());
+            return true;
+        }
+
+        int ratingCount = event.getRatingCount() == null ? 0 : event.getRatingCount();
+        double avgRating = event.getAvgRating() == null ? 0.0 : event.getAvgRating();
+        double popularity = Math.log1p(ratingCount) * (1.0 + avgRating)
+                + (Boolean.TRUE.equals(event.getOpenStatus()) ? 1.0 : 0.0);
+        storePopularity.put(event.getStoreId(), popularity);
+        storeNames.put(event.getStoreId(), event.getStoreName());
+        put(key, Type.STORE, event.getStoreName(), event.getStoreId(), null, null, null, popularity);
+        return true;
+    }
+
+    /**
+     * 메뉴 반영 - 품절(available=false)은 자주 바뀌므로 제안에서 빼지 않고 삭제만 반영한다
+     * @return version(Menu @Version) 이 이미 반영된 것보다 오래되어 무시했으면 false
+     */
+    public synchronized boolean applyMenu(MenuChangedEvent event) {
+        String key = Type.MENU + ":" + event.getMenuId();
+        if (isStale(key, event.getVersion())) {
+            return false;
+        }
+        if (event.isDeleted() || event.getMenuName() == null) {
+            remove(key);
+            return true;
+        }
+        put(key, Type.MENU, event.getMenuName(), event.getStoreId(), event.getMenuId(), null, null, 0.0);
+        return true;
+    }
+
+    public synchronized void putCategory(Type type, Integer categoryId, String categoryCode, String displayName) {
+        String key = type + ":" + (categoryId != null ? categoryId : categoryCode);
+        if (displayName == null || displayName.isBlank()) {
+            remove(key);
+            return;
+        }
+        put(key, type, displayName, null, null, categoryId, categoryCode, CATEGORY_POPULARITY);
+    }
+
+    public List<StoreAutocompleteResponseDto> suggest(String keyword, int size) {
+        List<String> queryWords = StoreSearchTokenizer.words(keyword);
+        String query = String.join("", queryWords);
+        if (query.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        Set<Entry> byPrefix = prefixes.getOrDefault(truncate(query, maxPrefixLength), Set.of());
+        Set<Entry> byGram = Set.of();
+        if (query.codePointCount(0, query.length()) >= 2) {
+            // 검색어 단어들의 2-gram 중 가장 짧은 목록만 훑고 실제 포함 여부는 tier 에서 확인
+            for (String gram : queryWords.stream().flatMap(word -> StoreSearchTokenizer.bigrams(word).stream()).toList()) {
+                Set<Entry> postings = grams.getOrDefault(gram, Set.of());
+                if (byGram.isEmpty() || postings.size() < byGram.size()) {
+                    byGram = postings;
+                }
+                if (postings.isEmpty()) {
+                    break;
+                }
+            }
+        }
+
+        PriorityQueue<Hit> top = new PriorityQueue<>(size + 1, HIT_ORDER.reversed());
+        for (Entry entry : byPrefix) {
+            offer(top, entry, query, size);
+        }
+        for (Entry entry : byGram) {
+            if (!byPrefix.contains(entry)) {
+                offer(top, entry, query, size);
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(HIT_ORDER);
+        return hits.stream()
+                .map(hit -> StoreAutocompleteResponseDto.builder()
+                        .type(hit.entry().type().name())
+                        .text(hit.entry().text())
+                        .storeId(hit.entry().storeId())
+                        .storeName(hit.entry().type() == Type.MENU ? storeNames.get(hit.entry().storeId()) : null)
+                        .menuId(hit.entry().menuId())
+                        .categoryId(hit.entry().categoryId())
+                        .categoryCode(hit.entry().categoryCode())
+                        .build())
+                .toList();
+    }
+
+    private void offer(PriorityQueue<Hit> top, Entry entry, String query, int size) {
+        int tier = tier(entry, query);
+        if (tier < 0) {
+            return;
+        }
+        Hit hit = new Hit(entry, tier, score(entry));
+        if (top.size() < size) {
+            top.add(hit);
+        } else if (HIT_ORDER.compare(hit, top.peek()) < 0) {
+            top.poll();
+            top.add(hit);
+        }
+    }
+
+    private boolean isStale(String key, long version) {
+        Long current = versions.get(key);
+        if (current != null && current > version) {
+            return true;
+        }
+        versions.put(key, version);
+        return false;
+    }
+
+    private void put(String key, Type type, String text, UUID storeId, UUID menuId, Integer categoryId,
+                     String categoryCode, double popularity) {
+        remove(key);
+
+        List<String> words = StoreSearchTokenizer.words(text);
+        String compact = String.join("", words);
+        if (compact.isEmpty()) {
+            return;
+        }
+        Set<String> prefixKeys = new HashSet<>();
+        prefixesOf(compact, prefixKeys);
+        words.forEach(word -> prefixesOf(word, prefixKeys));
+        Set<String> gramKeys = new HashSet<>();
+        words.forEach(word -> gramKeys.addAll(StoreSearchTokenizer.bigrams(word)));
+
+        long bytes = entryBytes(text, prefixKeys.size() + gramKeys.size());
+        if (estimatedBytes.get() + bytes > memoryBudgetBytes) {
+            if (rejected.incrementAndGet() % 1000 == 1) {
+                log.warn("자동완성 인덱스 메모리 예산 초과로 색인 생략: budgetMb={}, rejected={}",
+                        memoryBudgetBytes / (1024 * 1024), rejected.get());
+            }
+            return;
+        }
+
+        Set<String> postings = new HashSet<>();
+        prefixKeys.forEach(prefix -> postings.add("p:" + prefix));
+        gramKeys.forEach(gram -> postings.add("g:" + gram));
+        Entry entry = new Entry(key, type, text, compact, words, storeId, menuId, categoryId, categoryCode,
+                popularity, postings);
+        prefixKeys.forEach(prefix -> prefixes.computeIfAbsent(prefix, k -> ConcurrentHashMap.newKeySet()).add(entry));
+        gramKeys.forEach(gram -> grams.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(entry));
+        entries.put(key, entry);
+        estimatedBytes.addAndGet(bytes);
+    }
+
+    private void remove(String key) {
+        Entry previous = entries.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (String posting : previous.postings()) {
+            Map<String, Set<Entry>> index = posting.startsWith("p:") ? prefixes : grams;
+            String token = posting.substring(2);
+            Set<Entry> set = index.get(token);
+            if (set != null) {
+                set.remove(previous);
+                if (set.isEmpty()) {
+                    index.remove(token, set);
+                }
+            }
+        }
+        estimatedBytes.addAndGet(-entryBytes(previous.text(), previous.postings().size()));
+    }
+
+    /**
+     * @return 0 이름 전체 접두어, 1 단어 접두어, 2 중간 일치, -1 불일치
+     */
+    private static int tier(Entry entry, String query) {
+        if (entry.compact().startsWith(query)) {
+            return 0;
+        }
+        for (String word : entry.words()) {
+            if (word.startsWith(query)) {
+                return 1;
+            }
+        }
+        return entry.compact().contains(query) ? 2 : -1;
+    }
+
+    private double score(Entry entry) {
+        if (entry.type() == Type.MENU) {
+            return storePopularity.getOrDefault(entry.storeId(), 0.0) * MENU_POPULARITY_RATIO;
+        }
+        return entry.popularity();
+    }
+
+    private void prefixesOf(String text, Set<String> into) {
+        int length = text.codePointCount(0, text.length());
+        for (int i = 1; i <= Math.min(length, maxPrefixLength); i++) {
+            into.add(text.substring(0, text.offsetByCodePoints(0, i)));
+        }
+    }
+
+    private static String truncate(String text, int codePoints) {
+        int length = text.codePointCount(0, text.length());
+        return length <= codePoints ? text : text.substring(0, text.offsetByCodePoints(0, codePoints));
+    }
+
+    private static long entryBytes(String text, int postings) {
+        return ENTRY_BYTES + 2L * text.length() + POSTING_BYTES * postings;
+    }
+}
@@ -0,0 +1,205 @@
+package com.eatcloud.storeservice.domain.store.service;
+
+import com.eatcloud.storeservice.domain.store.dto.StoreDistanceCursor;
+import com.eatcloud.storeservice.domain.store.dto.StoreSearchResponseDto;
+import com.eatcloud.storeservice.domain.store.event.StoreChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 영업 중 매장 인메모리 공간 인덱스 (카테고리별 geohash 5자리 격자)
+ *
+ * 격자 한 칸은 geohash 5자리 셀과 같다 (위도 12비트 × 경도 13비트, 약 4.9km × 4.9km).
+ * 반경 검색은 반경을 덮는 셀만 훑고 구면 거리로 거른 뒤 (거리, store_id) 순으로 limit 건을 고른다.
+ * 정렬·커서 규칙은 SQL 경로(location <-> origin, store_id)와 같지만 결과가 완전히 같지는 않다.
+ * 거리는 haversine 으로 따로 계산해 PostGIS 값과 부동소수 끝자리가 다를 수 있고,
+ * SQL 의 반경 조건(ST_DWithin)은 타원체 거리라 반경 경계 근처의 매장은 한쪽에만 나올 수 있다.
+ * 그래서 커서에 발급 경로(INDEX)를 남기고 StoreService 는 같은 경로로 다음 페이지를 조회한다.
+ *
+ * 쓰기는 부트스트랩 스레드와 store.changed 소비 스레드뿐이라 apply 만 직렬화하고, 조회는 잠금 없이 읽는다.
+ */
+@Component
+@Slf4j
+public class StoreGeoIndex {
+
+    // PostGIS 구면 거리(geography <->)와 같은 평균 반지름
+    static final double EARTH_RADIUS_METERS = 6371008.7714;
+
+    static final int LAT_BITS = 12;
+    static final int LON_BITS = 13;
+    static final int LAT_CELLS = 1 << LAT_BITS;
+    static final int LON_CELLS = 1 << LON_BITS;
+    static final double CELL_LAT_DEGREES = 180.0 / LAT_CELLS;
+    static final double CELL_LON_DEGREES = 360.0 / LON_CELLS;
+
+    // PostgreSQL uuid 정렬(바이트 비교)과 같도록 부호 없는 비교
+    static final Comparator<UUID> UUID_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    private static final Comparator<Hit> HIT_ORDER = Comparator
+            .comparingDouble(Hit::distance)
+            .thenComparing(hit -> hit.entry().storeId(), UUID_ORDER);
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> versions = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Entry>> cells = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public record Entry(UUID storeId, String storeName, String storeAddress, int categoryId,
+                        double lat, double lon, Integer minCost) {
+    }
+
+    private record Hit(Entry entry, double distance) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        ready = true;
+        log.info("매장 공간 인덱스 준비 완료: stores={}, cells={}", entries.size(), cells.size());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 매장 상태 반영 - 영업 중이고 좌표가 있는 매장만 남기고 나머지는 뺀다
+     * @return version 이 이미 반영된 것보다 오래되어 무시했으면 false
+     */
+    public synchronized boolean apply(StoreChangedEvent event) {
+        UUID storeId = event.getStoreId();
+        Long current = versions.get(storeId);
+        if (current != null && current > event.getVersion()) {
+            return false;
+        }
+        versions.put(storeId, event.getVersion());
+
+        Entry previous = entries.remove(storeId);
+        if (previous != null) {
+            Set<Entry> cell = cells.get(cellKey(previous.categoryId(), previous.lat(), previous.lon()));
+            if (cell != null) {
+                cell.remove(previous);
+            }
+        }
+
+        if (event.isDeleted() || !Boolean.TRUE.equals(event.getOpenStatus()) || event.getStoreCategoryId() == null
+                || event.getStoreLat() == null || event.getStoreLon() == null) {
+            return true;
+        }
+
+        Entry entry = new Entry(storeId, event.getStoreName(), event.getStoreAddress(), event.getStoreCategoryId(),
+                event.getStoreLat(), event.getStoreLon(), event.getMinCost());
+        cells.computeIfAbsent(cellKey(entry.categoryId(), entry.lat(), entry.lon()),
+                key -> ConcurrentHashMap.newKeySet()).add(entry);
+        entries.put(storeId, entry);
+        return true;
+    }
+
+    /**
+     * 반경 내 카테고리 매장을 가까운 순으로 (cursor 가 있으면 그 다음부터 limit 건)
+     */
+    public List<StoreSearchResponseDto> findWithinDistance(Integer categoryId, double lat, double lon,
+                                                           double distanceMeters, StoreDistanceCursor cursor,
+                                                           int limit) {
+        if (categoryId == null || limit <= 0) {
+            return List.of();
+        }
+
+        double latRadius = Math.toDegrees(distanceMeters / EARTH_RADIUS_METERS);
+        double cosLat = Math.cos(Math.toRadians(Math.min(Math.abs(lat) + latRadius, 90.0)));
+        double lonRadius = cosLat < 1e-9 ? 180.0 : Math.min(180.0, latRadius / cosLat);
+
+        int latFrom = latIndex(lat - latRadius);
+        int latTo = latIndex(lat + latRadius);
+        int lonFrom = (int) Math.floor((lon - lonRadius + 180.0) / CELL_LON_DEGREES);
+        int lonTo = Math.min(lonFrom + LON_CELLS - 1, (int) Math.floor((lon + lonRadius + 180.0) / CELL_LON_DEGREES));
+
+        // limit 건만 유지하는 최대 힙 - 후보가 많아도 전체 정렬하지 않는다
+        PriorityQueue<Hit> nearest = new PriorityQueue<>(limit + 1, HIT_ORDER.reversed());
+        for (int latIdx = latFrom; latIdx <= latTo; latIdx++) {
+            for (int i = lonFrom; i <= lonTo; i++) {
+                Set<Entry> cell = cells.get(cellKey(categoryId, latIdx, Math.floorMod(i, LON_CELLS)));
+                if (cell == null) {
+                    continue;
+                }
+                for (Entry entry : cell) {
+                    double distance = distance(lat, lon, entry.lat(), entry.lon());
+                    if (distance > distanceMeters || !after(entry, distance, cursor)) {
+                        continue;
+                    }
+                    Hit hit = new Hit(entry, distance);
+                    if (nearest.size() < limit) {
+                        nearest.add(hit);
+                    } else if (HIT_ORDER.compare(hit, nearest.peek()) < 0) {
+                        nearest.poll();
+                        nearest.add(hit);
+                    }
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(nearest);
+        hits.sort(HIT_ORDER);
+        return hits.stream()
+                .map(hit -> StoreSearchResponseDto.builder()
+                        .storeId(hit.entry().storeId())
+                        .storeName(hit.entry().storeName())
+                        .storeAddress(hit.entry().storeAddress())
+                        .storeLat(hit.entry().lat())
+                        .storeLon(hit.entry().lon())
+                        .minCost(hit.entry().minCost())
+                        .openStatus(true)
+                        .distanceMeters(hit.distance())
+                        .build())
+                .toList();
+    }
+
+    private static boolean after(Entry entry, double distance, StoreDistanceCursor cursor) {
+        if (cursor == null) {
+            return true;
+        }
+        int byDistance = Double.compare(distance, cursor.distanceMeters());
+        return byDistance > 0 || (byDistance == 0 && UUID_ORDER.compare(entry.storeId(), cursor.storeId()) > 0);
+    }
+
+    /**
+     * 구면 거리 (haversine, m) - location <-> origin 과 같은 구면 거리지만 계산식이 달라 비트 단위로 같지는 않다
+     */
+    static double distance(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static long cellKey(int categoryId, double lat, double lon) {
+        return cellKey(categoryId, latIndex(lat), lonIndex(lon));
+    }
+
+    private static long cellKey(int categoryId, int latIdx, int lonIdx) {
+        return ((long) categoryId << (LAT_BITS + LON_BITS)) | ((long) latIdx << LON_BITS) | lonIdx;
+    }
+
+    private static int latIndex(double lat) {
+        return Math.max(0, Math.min(LAT_CELLS - 1, (int) Math.floor((lat + 90.0) / CELL_LAT_DEGREES)));
+    }
+
+    private static int lonIndex(double lon) {
+        return Math.floorMod((int) Math.floor((lon + 180.0) / CELL_LON_DEGREES), LON_CELLS);
+    }
+}
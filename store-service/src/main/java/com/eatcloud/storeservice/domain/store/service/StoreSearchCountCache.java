@@ -0,0 +1,84 @@
+package com.eatcloud.storeservice.domain.store.service;
+
+import com.eatcloud.storeservice.domain.store.dto.StoreKeywordSearchRequestDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 키워드 검색 전체 건수 캐시 (slice 모드의 estimatedTotal)
+ * 키는 정규화한 검색 조건(검색어 소문자·공백 정리 + 카테고리)이며 정렬/페이지와는 무관하다.
+ * 같은 검색어로 스크롤하는 동안 count 는 TTL 당 한 번만 실행된다.
+ */
+@Component
+public class StoreSearchCountCache {
+
+    record Cached(long count, long expiresAt) {
+    }
+
+    private final Map<String, Cached> counts = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Clock clock;
+
+    @Autowired
+    public StoreSearchCountCache(@Value("${store.search.count-cache.ttl:30s}") Duration ttl,
+                                 @Value("${store.search.count-cache.max-entries:10000}") int maxEntries) {
+        this(ttl, maxEntries, Clock.systemUTC());
+    }
+
+    StoreSearchCountCache(Duration ttl, int maxEntries, Clock clock) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    public long getOrCount(StoreKeywordSearchRequestDto req, LongSupplier counter) {
+        String key = key(req);
+        Cached cached = counts.get(key);
+        if (cached != null && cached.expiresAt() > clock.millis()) {
+            return cached.count();
+        }
+        long count = counter.getAsLong();
+        put(key, count);
+        return count;
+    }
+
+    /**
+     * 마지막 페이지에 도달해 정확한 건수를 알게 된 경우 count 없이 갱신
+     */
+    public void put(StoreKeywordSearchRequestDto req, long count) {
+        put(key(req), count);
+    }
+
+    int size() {
+        return counts.size();
+    }
+
+    private void put(String key, long count) {
+        long now = clock.millis();
+        if (counts.size() >= maxEntries && !counts.containsKey(key)) {
+            counts.values().removeIf(cached -> cached.expiresAt() <= now);
+            if (counts.size() >= maxEntries) {
+                // 만료 전 항목만으로 가득 차면 비우고 다시 채운다 (최악에도 count 1회)
+                counts.clear();
+            }
+        }
+        counts.put(key, new Cached(count, now + ttlMillis));
+    }
+
+    static String key(StoreKeywordSearchRequestDto req) {
+        String q = req.getQ() == null ? "" : req.getQ().strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        String menuCategoryCode = req.getMenuCategoryCode() == null || req.getMenuCategoryCode().isBlank()
+                ? "" : req.getMenuCategoryCode();
+        return q + '\u0000' + (req.getStoreCategoryId() == null ? "" : req.getStoreCategoryId())
+                + '\u0000' + menuCategoryCode;
+    }
+}
@@ -0,0 +1,60 @@
+package com.eatcloud.storeservice.domain.store.service;
+
+import com.eatcloud.storeservice.domain.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 키워드 검색 문서(p_stores.search_vector) 유지
+ * 매장 생성/수정, 메뉴 생성/수정/삭제 시 호출되어 해당 매장 문서를 다시 만든다 (호출자 트랜잭션에 참여).
+ * 기동 시에는 문서가 없는 기존 매장을 배치로 채운다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoreSearchIndexer {
+
+    static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final StoreRepository storeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional
+    public void reindex(UUID storeId) {
+        storeRepository.refreshSearchDocument(storeId);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int total = 0;
+        try {
+            while (true) {
+                Integer done = transactionTemplate.execute(status -> {
+                    List<UUID> storeIds = storeRepository.findStoreIdsWithoutSearchDocument(BACKFILL_BATCH_SIZE);
+                    storeIds.forEach(storeRepository::refreshSearchDocument);
+                    return storeIds.size();
+                });
+                total += done == null ? 0 : done;
+                if (done == null || done < BACKFILL_BATCH_SIZE) {
+                    break;
+                }
+            }
+            if (total > 0) {
+                log.info("키워드 검색 문서 백필 완료: stores={}", total);
+            }
+        } catch (Exception e) {
+            // search_vector 가 없는 스키마에서는 LIKE 검색으로 동작하므로 기동은 계속한다
+            log.warn("키워드 검색 문서 백필 실패: indexed={}, error={}", total, e.getMessage());
+        }
+    }
+}
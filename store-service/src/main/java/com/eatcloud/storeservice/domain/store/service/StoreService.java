@@ -1,15 +1,22 @@
 package com.eatcloud.storeservice.domain.store.service;
 
+import com.eatcloud.storeservice.domain.store.dto.StoreAutocompleteResponseDto;
+import com.eatcloud.storeservice.domain.store.dto.StoreDistanceCursor;
+import com.eatcloud.storeservice.domain.store.dto.StoreDistancePageResponseDto;
 import com.eatcloud.storeservice.domain.store.dto.StoreKeywordSearchRequestDto;
+import com.eatcloud.storeservice.domain.store.dto.StoreKeywordSliceResponseDto;
 import com.eatcloud.storeservice.domain.store.dto.StoreSearchByMenuCategoryRequestDto;
 import com.eatcloud.storeservice.domain.store.dto.StoreSearchRequestDto;
 import com.eatcloud.storeservice.domain.store.dto.StoreSearchResponseDto;
 import com.eatcloud.storeservice.domain.store.exception.StoreAccessDeniedException;
 import com.eatcloud.storeservice.domain.store.repository.StoreRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
@@ -21,28 +28,77 @@ import java.util.UUID;
 public class StoreService {
 
     private final StoreRepository storeRepository;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreAutocompleteIndex storeAutocompleteIndex;
+    private final StoreSearchCountCache storeSearchCountCache;
+    private final Timer autocompleteLatency;
 
     @Autowired
-    public StoreService(StoreRepository storeRepository) {
+    public StoreService(StoreRepository storeRepository, StoreGeoIndex storeGeoIndex,
+                        StoreAutocompleteIndex storeAutocompleteIndex, StoreSearchCountCache storeSearchCountCache,
+                        MeterRegistry meterRegistry) {
         this.storeRepository = storeRepository;
+        this.storeGeoIndex = storeGeoIndex;
+        this.storeAutocompleteIndex = storeAutocompleteIndex;
+        this.storeSearchCountCache = storeSearchCountCache;
+        this.autocompleteLatency = Timer.builder("store.autocomplete.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
     }
 
-    public List<StoreSearchResponseDto> searchStoresByCategoryAndDistance(StoreSearchRequestDto condition) {
-        return storeRepository.findStoresByCategoryWithinDistance(
-                condition.getCategoryId(),
-                condition.getUserLat(),
-                condition.getUserLon(),
-                condition.getDistanceKm()
-        );
+    public StoreDistancePageResponseDto searchStoresByCategoryAndDistance(StoreSearchRequestDto condition) {
+        StoreDistanceCursor cursor = StoreDistanceCursor.decode(condition.getCursor());
+        // 인메모리 공간 인덱스가 준비되기 전(부트스트랩 중)이거나 DB 경로에서 시작한 스크롤이면 DB 공간 인덱스로 조회
+        // (인덱스 커서를 받았는데 인덱스가 준비되지 않은 인스턴스라면 DB 로 이어 가며, 경계 매장이 빠지거나 겹칠 수 있다)
+        boolean fromIndex = storeGeoIndex.isReady()
+                && (cursor == null || cursor.source() == StoreDistanceCursor.Source.INDEX);
+        List<StoreSearchResponseDto> rows = fromIndex
+                ? storeGeoIndex.findWithinDistance(
+                        condition.getCategoryId(),
+                        condition.getUserLat(),
+                        condition.getUserLon(),
+                        condition.getDistanceKm() * 1000,
+                        cursor,
+                        condition.getSize() + 1)
+                : storeRepository.findStoresByCategoryWithinDistance(
+                        condition.getCategoryId(),
+                        condition.getUserLat(),
+                        condition.getUserLon(),
+                        condition.getDistanceKm(),
+                        cursor,
+                        condition.getSize() + 1);
+        return toPage(rows, condition.getSize(),
+                fromIndex ? StoreDistanceCursor.Source.INDEX : StoreDistanceCursor.Source.DATABASE);
     }
 
-    public List<StoreSearchResponseDto> searchStoresByMenuCategory(StoreSearchByMenuCategoryRequestDto condition) {
-        return storeRepository.findStoresByMenuCategoryWithinDistance(
+    public StoreDistancePageResponseDto searchStoresByMenuCategory(StoreSearchByMenuCategoryRequestDto condition) {
+        List<StoreSearchResponseDto> rows = storeRepository.findStoresByMenuCategoryWithinDistance(
                 condition.getCategoryCode(),
                 condition.getUserLat(),
                 condition.getUserLon(),
-                condition.getDistanceKm()
+                condition.getDistanceKm(),
+                StoreDistanceCursor.decode(condition.getCursor()),
+                condition.getSize() + 1
         );
+        return toPage(rows, condition.getSize(), StoreDistanceCursor.Source.DATABASE);
+    }
+
+    // size + 1 건을 읽어 다음 페이지 유무를 판단 (COUNT 없음)
+    private StoreDistancePageResponseDto toPage(List<StoreSearchResponseDto> rows, int size,
+                                                StoreDistanceCursor.Source source) {
+        boolean hasNext = rows.size() > size;
+        List<StoreSearchResponseDto> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            StoreSearchResponseDto last = content.get(content.size() - 1);
+            nextCursor = new StoreDistanceCursor(last.getDistanceMeters(), last.getStoreId(), source).encode();
+        }
+        return StoreDistancePageResponseDto.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     private void validateManagerStoreAccess(UUID managerId, UUID storeId) {
@@ -52,6 +108,38 @@ public class StoreService {
     }
 
     public Page<StoreSearchResponseDto> searchStoresByKeyword(StoreKeywordSearchRequestDto req) {
+        return storeRepository.searchByKeywordAndCategory(req, toPageable(req));
+    }
+
+    /**
+     * 무한 스크롤용 키워드 검색 - count 없이 size + 1 건으로 hasNext 판단
+     * withTotal 이면 짧은 TTL 캐시에서 전체 건수를 붙인다 (마지막 페이지면 읽은 건수로 정확히 갱신).
+     */
+    public StoreKeywordSliceResponseDto searchStoresByKeywordSlice(StoreKeywordSearchRequestDto req) {
+        Pageable pageable = toPageable(req);
+        Slice<StoreSearchResponseDto> slice = storeRepository.searchSliceByKeywordAndCategory(req, pageable);
+
+        Long estimatedTotal = null;
+        if (Boolean.TRUE.equals(req.getWithTotal())) {
+            if (!slice.hasNext() && (slice.hasContent() || pageable.getPageNumber() == 0)) {
+                estimatedTotal = pageable.getOffset() + slice.getNumberOfElements();
+                storeSearchCountCache.put(req, estimatedTotal);
+            } else {
+                estimatedTotal = storeSearchCountCache.getOrCount(req,
+                        () -> storeRepository.countByKeywordAndCategory(req));
+            }
+        }
+
+        return StoreKeywordSliceResponseDto.builder()
+                .content(slice.getContent())
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .hasNext(slice.hasNext())
+                .estimatedTotal(estimatedTotal)
+                .build();
+    }
+
+    private Pageable toPageable(StoreKeywordSearchRequestDto req) {
         String sortKey = "createdAt";
         if ("rating".equalsIgnoreCase(req.getSort())) {
             // TODO: Store 엔티티에 평균 평점 컬럼명이 다르면 바꿔줘 (예: avgRating)
@@ -61,13 +149,21 @@ public class StoreService {
         Sort.Direction dir = "ASC".equalsIgnoreCase(req.getDirection())
                 ? Sort.Direction.ASC : Sort.Direction.DESC;
 
-        Pageable pageable = PageRequest.of(
+        return PageRequest.of(
                 req.getPage() == null ? 0 : req.getPage(),
                 req.getSize() == null ? 20 : req.getSize(),
                 Sort.by(dir, sortKey).and(Sort.by(Sort.Direction.DESC, "id")) // tie-breaker
         );
-
-        return storeRepository.searchByKeywordAndCategory(req, pageable);
     }
 
+    /**
+     * 검색어 자동완성 - 인메모리 색인만 조회한다 (DB 미사용)
+     * 부트스트랩이 끝나기 전에는 빈 목록을 돌려준다.
+     */
+    public List<StoreAutocompleteResponseDto> autocomplete(String keyword, int size) {
+        if (!storeAutocompleteIndex.isReady()) {
+            return List.of();
+        }
+        return autocompleteLatency.record(() -> storeAutocompleteIndex.suggest(keyword, size));
+    }
 }
@@ -0,0 +1,131 @@
+package com.eatcloud.storeservice.domain.manager.service;
+
+import com.eatcloud.storeservice.domain.menu.dto.MenuPriceResponseDto;
+import com.eatcloud.storeservice.domain.menu.dto.MenuRequestDto;
+import com.eatcloud.storeservice.domain.menu.entity.Menu;
+import com.eatcloud.storeservice.domain.menu.event.MenuChangedEvent;
+import com.eatcloud.storeservice.domain.menu.event.MenuEventPublisher;
+import com.eatcloud.storeservice.domain.menu.repository.MenuRepository;
+import com.eatcloud.storeservice.domain.menu.service.MenuService;
+import com.eatcloud.storeservice.domain.store.entity.Store;
+import com.eatcloud.storeservice.domain.store.event.StoreEventPublisher;
+import com.eatcloud.storeservice.domain.store.repository.StoreRepository;
+import com.eatcloud.storeservice.domain.store.service.StoreSearchIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ManagerService 단위 테스트")
+class ManagerServiceTest {
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private MenuEventPublisher menuEventPublisher;
+
+    @Mock
+    private StoreEventPublisher storeEventPublisher;
+
+    @Mock
+    private StoreSearchIndexer storeSearchIndexer;
+
+    private ManagerService managerService;
+    private MenuService menuService;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        managerService = new ManagerService(menuRepository, storeRepository, menuEventPublisher,
+                storeEventPublisher, storeSearchIndexer);
+        menuService = new MenuService(menuRepository, storeRepository);
+        store = Store.builder().storeId(UUID.randomUUID()).storeName("교촌치킨").build();
+
+        given(storeRepository.findById(store.getStoreId())).willReturn(Optional.of(store));
+        given(menuRepository.existsByStoreAndMenuNum(any(), anyInt())).willReturn(false);
+        given(menuRepository.saveAndFlush(any(Menu.class))).willAnswer(invocation -> {
+            Menu menu = invocation.getArgument(0);
+            menu.setId(UUID.randomUUID());
+            return menu;
+        });
+    }
+
+    @Test
+    @DisplayName("재고 필드 없이 등록한 메뉴는 무제한 판매로 만들어져 주문 검증에서 판매 가능으로 보인다")
+    void createMenu_WithoutStock_IsOrderable() {
+        // Given
+        MenuRequestDto dto = menuRequest(null, null);
+
+        // When
+        Menu created = managerService.createMenu(store.getStoreId(), dto);
+        given(menuRepository.findAllByIdIn(List.of(created.getId()))).willReturn(List.of(created));
+        List<MenuPriceResponseDto> prices = menuService.getMenuPrices(List.of(created.getId()));
+
+        // Then
+        assertThat(created.getIsUnlimited()).isTrue();
+        assertThat(prices).singleElement().satisfies(price -> {
+            assertThat(price.getAvailable()).isTrue();
+            assertThat(price.getPrice()).isEqualByComparingTo("18000");
+        });
+
+        ArgumentCaptor<MenuChangedEvent> event = ArgumentCaptor.forClass(MenuChangedEvent.class);
+        then(menuEventPublisher).should().publish(event.capture());
+        assertThat(event.getValue().getAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("재고 수량을 주면 재고 관리 메뉴가 되고, 재고 0 이면 판매 불가로 보인다")
+    void createMenu_WithStock_TracksStock() {
+        // When
+        Menu stocked = managerService.createMenu(store.getStoreId(), menuRequest(null, 5));
+        Menu soldOut = managerService.createMenu(store.getStoreId(), menuRequest(false, 0));
+
+        // Then
+        assertThat(stocked.getIsUnlimited()).isFalse();
+        assertThat(MenuPriceResponseDto.from(stocked).getAvailable()).isTrue();
+        assertThat(MenuPriceResponseDto.from(soldOut).getAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("재고 필드를 보내지 않은 수정은 기존 재고 설정을 유지한다")
+    void updateMenu_WithoutStock_KeepsStock() {
+        // Given
+        Menu menu = managerService.createMenu(store.getStoreId(), menuRequest(null, 3));
+        given(menuRepository.findById(menu.getId())).willReturn(Optional.of(menu));
+
+        // When
+        Menu updated = managerService.updateMenu(store.getStoreId(), menu.getId(), menuRequest(null, null));
+
+        // Then
+        assertThat(updated.getIsUnlimited()).isFalse();
+        assertThat(updated.getStockQuantity()).isEqualTo(3);
+    }
+
+    private static MenuRequestDto menuRequest(Boolean isUnlimited, Integer stockQuantity) {
+        MenuRequestDto dto = new MenuRequestDto();
+        dto.setMenuNum(1);
+        dto.setMenuName("허니콤보");
+        dto.setMenuCategoryCode("CHICKEN");
+        dto.setPrice(new BigDecimal("18000"));
+        dto.setIsUnlimited(isUnlimited);
+        dto.setStockQuantity(stockQuantity);
+        return dto;
+    }
+}
@@ -0,0 +1,203 @@
+package com.eatcloud.storeservice.domain.store.repository;
+
+import com.eatcloud.storeservice.domain.store.dto.StoreDistanceCursor;
+import com.eatcloud.storeservice.domain.store.event.StoreChangedEvent;
+import com.eatcloud.storeservice.domain.store.service.StoreGeoIndex;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 거리 검색 SQL 이 GiST(idx_stores_location)를 타는지 실제 PostGIS 실행 계획으로 확인
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("거리 기반 매장 검색 쿼리 실행 계획 테스트")
+class StoreNearbyQueryPlanTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LON = 126.9780;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGIS = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    private static NamedParameterJdbcTemplate jdbc;
+
+    @BeforeAll
+    static void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGIS.getJdbcUrl(), POSTGIS.getUsername(), POSTGIS.getPassword());
+        new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql")).execute(dataSource);
+        jdbc = new NamedParameterJdbcTemplate(dataSource);
+
+        // 서울 중심 ±0.5도 (약 50km) 에 매장 20,000 건, 좌표만 넣고 location 은 스키마와 같은 백필 구문으로 채운다 (50건 중 1건은 삭제 상태)
+        jdbc.getJdbcTemplate().execute("""
+                INSERT INTO p_stores (store_id, store_name, store_category_id, store_lat, store_lon, open_status,
+                                      open_time, close_time, created_by, updated_by, deleted_at)
+                SELECT gen_random_uuid(), 'store-' || g, (g % 10) + 1,
+                       37.5665 + (random() - 0.5), 126.9780 + (random() - 0.5), true,
+                       '09:00', '22:00', 'test', 'test',
+                       CASE WHEN g % 50 = 0 THEN now() END
+                FROM generate_series(1, 20000) g
+                """);
+        jdbc.getJdbcTemplate().execute("""
+                INSERT INTO p_menus (menu_id, store_id, menu_num, menu_name, menu_category_code, price,
+                                     created_by, updated_by)
+                SELECT gen_random_uuid(), store_id, 1, 'menu', CASE WHEN random() < 0.3 THEN 'KOREAN' ELSE 'CHINESE' END,
+                       10000, 'test', 'test'
+                FROM p_stores
+                """);
+        jdbc.getJdbcTemplate().execute("""
+                UPDATE p_stores
+                   SET location = ST_SetSRID(ST_MakePoint(store_lon, store_lat), 4326)::geography
+                 WHERE location IS NULL AND store_lat IS NOT NULL AND store_lon IS NOT NULL
+                """);
+        jdbc.getJdbcTemplate().execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("매장 카테고리 거리 검색은 location GiST 인덱스를 사용한다")
+    void categoryQuery_UsesLocationIndex() {
+        // Given
+        String sql = StoreCustomRepositoryImpl.nearbySql(StoreCustomRepositoryImpl.CATEGORY_FILTER, null);
+        MapSqlParameterSource params = params(2.0, 21).addValue("categoryId", 3);
+
+        // When
+        String plan = explain(sql, params);
+
+        // Then
+        assertThat(plan).contains("idx_stores_location");
+        assertThat(plan).doesNotContain("Seq Scan on p_stores");
+    }
+
+    @Test
+    @DisplayName("메뉴 카테고리 거리 검색과 커서 다음 페이지도 location GiST 인덱스를 사용한다")
+    void menuCategoryQueryWithCursor_UsesLocationIndex() {
+        // Given
+        String sql = StoreCustomRepositoryImpl.nearbySql(StoreCustomRepositoryImpl.MENU_CATEGORY_FILTER,
+                new StoreDistanceCursor(500.0, UUID.randomUUID()));
+        MapSqlParameterSource params = params(2.0, 21)
+                .addValue("menuCategoryCode", "KOREAN")
+                .addValue("cursorDistance", 500.0)
+                .addValue("cursorStoreId", UUID.randomUUID());
+
+        // When
+        String plan = explain(sql, params);
+
+        // Then
+        assertThat(plan).contains("idx_stores_location");
+        assertThat(plan).doesNotContain("Seq Scan on p_stores");
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 넘긴 결과는 한 번에 조회한 거리순 결과와 같고 중복/누락이 없다")
+    void cursorPaging_MatchesFullOrdering() {
+        // Given
+        String firstSql = StoreCustomRepositoryImpl.nearbySql(StoreCustomRepositoryImpl.CATEGORY_FILTER, null);
+        List<UUID> expected = jdbc.query(firstSql, params(3.0, 10_000).addValue("categoryId", 5),
+                (rs, rowNum) -> rs.getObject("store_id", UUID.class));
+
+        // When
+        List<UUID> paged = new ArrayList<>();
+        StoreDistanceCursor cursor = null;
+        while (true) {
+            MapSqlParameterSource params = params(3.0, 7).addValue("categoryId", 5);
+            if (cursor != null) {
+                params.addValue("cursorDistance", cursor.distanceMeters())
+                        .addValue("cursorStoreId", cursor.storeId());
+            }
+            List<StoreDistanceCursor> page = jdbc.query(StoreCustomRepositoryImpl.nearbySql(
+                            StoreCustomRepositoryImpl.CATEGORY_FILTER, cursor), params,
+                    (rs, rowNum) -> new StoreDistanceCursor(rs.getDouble("distance"),
+                            rs.getObject("store_id", UUID.class)));
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(row -> paged.add(row.storeId()));
+            // 응답 커서와 같은 문자열 왕복을 거친다
+            cursor = StoreDistanceCursor.decode(page.get(page.size() - 1).encode());
+        }
+
+        // Then
+        assertThat(expected).isNotEmpty();
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("인메모리 인덱스와 SQL 은 순서와 거리가 맞고, 결과 차이는 반경 경계(구면/타원체 차이)에서만 난다")
+    void geoIndex_MatchesSqlOrdering() {
+        // Given
+        StoreGeoIndex index = new StoreGeoIndex();
+        jdbc.query("""
+                        SELECT store_id, store_category_id, store_lat, store_lon FROM p_stores
+                        WHERE deleted_at IS NULL AND open_status = true
+                        """, new MapSqlParameterSource(),
+                (rs, rowNum) -> StoreChangedEvent.builder()
+                        .storeId(rs.getObject("store_id", UUID.class))
+                        .storeCategoryId(rs.getInt("store_category_id"))
+                        .storeLat(rs.getDouble("store_lat"))
+                        .storeLon(rs.getDouble("store_lon"))
+                        .openStatus(true)
+                        .version(1L)
+                        .build())
+                .forEach(index::apply);
+        double radiusMeters = 3000;
+
+        // When
+        Map<UUID, Double> sql = new LinkedHashMap<>();
+        jdbc.query(StoreCustomRepositoryImpl.nearbySql(StoreCustomRepositoryImpl.CATEGORY_FILTER, null),
+                params(radiusMeters / 1000, 10_000).addValue("categoryId", 5),
+                (RowCallbackHandler) rs -> sql.put(rs.getObject("store_id", UUID.class), rs.getDouble("distance")));
+        Map<UUID, Double> memory = new LinkedHashMap<>();
+        index.findWithinDistance(5, LAT, LON, radiusMeters, null, 10_000)
+                .forEach(row -> memory.put(row.getStoreId(), row.getDistanceMeters()));
+
+        // Then
+        assertThat(sql).isNotEmpty();
+        List<UUID> sqlOrder = sql.keySet().stream().filter(memory::containsKey).toList();
+        List<UUID> memoryOrder = memory.keySet().stream().filter(sql::containsKey).toList();
+        assertThat(memoryOrder).containsExactlyElementsOf(sqlOrder);
+        sqlOrder.forEach(storeId -> assertThat(memory.get(storeId)).isCloseTo(sql.get(storeId), within(0.01)));
+        // ST_DWithin(geography) 는 타원체 거리로 반경을 자르므로 한쪽에만 있는 매장은 경계 근처여야 한다
+        sql.forEach((storeId, distance) -> {
+            if (!memory.containsKey(storeId)) {
+                assertThat(distance).isGreaterThan(radiusMeters * 0.99);
+            }
+        });
+        memory.forEach((storeId, distance) -> {
+            if (!sql.containsKey(storeId)) {
+                assertThat(distance).isGreaterThan(radiusMeters * 0.99);
+            }
+        });
+    }
+
+    private static MapSqlParameterSource params(double distanceKm, int limit) {
+        return new MapSqlParameterSource()
+                .addValue("lat", LAT)
+                .addValue("lon", LON)
+                .addValue("distanceMeters", distanceKm * 1000)
+                .addValue("limit", limit);
+    }
+
+    private static String explain(String sql, MapSqlParameterSource params) {
+        return String.join("\n", jdbc.queryForList("EXPLAIN " + sql, params, String.class));
+    }
+}
@@ -0,0 +1,49 @@
+package com.eatcloud.storeservice.domain.store.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StoreSearchTokens 단위 테스트")
+class StoreSearchTokensTest {
+
+    @Test
+    @DisplayName("필드마다 가중치를 붙이고, 단어 안에서만 연속 위치의 2-gram 과 마지막 글자 토큰을 만든다")
+    void document_WeightedBigrams() {
+        // When
+        String document = StoreSearchTokens.document("교촌치킨 강남점", List.of("허니콤보"), "닭");
+
+        // Then
+        assertThat(document).isEqualTo(
+                "'교촌':1A '촌치':2A '치킨':3A '킨':4A '강남':5A '남점':6A '점':7A "
+                        + "'허니':8B '니콤':9B '콤보':10B '보':11B '닭':12C");
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 단어 중간/끝 글자도 접두어 토큰으로 찾는다 (닭 → 통닭, 밥 → 비빔밥)")
+    void lexemes_EveryCharacterStartsAToken() {
+        for (String word : List.of("통닭", "비빔밥", "닭강정")) {
+            List<String> lexemes = StoreSearchTokens.lexemes(word);
+            word.codePoints().forEach(cp -> {
+                String prefix = new String(Character.toChars(cp));
+                assertThat(lexemes).anyMatch(lexeme -> lexeme.startsWith(prefix));
+            });
+        }
+        assertThat(StoreSearchTokens.lexemes("통닭")).containsExactly("통닭", "닭");
+        assertThat(StoreSearchTokens.lexemes("닭")).containsExactly("닭");
+    }
+
+    @Test
+    @DisplayName("검색어는 단어마다 2-gram 구문으로, 한 글자는 접두어로 바꾸고 특수문자는 버린다")
+    void query_PhrasePerWord() {
+        assertThat(StoreSearchTokens.query("치킨")).isEqualTo("('치킨')");
+        assertThat(StoreSearchTokens.query("비빔밥 Pizza!")).isEqualTo(
+                "('비빔' <-> '빔밥') & ('pi' <-> 'iz' <-> 'zz' <-> 'za')");
+        assertThat(StoreSearchTokens.query("닭")).isEqualTo("'닭':*");
+        assertThat(StoreSearchTokens.query("' & !")).isNull();
+        assertThat(StoreSearchTokens.query(null)).isNull();
+    }
+}
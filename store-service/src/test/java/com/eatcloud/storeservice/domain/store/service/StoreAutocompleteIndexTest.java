@@ -0,0 +1,140 @@
+package com.eatcloud.storeservice.domain.store.service;
+
+import com.eatcloud.storeservice.domain.menu.event.MenuChangedEvent;
+import com.eatcloud.storeservice.domain.store.dto.StoreAutocompleteResponseDto;
+import com.eatcloud.storeservice.domain.store.event.StoreChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StoreAutocompleteIndex 단위 테스트")
+class StoreAutocompleteIndexTest {
+
+    private StoreAutocompleteIndex storeAutocompleteIndex;
+
+    @BeforeEach
+    void setUp() {
+        storeAutocompleteIndex = new StoreAutocompleteIndex(64, 8);
+    }
+
+    @Test
+    @DisplayName("이름 접두어 > 단어 접두어 > 중간 일치 순으로, 같은 단계에서는 인기도 순으로 제안한다")
+    void suggest_TiersThenPopularity() {
+        // Given
+        StoreChangedEvent chicken = store("치킨마루", 10, 4.0);
+        StoreChangedEvent popularChicken = store("치킨플러스", 500, 4.8);
+        StoreChangedEvent wordPrefix = store("강남 치킨집", 1000, 5.0);
+        StoreChangedEvent infix = store("교촌치킨", 1000, 5.0);
+        StoreChangedEvent other = store("피자나라", 1000, 5.0);
+        List.of(chicken, popularChicken, wordPrefix, infix, other).forEach(storeAutocompleteIndex::applyStore);
+
+        // When
+        List<StoreAutocompleteResponseDto> result = storeAutocompleteIndex.suggest("치킨", 10);
+
+        // Then
+        assertThat(result).extracting(StoreAutocompleteResponseDto::getText)
+                .containsExactly("치킨플러스", "치킨마루", "강남 치킨집", "교촌치킨");
+        assertThat(storeAutocompleteIndex.suggest("치킨", 2)).extracting(StoreAutocompleteResponseDto::getText)
+                .containsExactly("치킨플러스", "치킨마루");
+    }
+
+    @Test
+    @DisplayName("메뉴는 소속 매장 이름과 함께, 카테고리는 같은 단계의 매장보다 먼저 제안한다")
+    void suggest_MenusAndCategories() {
+        // Given
+        StoreChangedEvent store = store("교촌치킨 강남점", 100, 4.5);
+        storeAutocompleteIndex.applyStore(store);
+        MenuChangedEvent menu = menu(store.getStoreId(), "허니콤보", 1L);
+        storeAutocompleteIndex.applyMenu(menu);
+        storeAutocompleteIndex.putCategory(StoreAutocompleteIndex.Type.STORE_CATEGORY, 3, "CHICKEN", "교촌 카테고리");
+
+        // When
+        List<StoreAutocompleteResponseDto> byMenu = storeAutocompleteIndex.suggest("허니", 10);
+        List<StoreAutocompleteResponseDto> byStore = storeAutocompleteIndex.suggest("교촌", 10);
+
+        // Then
+        assertThat(byMenu).singleElement().satisfies(row -> {
+            assertThat(row.getType()).isEqualTo("MENU");
+            assertThat(row.getMenuId()).isEqualTo(menu.getMenuId());
+            assertThat(row.getStoreName()).isEqualTo("교촌치킨 강남점");
+        });
+        assertThat(byStore).extracting(StoreAutocompleteResponseDto::getType)
+                .containsExactly("STORE_CATEGORY", "STORE");
+    }
+
+    @Test
+    @DisplayName("삭제는 반영하고, 이미 반영된 것보다 오래된 이벤트는 무시한다")
+    void apply_RemovesAndIgnoresStale() {
+        // Given
+        UUID storeId = UUID.randomUUID();
+        MenuChangedEvent menu = menu(storeId, "허니콤보", 10L);
+        storeAutocompleteIndex.applyMenu(menu);
+
+        MenuChangedEvent renamed = menu(storeId, "레드콤보", 20L);
+        renamed.setMenuId(menu.getMenuId());
+        MenuChangedEvent stale = menu(storeId, "허니콤보", 15L);
+        stale.setMenuId(menu.getMenuId());
+
+        // When
+        boolean renamedApplied = storeAutocompleteIndex.applyMenu(renamed);
+        boolean staleApplied = storeAutocompleteIndex.applyMenu(stale);
+
+        // Then
+        assertThat(renamedApplied).isTrue();
+        assertThat(staleApplied).isFalse();
+        assertThat(storeAutocompleteIndex.suggest("허니", 10)).isEmpty();
+        assertThat(storeAutocompleteIndex.suggest("레드", 10)).hasSize(1);
+
+        // When - 삭제
+        MenuChangedEvent deleted = menu(storeId, "레드콤보", 30L);
+        deleted.setMenuId(menu.getMenuId());
+        deleted.setDeleted(true);
+        storeAutocompleteIndex.applyMenu(deleted);
+
+        // Then
+        assertThat(storeAutocompleteIndex.suggest("콤보", 10)).isEmpty();
+        assertThat(storeAutocompleteIndex.size()).isZero();
+        assertThat(storeAutocompleteIndex.estimatedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 넘기면 새 항목을 색인하지 않는다")
+    void apply_RejectsOverBudget() {
+        // Given
+        storeAutocompleteIndex = new StoreAutocompleteIndex(0, 8);
+
+        // When
+        storeAutocompleteIndex.applyStore(store("교촌치킨", 10, 4.0));
+
+        // Then
+        assertThat(storeAutocompleteIndex.size()).isZero();
+        assertThat(storeAutocompleteIndex.suggest("교촌", 10)).isEmpty();
+    }
+
+    private static StoreChangedEvent store(String name, int ratingCount, double avgRating) {
+        return StoreChangedEvent.builder()
+                .storeId(UUID.randomUUID())
+                .storeName(name)
+                .storeCategoryId(1)
+                .openStatus(true)
+                .ratingCount(ratingCount)
+                .avgRating(avgRating)
+                .version(1000L)
+                .build();
+    }
+
+    private static MenuChangedEvent menu(UUID storeId, String name, long version) {
+        return MenuChangedEvent.builder()
+                .menuId(UUID.randomUUID())
+                .storeId(storeId)
+                .menuName(name)
+                .available(true)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.eatcloud.storeservice.domain.store.service;
+
+import com.eatcloud.storeservice.domain.store.dto.StoreDistanceCursor;
+import com.eatcloud.storeservice.domain.store.dto.StoreSearchResponseDto;
+import com.eatcloud.storeservice.domain.store.event.StoreChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StoreGeoIndex 단위 테스트")
+class StoreGeoIndexTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LON = 126.9780;
+
+    private StoreGeoIndex storeGeoIndex;
+
+    @BeforeEach
+    void setUp() {
+        storeGeoIndex = new StoreGeoIndex();
+    }
+
+    @Test
+    @DisplayName("반경 안의 영업 중인 같은 카테고리 매장만 가까운 순으로 반환한다")
+    void findWithinDistance_FiltersAndOrders() {
+        // Given
+        StoreChangedEvent near = store(1, LAT + 0.001, LON, true);
+        StoreChangedEvent far = store(1, LAT + 0.02, LON, true);
+        StoreChangedEvent closed = store(1, LAT, LON + 0.001, false);
+        StoreChangedEvent otherCategory = store(2, LAT, LON, true);
+        StoreChangedEvent outside = store(1, LAT + 0.1, LON, true);
+        StoreChangedEvent deleted = store(1, LAT, LON - 0.001, true);
+        deleted.setDeleted(true);
+        List.of(near, far, closed, otherCategory, outside, deleted).forEach(storeGeoIndex::apply);
+
+        // When
+        List<StoreSearchResponseDto> result = storeGeoIndex.findWithinDistance(1, LAT, LON, 3000, null, 10);
+
+        // Then
+        assertThat(result).extracting(StoreSearchResponseDto::getStoreId)
+                .containsExactly(near.getStoreId(), far.getStoreId());
+        assertThat(result.get(0).getDistanceMeters()).isBetween(100.0, 120.0);
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 넘긴 결과는 전체를 거리순으로 정렬한 결과와 같다")
+    void findWithinDistance_CursorPaging_MatchesBruteForce() {
+        // Given
+        Random random = new Random(7);
+        List<StoreChangedEvent> stores = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            StoreChangedEvent store = store(random.nextInt(3), LAT + (random.nextDouble() - 0.5) * 0.3,
+                    LON + (random.nextDouble() - 0.5) * 0.3, true);
+            stores.add(store);
+            storeGeoIndex.apply(store);
+        }
+        List<UUID> expected = stores.stream()
+                .filter(store -> store.getStoreCategoryId() == 1)
+                .map(store -> new StoreDistanceCursor(
+                        StoreGeoIndex.distance(LAT, LON, store.getStoreLat(), store.getStoreLon()), store.getStoreId()))
+                .filter(row -> row.distanceMeters() <= 5000)
+                .sorted(Comparator.comparingDouble(StoreDistanceCursor::distanceMeters)
+                        .thenComparing(StoreDistanceCursor::storeId, StoreGeoIndex.UUID_ORDER))
+                .map(StoreDistanceCursor::storeId)
+                .toList();
+
+        // When
+        List<UUID> paged = new ArrayList<>();
+        StoreDistanceCursor cursor = null;
+        List<StoreSearchResponseDto> page;
+        while (!(page = storeGeoIndex.findWithinDistance(1, LAT, LON, 5000, cursor, 17)).isEmpty()) {
+            page.forEach(row -> paged.add(row.getStoreId()));
+            StoreSearchResponseDto last = page.get(page.size() - 1);
+            cursor = new StoreDistanceCursor(last.getDistanceMeters(), last.getStoreId());
+        }
+
+        // Then
+        assertThat(expected).hasSizeGreaterThan(100);
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("이동/폐업 이벤트는 반영하고, 이미 반영된 것보다 오래된 이벤트는 무시한다")
+    void apply_MovesClosesAndIgnoresStale() {
+        // Given
+        StoreChangedEvent store = store(1, LAT, LON, true);
+        storeGeoIndex.apply(store);
+
+        StoreChangedEvent moved = copy(store, store.getVersion() + 10);
+        moved.setStoreLat(LAT + 0.5);
+        StoreChangedEvent stale = copy(store, store.getVersion() + 5);
+
+        // When
+        boolean movedApplied = storeGeoIndex.apply(moved);
+        boolean staleApplied = storeGeoIndex.apply(stale);
+
+        // Then
+        assertThat(movedApplied).isTrue();
+        assertThat(staleApplied).isFalse();
+        assertThat(storeGeoIndex.findWithinDistance(1, LAT, LON, 3000, null, 10)).isEmpty();
+        assertThat(storeGeoIndex.findWithinDistance(1, LAT + 0.5, LON, 3000, null, 10)).hasSize(1);
+
+        // When - 폐업
+        StoreChangedEvent closed = copy(moved, moved.getVersion() + 1);
+        closed.setOpenStatus(false);
+        storeGeoIndex.apply(closed);
+
+        // Then
+        assertThat(storeGeoIndex.findWithinDistance(1, LAT + 0.5, LON, 3000, null, 10)).isEmpty();
+        assertThat(storeGeoIndex.size()).isZero();
+    }
+
+    private static StoreChangedEvent store(int categoryId, double lat, double lon, boolean open) {
+        return StoreChangedEvent.builder()
+                .storeId(UUID.randomUUID())
+                .storeName("store")
+                .storeCategoryId(categoryId)
+                .storeLat(lat)
+                .storeLon(lon)
+                .minCost(10000)
+                .openStatus(open)
+                .version(1000L)
+                .build();
+    }
+
+    private static StoreChangedEvent copy(StoreChangedEvent source, long version) {
+        return StoreChangedEvent.builder()
+                .storeId(source.getStoreId())
+                .storeName(source.getStoreName())
+                .storeCategoryId(source.getStoreCategoryId())
+                .storeLat(source.getStoreLat())
+                .storeLon(source.getStoreLon())
+                .minCost(source.getMinCost())
+                .openStatus(source.getOpenStatus())
+                .version(version)
+                .build();
+    }
+}
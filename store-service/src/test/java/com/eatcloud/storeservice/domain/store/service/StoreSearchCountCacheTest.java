@@ -0,0 +1,96 @@
+package com.eatcloud.storeservice.domain.store.service;
+
+import com.eatcloud.storeservice.domain.store.dto.StoreKeywordSearchRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StoreSearchCountCache 단위 테스트")
+class StoreSearchCountCacheTest {
+
+    private MutableClock clock;
+    private StoreSearchCountCache storeSearchCountCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        storeSearchCountCache = new StoreSearchCountCache(Duration.ofSeconds(30), 2, clock);
+    }
+
+    @Test
+    @DisplayName("정규화한 검색 조건이 같으면 페이지/정렬이 달라도 TTL 동안 count 를 다시 실행하지 않는다")
+    void getOrCount_CachesByNormalizedQuery() {
+        // Given
+        AtomicInteger counted = new AtomicInteger();
+        StoreKeywordSearchRequestDto first = StoreKeywordSearchRequestDto.builder()
+                .q("교촌  치킨").storeCategoryId(1).page(0).build();
+        StoreKeywordSearchRequestDto next = StoreKeywordSearchRequestDto.builder()
+                .q(" 교촌 치킨 ").storeCategoryId(1).page(3).sort("rating").build();
+        StoreKeywordSearchRequestDto otherCategory = StoreKeywordSearchRequestDto.builder()
+                .q("교촌 치킨").storeCategoryId(2).build();
+
+        // When
+        long firstTotal = storeSearchCountCache.getOrCount(first, () -> counted.incrementAndGet() * 100L);
+        long nextTotal = storeSearchCountCache.getOrCount(next, () -> counted.incrementAndGet() * 100L);
+        long otherTotal = storeSearchCountCache.getOrCount(otherCategory, () -> counted.incrementAndGet() * 100L);
+
+        // Then
+        assertThat(firstTotal).isEqualTo(100L);
+        assertThat(nextTotal).isEqualTo(100L);
+        assertThat(otherTotal).isEqualTo(200L);
+        assertThat(counted).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 다시 count 하고, 최대 건수를 넘으면 만료 항목부터 비운다")
+    void getOrCount_ExpiresAndBounds() {
+        // Given
+        StoreKeywordSearchRequestDto pizza = StoreKeywordSearchRequestDto.builder().q("피자").build();
+        storeSearchCountCache.getOrCount(pizza, () -> 10L);
+
+        // When
+        clock.advance(Duration.ofSeconds(31));
+        long refreshed = storeSearchCountCache.getOrCount(pizza, () -> 20L);
+        storeSearchCountCache.put(StoreKeywordSearchRequestDto.builder().q("치킨").build(), 5L);
+        storeSearchCountCache.put(StoreKeywordSearchRequestDto.builder().q("족발").build(), 7L);
+
+        // Then
+        assertThat(refreshed).isEqualTo(20L);
+        assertThat(storeSearchCountCache.size()).isLessThanOrEqualTo(2);
+        assertThat(storeSearchCountCache.getOrCount(StoreKeywordSearchRequestDto.builder().q("족발").build(),
+                () -> -1L)).isEqualTo(7L);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}